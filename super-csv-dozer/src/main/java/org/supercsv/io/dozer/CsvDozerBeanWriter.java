@@ -51,7 +51,7 @@ public class CsvDozerBeanWriter extends AbstractCsvWriter implements ICsvDozerBe
 	
 	/**
 	 * Constructs a new <tt>CsvDozerBeanWriter</tt> with the supplied Writer and CSV preferences and and creates it's
-	 * own DozerBeanMapper. Note that the <tt>writer</tt> will be wrapped in a <tt>BufferedWriter</tt> before accessed.
+	 * own DozerBeanMapper. Note that the <tt>writer</tt>'s output will be buffered (and written to it in large blocks).
 	 * 
 	 * @param writer
 	 *            the writer
@@ -67,7 +67,7 @@ public class CsvDozerBeanWriter extends AbstractCsvWriter implements ICsvDozerBe
 	
 	/**
 	 * Constructs a new <tt>CsvDozerBeanWriter</tt> with the supplied Writer, CSV preferences and DozerBeanMapper. Note
-	 * that the <tt>writer</tt> will be wrapped in a <tt>BufferedWriter</tt> before accessed.
+	 * that the <tt>writer</tt>'s output will be buffered (and written to it in large blocks).
 	 * 
 	 * @param writer
 	 *            the writer
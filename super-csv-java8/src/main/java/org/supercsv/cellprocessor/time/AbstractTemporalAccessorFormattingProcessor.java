@@ -22,6 +22,8 @@ import java.util.Objects;
 
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -31,6 +33,7 @@ import org.supercsv.util.CsvContext;
  * @author Ludovico Fischer
  * @since 2.4.0
  */
+@ThreadSafety(Concurrency.STATELESS)
 public abstract class AbstractTemporalAccessorFormattingProcessor<T extends TemporalAccessor>
 	extends CellProcessorAdaptor {
 
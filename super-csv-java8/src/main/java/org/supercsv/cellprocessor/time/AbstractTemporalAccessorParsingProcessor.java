@@ -22,7 +22,9 @@ import java.util.Objects;
 
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -33,6 +35,7 @@ import org.supercsv.util.CsvContext;
  * @author James Bassett
  * @since 2.4.0
  */
+@ThreadSafety(Concurrency.STATELESS)
 public abstract class AbstractTemporalAccessorParsingProcessor<T extends TemporalAccessor> extends CellProcessorAdaptor
 	implements StringCellProcessor {
 
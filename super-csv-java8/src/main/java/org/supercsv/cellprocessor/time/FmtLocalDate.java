@@ -20,6 +20,8 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 
 /**
  * Converts a LocalDate to a String.
@@ -35,6 +37,7 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
  * @author Ludovico Fischer
  * @since 2.4.0
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class FmtLocalDate extends AbstractTemporalAccessorFormattingProcessor<LocalDate> {
 	/**
 	 * Constructs a new <tt>FmtLocalDate</tt> processor, which formats a
@@ -19,6 +19,8 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 
 /**
  * Converts a String to a LocalDate.
@@ -26,6 +28,7 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
  * @author James Bassett
  * @since 2.4.0
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ParseLocalDate extends AbstractTemporalAccessorParsingProcessor<LocalDate> {
 
 	/**
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The columns written by a {@link ICsvTypedBeanWriter}, defined once and reused for every bean.
+ * Primitive columns are extracted without boxing and text columns without creating Strings, and
+ * each column is written straight into the writer's row buffer (columns that don't need quoting
+ * or escaping aren't copied), so writing a bean doesn't create any intermediate collections.
+ * The columns are defined by adding them to the instance, which isn't thread-safe: once it's
+ * used by a writer (or shared by several writers), it must not be modified.
+ *
+ * <pre>
+ * CsvColumns&lt;Person&gt; columns = new CsvColumns&lt;Person&gt;()
+ *     .textColumn(Person::getName)
+ *     .intColumn(Person::getAge)
+ *     .doubleColumn(Person::getHeight);
+ * </pre>
+ *
+ * @param <T> Type of beans to be written.
+ * @since 2.5.0
+ */
+public final class CsvColumns<T> {
+
+    private final List<ColumnWriter<T>> columns = new ArrayList<>();
+
+    // the same columns as (boxing) extractors, for writers that can only write with extractors
+    private final List<Function<T, ?>> extractors = new ArrayList<>();
+
+    /**
+     * Adds a column containing text (a null value is written as an empty column).
+     *
+     * @param extractor the function extracting the column from a bean
+     * @return these columns
+     * @throws NullPointerException if extractor is null
+     */
+    public CsvColumns<T> textColumn(final Function<? super T, ? extends CharSequence> extractor) {
+        checkExtractor(extractor);
+        return this.add((bean, writer) -> writer.writeColumn(extractor.apply(bean)), extractor::apply);
+    }
+
+    /**
+     * Adds a column containing an int.
+     *
+     * @param extractor the function extracting the column from a bean
+     * @return these columns
+     * @throws NullPointerException if extractor is null
+     */
+    public CsvColumns<T> intColumn(final ToIntFunction<? super T> extractor) {
+        checkExtractor(extractor);
+        return this.add((bean, writer) -> writer.writeColumn(extractor.applyAsInt(bean)),
+            extractor::applyAsInt);
+    }
+
+    /**
+     * Adds a column containing a long.
+     *
+     * @param extractor the function extracting the column from a bean
+     * @return these columns
+     * @throws NullPointerException if extractor is null
+     */
+    public CsvColumns<T> longColumn(final ToLongFunction<? super T> extractor) {
+        checkExtractor(extractor);
+        return this.add((bean, writer) -> writer.writeColumn(extractor.applyAsLong(bean)),
+            extractor::applyAsLong);
+    }
+
+    /**
+     * Adds a column containing a double (written the same way as {@link Double#toString(double)}).
+     *
+     * @param extractor the function extracting the column from a bean
+     * @return these columns
+     * @throws NullPointerException if extractor is null
+     */
+    public CsvColumns<T> doubleColumn(final ToDoubleFunction<? super T> extractor) {
+        checkExtractor(extractor);
+        return this.add((bean, writer) -> writer.writeColumn(extractor.applyAsDouble(bean)),
+            extractor::applyAsDouble);
+    }
+
+    /**
+     * Adds a column containing any object, written using its <tt>toString()</tt> method (a null
+     * value is written as an empty column).
+     *
+     * @param extractor the function extracting the column from a bean
+     * @return these columns
+     * @throws NullPointerException if extractor is null
+     */
+    public CsvColumns<T> column(final Function<? super T, ?> extractor) {
+        checkExtractor(extractor);
+        return this.add((bean, writer) -> writer.writeColumn(extractor.apply(bean)), extractor::apply);
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return this.columns.size();
+    }
+
+    /**
+     * Writes the columns of a bean to the current row of a writer.
+     *
+     * @param bean the bean
+     * @param writer the writer
+     */
+    void write(final T bean, final ICsvColumnWriter writer) {
+        for (final ColumnWriter<T> column : this.columns) {
+            column.write(bean, writer);
+        }
+    }
+
+    /**
+     * Gets the columns as functions extracting each (boxed) column from a bean.
+     *
+     * @return the extractors
+     */
+    List<Function<T, ?>> getExtractors() {
+        return Collections.unmodifiableList(this.extractors);
+    }
+
+    private CsvColumns<T> add(final ColumnWriter<T> column, final Function<T, ?> extractor) {
+        this.columns.add(column);
+        this.extractors.add(extractor);
+        return this;
+    }
+
+    private static void checkExtractor(final Object extractor) {
+        if (extractor == null) {
+            throw new NullPointerException("extractor should not be null");
+        }
+    }
+
+    /**
+     * Writes one column of a bean.
+     *
+     * @param <T> Type of beans to be written.
+     */
+    @FunctionalInterface
+    private interface ColumnWriter<T> {
+
+        void write(T bean, ICsvColumnWriter writer);
+    }
+}
@@ -19,7 +19,6 @@ import java.io.IOException;
 import java.io.Writer;
 import java.util.Collection;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import org.supercsv.prefs.CsvPreference;
 
 /**
@@ -29,11 +28,11 @@ import org.supercsv.prefs.CsvPreference;
  */
 public final class CsvTypedBeanWriter<T> implements ICsvTypedBeanWriter<T> {
 
-    private final ICsvListWriter writer;
+    private final ICsvColumnWriter writer;
 
     /**
      * Constructs a new <tt>CsvTypedBeanWriter</tt> with the supplied Writer and CSV preferences.
-     * Note that the <tt>writer</tt> will be wrapped in a <tt>BufferedWriter</tt> before accessed.
+     * Note that the <tt>writer</tt>'s output will be buffered (and written to it in large blocks).
      *
      * @param writer the writer
      * @param preference the CSV preferences
@@ -47,14 +46,21 @@ public final class CsvTypedBeanWriter<T> implements ICsvTypedBeanWriter<T> {
     public void write(final Collection<T> beans,
         final Collection<Function<T, ?>> extractors) throws IOException {
         for (final T row : beans) {
-            this.writer.write(
-                extractors.stream()
-                    .map(extractor -> extractor.apply(row))
-                    .collect(Collectors.toList())
-            );
+            this.writer.startRow();
+            for (final Function<T, ?> extractor : extractors) {
+                this.writer.writeColumn(extractor.apply(row));
+            }
+            this.writer.endRow();
         }
     }
 
+    @Override
+    public void write(final T bean, final CsvColumns<T> columns) throws IOException {
+        this.writer.startRow();
+        columns.write(bean, this.writer);
+        this.writer.endRow();
+    }
+
     @Override
     public int getLineNumber() {
         return this.writer.getLineNumber();
@@ -17,6 +17,7 @@ package org.supercsv.io;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Function;
 
 /**
@@ -39,4 +40,35 @@ public interface ICsvTypedBeanWriter<T> extends ICsvWriter {
      * @throws IOException if an I/O error occurs
      */
     void write(Collection<T> beans, Collection<Function<T, ?>> extractors) throws IOException;
+
+    /**
+     * Write a bean to CSV, using columns that were defined once (without creating any intermediate
+     * collections, boxing primitives, or creating Strings for columns that don't need escaping).
+     * The default implementation writes the columns with {@link #write(Collection, Collection)}
+     * instead (boxing each column), for writers that don't override it.
+     * @param bean Bean to be written.
+     * @param columns Columns specifying a way to extract bean fields.
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if there are no columns
+     * @since 2.5.0
+     */
+    default void write(T bean, CsvColumns<T> columns) throws IOException {
+        // writers that don't override this method write the columns with their (boxing) extractors
+        write(Collections.singletonList(bean), columns.getExtractors());
+    }
+
+    /**
+     * Write collection of beans to CSV, using columns that were defined once.
+     * @param beans Beans to be written.
+     * @param columns Columns specifying a way to extract bean fields.
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if there are no columns
+     * @since 2.5.0
+     * @see #write(Object, CsvColumns)
+     */
+    default void write(Collection<T> beans, CsvColumns<T> columns) throws IOException {
+        for (final T bean : beans) {
+            write(bean, columns);
+        }
+    }
 }
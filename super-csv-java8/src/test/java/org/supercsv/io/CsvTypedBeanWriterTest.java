@@ -17,13 +17,16 @@ package org.supercsv.io;
 
 import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import org.junit.Assert;
 import org.junit.Test;
 import org.supercsv.prefs.CsvPreference;
+import org.supercsv.quote.ColumnQuoteMode;
 
 /**
  * Tests the {@link CsvTypedBeanWriterTest}.
@@ -59,6 +62,87 @@ public final class CsvTypedBeanWriterTest {
         }
     }
 
+    @Test
+    public void writesTypedBeanWithColumns() throws Exception {
+        final CsvColumns<FakeBean> columns = new CsvColumns<FakeBean>()
+            .column(FakeBean::bool)
+            .textColumn(FakeBean::stringField)
+            .column(FakeBean::collection)
+            .column(FakeBean::decimal)
+            .intColumn(bean -> bean.stringField().length())
+            .longColumn(bean -> -1L)
+            .doubleColumn(bean -> 0.25);
+        final FakeBean bean = new FakeBean("Oh, String!", true,
+            BigDecimal.ONE, Arrays.asList("Foo", "Bar"));
+        try (
+            final StringWriter writer = new StringWriter();
+            final ICsvTypedBeanWriter<FakeBean> beanWriter =
+                new CsvTypedBeanWriter<>(writer, CsvPreference.STANDARD_PREFERENCE)
+        ) {
+            beanWriter.write(Arrays.asList(bean, bean), columns);
+            beanWriter.flush();
+            final String row = "true,\"Oh, String!\",\"[Foo, Bar]\",1,11,-1,0.25\r\n";
+            Assert.assertEquals(row + row, writer.toString());
+            Assert.assertEquals(2, beanWriter.getRowNumber());
+        }
+    }
+
+    @Test
+    public void writesColumnsLikeExtractors() throws Exception {
+        final CsvPreference preference = new CsvPreference.Builder(CsvPreference.STANDARD_PREFERENCE)
+            .useQuoteMode(new ColumnQuoteMode(2)).build();
+        final Collection<Function<FakeBean, ?>> extractors =
+            Arrays.asList(FakeBean::bool, FakeBean::stringField, FakeBean::decimal);
+        final CsvColumns<FakeBean> columns = new CsvColumns<FakeBean>()
+            .column(FakeBean::bool)
+            .textColumn(FakeBean::stringField)
+            .column(FakeBean::decimal);
+        final FakeBean bean = new FakeBean("plain", false, BigDecimal.TEN, null);
+        try (
+            final StringWriter expected = new StringWriter();
+            final StringWriter actual = new StringWriter();
+            final ICsvTypedBeanWriter<FakeBean> extractorWriter =
+                new CsvTypedBeanWriter<>(expected, preference);
+            final ICsvTypedBeanWriter<FakeBean> columnWriter =
+                new CsvTypedBeanWriter<>(actual, preference)
+        ) {
+            extractorWriter.write(Collections.singleton(bean), extractors);
+            extractorWriter.flush();
+            columnWriter.write(bean, columns);
+            columnWriter.flush();
+            Assert.assertEquals(expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    public void writesColumnsWithExtractorsByDefault() throws Exception {
+        final CsvColumns<FakeBean> columns = new CsvColumns<FakeBean>()
+            .column(FakeBean::bool)
+            .textColumn(FakeBean::stringField)
+            .intColumn(bean -> bean.stringField().length())
+            .longColumn(bean -> -1L)
+            .doubleColumn(bean -> 0.25);
+        final FakeBean bean = new FakeBean("Oh", true, null, null);
+        final ExtractorOnlyWriter writer = new ExtractorOnlyWriter();
+        writer.write(Arrays.asList(bean, bean), columns);
+        final List<Object> row = Arrays.asList(true, "Oh", 2, -1L, 0.25);
+        Assert.assertEquals(Arrays.asList(row, row), writer.rows);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyColumns() throws Exception {
+        try (
+            final ICsvTypedBeanWriter<FakeBean> beanWriter =
+                new CsvTypedBeanWriter<>(new StringWriter(), CsvPreference.STANDARD_PREFERENCE)
+        ) {
+            beanWriter.write(new FakeBean("", false, null, null), new CsvColumns<>());
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void rejectsNullExtractor() {
+        new CsvColumns<FakeBean>().textColumn(null);
+    }
 
     private static String csv(final String[] headers, final FakeBean bean) {
         final StringBuilder builder = new StringBuilder();
@@ -74,6 +158,53 @@ public final class CsvTypedBeanWriterTest {
         return new String[] {"The Boolean", "The String", "Collection", "BigDec" };
     }
 
+    /**
+     * A writer that only implements writing with extractors (like one written before
+     * {@link CsvColumns} existed), so it uses the default methods to write columns.
+     */
+    private static final class ExtractorOnlyWriter implements ICsvTypedBeanWriter<FakeBean> {
+
+        private final List<List<Object>> rows = new ArrayList<>();
+
+        @Override
+        public void write(final Collection<FakeBean> beans,
+            final Collection<Function<FakeBean, ?>> extractors) {
+            for (final FakeBean bean : beans) {
+                final List<Object> row = new ArrayList<>();
+                for (final Function<FakeBean, ?> extractor : extractors) {
+                    row.add(extractor.apply(bean));
+                }
+                this.rows.add(row);
+            }
+        }
+
+        @Override
+        public int getLineNumber() {
+            return this.rows.size();
+        }
+
+        @Override
+        public int getRowNumber() {
+            return this.rows.size();
+        }
+
+        @Override
+        public void writeComment(final String comment) {
+        }
+
+        @Override
+        public void writeHeader(final String... header) {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+
     /**
      * Fake bean with different field types.
      * Intentionally NOT compliant with Javabean conventions (not necessary).
@@ -20,6 +20,8 @@ import java.util.Locale;
 import org.joda.time.format.DateTimeFormatter;
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -31,6 +33,7 @@ import org.supercsv.util.CsvContext;
  * @param <T>
  *            the Joda type that the processor formats
  */
+@ThreadSafety(Concurrency.STATELESS)
 public abstract class AbstractJodaFormattingProcessor<T> extends
 		CellProcessorAdaptor {
 
@@ -18,7 +18,9 @@ package org.supercsv.cellprocessor.joda;
 import org.joda.time.format.DateTimeFormatter;
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -30,6 +32,7 @@ import org.supercsv.util.CsvContext;
  * @param <T>
  *            the Joda type that the processor returns
  */
+@ThreadSafety(Concurrency.STATELESS)
 public abstract class AbstractJodaParsingProcessor<T> extends
 		CellProcessorAdaptor implements StringCellProcessor {
 
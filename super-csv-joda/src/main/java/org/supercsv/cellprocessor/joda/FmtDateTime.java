@@ -23,6 +23,8 @@ import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.DateTimeFormatterBuilder;
 import org.joda.time.format.ISODateTimeFormat;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 
 /**
  * Converts a Joda DateTime to a String.
@@ -42,6 +44,7 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
  * @since 2.3.0
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class FmtDateTime extends AbstractJodaFormattingProcessor<DateTime> {
 
 	private static final Class<DateTime> JODA_CLASS = DateTime.class;
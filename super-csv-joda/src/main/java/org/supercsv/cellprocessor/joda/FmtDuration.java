@@ -18,6 +18,8 @@ package org.supercsv.cellprocessor.joda;
 import org.joda.time.Duration;
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -32,6 +34,7 @@ import org.supercsv.util.CsvContext;
  * @since 2.3.0
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class FmtDuration extends CellProcessorAdaptor {
 
 	/**
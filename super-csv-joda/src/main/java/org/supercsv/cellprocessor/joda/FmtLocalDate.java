@@ -23,6 +23,8 @@ import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.DateTimeFormatterBuilder;
 import org.joda.time.format.ISODateTimeFormat;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 
 /**
  * Converts a Joda LocalDate to a String.
@@ -43,6 +45,7 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
  * @since 2.3.0
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class FmtLocalDate extends AbstractJodaFormattingProcessor<LocalDate> {
 
 	private static final Class<LocalDate> JODA_CLASS = LocalDate.class;
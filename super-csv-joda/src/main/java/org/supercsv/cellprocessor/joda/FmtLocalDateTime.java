@@ -23,6 +23,8 @@ import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.DateTimeFormatterBuilder;
 import org.joda.time.format.ISODateTimeFormat;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 
 /**
  * Converts a Joda LocalDateTime to a String.
@@ -43,6 +45,7 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
  * @since 2.3.0
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class FmtLocalDateTime extends
 		AbstractJodaFormattingProcessor<LocalDateTime> {
 
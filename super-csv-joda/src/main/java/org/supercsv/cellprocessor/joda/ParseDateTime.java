@@ -21,6 +21,8 @@ import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.DateTimeFormatterBuilder;
 import org.joda.time.format.ISODateTimeFormat;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 
 /**
  * Converts a String to a Joda DateTime.
@@ -41,6 +43,7 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
  * @since 2.3.0
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ParseDateTime extends AbstractJodaParsingProcessor<DateTime> {
 
 	/**
@@ -17,10 +17,12 @@ package org.supercsv.cellprocessor;
 
 import org.supercsv.cellprocessor.ift.BoolCellProcessor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.DateCellProcessor;
 import org.supercsv.cellprocessor.ift.DoubleCellProcessor;
 import org.supercsv.cellprocessor.ift.LongCellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -80,6 +82,30 @@ public abstract class CellProcessorAdaptor implements CellProcessor {
 		}
 	}
 	
+	/**
+	 * Returns the next processor in the chain (if this is the last processor in the chain, this is a processor that
+	 * returns its input unchanged).
+	 * 
+	 * @return the next processor in the chain
+	 * @since 2.4.1
+	 */
+	public CellProcessor getNext() {
+		return next;
+	}
+	
+	/**
+	 * Returns whether this processor can be used by multiple threads at the same time (not including the rest of the
+	 * chain - use {@link Concurrency#of(CellProcessor...)} to check the whole chain). By default this is the level
+	 * declared by the {@link ThreadSafety} annotation, or THREAD_CONFINED if the processor isn't annotated. Processors
+	 * whose level depends on how they were constructed should override this method.
+	 * 
+	 * @return the level of thread-safety
+	 * @since 2.4.1
+	 */
+	public Concurrency getConcurrency() {
+		return Concurrency.declaredBy(getClass());
+	}
+	
 	/**
 	 * Returns the CellProccessor's fully qualified class name.
 	 */
@@ -97,6 +123,7 @@ public abstract class CellProcessorAdaptor implements CellProcessor {
 	 * @author Kasper B. Graversen
 	 * @author James Bassett
 	 */
+	@ThreadSafety(Concurrency.STATELESS)
 	private static final class NullObjectPattern implements BoolCellProcessor, DateCellProcessor, DoubleCellProcessor,
 		LongCellProcessor, StringCellProcessor {
 		
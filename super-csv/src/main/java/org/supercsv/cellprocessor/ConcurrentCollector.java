@@ -0,0 +1,101 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
+
+/**
+ * A {@link Collector} that can be shared by multiple threads. By default the values are collected in a
+ * {@link ConcurrentLinkedQueue}; a supplied Collection is wrapped with {@link Collections#synchronizedCollection}, so
+ * the collection returned by {@link #getCollection()} must be synchronized on while it's iterated. When rows are
+ * processed concurrently, the values are collected in an unpredictable order.
+ * 
+ * @since 2.4.1
+ */
+@ThreadSafety(Concurrency.CONCURRENT)
+public class ConcurrentCollector extends Collector {
+	
+	/**
+	 * Constructs a new <tt>ConcurrentCollector</tt>, which collects each value it encounters in a concurrent queue.
+	 */
+	public ConcurrentCollector() {
+		super(new ConcurrentLinkedQueue<Object>());
+	}
+	
+	/**
+	 * Constructs a new <tt>ConcurrentCollector</tt>, which collects each value it encounters in a concurrent queue, then
+	 * calls the next processor in the chain.
+	 * 
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws NullPointerException
+	 *             if next is null
+	 */
+	public ConcurrentCollector(final CellProcessor next) {
+		super(new ConcurrentLinkedQueue<Object>(), next);
+	}
+	
+	/**
+	 * Constructs a new <tt>ConcurrentCollector</tt>, which collects each value it encounters and adds it to the supplied
+	 * Collection (which is synchronized).
+	 * 
+	 * @param collection
+	 *            the collection to add to
+	 * @throws NullPointerException
+	 *             if collection is null
+	 */
+	public ConcurrentCollector(final Collection<Object> collection) {
+		super(synchronizedCollection(collection));
+	}
+	
+	/**
+	 * Constructs a new <tt>ConcurrentCollector</tt>, which collects each value it encounters and adds it to the supplied
+	 * Collection (which is synchronized), then calls the next processor in the chain.
+	 * 
+	 * @param collection
+	 *            the collection to add to
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws NullPointerException
+	 *             if collection or next is null
+	 */
+	public ConcurrentCollector(final Collection<Object> collection, final CellProcessor next) {
+		super(synchronizedCollection(collection), next);
+	}
+	
+	/**
+	 * Wraps the collection so it can be updated by multiple threads.
+	 * 
+	 * @param collection
+	 *            the collection
+	 * @return the synchronized collection
+	 * @throws NullPointerException
+	 *             if collection is null
+	 */
+	private static Collection<Object> synchronizedCollection(final Collection<Object> collection) {
+		if( collection == null ) {
+			throw new NullPointerException("collection should not be null");
+		}
+		return Collections.synchronizedCollection(collection);
+	}
+	
+}
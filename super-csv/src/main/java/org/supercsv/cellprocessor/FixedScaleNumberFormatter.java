@@ -0,0 +1,218 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * An optimised formatter for simple {@link java.text.DecimalFormat} patterns such as <tt>"#"</tt>, <tt>"0.00"</tt>
+ * and <tt>"#,##0"</tt>: an integer part made of <tt>#</tt>, <tt>0</tt> and grouping separators, optionally followed by
+ * a fixed number of fraction digits (only <tt>0</tt>s). Integral values and BigDecimals are written directly, giving the
+ * same output as DecimalFormat (using the default Locale's symbols and HALF_EVEN rounding). Other values return
+ * <tt>null</tt>, so the caller can fall back to DecimalFormat.
+ * <p>
+ * Instances are immutable and thread-safe.
+ * 
+ * @since 2.4.1
+ */
+final class FixedScaleNumberFormatter {
+	
+	/** the largest double that is formatted directly (all integral doubles below this are exact longs) */
+	private static final double MAX_DIRECT_DOUBLE = 1e15;
+	
+	private final int minimumIntegerDigits;
+	
+	private final int groupingSize;
+	
+	private final int scale;
+	
+	private final char zeroDigit;
+	
+	private final char groupingSeparator;
+	
+	private final char decimalSeparator;
+	
+	private final char minusSign;
+	
+	/**
+	 * Constructs a new <tt>FixedScaleNumberFormatter</tt>.
+	 */
+	private FixedScaleNumberFormatter(final int minimumIntegerDigits, final int groupingSize, final int scale,
+		final DecimalFormatSymbols symbols) {
+		this.minimumIntegerDigits = minimumIntegerDigits;
+		this.groupingSize = groupingSize;
+		this.scale = scale;
+		this.zeroDigit = symbols.getZeroDigit();
+		this.groupingSeparator = symbols.getGroupingSeparator();
+		this.decimalSeparator = symbols.getDecimalSeparator();
+		this.minusSign = symbols.getMinusSign();
+	}
+	
+	/**
+	 * Compiles the supplied decimal format into a formatter (using the default Locale's symbols), if it's supported.
+	 * 
+	 * @param decimalFormat
+	 *            the DecimalFormat pattern
+	 * @return the formatter, or <tt>null</tt> if the pattern isn't supported
+	 */
+	static FixedScaleNumberFormatter compile(final String decimalFormat) {
+		final int length = decimalFormat.length();
+		int minimumIntegerDigits = 0;
+		int lastGroupingSeparator = -1;
+		int integerEnd = length;
+		boolean seenZero = false;
+		
+		for( int i = 0; i < length; i++ ) {
+			final char c = decimalFormat.charAt(i);
+			if( c == '#' ) {
+				if( seenZero ) {
+					return null; // '#' after '0' is not valid
+				}
+			} else if( c == '0' ) {
+				seenZero = true;
+				minimumIntegerDigits++;
+			} else if( c == ',' ) {
+				lastGroupingSeparator = i;
+			} else if( c == '.' ) {
+				integerEnd = i;
+				break;
+			} else {
+				return null;
+			}
+		}
+		
+		if( integerEnd == 0 || lastGroupingSeparator == integerEnd - 1 || lastGroupingSeparator == 0 ) {
+			return null;
+		}
+		
+		final int groupingSize = lastGroupingSeparator < 0 ? 0 : integerEnd - lastGroupingSeparator - 1;
+		
+		int scale = 0;
+		for( int i = integerEnd + 1; i < length; i++ ) {
+			if( decimalFormat.charAt(i) != '0' ) {
+				return null;
+			}
+			scale++;
+		}
+		if( integerEnd < length && scale == 0 ) {
+			return null; // trailing decimal separator
+		}
+		
+		return new FixedScaleNumberFormatter(minimumIntegerDigits, groupingSize, scale, new DecimalFormatSymbols());
+	}
+	
+	/**
+	 * Formats the number, if it's of a type that can be formatted directly.
+	 * 
+	 * @param number
+	 *            the number to format
+	 * @return the formatted number, or <tt>null</tt> if the caller should use DecimalFormat instead
+	 */
+	String format(final Number number) {
+		if( number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte ) {
+			final long value = number.longValue();
+			return format(value < 0, magnitude(value), null);
+		} else if( number instanceof BigDecimal ) {
+			final BigDecimal value = (BigDecimal) number;
+			final String unscaled = value.setScale(scale, RoundingMode.HALF_EVEN).unscaledValue().abs().toString();
+			if( scale == 0 ) {
+				return format(value.signum() < 0, unscaled, null);
+			}
+			final StringBuilder digits = new StringBuilder(scale + 1);
+			for( int i = unscaled.length(); i <= scale; i++ ) {
+				digits.append('0');
+			}
+			digits.append(unscaled);
+			final int integerLength = digits.length() - scale;
+			return format(value.signum() < 0, digits.substring(0, integerLength), digits.substring(integerLength));
+		} else if( number instanceof BigInteger ) {
+			final BigInteger value = (BigInteger) number;
+			return format(value.signum() < 0, value.abs().toString(), null);
+		} else if( number instanceof Double || number instanceof Float ) {
+			final double value = number.doubleValue();
+			if( value == Math.rint(value) && Math.abs(value) < MAX_DIRECT_DOUBLE
+				&& !(value == 0.0 && 1.0 / value < 0.0) ) {
+				final long longValue = (long) value;
+				return format(longValue < 0, magnitude(longValue), null);
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Returns the ASCII digits of the absolute value of a long.
+	 */
+	private static String magnitude(final long value) {
+		final String digits = Long.toString(value);
+		return value < 0 ? digits.substring(1) : digits;
+	}
+	
+	/**
+	 * Formats the number from its parts.
+	 * 
+	 * @param negative
+	 *            whether the number is negative
+	 * @param integerDigits
+	 *            the ASCII digits of the integer part (may have leading zeros)
+	 * @param fractionDigits
+	 *            the ASCII digits of the fraction part (exactly <tt>scale</tt> digits), or <tt>null</tt> if the fraction
+	 *            part is zero
+	 * @return the formatted number
+	 */
+	private String format(final boolean negative, final String integerDigits, final String fractionDigits) {
+		int start = 0;
+		while( start < integerDigits.length() && integerDigits.charAt(start) == '0' ) {
+			start++;
+		}
+		final int significant = integerDigits.length() - start;
+		final int width = Math.max(significant, minimumIntegerDigits);
+		
+		final StringBuilder builder = new StringBuilder(width + width / 3 + scale + 2);
+		if( negative ) {
+			builder.append(minusSign);
+		}
+		
+		if( width == 0 && scale == 0 ) {
+			builder.append(zeroDigit);
+		}
+		for( int i = width; i > 0; i-- ) {
+			final int index = integerDigits.length() - i;
+			builder.append(index < start ? zeroDigit : digit(integerDigits.charAt(index)));
+			if( groupingSize > 0 && i > 1 && (i - 1) % groupingSize == 0 ) {
+				builder.append(groupingSeparator);
+			}
+		}
+		
+		if( scale > 0 ) {
+			builder.append(decimalSeparator);
+			for( int i = 0; i < scale; i++ ) {
+				builder.append(fractionDigits == null ? zeroDigit : digit(fractionDigits.charAt(i)));
+			}
+		}
+		return builder.toString();
+	}
+	
+	/**
+	 * Converts an ASCII digit to the Locale's digit.
+	 */
+	private char digit(final char asciiDigit) {
+		return (char) (zeroDigit + (asciiDigit - '0'));
+	}
+	
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * An optimised parser for {@link java.text.SimpleDateFormat} patterns that consist only of fixed width numeric fields
+ * and single character literals, such as <tt>"yyyy-MM-dd"</tt>, <tt>"yyyy-MM-dd HH:mm:ss"</tt> or
+ * <tt>"dd/MM/yyyy"</tt>. Input that exactly matches the layout of the pattern is converted by setting the calendar
+ * fields directly; anything else (including input that SimpleDateFormat would treat specially) is rejected by returning
+ * <tt>null</tt>, so the caller can fall back to SimpleDateFormat and get exactly the same result or error.
+ * <p>
+ * Instances are immutable and thread-safe, but the Calendar passed to {@link #parse(String, Calendar)} is not.
+ * 
+ * @since 2.4.1
+ */
+final class FixedWidthDateParser {
+	
+	/** the Calendar field for each character position of the input (-1 for a literal) */
+	private final int[] fields;
+	
+	/** the expected character at each position (only used for literals) */
+	private final char[] literals;
+	
+	/**
+	 * Constructs a new <tt>FixedWidthDateParser</tt>.
+	 * 
+	 * @param fields
+	 *            the Calendar field for each character position (-1 for a literal)
+	 * @param literals
+	 *            the expected character at each position
+	 */
+	private FixedWidthDateParser(final int[] fields, final char[] literals) {
+		this.fields = fields;
+		this.literals = literals;
+	}
+	
+	/**
+	 * Compiles the supplied date format into a parser, if it's supported.
+	 * 
+	 * @param dateFormat
+	 *            the SimpleDateFormat pattern
+	 * @return the parser, or <tt>null</tt> if the pattern contains anything other than the fields <tt>yyyy</tt>,
+	 *         <tt>MM</tt>, <tt>dd</tt>, <tt>HH</tt>, <tt>mm</tt>, <tt>ss</tt> and <tt>SSS</tt> separated by unquoted
+	 *         non-letter characters
+	 */
+	static FixedWidthDateParser compile(final String dateFormat) {
+		final int length = dateFormat.length();
+		final int[] fields = new int[length];
+		final char[] literals = new char[length];
+		boolean hasField = false;
+		
+		int i = 0;
+		while( i < length ) {
+			final char c = dateFormat.charAt(i);
+			if( c == '\'' ) {
+				return null;
+			} else if( !isPatternLetter(c) ) {
+				fields[i] = -1;
+				literals[i] = c;
+				i++;
+				continue;
+			}
+			
+			int end = i + 1;
+			while( end < length && dateFormat.charAt(end) == c ) {
+				end++;
+			}
+			final int field = calendarField(c, end - i);
+			if( field < 0 ) {
+				return null;
+			}
+			for( int j = i; j < end; j++ ) {
+				fields[j] = field;
+			}
+			hasField = true;
+			i = end;
+		}
+		
+		return hasField ? new FixedWidthDateParser(fields, literals) : null;
+	}
+	
+	/**
+	 * Parses the input using the supplied Calendar, which should be configured (time zone, leniency) in the same way as
+	 * the SimpleDateFormat the pattern came from.
+	 * 
+	 * @param text
+	 *            the text to parse
+	 * @param calendar
+	 *            the calendar to use
+	 * @return the parsed Date, or <tt>null</tt> if the text doesn't exactly match the pattern or the fields are invalid
+	 *         for the calendar (the caller should fall back to SimpleDateFormat)
+	 */
+	Date parse(final String text, final Calendar calendar) {
+		final int length = fields.length;
+		if( text.length() != length ) {
+			return null;
+		}
+		
+		calendar.clear();
+		int i = 0;
+		while( i < length ) {
+			final int field = fields[i];
+			final char c = text.charAt(i);
+			if( field < 0 ) {
+				if( c != literals[i] ) {
+					return null;
+				}
+				i++;
+				continue;
+			}
+			
+			// adjacent runs of pattern letters are always different fields
+			int value = 0;
+			do {
+				final char digit = text.charAt(i);
+				if( digit < '0' || digit > '9' ) {
+					return null;
+				}
+				value = value * 10 + (digit - '0');
+				i++;
+			}
+			while( i < length && fields[i] == field );
+			
+			calendar.set(field, field == Calendar.MONTH ? value - 1 : value);
+		}
+		
+		try {
+			return calendar.getTime();
+		}
+		catch(IllegalArgumentException e) {
+			// invalid field value for a non-lenient calendar
+			return null;
+		}
+	}
+	
+	/**
+	 * Returns whether the character is a pattern letter (SimpleDateFormat reserves all ASCII letters).
+	 */
+	private static boolean isPatternLetter(final char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+	
+	/**
+	 * Returns the Calendar field for a run of pattern letters, or -1 if it isn't supported.
+	 */
+	private static int calendarField(final char letter, final int count) {
+		switch( letter ) {
+			case 'y':
+				return count == 4 ? Calendar.YEAR : -1;
+			case 'M':
+				return count == 2 ? Calendar.MONTH : -1;
+			case 'd':
+				return count == 2 ? Calendar.DAY_OF_MONTH : -1;
+			case 'H':
+				return count == 2 ? Calendar.HOUR_OF_DAY : -1;
+			case 'm':
+				return count == 2 ? Calendar.MINUTE : -1;
+			case 's':
+				return count == 2 ? Calendar.SECOND : -1;
+			case 'S':
+				return count == 3 ? Calendar.MILLISECOND : -1;
+			default:
+				return -1;
+		}
+	}
+	
+}
@@ -16,7 +16,9 @@
 package org.supercsv.cellprocessor;
 
 import org.supercsv.cellprocessor.ift.BoolCellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -27,6 +29,7 @@ import org.supercsv.util.CsvContext;
  * @since 1.50
  * @author Dominique De Vito
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class FmtBool extends CellProcessorAdaptor implements BoolCellProcessor {
 	
 	private final String trueValue;
@@ -18,8 +18,10 @@ package org.supercsv.cellprocessor;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.DateCellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -32,15 +34,26 @@ import org.supercsv.util.CsvContext;
  * <code>"dd-MMM-yy"</code> (formats a date as "25-Dec-11")<br>
  * <code>"yyyy.MM.dd.HH.mm.ss"</code> (formats a date as "2011.12.25.08.36.33"<br>
  * <code>"E, dd MMM yyyy HH:mm:ss Z"</code> (formats a date as "Tue, 25 Dec 2011 08:36:33 -0500")<br>
+ * <p>
+ * This processor is thread-safe: each thread formats with its own SimpleDateFormat, which is reused for every cell.
  * 
  * @since 1.50
  * @author Dominique De Vito
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class FmtDate extends CellProcessorAdaptor implements DateCellProcessor {
 	
 	private final String dateFormat;
 	
+	/** the date formatter for each thread - SimpleDateFormat is not thread-safe */
+	private final ThreadLocal<SimpleDateFormat> formatters = new ThreadLocal<SimpleDateFormat>() {
+		@Override
+		protected SimpleDateFormat initialValue() {
+			return new SimpleDateFormat(dateFormat);
+		}
+	};
+	
 	/**
 	 * Constructs a new <tt>FmtDate</tt> processor, which converts a date into a formatted string using
 	 * SimpleDateFormat.
@@ -102,7 +115,7 @@ public class FmtDate extends CellProcessorAdaptor implements DateCellProcessor {
 		
 		final SimpleDateFormat formatter;
 		try {
-			formatter = new SimpleDateFormat(dateFormat);
+			formatter = formatters.get();
 		}
 		catch(IllegalArgumentException e) {
 			throw new SuperCsvCellProcessorException(String.format("'%s' is not a valid date format", dateFormat),
@@ -17,9 +17,11 @@ package org.supercsv.cellprocessor;
 
 import java.text.DecimalFormat;
 
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.DoubleCellProcessor;
 import org.supercsv.cellprocessor.ift.LongCellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -28,7 +30,9 @@ import org.supercsv.util.CsvContext;
  * useful, when you need to show numbers with a specific number of digits.
  * <p>
  * Please be aware that the constructors that use <tt>DecimalFormat</tt> are not thread-safe, so it is generally better
- * to use the constructors that accept a date format String.
+ * to use the constructors that accept a date format String. These create a DecimalFormat for each thread on first use
+ * and reuse it for every subsequent cell. Simple formats such as <tt>"#"</tt>, <tt>"0.00"</tt> and <tt>"#,##0"</tt>
+ * are formatted without DecimalFormat for integral values and BigDecimals.
  * <p>
  * In the format string, the following characters are defined as : <br>
  * 
@@ -47,6 +51,7 @@ import org.supercsv.util.CsvContext;
  * @author Kasper B. Graversen
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class FmtNumber extends CellProcessorAdaptor implements DoubleCellProcessor, LongCellProcessor {
 	
 	/** the decimal format string */
@@ -55,6 +60,17 @@ public class FmtNumber extends CellProcessorAdaptor implements DoubleCellProcess
 	/** the decimal format object - not thread safe */
 	private final DecimalFormat formatter;
 	
+	/** the optimised formatter for simple decimal formats (null if not supported) */
+	private final FixedScaleNumberFormatter fixedScaleFormatter;
+	
+	/** the decimal format object for each thread (only used with a decimal format String) */
+	private final ThreadLocal<DecimalFormat> formatters = new ThreadLocal<DecimalFormat>() {
+		@Override
+		protected DecimalFormat initialValue() {
+			return new DecimalFormat(decimalFormat);
+		}
+	};
+	
 	/**
 	 * Constructs a new <tt>FmtNumber</tt> processor, which converts a double into a formatted string using the supplied
 	 * decimal format String. This constructor is thread-safe.
@@ -69,6 +85,7 @@ public class FmtNumber extends CellProcessorAdaptor implements DoubleCellProcess
 		checkPreconditions(decimalFormat);
 		this.decimalFormat = decimalFormat;
 		this.formatter = null;
+		this.fixedScaleFormatter = FixedScaleNumberFormatter.compile(decimalFormat);
 	}
 	
 	/**
@@ -87,6 +104,7 @@ public class FmtNumber extends CellProcessorAdaptor implements DoubleCellProcess
 		checkPreconditions(decimalFormat);
 		this.decimalFormat = decimalFormat;
 		this.formatter = null;
+		this.fixedScaleFormatter = FixedScaleNumberFormatter.compile(decimalFormat);
 	}
 	
 	/**
@@ -103,6 +121,7 @@ public class FmtNumber extends CellProcessorAdaptor implements DoubleCellProcess
 		checkPreconditions(formatter);
 		this.formatter = formatter;
 		this.decimalFormat = null;
+		this.fixedScaleFormatter = null;
 	}
 	
 	/**
@@ -121,6 +140,7 @@ public class FmtNumber extends CellProcessorAdaptor implements DoubleCellProcess
 		checkPreconditions(formatter);
 		this.formatter = formatter;
 		this.decimalFormat = null;
+		this.fixedScaleFormatter = null;
 	}
 	
 	/**
@@ -164,10 +184,17 @@ public class FmtNumber extends CellProcessorAdaptor implements DoubleCellProcess
 			throw new SuperCsvCellProcessorException(Number.class, value, context, this);
 		}
 		
-		// create a new DecimalFormat if one is not supplied
+		if( fixedScaleFormatter != null ) {
+			final String result = fixedScaleFormatter.format((Number) value);
+			if( result != null ) {
+				return next.execute(result, context);
+			}
+		}
+		
+		// use the current thread's DecimalFormat if one is not supplied
 		final DecimalFormat decimalFormatter;
 		try {
-			decimalFormatter = formatter != null ? formatter : new DecimalFormat(decimalFormat);
+			decimalFormatter = formatter != null ? formatter : formatters.get();
 		}
 		catch(IllegalArgumentException e) {
 			throw new SuperCsvCellProcessorException(
@@ -177,4 +204,12 @@ public class FmtNumber extends CellProcessorAdaptor implements DoubleCellProcess
 		final String result = decimalFormatter.format(value);
 		return next.execute(result, context);
 	}
+	
+	/**
+	 * {@inheritDoc} A supplied DecimalFormat isn't thread-safe, so each thread needs its own instance.
+	 */
+	@Override
+	public Concurrency getConcurrency() {
+		return formatter != null ? Concurrency.THREAD_CONFINED : super.getConcurrency();
+	}
 }
@@ -18,8 +18,10 @@ package org.supercsv.cellprocessor;
 import java.sql.Time;
 import java.text.SimpleDateFormat;
 
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.DateCellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -35,10 +37,19 @@ import org.supercsv.util.CsvContext;
  * @author Pietro Aragona
  * @since 2.4.1
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class FmtSqlTime extends CellProcessorAdaptor implements DateCellProcessor {
 	
 	private final String dateFormat;
 	
+	/** the date formatter for each thread - SimpleDateFormat is not thread-safe */
+	private final ThreadLocal<SimpleDateFormat> formatters = new ThreadLocal<SimpleDateFormat>() {
+		@Override
+		protected SimpleDateFormat initialValue() {
+			return new SimpleDateFormat(dateFormat);
+		}
+	};
+	
 	/**
 	 * Constructs a new <tt>FmtTime</tt> processor, which converts a time into a formatted string using
 	 * SimpleDateFormat.
@@ -100,7 +111,7 @@ public class FmtSqlTime extends CellProcessorAdaptor implements DateCellProcesso
 		
 		final SimpleDateFormat formatter;
 		try {
-			formatter = new SimpleDateFormat(dateFormat);
+			formatter = formatters.get();
 		}
 		catch(IllegalArgumentException e) {
 			throw new SuperCsvCellProcessorException(String.format("'%s' is not a valid date format", dateFormat),
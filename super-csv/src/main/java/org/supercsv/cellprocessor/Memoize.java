@@ -0,0 +1,191 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.supercsv.cellprocessor.ift.BoolCellProcessor;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.DateCellProcessor;
+import org.supercsv.cellprocessor.ift.DoubleCellProcessor;
+import org.supercsv.cellprocessor.ift.LongCellProcessor;
+import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
+import org.supercsv.util.CsvContext;
+
+/**
+ * This processor caches the result of the next processor in the chain for each input value, so that columns with a
+ * small number of distinct values (currency codes, country names, repeated timestamps...) are only converted once per
+ * value. The least recently used values are evicted when the cache is full.
+ * <p>
+ * Wrapping a chain in <tt>Memoize</tt> declares it to be <em>pure</em>: its result must depend only on the input value
+ * (not on the CsvContext or on any previous values), so stateful processors such as <tt>Unique</tt> or
+ * <tt>Collector</tt> must not be memoized. Exceptions are never cached, so invalid values are passed to the chain (and
+ * reported) every time. The same result object is returned for every occurrence of a value, so mutable results (such
+ * as the Dates returned by <tt>ParseDate</tt>) should not be modified.
+ * <p>
+ * The hit and miss counts can be used to decide whether memoizing a column pays off. This processor can be shared by
+ * multiple threads.
+ * 
+ * @since 2.4.1
+ */
+@ThreadSafety(Concurrency.CONCURRENT)
+public class Memoize extends CellProcessorAdaptor implements BoolCellProcessor, DateCellProcessor,
+	DoubleCellProcessor, LongCellProcessor, StringCellProcessor {
+	
+	/** the default maximum number of cached values */
+	public static final int DEFAULT_MAX_SIZE = 1000;
+	
+	private final Map<Object, Object> cache;
+	
+	private long hits;
+	
+	private long misses;
+	
+	/**
+	 * Constructs a new <tt>Memoize</tt> processor, which caches the results of the next (pure) processor in the chain,
+	 * for up to {@value #DEFAULT_MAX_SIZE} values.
+	 * 
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws NullPointerException
+	 *             if next is null
+	 */
+	public Memoize(final CellProcessor next) {
+		this(DEFAULT_MAX_SIZE, next);
+	}
+	
+	/**
+	 * Constructs a new <tt>Memoize</tt> processor, which caches the results of the next (pure) processor in the chain,
+	 * for up to maxSize values.
+	 * 
+	 * @param maxSize
+	 *            the maximum number of cached values
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws IllegalArgumentException
+	 *             if maxSize is not positive
+	 * @throws NullPointerException
+	 *             if next is null
+	 */
+	public Memoize(final int maxSize, final CellProcessor next) {
+		super(next);
+		checkPreconditions(maxSize);
+		this.cache = new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Object, Object> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+	
+	/**
+	 * Checks the preconditions for creating a new Memoize processor.
+	 * 
+	 * @param maxSize
+	 *            the maximum number of cached values
+	 * @throws IllegalArgumentException
+	 *             if maxSize is not positive
+	 */
+	private static void checkPreconditions(final int maxSize) {
+		if( maxSize <= 0 ) {
+			throw new IllegalArgumentException(String.format("maxSize should be > 0 but was %d", maxSize));
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public Object execute(final Object value, final CsvContext context) {
+		synchronized( cache ) {
+			final Object cached = cache.get(value);
+			if( cached != null || cache.containsKey(value) ) {
+				hits++;
+				return cached;
+			}
+			misses++;
+		}
+		
+		// run the chain outside the lock, so that slow conversions of different values don't block each other
+		final Object result = next.execute(value, context);
+		synchronized( cache ) {
+			cache.put(value, result);
+		}
+		return result;
+	}
+	
+	/**
+	 * Gets the number of values that were answered from the cache.
+	 * 
+	 * @return the number of cache hits
+	 */
+	public long getHits() {
+		synchronized( cache ) {
+			return hits;
+		}
+	}
+	
+	/**
+	 * Gets the number of values that had to be passed to the next processor in the chain (including those that caused
+	 * an exception).
+	 * 
+	 * @return the number of cache misses
+	 */
+	public long getMisses() {
+		synchronized( cache ) {
+			return misses;
+		}
+	}
+	
+	/**
+	 * Gets the proportion of values that were answered from the cache.
+	 * 
+	 * @return the hit rate (between 0.0 and 1.0), or 0.0 if no values have been processed
+	 */
+	public double getHitRate() {
+		synchronized( cache ) {
+			final long total = hits + misses;
+			return total == 0 ? 0.0 : (double) hits / total;
+		}
+	}
+	
+	/**
+	 * Gets the number of values currently cached.
+	 * 
+	 * @return the cache size
+	 */
+	public int getSize() {
+		synchronized( cache ) {
+			return cache.size();
+		}
+	}
+	
+	/**
+	 * Empties the cache and resets the hit and miss counts.
+	 */
+	public void clear() {
+		synchronized( cache ) {
+			cache.clear();
+			hits = 0;
+			misses = 0;
+		}
+	}
+	
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+/**
+ * Quick checks for input that can't possibly be parsed as a number. When stack traces are disabled (e.g. in the
+ * lenient mode of {@link org.supercsv.io.SimpleCsvListReader}), the number parsing processors use these to reject
+ * obviously invalid input without creating a <tt>NumberFormatException</tt>, whose stack trace would cost as much as
+ * the stack trace they avoid. Each check accepts everything the corresponding parser accepts (and some input it
+ * doesn't, which is still rejected by the parser).
+ * 
+ * @since 2.4.1
+ */
+final class NumberSyntax {
+	
+	// no instantiation
+	private NumberSyntax() {
+	}
+	
+	/**
+	 * Checks whether the input might be parsed by <tt>Integer.valueOf()</tt> or <tt>Long.parseLong()</tt>: an optional
+	 * sign followed by one or more digits.
+	 * 
+	 * @param input
+	 *            the input
+	 * @return false if the input definitely isn't an integer
+	 */
+	static boolean mightBeInteger(final String input) {
+		final int length = input.length();
+		int i = length > 0 && (input.charAt(0) == '-' || input.charAt(0) == '+') ? 1 : 0;
+		if( i == length ) {
+			return false;
+		}
+		for( ; i < length; i++ ) {
+			if( Character.digit(input.charAt(i), 10) < 0 ) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks whether the input might be parsed by <tt>new BigDecimal()</tt>: at least one digit, and otherwise only
+	 * signs, decimal points and exponent markers.
+	 * 
+	 * @param input
+	 *            the input
+	 * @return false if the input definitely isn't a BigDecimal
+	 */
+	static boolean mightBeBigDecimal(final String input) {
+		boolean digit = false;
+		for( int i = 0; i < input.length(); i++ ) {
+			final char c = input.charAt(i);
+			if( Character.isDigit(c) ) {
+				digit = true;
+			} else if( "+-.eE".indexOf(c) < 0 ) {
+				return false;
+			}
+		}
+		return digit;
+	}
+	
+	/**
+	 * Checks whether the input might be parsed by <tt>new Double()</tt>: <tt>NaN</tt> or <tt>Infinity</tt>, or (ignoring
+	 * surrounding whitespace) at least one digit, and otherwise only the signs, decimal points, exponent markers,
+	 * hexadecimal digits and prefixes, and type suffixes allowed in a Java floating point literal.
+	 * 
+	 * @param input
+	 *            the input
+	 * @return false if the input definitely isn't a Double
+	 */
+	static boolean mightBeDouble(final String input) {
+		if( input.indexOf("NaN") >= 0 || input.indexOf("Infinity") >= 0 ) {
+			return true;
+		}
+		final String trimmed = input.trim();
+		boolean digit = false;
+		for( int i = 0; i < trimmed.length(); i++ ) {
+			final char c = trimmed.charAt(i);
+			if( c >= '0' && c <= '9' ) {
+				digit = true;
+			} else if( "+-.eEpPxXdDfFaAbBcC".indexOf(c) < 0 ) {
+				return false;
+			}
+		}
+		return digit;
+	}
+	
+}
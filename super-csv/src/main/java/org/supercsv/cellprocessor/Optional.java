@@ -16,6 +16,8 @@
 package org.supercsv.cellprocessor;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 
 /**
  * This processor is used to indicate that a cell is optional, and will avoid executing further processors if it
@@ -28,6 +30,7 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
  * @author Kasper B. Graversen
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class Optional extends ConvertNullTo {
 	
 	/**
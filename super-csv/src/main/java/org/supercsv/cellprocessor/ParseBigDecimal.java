@@ -19,8 +19,11 @@ import java.math.BigDecimal;
 import java.text.DecimalFormatSymbols;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.exception.SuperCsvException;
 import org.supercsv.util.CsvContext;
 
 /**
@@ -36,6 +39,7 @@ import org.supercsv.util.CsvContext;
  * @author Kasper B. Graversen
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ParseBigDecimal extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	private static final char DEFAULT_DECIMAL_SEPARATOR = '.';
@@ -121,13 +125,14 @@ public class ParseBigDecimal extends CellProcessorAdaptor implements StringCellP
 		
 		final BigDecimal result;
 		if( value instanceof String ) {
-			final String s = (String) value;
+			final String s = symbols == null ? (String) value : fixSymbols((String) value, symbols);
+			if( !SuperCsvException.isStackTraceEnabled() && !NumberSyntax.mightBeBigDecimal(s) ) {
+				// without stack traces, avoid the cost of creating a NumberFormatException for obviously invalid input
+				throw new SuperCsvCellProcessorException(String.format("'%s' could not be parsed as a BigDecimal",
+					value), context, this);
+			}
 			try {
-				if( symbols == null ) {
-					result = new BigDecimal(s);
-				} else {
-					result = new BigDecimal(fixSymbols(s, symbols));
-				}
+				result = new BigDecimal(s);
 			}
 			catch(final NumberFormatException e) {
 				throw new SuperCsvCellProcessorException(String.format("'%s' could not be parsed as a BigDecimal",
@@ -20,7 +20,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.supercsv.cellprocessor.ift.BoolCellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -45,6 +47,7 @@ import org.supercsv.util.CsvContext;
  * @author James Bassett
  * @since 1.0
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ParseBool extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	private static final String[] DEFAULT_TRUE_VALUES = new String[] { "1", "true", "t", "y" };
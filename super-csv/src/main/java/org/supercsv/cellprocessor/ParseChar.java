@@ -15,8 +15,10 @@
  */
 package org.supercsv.cellprocessor;
 
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.DoubleCellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -26,6 +28,7 @@ import org.supercsv.util.CsvContext;
  * @since 1.10
  * @author Kasper B. Graversen
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ParseChar extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	/**
@@ -20,7 +20,9 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.DateCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 
 /**
  * Converts a String to a Date using the {@link SimpleDateFormat} class. If you want to convert from a Date to a String,
@@ -42,6 +44,7 @@ import org.supercsv.cellprocessor.ift.DateCellProcessor;
  * @author James Bassett
  * @author Pietro Aragona
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ParseDate extends ParseDateTimeAbstract {
 	
 	/**
@@ -91,7 +94,7 @@ public class ParseDate extends ParseDateTimeAbstract {
 	 */
 	@Override
 	protected Object parseValue(Object value) throws ParseException {
-		final Date result = formatter.parse((String) value);
+		final Date result = parseDate((String) value);
 		return result;
 	}
 	
@@ -17,10 +17,13 @@ package org.supercsv.cellprocessor;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.Locale;
 
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.DateCellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
@@ -41,10 +44,16 @@ import org.supercsv.util.CsvContext;
  * <p>
  * If you don't wish to use the default Locale when parsing Dates (your data is formatted for a different Locale), then
  * use the constructor that accepts a Locale.
+ * <p>
+ * This processor is thread-safe: each thread parses with its own SimpleDateFormat, which is created on first use and
+ * reused for every subsequent cell. Date formats consisting only of fixed width numeric fields (e.g.
+ * <code>"yyyy-MM-dd"</code> or <code>"yyyy-MM-dd HH:mm:ss"</code>) are parsed without SimpleDateFormat when the input
+ * matches the format exactly.
  * 
  * @author Pietro Aragona
  * @since 2.4.1
  */
+@ThreadSafety(Concurrency.STATELESS)
 public abstract class ParseDateTimeAbstract extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	protected final String dateFormat;
@@ -53,7 +62,19 @@ public abstract class ParseDateTimeAbstract extends CellProcessorAdaptor impleme
 	
 	protected final Locale locale;
 	
-	protected SimpleDateFormat formatter;
+	/** the optimised parser for fixed width date formats (null if the date format isn't supported) */
+	private final FixedWidthDateParser fixedWidthParser;
+	
+	/** the date formatter for each thread - SimpleDateFormat is not thread-safe */
+	private final ThreadLocal<SimpleDateFormat> formatters = new ThreadLocal<SimpleDateFormat>() {
+		@Override
+		protected SimpleDateFormat initialValue() {
+			final SimpleDateFormat formatter = locale == null ? new SimpleDateFormat(dateFormat)
+				: new SimpleDateFormat(dateFormat, locale);
+			formatter.setLenient(lenient);
+			return formatter;
+		}
+	};
 	
 	/**
 	 * Constructs a new <tt>ParseDateTimeAbstract</tt> processor which converts a String to a Date/Time using the
@@ -85,6 +106,7 @@ public abstract class ParseDateTimeAbstract extends CellProcessorAdaptor impleme
 		this.dateFormat = dateFormat;
 		this.lenient = lenient;
 		this.locale = null;
+		this.fixedWidthParser = FixedWidthDateParser.compile(dateFormat);
 	}
 	
 	/**
@@ -106,6 +128,7 @@ public abstract class ParseDateTimeAbstract extends CellProcessorAdaptor impleme
 		this.dateFormat = dateFormat;
 		this.lenient = lenient;
 		this.locale = locale;
+		this.fixedWidthParser = FixedWidthDateParser.compile(dateFormat);
 	}
 	
 	/**
@@ -143,6 +166,7 @@ public abstract class ParseDateTimeAbstract extends CellProcessorAdaptor impleme
 		this.dateFormat = dateFormat;
 		this.lenient = lenient;
 		this.locale = null;
+		this.fixedWidthParser = FixedWidthDateParser.compile(dateFormat);
 	}
 	
 	/**
@@ -167,6 +191,7 @@ public abstract class ParseDateTimeAbstract extends CellProcessorAdaptor impleme
 		this.dateFormat = dateFormat;
 		this.lenient = lenient;
 		this.locale = locale;
+		this.fixedWidthParser = FixedWidthDateParser.compile(dateFormat);
 	}
 	
 	/**
@@ -215,12 +240,6 @@ public abstract class ParseDateTimeAbstract extends CellProcessorAdaptor impleme
 		}
 		
 		try {
-			if( locale == null ) {
-				formatter = new SimpleDateFormat(dateFormat);
-			} else {
-				formatter = new SimpleDateFormat(dateFormat, locale);
-			}
-			formatter.setLenient(lenient);
 			Object result = parseValue(value);
 			return next.execute(result, context);
 		}
@@ -230,6 +249,42 @@ public abstract class ParseDateTimeAbstract extends CellProcessorAdaptor impleme
 		}
 	}
 	
+	/**
+	 * Parses the String to a Date using the date format, lenience and Locale of this processor. The fixed width parser
+	 * is tried first (when the date format allows it), falling back to the current thread's SimpleDateFormat.
+	 * 
+	 * @param value
+	 *            the String to parse
+	 * @return the parsed Date
+	 * @throws ParseException
+	 *             if the String cannot be parsed
+	 * @throws IllegalArgumentException
+	 *             if the date format is invalid
+	 */
+	protected Date parseDate(final String value) throws ParseException {
+		final SimpleDateFormat formatter = formatters.get();
+		if( fixedWidthParser != null ) {
+			final Date result = fixedWidthParser.parse(value, formatter.getCalendar());
+			if( result != null ) {
+				return result;
+			}
+		}
+		return formatter.parse(value);
+	}
+	
+	/**
+	 * Returns the current thread's SimpleDateFormat, configured with the date format, lenience and Locale of this
+	 * processor. This replaces the <tt>formatter</tt> field that subclasses used to read in
+	 * {@link #parseValue(Object)}, which was shared by all threads.
+	 * 
+	 * @return the current thread's SimpleDateFormat
+	 * @deprecated use {@link #parseDate(String)}, which also tries the optimised fixed width parser
+	 */
+	@Deprecated
+	protected SimpleDateFormat getFormatter() {
+		return formatters.get();
+	}
+	
 	/**
 	 * @param value
 	 *            the value to be formatted
@@ -15,23 +15,35 @@
  */
 package org.supercsv.cellprocessor;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
 /**
  * Converts a String to an Enum. Patch originally supplied by Adrian Ber.
+ * <p>
+ * The names of the enum constants (and any aliases, such as <tt>"Y"</tt> or vendor codes) are put in a lookup table
+ * when the processor is constructed, so each cell is converted with a single hash lookup.
  * 
  * @author James Bassett
  * @since 2.2.0
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ParseEnum extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	private final Class<? extends Enum<?>> enumClass;
 	
 	private final boolean ignoreCase;
 	
+	/** the enum constants by name (and alias), folded to a canonical case if ignoreCase is true */
+	private final Map<String, Enum<?>> lookup;
+	
 	/**
 	 * Constructs a new <tt>ParseEnum</tt> processor, which converts a String to a Enum.
 	 * 
@@ -47,6 +59,7 @@ public class ParseEnum extends CellProcessorAdaptor implements StringCellProcess
 		checkPreconditions(enumClass);
 		this.enumClass = enumClass;
 		this.ignoreCase = false;
+		this.lookup = createLookup(enumClass, false, null);
 	}
 	
 	/**
@@ -67,6 +80,7 @@ public class ParseEnum extends CellProcessorAdaptor implements StringCellProcess
 		checkPreconditions(enumClass);
 		this.enumClass = enumClass;
 		this.ignoreCase = ignoreCase;
+		this.lookup = createLookup(enumClass, ignoreCase, null);
 	}
 	
 	/**
@@ -87,6 +101,7 @@ public class ParseEnum extends CellProcessorAdaptor implements StringCellProcess
 		checkPreconditions(enumClass);
 		this.enumClass = enumClass;
 		this.ignoreCase = false;
+		this.lookup = createLookup(enumClass, false, null);
 	}
 	
 	/**
@@ -109,6 +124,67 @@ public class ParseEnum extends CellProcessorAdaptor implements StringCellProcess
 		checkPreconditions(enumClass);
 		this.enumClass = enumClass;
 		this.ignoreCase = ignoreCase;
+		this.lookup = createLookup(enumClass, ignoreCase, null);
+	}
+	
+	/**
+	 * Constructs a new <tt>ParseEnum</tt> processor, which converts a String to a Enum, ignoring the case of the input
+	 * (or not) depending on the supplied flag. Inputs that match one of the aliases (ignoring case if required) are
+	 * converted to the corresponding enum constant. An alias can't have the same name as a different
+	 * enum constant.
+	 * 
+	 * @param enumClass
+	 *            the enum class to convert to
+	 * @param ignoreCase
+	 *            whether to ignore the case of the input
+	 * @param aliases
+	 *            the additional names (keys) for the enum constants (values)
+	 * @param <T>
+	 *            the Enum type
+	 * @throws NullPointerException
+	 *             if enumClass or aliases is null, or aliases contains a null key or value
+	 * @throws IllegalArgumentException
+	 *             if an alias has the same name (ignoring case if required) as a different enum constant or alias
+	 * @since 2.4.1
+	 */
+	public <T extends Enum<?>> ParseEnum(final Class<T> enumClass, final boolean ignoreCase,
+		final Map<String, ? extends T> aliases) {
+		super();
+		checkPreconditions(enumClass, aliases);
+		this.enumClass = enumClass;
+		this.ignoreCase = ignoreCase;
+		this.lookup = createLookup(enumClass, ignoreCase, aliases);
+	}
+	
+	/**
+	 * Constructs a new <tt>ParseEnum</tt> processor, which converts a String to a Enum, ignoring the case of the input
+	 * (or not) depending on the supplied flag, then calls the next processor in the chain. Inputs that match one of
+	 * the aliases (ignoring case if required) are converted to the corresponding enum constant. An alias can't have the same name as a different
+	 * enum constant.
+	 * 
+	 * @param enumClass
+	 *            the enum class to convert to
+	 * @param ignoreCase
+	 *            whether to ignore the case of the input
+	 * @param aliases
+	 *            the additional names (keys) for the enum constants (values)
+	 * @param next
+	 *            the next processor in the chain
+	 * @param <T>
+	 *            the Enum type
+	 * @throws NullPointerException
+	 *             if enumClass, aliases or next is null, or aliases contains a null key or value
+	 * @throws IllegalArgumentException
+	 *             if an alias has the same name (ignoring case if required) as a different enum constant or alias
+	 * @since 2.4.1
+	 */
+	public <T extends Enum<?>> ParseEnum(final Class<T> enumClass, final boolean ignoreCase,
+		final Map<String, ? extends T> aliases, final CellProcessor next) {
+		super(next);
+		checkPreconditions(enumClass, aliases);
+		this.enumClass = enumClass;
+		this.ignoreCase = ignoreCase;
+		this.lookup = createLookup(enumClass, ignoreCase, aliases);
 	}
 	
 	/**
@@ -125,6 +201,94 @@ public class ParseEnum extends CellProcessorAdaptor implements StringCellProcess
 		}
 	}
 	
+	/**
+	 * Checks the preconditions for creating a new ParseEnum processor with aliases.
+	 * 
+	 * @param enumClass
+	 *            the enum class
+	 * @param aliases
+	 *            the aliases
+	 * @throws NullPointerException
+	 *             if enumClass or aliases is null, or aliases contains a null key or value
+	 */
+	private static void checkPreconditions(final Class<?> enumClass, final Map<String, ?> aliases) {
+		checkPreconditions(enumClass);
+		if( aliases == null ) {
+			throw new NullPointerException("aliases should not be null");
+		}
+		for( final Map.Entry<String, ?> alias : aliases.entrySet() ) {
+			if( alias.getKey() == null ) {
+				throw new NullPointerException("aliases should not contain a null alias");
+			} else if( alias.getValue() == null ) {
+				throw new NullPointerException("aliases should not contain a null enum constant");
+			}
+		}
+	}
+	
+	/**
+	 * Creates the lookup table of enum constants. If ignoring case and several constants only differ by case, the first
+	 * declared constant wins. An alias can't be used for a different constant than the constant (or another alias) with
+	 * the same name.
+	 * 
+	 * @param enumClass
+	 *            the enum class
+	 * @param ignoreCase
+	 *            whether to ignore the case of the input
+	 * @param aliases
+	 *            the aliases (may be null)
+	 * @return the lookup table
+	 * @throws IllegalArgumentException
+	 *             if an alias has the same name (ignoring case if required) as a different enum constant or alias
+	 */
+	private static Map<String, Enum<?>> createLookup(final Class<? extends Enum<?>> enumClass,
+		final boolean ignoreCase, final Map<String, ? extends Enum<?>> aliases) {
+		final Enum<?>[] constants = enumClass.getEnumConstants();
+		final Map<String, Enum<?>> lookup = new HashMap<String, Enum<?>>(
+			(constants.length + (aliases == null ? 0 : aliases.size())) * 4 / 3 + 1);
+		for( final Enum<?> enumConstant : constants ) {
+			final String key = ignoreCase ? foldCase(enumConstant.name()) : enumConstant.name();
+			if( !lookup.containsKey(key) ) {
+				lookup.put(key, enumConstant);
+			}
+		}
+		if( aliases != null ) {
+			for( final Map.Entry<String, ? extends Enum<?>> alias : aliases.entrySet() ) {
+				final String key = ignoreCase ? foldCase(alias.getKey()) : alias.getKey();
+				final Enum<?> existing = lookup.put(key, alias.getValue());
+				if( existing != null && existing != alias.getValue() ) {
+					throw new IllegalArgumentException(String.format(
+						"alias '%s' for %s conflicts with the enum constant (or alias) for %s", alias.getKey(),
+						alias.getValue(), existing));
+				}
+			}
+		}
+		return lookup;
+	}
+	
+	/**
+	 * Folds the case of a String, so that two Strings are equal after folding if they are equal ignoring case (see
+	 * {@link String#equalsIgnoreCase(String)}). This is independent of the default Locale.
+	 * 
+	 * @param input
+	 *            the String to fold
+	 * @return the folded String
+	 */
+	private static String foldCase(final String input) {
+		final int length = input.length();
+		char[] folded = null;
+		for( int i = 0; i < length; i++ ) {
+			final char c = input.charAt(i);
+			final char f = Character.toLowerCase(Character.toUpperCase(c));
+			if( f != c && folded == null ) {
+				folded = input.toCharArray();
+			}
+			if( folded != null ) {
+				folded[i] = f;
+			}
+		}
+		return folded == null ? input : new String(folded);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -136,11 +300,9 @@ public class ParseEnum extends CellProcessorAdaptor implements StringCellProcess
 		
 		final String inputString = value.toString();
 		
-		for( final Enum<?> enumConstant : enumClass.getEnumConstants() ) {
-			String constantName = enumConstant.name();
-			if( ignoreCase ? constantName.equalsIgnoreCase(inputString) : constantName.equals(inputString) ) {
-				return enumConstant;
-			}
+		final Enum<?> enumConstant = lookup.get(ignoreCase ? foldCase(inputString) : inputString);
+		if( enumConstant != null ) {
+			return enumConstant;
 		}
 		
 		throw new SuperCsvCellProcessorException(String.format("'%s' could not be parsed as a enum of type %s", value,
@@ -15,9 +15,12 @@
  */
 package org.supercsv.cellprocessor;
 
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.LongCellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.exception.SuperCsvException;
 import org.supercsv.util.CsvContext;
 
 /**
@@ -25,6 +28,7 @@ import org.supercsv.util.CsvContext;
  * 
  * @author Kasper B. Graversen
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ParseLong extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	/**
@@ -60,6 +64,11 @@ public class ParseLong extends CellProcessorAdaptor implements StringCellProcess
 		if( value instanceof Long ) {
 			result = (Long) value;
 		} else if( value instanceof String ) {
+			if( !SuperCsvException.isStackTraceEnabled() && !NumberSyntax.mightBeInteger((String) value) ) {
+				// without stack traces, avoid the cost of creating a NumberFormatException for obviously invalid input
+				throw new SuperCsvCellProcessorException(String.format("'%s' could not be parsed as an Long", value),
+					context, this);
+			}
 			try {
 				result = Long.parseLong((String) value);
 			}
@@ -21,7 +21,9 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.DateCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 
 /**
  * Converts a String to a Time using the {@link SimpleDateFormat} class. If you want to convert from a Time to a String,
@@ -41,6 +43,7 @@ import org.supercsv.cellprocessor.ift.DateCellProcessor;
  * @author Pietro Aragona
  * @since 2.4.1
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ParseSqlTime extends ParseDateTimeAbstract {
 	
 	/**
@@ -90,7 +93,7 @@ public class ParseSqlTime extends ParseDateTimeAbstract {
 	 */
 	@Override
 	protected Object parseValue(Object value) throws ParseException {
-		final Date date = formatter.parse((String) value);
+		final Date date = parseDate((String) value);
 		final Time result = new Time(date.getTime());
 		return result;
 	}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.supercsv.cellprocessor.CellProcessorAdaptor;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.util.CsvContext;
+import org.supercsv.util.LongHashSet;
+
+/**
+ * A version of {@link Unique} that can be shared by multiple threads (for example, to check that a column is unique
+ * across several files read at the same time). The encountered values are spread across a number of independently
+ * locked stripes, so threads only contend when they add values to the same stripe. As with <tt>Unique</tt>, integral
+ * values are stored as primitives.
+ * <p>
+ * When rows are processed concurrently, which occurrence of a duplicate value is reported is unpredictable.
+ * 
+ * @since 2.4.1
+ */
+@ThreadSafety(Concurrency.CONCURRENT)
+public class ConcurrentUnique extends CellProcessorAdaptor {
+	
+	/** the number of stripes (a power of 2) */
+	private static final int STRIPES = 64;
+	
+	private final Stripe[] stripes = new Stripe[STRIPES];
+	
+	/** the type of the integral values stored as primitives (values of any other type are stored as objects) */
+	private final AtomicReference<Class<?>> integralType = new AtomicReference<Class<?>>();
+	
+	/**
+	 * Constructs a new <tt>ConcurrentUnique</tt> processor, which ensures that all rows in a column are unique.
+	 */
+	public ConcurrentUnique() {
+		super();
+		initStripes();
+	}
+	
+	/**
+	 * Constructs a new <tt>ConcurrentUnique</tt> processor, which ensures that all rows in a column are unique, then
+	 * calls the next processor in the chain.
+	 * 
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws NullPointerException
+	 *             if next is null
+	 */
+	public ConcurrentUnique(final CellProcessor next) {
+		super(next);
+		initStripes();
+	}
+	
+	/**
+	 * Creates the (empty) stripes.
+	 */
+	private void initStripes() {
+		for( int i = 0; i < STRIPES; i++ ) {
+			stripes[i] = new Stripe();
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws SuperCsvCellProcessorException
+	 *             if value is null
+	 * @throws SuperCsvConstraintViolationException
+	 *             if a non-unique value is encountered
+	 */
+	public Object execute(final Object value, final CsvContext context) {
+		validateInputNotNull(value, context);
+		
+		final boolean added;
+		if( Unique.isIntegral(value)
+			&& (integralType.compareAndSet(null, value.getClass()) || integralType.get() == value.getClass()) ) {
+			final long longValue = ((Number) value).longValue();
+			final Stripe stripe = stripeFor((int) (longValue ^ (longValue >>> 32)));
+			synchronized( stripe ) {
+				added = stripe.integrals.add(longValue);
+			}
+		} else {
+			final Stripe stripe = stripeFor(value.hashCode());
+			synchronized( stripe ) {
+				added = stripe.elements.add(value);
+			}
+		}
+		
+		if( !added ) {
+			throw new SuperCsvConstraintViolationException(String.format("duplicate value '%s' encountered", value),
+				context, this);
+		}
+		
+		return next.execute(value, context);
+	}
+	
+	/**
+	 * Returns the stripe for a hash code.
+	 */
+	private Stripe stripeFor(final int hash) {
+		final int spread = hash ^ (hash >>> 16);
+		return stripes[(spread ^ (spread >>> 8)) & (STRIPES - 1)];
+	}
+	
+	/**
+	 * The values in one stripe (guarded by the stripe's monitor).
+	 */
+	private static final class Stripe {
+		
+		final Set<Object> elements = new HashSet<Object>();
+		
+		final LongHashSet integrals = new LongHashSet();
+	}
+	
+}
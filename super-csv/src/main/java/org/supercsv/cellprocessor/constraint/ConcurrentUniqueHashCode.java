@@ -0,0 +1,100 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import org.supercsv.cellprocessor.CellProcessorAdaptor;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.util.CsvContext;
+import org.supercsv.util.IntHashSet;
+
+/**
+ * A version of {@link UniqueHashCode} that can be shared by multiple threads. The encountered hash codes are spread
+ * across a number of independently locked stripes, so threads only contend when they add hash codes to the same stripe.
+ * <p>
+ * When rows are processed concurrently, which occurrence of a duplicate value is reported is unpredictable.
+ * 
+ * @since 2.4.1
+ */
+@ThreadSafety(Concurrency.CONCURRENT)
+public class ConcurrentUniqueHashCode extends CellProcessorAdaptor {
+	
+	/** the number of stripes (a power of 2) */
+	private static final int STRIPES = 64;
+	
+	private final IntHashSet[] stripes = new IntHashSet[STRIPES];
+	
+	/**
+	 * Constructs a new <tt>ConcurrentUniqueHashCode</tt> processor, which ensures that all rows in a column are unique.
+	 */
+	public ConcurrentUniqueHashCode() {
+		super();
+		initStripes();
+	}
+	
+	/**
+	 * Constructs a new <tt>ConcurrentUniqueHashCode</tt> processor, which ensures that all rows in a column are unique,
+	 * then calls the next processor in the chain.
+	 * 
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws NullPointerException
+	 *             if next is null
+	 */
+	public ConcurrentUniqueHashCode(final CellProcessor next) {
+		super(next);
+		initStripes();
+	}
+	
+	/**
+	 * Creates the (empty) stripes.
+	 */
+	private void initStripes() {
+		for( int i = 0; i < STRIPES; i++ ) {
+			stripes[i] = new IntHashSet();
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws SuperCsvCellProcessorException
+	 *             if value is null
+	 * @throws SuperCsvConstraintViolationException
+	 *             if a non-unique value is encountered
+	 */
+	public Object execute(final Object value, final CsvContext context) {
+		validateInputNotNull(value, context);
+		
+		final int hash = value.hashCode();
+		final int spread = hash ^ (hash >>> 16);
+		final IntHashSet stripe = stripes[(spread ^ (spread >>> 8)) & (STRIPES - 1)];
+		final boolean added;
+		synchronized( stripe ) {
+			added = stripe.add(hash);
+		}
+		if( !added ) {
+			throw new SuperCsvConstraintViolationException(String.format(
+				"duplicate value '%s' encountered with hashcode %d", value, hash), context, this);
+		}
+		
+		return next.execute(value, context);
+	}
+	
+}
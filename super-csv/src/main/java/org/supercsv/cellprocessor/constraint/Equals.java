@@ -18,10 +18,12 @@ package org.supercsv.cellprocessor.constraint;
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.BoolCellProcessor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.DateCellProcessor;
 import org.supercsv.cellprocessor.ift.DoubleCellProcessor;
 import org.supercsv.cellprocessor.ift.LongCellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.util.CsvContext;
 
@@ -32,6 +34,7 @@ import org.supercsv.util.CsvContext;
  * @author James Bassett
  * @since 1.50
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class Equals extends CellProcessorAdaptor implements BoolCellProcessor, DateCellProcessor, DoubleCellProcessor,
 	LongCellProcessor, StringCellProcessor {
 	
@@ -117,6 +120,15 @@ public class Equals extends CellProcessorAdaptor implements BoolCellProcessor, D
 		return next.execute(value, context);
 	}
 	
+	/**
+	 * {@inheritDoc} Without a constant, this processor remembers the first value it encounters, so each thread needs its
+	 * own instance.
+	 */
+	@Override
+	public Concurrency getConcurrency() {
+		return constantSupplied ? super.getConcurrency() : Concurrency.THREAD_CONFINED;
+	}
+	
 	/**
 	 * Returns true if both objects are null or equal, otherwise false.
 	 * 
@@ -21,7 +21,9 @@ import java.util.List;
 
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.util.CsvContext;
@@ -29,15 +31,21 @@ import org.supercsv.util.CsvContext;
 /**
  * Converts the input to a String and ensures that it doesn't contain any of the supplied substrings. For example, this
  * constraint might be handy when reading/writing filenames and wanting to ensure no filename contains ":", "/", etc.
+ * <p>
+ * The substrings are compiled into an Aho-Corasick automaton when the processor is constructed, so each value is
+ * scanned once, however many substrings are forbidden.
  * 
  * @since 1.10
  * @author Kasper B. Graversen
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class ForbidSubStr extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	private final List<String> forbiddenSubStrings = new ArrayList<String>();
 	
+	private final SubStringMatcher matcher;
+	
 	/**
 	 * Constructs a new <tt>ForbidSubStr</tt> processor which ensures the input doesn't contain any of the supplied
 	 * substrings.
@@ -53,6 +61,7 @@ public class ForbidSubStr extends CellProcessorAdaptor implements StringCellProc
 		super();
 		checkPreconditions(forbiddenSubStrings);
 		checkAndAddForbiddenStrings(forbiddenSubStrings);
+		this.matcher = new SubStringMatcher(this.forbiddenSubStrings);
 	}
 	
 	/**
@@ -70,6 +79,7 @@ public class ForbidSubStr extends CellProcessorAdaptor implements StringCellProc
 		super();
 		checkPreconditions(forbiddenSubStrings);
 		checkAndAddForbiddenStrings(forbiddenSubStrings);
+		this.matcher = new SubStringMatcher(this.forbiddenSubStrings);
 	}
 	
 	/**
@@ -89,6 +99,7 @@ public class ForbidSubStr extends CellProcessorAdaptor implements StringCellProc
 		super(next);
 		checkPreconditions(forbiddenSubStrings);
 		checkAndAddForbiddenStrings(forbiddenSubStrings);
+		this.matcher = new SubStringMatcher(this.forbiddenSubStrings);
 	}
 	
 	/**
@@ -123,6 +134,7 @@ public class ForbidSubStr extends CellProcessorAdaptor implements StringCellProc
 		super(next);
 		checkPreconditions(forbiddenSubStrings);
 		checkAndAddForbiddenStrings(forbiddenSubStrings);
+		this.matcher = new SubStringMatcher(this.forbiddenSubStrings);
 	}
 	
 	/**
@@ -203,11 +215,10 @@ public class ForbidSubStr extends CellProcessorAdaptor implements StringCellProc
 		
 		final String stringValue = value.toString();
 		
-		for( String forbidden : forbiddenSubStrings ) {
-			if( stringValue.contains(forbidden) ) {
-				throw new SuperCsvConstraintViolationException(String.format(
-					"'%s' contains the forbidden substring '%s'", value, forbidden), context, this);
-			}
+		final int forbidden = matcher.indexOfFirstContained(stringValue);
+		if( forbidden >= 0 ) {
+			throw new SuperCsvConstraintViolationException(String.format("'%s' contains the forbidden substring '%s'",
+				value, forbiddenSubStrings.get(forbidden)), context, this);
 		}
 		
 		return next.execute(value, context);
@@ -0,0 +1,589 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A cheap pre-check for {@link java.util.regex.Matcher#matches()}, derived from the structure of a regular expression:
+ * the minimum and maximum length of a matching String, the literal prefix and suffix it must have, and the longest
+ * other literal it must contain. A regular expression that is nothing but a literal (optionally anchored) is matched by
+ * comparing Strings.
+ * <p>
+ * The analysis is conservative: {@link #check(String)} only returns {@link #MATCH} or {@link #NO_MATCH} when the regular
+ * expression is certain to give the same result, and regular expressions using constructs it doesn't understand (such
+ * as inline flags or lookaround) aren't compiled at all.
+ * <p>
+ * Instances are immutable and thread-safe.
+ * 
+ * @since 2.4.1
+ */
+final class RegexPrefilter {
+	
+	/** the String can't match the regular expression */
+	static final int NO_MATCH = 0;
+	
+	/** the String matches the regular expression */
+	static final int MATCH = 1;
+	
+	/** the regular expression has to be run */
+	static final int UNKNOWN = 2;
+	
+	private static final int UNBOUNDED = -1;
+	
+	private final int minLength;
+	
+	private final int maxLength;
+	
+	private final String literal;
+	
+	private final String prefix;
+	
+	private final String suffix;
+	
+	private final String infix;
+	
+	/**
+	 * Constructs a new <tt>RegexPrefilter</tt>.
+	 */
+	private RegexPrefilter(final int minLength, final int maxLength, final String literal, final String prefix,
+		final String suffix, final String infix) {
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.literal = literal;
+		this.prefix = prefix;
+		this.suffix = suffix;
+		this.infix = infix;
+	}
+	
+	/**
+	 * Analyses a regular expression (that has already been compiled successfully without flags).
+	 * 
+	 * @param regex
+	 *            the regular expression
+	 * @return the prefilter, or <tt>null</tt> if the regular expression isn't supported or nothing useful can be
+	 *         derived from it
+	 */
+	static RegexPrefilter compile(final String regex) {
+		final List<List<Element>> alternatives;
+		try {
+			final Parser parser = new Parser(regex);
+			alternatives = parser.parseAlternatives();
+			if( parser.pos != regex.length() ) {
+				return null;
+			}
+		}
+		catch(UnsupportedRegexException e) {
+			return null;
+		}
+		
+		if( alternatives.size() > 1 ) {
+			final Element bounds = Element.alternativesOf(alternatives);
+			return bounds.min == 0 && bounds.max == UNBOUNDED ? null : new RegexPrefilter(bounds.min, bounds.max,
+				null, null, null, null);
+		}
+		
+		final List<Element> sequence = alternatives.get(0);
+		final Element bounds = Element.sequenceOf(sequence);
+		final String literal = exactLiteral(sequence);
+		if( literal != null ) {
+			return new RegexPrefilter(literal.length(), literal.length(), literal, null, null, null);
+		}
+		
+		// gather the runs of adjacent literals (ignoring anything that can't consume characters)
+		final List<String> runs = new ArrayList<String>();
+		StringBuilder run = null;
+		Element firstConsumer = null;
+		Element lastConsumer = null;
+		for( final Element element : sequence ) {
+			if( element.max == 0 ) {
+				continue;
+			}
+			if( firstConsumer == null ) {
+				firstConsumer = element;
+			}
+			lastConsumer = element;
+			if( element.literal != null ) {
+				if( run == null ) {
+					run = new StringBuilder();
+				}
+				run.append(element.literal);
+			} else if( run != null ) {
+				runs.add(run.toString());
+				run = null;
+			}
+		}
+		if( run != null ) {
+			runs.add(run.toString());
+		}
+		
+		int first = 0;
+		int last = runs.size();
+		final String prefix = firstConsumer != null && firstConsumer.literal != null ? runs.get(first++) : null;
+		final String suffix = lastConsumer != null && lastConsumer.literal != null ? runs.get(runs.size() - 1) : null;
+		if( suffix != null ) {
+			last--;
+		}
+		String infix = null;
+		for( int i = first; i < last; i++ ) {
+			if( infix == null || runs.get(i).length() > infix.length() ) {
+				infix = runs.get(i);
+			}
+		}
+		
+		if( bounds.min == 0 && bounds.max == UNBOUNDED && prefix == null && suffix == null && infix == null ) {
+			return null;
+		}
+		return new RegexPrefilter(bounds.min, bounds.max, null, prefix, suffix, infix);
+	}
+	
+	/**
+	 * Returns the String matched by a sequence that consists only of literals surrounded by <tt>^</tt>/<tt>\A</tt> and
+	 * <tt>$</tt>/<tt>\z</tt>/<tt>\Z</tt> anchors, or <tt>null</tt> if the sequence is anything else.
+	 */
+	private static String exactLiteral(final List<Element> sequence) {
+		final StringBuilder builder = new StringBuilder();
+		int i = 0;
+		while( i < sequence.size() && (sequence.get(i).anchor == '^' || sequence.get(i).anchor == 'A') ) {
+			i++;
+		}
+		while( i < sequence.size() && sequence.get(i).literal != null ) {
+			builder.append(sequence.get(i++).literal);
+		}
+		while( i < sequence.size() ) {
+			final char anchor = sequence.get(i++).anchor;
+			if( anchor != '$' && anchor != 'z' && anchor != 'Z' ) {
+				return null;
+			}
+		}
+		return builder.toString();
+	}
+	
+	/**
+	 * Checks the String against the prefilter.
+	 * 
+	 * @param value
+	 *            the String to check
+	 * @return {@link #NO_MATCH} if the String can't match, {@link #MATCH} if it matches, or {@link #UNKNOWN} if the
+	 *         regular expression has to be run
+	 */
+	int check(final String value) {
+		final int length = value.length();
+		if( length < minLength || (maxLength != UNBOUNDED && length > maxLength) ) {
+			return NO_MATCH;
+		} else if( literal != null ) {
+			return literal.equals(value) ? MATCH : NO_MATCH;
+		} else if( prefix != null && !value.startsWith(prefix) ) {
+			return NO_MATCH;
+		} else if( suffix != null && !value.endsWith(suffix) ) {
+			return NO_MATCH;
+		} else if( infix != null && value.indexOf(infix) < 0 ) {
+			return NO_MATCH;
+		}
+		return UNKNOWN;
+	}
+	
+	/**
+	 * Thrown by the parser when the regular expression uses a construct it doesn't understand.
+	 */
+	private static final class UnsupportedRegexException extends Exception {
+		
+		private static final long serialVersionUID = 1L;
+		
+	}
+	
+	/**
+	 * A (possibly quantified) element of a regular expression, described by the number of characters it can match.
+	 */
+	private static final class Element {
+		
+		final int min;
+		
+		final int max;
+		
+		/** the literal matched by the element, or null if it isn't a single literal */
+		final String literal;
+		
+		/** the anchor character (e.g. '^' or 'z' for \z), or 0 if it isn't an anchor */
+		final char anchor;
+		
+		/** the alternatives of an unquantified group, or null if it isn't one */
+		final List<List<Element>> group;
+		
+		Element(final int min, final int max, final String literal, final char anchor,
+			final List<List<Element>> group) {
+			this.min = min;
+			this.max = max;
+			this.literal = literal;
+			this.anchor = anchor;
+			this.group = group;
+		}
+		
+		static Element literal(final char c) {
+			return new Element(1, 1, String.valueOf(c), (char) 0, null);
+		}
+		
+		static Element anchor(final char anchor) {
+			return new Element(0, 0, null, anchor, null);
+		}
+		
+		static Element characters(final int min, final int max) {
+			return new Element(min, max, null, (char) 0, null);
+		}
+		
+		static Element sequenceOf(final List<Element> sequence) {
+			long min = 0;
+			long max = 0;
+			for( final Element element : sequence ) {
+				min += element.min;
+				max = max == UNBOUNDED || element.max == UNBOUNDED ? UNBOUNDED : max + element.max;
+			}
+			return characters(clamp(min), max > Integer.MAX_VALUE ? UNBOUNDED : (int) max);
+		}
+		
+		static Element alternativesOf(final List<List<Element>> alternatives) {
+			int min = Integer.MAX_VALUE;
+			int max = 0;
+			for( final List<Element> sequence : alternatives ) {
+				final Element bounds = sequenceOf(sequence);
+				min = Math.min(min, bounds.min);
+				max = max == UNBOUNDED || bounds.max == UNBOUNDED ? UNBOUNDED : Math.max(max, bounds.max);
+			}
+			return characters(min, max);
+		}
+		
+		Element quantify(final int minTimes, final int maxTimes) {
+			final Element bounds = group == null ? this : alternativesOf(group);
+			final long quantifiedMax = bounds.max == UNBOUNDED || maxTimes == UNBOUNDED ? UNBOUNDED : (long) bounds.max
+				* maxTimes;
+			return characters(clamp((long) bounds.min * minTimes), quantifiedMax > Integer.MAX_VALUE ? UNBOUNDED
+				: (int) quantifiedMax);
+		}
+		
+		private static int clamp(final long min) {
+			return (int) Math.min(min, Integer.MAX_VALUE);
+		}
+	}
+	
+	/**
+	 * A recursive descent parser for the subset of the {@link java.util.regex.Pattern} syntax that can be analysed.
+	 */
+	private static final class Parser {
+		
+		private final String regex;
+		
+		int pos;
+		
+		Parser(final String regex) {
+			this.regex = regex;
+		}
+		
+		List<List<Element>> parseAlternatives() throws UnsupportedRegexException {
+			final List<List<Element>> alternatives = new ArrayList<List<Element>>();
+			alternatives.add(parseSequence());
+			while( pos < regex.length() && regex.charAt(pos) == '|' ) {
+				pos++;
+				alternatives.add(parseSequence());
+			}
+			return alternatives;
+		}
+		
+		private List<Element> parseSequence() throws UnsupportedRegexException {
+			final List<Element> sequence = new ArrayList<Element>();
+			while( pos < regex.length() && regex.charAt(pos) != '|' && regex.charAt(pos) != ')' ) {
+				final Element element = parseQuantifier(parseAtom(sequence));
+				if( element.group != null && element.group.size() == 1 ) {
+					sequence.addAll(element.group.get(0));
+				} else if( element.group != null ) {
+					sequence.add(Element.alternativesOf(element.group));
+				} else {
+					sequence.add(element);
+				}
+			}
+			return sequence;
+		}
+		
+		/**
+		 * Parses a single atom. Quoted (\Q...\E) literals add all but their last character directly to the sequence, as
+		 * a quantifier only applies to the last one.
+		 */
+		private Element parseAtom(final List<Element> sequence) throws UnsupportedRegexException {
+			final char c = regex.charAt(pos++);
+			switch( c ) {
+				case '(':
+					if( pos < regex.length() && regex.charAt(pos) == '?' ) {
+						if( pos + 1 < regex.length() && regex.charAt(pos + 1) == ':' ) {
+							pos += 2;
+						} else {
+							throw new UnsupportedRegexException(); // flags, lookaround, named groups...
+						}
+					}
+					final List<List<Element>> alternatives = parseAlternatives();
+					if( pos >= regex.length() || regex.charAt(pos) != ')' ) {
+						throw new UnsupportedRegexException();
+					}
+					pos++;
+					return new Element(0, 0, null, (char) 0, alternatives);
+				case '[':
+					return parseCharacterClass();
+				case '.':
+					return Element.characters(1, 2);
+				case '^':
+				case '$':
+					return Element.anchor(c);
+				case '\\':
+					return parseEscape(sequence);
+				case '*':
+				case '+':
+				case '?':
+				case '{':
+					throw new UnsupportedRegexException();
+				default:
+					checkNotSurrogate(c);
+					return Element.literal(c);
+			}
+		}
+		
+		private Element parseEscape(final List<Element> sequence) throws UnsupportedRegexException {
+			if( pos >= regex.length() ) {
+				throw new UnsupportedRegexException();
+			}
+			final char c = regex.charAt(pos++);
+			switch( c ) {
+				case 'Q':
+					int end = regex.indexOf("\\E", pos);
+					if( end < 0 ) {
+						end = regex.length();
+					}
+					if( end == pos ) {
+						throw new UnsupportedRegexException();
+					}
+					for( int i = pos; i < end - 1; i++ ) {
+						checkNotSurrogate(regex.charAt(i));
+						sequence.add(Element.literal(regex.charAt(i)));
+					}
+					final char lastQuoted = regex.charAt(end - 1);
+					checkNotSurrogate(lastQuoted);
+					pos = Math.min(end + 2, regex.length());
+					return Element.literal(lastQuoted);
+				case 'd':
+				case 'w':
+				case 's':
+					return Element.characters(1, 1);
+				case 'D':
+				case 'W':
+				case 'S':
+					return Element.characters(1, 2);
+				case 'p':
+				case 'P':
+					if( pos < regex.length() && regex.charAt(pos) == '{' ) {
+						pos = regex.indexOf('}', pos) + 1;
+						if( pos == 0 ) {
+							throw new UnsupportedRegexException();
+						}
+					} else {
+						pos++;
+					}
+					return Element.characters(1, 2);
+				case 't':
+					return Element.literal('\t');
+				case 'n':
+					return Element.literal('\n');
+				case 'r':
+					return Element.literal('\r');
+				case 'f':
+					return Element.literal('\f');
+				case 'a':
+					return Element.literal('\u0007');
+				case 'e':
+					return Element.literal('\u001B');
+				case 'x':
+					if( pos < regex.length() && regex.charAt(pos) == '{' ) {
+						final int close = regex.indexOf('}', pos);
+						if( close < 0 ) {
+							throw new UnsupportedRegexException();
+						}
+						final int codePoint = parseHex(pos + 1, close);
+						pos = close + 1;
+						if( codePoint > Character.MAX_VALUE ) {
+							throw new UnsupportedRegexException();
+						}
+						return literal((char) codePoint);
+					}
+					pos += 2;
+					return literal((char) parseHex(pos - 2, pos));
+				case 'u':
+					pos += 4;
+					return literal((char) parseHex(pos - 4, pos));
+				case '0':
+					int octal = 0;
+					int digits = 0;
+					while( digits < 3 && pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '7'
+						&& (digits < 2 || octal <= 31) ) {
+						octal = octal * 8 + (regex.charAt(pos++) - '0');
+						digits++;
+					}
+					if( digits == 0 ) {
+						throw new UnsupportedRegexException();
+					}
+					return Element.literal((char) octal);
+				case 'c':
+					if( pos >= regex.length() ) {
+						throw new UnsupportedRegexException();
+					}
+					return Element.literal((char) (regex.charAt(pos++) ^ 64));
+				case 'b':
+				case 'B':
+				case 'A':
+				case 'G':
+				case 'z':
+				case 'Z':
+					return Element.anchor(c);
+				default:
+					if( c >= '1' && c <= '9' ) {
+						// back reference (the length of the referenced group isn't tracked)
+						while( pos < regex.length() && Character.isDigit(regex.charAt(pos)) ) {
+							pos++;
+						}
+						return Element.characters(0, UNBOUNDED);
+					} else if( Character.isLetterOrDigit(c) ) {
+						throw new UnsupportedRegexException();
+					}
+					checkNotSurrogate(c);
+					return Element.literal(c);
+			}
+		}
+		
+		private Element parseCharacterClass() throws UnsupportedRegexException {
+			int maxChars = 1;
+			int depth = 1;
+			boolean classStart = true;
+			while( depth > 0 ) {
+				if( pos >= regex.length() ) {
+					throw new UnsupportedRegexException();
+				}
+				final char c = regex.charAt(pos++);
+				if( classStart && c == '^' ) {
+					maxChars = 2; // a negated class can match a supplementary character
+					continue;
+				} else if( classStart && c == ']' ) {
+					throw new UnsupportedRegexException();
+				}
+				classStart = false;
+				
+				if( c == '[' ) {
+					depth++;
+					classStart = true;
+				} else if( c == ']' ) {
+					depth--;
+				} else if( c == '\\' ) {
+					if( pos >= regex.length() ) {
+						throw new UnsupportedRegexException();
+					}
+					final char escaped = regex.charAt(pos++);
+					if( "DWSpPxu0c".indexOf(escaped) >= 0 ) {
+						maxChars = 2;
+					} else if( Character.isLetterOrDigit(escaped) && "dwstnrfae".indexOf(escaped) < 0 ) {
+						throw new UnsupportedRegexException();
+					}
+				} else {
+					checkNotSurrogate(c);
+				}
+			}
+			return Element.characters(1, maxChars);
+		}
+		
+		private Element parseQuantifier(final Element element) throws UnsupportedRegexException {
+			if( pos >= regex.length() ) {
+				return element;
+			}
+			final Element quantified;
+			switch( regex.charAt(pos) ) {
+				case '*':
+					pos++;
+					quantified = element.quantify(0, UNBOUNDED);
+					break;
+				case '+':
+					pos++;
+					quantified = element.quantify(1, UNBOUNDED);
+					break;
+				case '?':
+					pos++;
+					quantified = element.quantify(0, 1);
+					break;
+				case '{':
+					final int close = regex.indexOf('}', pos);
+					if( close < 0 ) {
+						throw new UnsupportedRegexException();
+					}
+					final String bounds = regex.substring(pos + 1, close);
+					pos = close + 1;
+					final int comma = bounds.indexOf(',');
+					try {
+						if( comma < 0 ) {
+							final int times = Integer.parseInt(bounds);
+							quantified = element.quantify(times, times);
+						} else {
+							final int minTimes = Integer.parseInt(bounds.substring(0, comma));
+							final String maxBound = bounds.substring(comma + 1);
+							quantified = element.quantify(minTimes, maxBound.length() == 0 ? UNBOUNDED : Integer
+								.parseInt(maxBound));
+						}
+					}
+					catch(NumberFormatException e) {
+						throw new UnsupportedRegexException();
+					}
+					break;
+				default:
+					return element;
+			}
+			
+			// lazy and possessive quantifiers match the same Strings
+			if( pos < regex.length() && (regex.charAt(pos) == '?' || regex.charAt(pos) == '+') ) {
+				pos++;
+			}
+			return quantified;
+		}
+		
+		private int parseHex(final int start, final int end) throws UnsupportedRegexException {
+			if( end > regex.length() || start >= end ) {
+				throw new UnsupportedRegexException();
+			}
+			try {
+				return Integer.parseInt(regex.substring(start, end), 16);
+			}
+			catch(NumberFormatException e) {
+				throw new UnsupportedRegexException();
+			}
+		}
+		
+		private static Element literal(final char c) throws UnsupportedRegexException {
+			checkNotSurrogate(c);
+			return Element.literal(c);
+		}
+		
+		/**
+		 * Supplementary characters are quantified as a whole, so aren't analysed.
+		 */
+		private static void checkNotSurrogate(final char c) throws UnsupportedRegexException {
+			if( Character.isHighSurrogate(c) || Character.isLowSurrogate(c) ) {
+				throw new UnsupportedRegexException();
+			}
+		}
+	}
+	
+}
@@ -21,22 +21,30 @@ import java.util.List;
 
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.util.CsvContext;
 
 /**
  * Converts the input to a String and ensures that the input contains at least one of the specified substrings.
+ * <p>
+ * The substrings are compiled into an Aho-Corasick automaton when the processor is constructed, so each value is
+ * scanned once, however many substrings are supplied.
  * 
  * @since 1.10
  * @author Kasper B. Graversen
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class RequireSubStr extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	private final List<String> requiredSubStrings = new ArrayList<String>();
 	
+	private final SubStringMatcher matcher;
+	
 	/**
 	 * Converts the input to a String and ensures that the input contains at least one of the specified substrings.
 	 * 
@@ -51,6 +59,7 @@ public class RequireSubStr extends CellProcessorAdaptor implements StringCellPro
 		super();
 		checkPreconditions(requiredSubStrings);
 		checkAndAddRequiredSubStrings(requiredSubStrings);
+		this.matcher = new SubStringMatcher(this.requiredSubStrings);
 	}
 	
 	/**
@@ -70,6 +79,7 @@ public class RequireSubStr extends CellProcessorAdaptor implements StringCellPro
 		super(next);
 		checkPreconditions(requiredSubStrings);
 		checkAndAddRequiredSubStrings(requiredSubStrings);
+		this.matcher = new SubStringMatcher(this.requiredSubStrings);
 	}
 	
 	/**
@@ -87,6 +97,7 @@ public class RequireSubStr extends CellProcessorAdaptor implements StringCellPro
 		super(next);
 		checkPreconditions(requiredSubString);
 		checkAndAddRequiredSubStrings(requiredSubString);
+		this.matcher = new SubStringMatcher(this.requiredSubStrings);
 	}
 	
 	/**
@@ -106,6 +117,7 @@ public class RequireSubStr extends CellProcessorAdaptor implements StringCellPro
 		super(next);
 		checkPreconditions(requiredSubStrings);
 		checkAndAddRequiredSubStrings(requiredSubStrings);
+		this.matcher = new SubStringMatcher(this.requiredSubStrings);
 	}
 	
 	/**
@@ -186,10 +198,8 @@ public class RequireSubStr extends CellProcessorAdaptor implements StringCellPro
 		
 		final String stringValue = value.toString();
 		
-		for( final String required : requiredSubStrings ) {
-			if( stringValue.contains(required) ) {
-				return next.execute(value, context); // just need to match a single substring
-			}
+		if( matcher.containsAny(stringValue) ) {
+			return next.execute(value, context); // just need to match a single substring
 		}
 		
 		throw new SuperCsvConstraintViolationException(String.format("'%s' does not contain any of the required substrings", value),
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Helpers for the temporary files used by the constraints that spill their values to disk. Values are stored as their
+ * UTF-8 encoded String representation, prefixed by the number of bytes.
+ * 
+ * @since 2.4.1
+ */
+final class SpillFiles {
+	
+	private static final String CHARSET = "UTF-8";
+	
+	// no instantiation
+	private SpillFiles() {
+	}
+	
+	/**
+	 * Creates a temporary file, which is deleted when the JVM exits (if it hasn't been deleted by then).
+	 * 
+	 * @param directory
+	 *            the directory to create the file in (null for the default temporary directory)
+	 * @param prefix
+	 *            the file name prefix
+	 * @return the file
+	 * @throws IOException
+	 *             if the file can't be created
+	 */
+	static File createTempFile(final File directory, final String prefix) throws IOException {
+		final File file = File.createTempFile(prefix, ".tmp", directory);
+		file.deleteOnExit();
+		return file;
+	}
+	
+	/**
+	 * Encodes a value as UTF-8.
+	 * 
+	 * @param value
+	 *            the value
+	 * @return the UTF-8 bytes
+	 */
+	static byte[] encode(final String value) {
+		try {
+			return value.getBytes(CHARSET);
+		}
+		catch(UnsupportedEncodingException e) {
+			throw new IllegalStateException(CHARSET + " is always supported", e);
+		}
+	}
+	
+	/**
+	 * Decodes a UTF-8 encoded value.
+	 * 
+	 * @param bytes
+	 *            the UTF-8 bytes
+	 * @return the value
+	 */
+	static String decode(final byte[] bytes) {
+		try {
+			return new String(bytes, CHARSET);
+		}
+		catch(UnsupportedEncodingException e) {
+			throw new IllegalStateException(CHARSET + " is always supported", e);
+		}
+	}
+	
+	/**
+	 * Writes a length-prefixed byte array.
+	 * 
+	 * @param out
+	 *            the stream to write to
+	 * @param bytes
+	 *            the bytes
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	static void writeBytes(final DataOutputStream out, final byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/**
+	 * Reads a length-prefixed byte array.
+	 * 
+	 * @param in
+	 *            the stream to read from
+	 * @return the bytes
+	 * @throws IOException
+	 *             if an I/O error occurs (including the end of the stream)
+	 */
+	static byte[] readBytes(final DataInputStream in) throws IOException {
+		final byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return bytes;
+	}
+	
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A disk-backed set of values, each identified by a 64-bit hash, used to confirm the possible duplicates reported by a
+ * Bloom filter. New values are buffered in memory, then written as runs sorted by hash. Each run has an index file of
+ * (hash, offset) pairs and a data file of length-prefixed values, plus a sparse in-memory index of every
+ * {@value #SPARSE_INTERVAL}th hash, so a lookup only reads one small block of each run's index (and the data of any
+ * entries with the same hash). Whenever the newest run is at least as large as the one before it, the two are merged,
+ * so there are never more than about log2(size / buffer size) runs (and twice as many open files).
+ * 
+ * @since 2.4.1
+ */
+final class SpillStore {
+	
+	/** the number of index entries per sparse index entry */
+	static final int SPARSE_INTERVAL = 256;
+	
+	/** the size of an index entry (hash and data offset) in bytes */
+	private static final int INDEX_ENTRY_SIZE = 16;
+	
+	private final File directory;
+	
+	private final Entry[] buffer;
+	
+	private int bufferCount;
+	
+	/** the runs, oldest (and largest) first */
+	private final List<Run> runs = new ArrayList<Run>();
+	
+	/** reused to read a block of index entries */
+	private final byte[] indexBlock = new byte[SPARSE_INTERVAL * INDEX_ENTRY_SIZE];
+	
+	/**
+	 * Constructs a new <tt>SpillStore</tt>.
+	 * 
+	 * @param directory
+	 *            the directory for the temporary files (null for the default temporary directory)
+	 * @param bufferSize
+	 *            the number of values to buffer in memory before writing them to a run
+	 */
+	SpillStore(final File directory, final int bufferSize) {
+		this.directory = directory;
+		this.buffer = new Entry[bufferSize];
+	}
+	
+	/**
+	 * Checks whether a value is in the store.
+	 * 
+	 * @param hash
+	 *            the hash of the value
+	 * @param bytes
+	 *            the value's bytes
+	 * @return true if the value is in the store
+	 * @throws IOException
+	 *             if a run can't be read
+	 */
+	boolean contains(final long hash, final byte[] bytes) throws IOException {
+		for( int i = 0; i < bufferCount; i++ ) {
+			if( buffer[i].hash == hash && Arrays.equals(buffer[i].bytes, bytes) ) {
+				return true;
+			}
+		}
+		for( final Run run : runs ) {
+			if( run.contains(hash, bytes, indexBlock) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Adds a value to the store (which must not already contain it).
+	 * 
+	 * @param hash
+	 *            the hash of the value
+	 * @param bytes
+	 *            the value's bytes
+	 * @throws IOException
+	 *             if a run can't be written
+	 */
+	void add(final long hash, final byte[] bytes) throws IOException {
+		buffer[bufferCount++] = new Entry(hash, bytes);
+		if( bufferCount == buffer.length ) {
+			flush();
+		}
+	}
+	
+	/**
+	 * Writes the buffered values to a new run, then merges the newest runs while the newest is at least as large as
+	 * the one before it.
+	 */
+	private void flush() throws IOException {
+		Arrays.sort(buffer, 0, bufferCount);
+		final RunWriter writer = new RunWriter(directory);
+		try {
+			for( int i = 0; i < bufferCount; i++ ) {
+				writer.write(buffer[i].hash, buffer[i].bytes);
+			}
+		}
+		catch(IOException e) {
+			writer.abort();
+			throw e;
+		}
+		runs.add(writer.finish());
+		Arrays.fill(buffer, 0, bufferCount, null);
+		bufferCount = 0;
+		
+		while( runs.size() > 1 && runs.get(runs.size() - 2).size <= runs.get(runs.size() - 1).size ) {
+			final Run older = runs.get(runs.size() - 2);
+			final Run newer = runs.get(runs.size() - 1);
+			final Run merged = merge(older, newer);
+			runs.remove(runs.size() - 1);
+			runs.set(runs.size() - 1, merged);
+			older.delete();
+			newer.delete();
+		}
+	}
+	
+	/**
+	 * Merges two runs into a new run.
+	 */
+	private Run merge(final Run first, final Run second) throws IOException {
+		final RunReader firstReader = new RunReader(first);
+		try {
+			final RunReader secondReader = new RunReader(second);
+			try {
+				final RunWriter writer = new RunWriter(directory);
+				try {
+					boolean firstHasNext = firstReader.next();
+					boolean secondHasNext = secondReader.next();
+					while( firstHasNext || secondHasNext ) {
+						if( !secondHasNext || (firstHasNext && firstReader.hash <= secondReader.hash) ) {
+							writer.write(firstReader.hash, firstReader.bytes);
+							firstHasNext = firstReader.next();
+						} else {
+							writer.write(secondReader.hash, secondReader.bytes);
+							secondHasNext = secondReader.next();
+						}
+					}
+				}
+				catch(IOException e) {
+					writer.abort();
+					throw e;
+				}
+				return writer.finish();
+			}
+			finally {
+				secondReader.close();
+			}
+		}
+		finally {
+			firstReader.close();
+		}
+	}
+	
+	/**
+	 * Returns the number of runs on disk.
+	 * 
+	 * @return the number of runs
+	 */
+	int getRunCount() {
+		return runs.size();
+	}
+	
+	/**
+	 * Closes and deletes all runs.
+	 * 
+	 * @throws IOException
+	 *             if a file can't be closed
+	 */
+	void close() throws IOException {
+		IOException exception = null;
+		for( final Run run : runs ) {
+			try {
+				run.delete();
+			}
+			catch(IOException e) {
+				exception = e;
+			}
+		}
+		runs.clear();
+		Arrays.fill(buffer, null);
+		bufferCount = 0;
+		if( exception != null ) {
+			throw exception;
+		}
+	}
+	
+	/**
+	 * A buffered value, ordered by hash.
+	 */
+	private static final class Entry implements Comparable<Entry> {
+		
+		private final long hash;
+		
+		private final byte[] bytes;
+		
+		Entry(final long hash, final byte[] bytes) {
+			this.hash = hash;
+			this.bytes = bytes;
+		}
+		
+		public int compareTo(final Entry other) {
+			return hash < other.hash ? -1 : (hash == other.hash ? 0 : 1);
+		}
+	}
+	
+	/**
+	 * A run of values sorted by hash, with its files open for random access.
+	 */
+	private static final class Run {
+		
+		private final File indexFile;
+		
+		private final File dataFile;
+		
+		private final RandomAccessFile index;
+		
+		private final RandomAccessFile data;
+		
+		/** the hash of every SPARSE_INTERVAL-th entry */
+		private final long[] sparseIndex;
+		
+		private final long size;
+		
+		Run(final File indexFile, final File dataFile, final long[] sparseIndex, final long size) throws IOException {
+			this.indexFile = indexFile;
+			this.dataFile = dataFile;
+			this.sparseIndex = sparseIndex;
+			this.size = size;
+			this.index = new RandomAccessFile(indexFile, "r");
+			try {
+				this.data = new RandomAccessFile(dataFile, "r");
+			}
+			catch(IOException e) {
+				index.close();
+				throw e;
+			}
+		}
+		
+		/**
+		 * Checks whether the run contains a value, reading the index from the last sparse index entry with a smaller
+		 * hash (as entries with the same hash may span two blocks).
+		 */
+		boolean contains(final long hash, final byte[] bytes, final byte[] block) throws IOException {
+			int low = 0;
+			int high = sparseIndex.length - 1;
+			int start = 0;
+			while( low <= high ) {
+				final int middle = (low + high) >>> 1;
+				if( sparseIndex[middle] < hash ) {
+					start = middle;
+					low = middle + 1;
+				} else {
+					high = middle - 1;
+				}
+			}
+			
+			for( long entry = (long) start * SPARSE_INTERVAL; entry < size; ) {
+				final int count = (int) Math.min(SPARSE_INTERVAL, size - entry);
+				index.seek(entry * INDEX_ENTRY_SIZE);
+				index.readFully(block, 0, count * INDEX_ENTRY_SIZE);
+				final ByteBuffer entries = ByteBuffer.wrap(block, 0, count * INDEX_ENTRY_SIZE);
+				for( int i = 0; i < count; i++ ) {
+					final long entryHash = entries.getLong();
+					final long offset = entries.getLong();
+					if( entryHash > hash ) {
+						return false;
+					} else if( entryHash == hash && dataEquals(offset, bytes) ) {
+						return true;
+					}
+				}
+				entry += count;
+			}
+			return false;
+		}
+		
+		private boolean dataEquals(final long offset, final byte[] bytes) throws IOException {
+			data.seek(offset);
+			if( data.readInt() != bytes.length ) {
+				return false;
+			}
+			final byte[] stored = new byte[bytes.length];
+			data.readFully(stored);
+			return Arrays.equals(stored, bytes);
+		}
+		
+		void delete() throws IOException {
+			try {
+				index.close();
+				data.close();
+			}
+			finally {
+				indexFile.delete();
+				dataFile.delete();
+			}
+		}
+	}
+	
+	/**
+	 * Writes a new run (the values must be written in order of hash).
+	 */
+	private static final class RunWriter {
+		
+		private final File indexFile;
+		
+		private final File dataFile;
+		
+		private final DataOutputStream index;
+		
+		private final DataOutputStream data;
+		
+		private long[] sparseIndex = new long[16];
+		
+		private long size;
+		
+		private long offset;
+		
+		RunWriter(final File directory) throws IOException {
+			this.indexFile = SpillFiles.createTempFile(directory, "supercsv-unique");
+			this.dataFile = SpillFiles.createTempFile(directory, "supercsv-unique");
+			this.index = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)));
+			this.data = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(dataFile)));
+		}
+		
+		void write(final long hash, final byte[] bytes) throws IOException {
+			if( size % SPARSE_INTERVAL == 0 ) {
+				final int sparseEntry = (int) (size / SPARSE_INTERVAL);
+				if( sparseEntry == sparseIndex.length ) {
+					sparseIndex = copyOf(sparseIndex, sparseIndex.length * 2);
+				}
+				sparseIndex[sparseEntry] = hash;
+			}
+			index.writeLong(hash);
+			index.writeLong(offset);
+			SpillFiles.writeBytes(data, bytes);
+			offset += 4 + bytes.length;
+			size++;
+		}
+		
+		Run finish() throws IOException {
+			try {
+				index.close();
+				data.close();
+				final int sparseSize = (int) ((size + SPARSE_INTERVAL - 1) / SPARSE_INTERVAL);
+				return new Run(indexFile, dataFile, copyOf(sparseIndex, sparseSize), size);
+			}
+			catch(IOException e) {
+				abort();
+				throw e;
+			}
+		}
+		
+		private static long[] copyOf(final long[] array, final int length) {
+			final long[] copy = new long[length];
+			System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+			return copy;
+		}
+		
+		void abort() {
+			try {
+				index.close();
+				data.close();
+			}
+			catch(IOException e) {
+				// the files are deleted anyway
+			}
+			indexFile.delete();
+			dataFile.delete();
+		}
+	}
+	
+	/**
+	 * Reads the values of a run in order.
+	 */
+	private static final class RunReader {
+		
+		private final DataInputStream index;
+		
+		private final DataInputStream data;
+		
+		private long remaining;
+		
+		private long hash;
+		
+		private byte[] bytes;
+		
+		RunReader(final Run run) throws IOException {
+			this.remaining = run.size;
+			this.index = new DataInputStream(new BufferedInputStream(new FileInputStream(run.indexFile)));
+			try {
+				this.data = new DataInputStream(new BufferedInputStream(new FileInputStream(run.dataFile)));
+			}
+			catch(IOException e) {
+				index.close();
+				throw e;
+			}
+		}
+		
+		boolean next() throws IOException {
+			if( remaining == 0 ) {
+				return false;
+			}
+			remaining--;
+			hash = index.readLong();
+			index.readLong(); // the data is read in order, so the offset isn't needed
+			bytes = SpillFiles.readBytes(data);
+			return true;
+		}
+		
+		void close() throws IOException {
+			try {
+				index.close();
+			}
+			finally {
+				data.close();
+			}
+		}
+	}
+	
+}
@@ -17,7 +17,9 @@ package org.supercsv.cellprocessor.constraint;
 
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.util.CsvContext;
@@ -35,6 +37,7 @@ import org.supercsv.util.CsvContext;
  * @since 1.50
  * @author Dominique De Vito
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class StrNotNullOrEmpty extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	/**
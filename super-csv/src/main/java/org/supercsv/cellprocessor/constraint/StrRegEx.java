@@ -17,11 +17,14 @@ package org.supercsv.cellprocessor.constraint;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.util.CsvContext;
@@ -33,11 +36,21 @@ import org.supercsv.util.CsvContext;
  * @author James Bassett
  * @since 1.50
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class StrRegEx extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	private final String regex;
 	private final Pattern regexPattern;
 	
+	private final RegexPrefilter prefilter;
+	
+	private final ThreadLocal<Matcher> matchers = new ThreadLocal<Matcher>() {
+		@Override
+		protected Matcher initialValue() {
+			return regexPattern.matcher("");
+		}
+	};
+	
 	private static final Map<String, String> REGEX_MSGS = new HashMap<String, String>();
 	
 	/**
@@ -57,6 +70,7 @@ public class StrRegEx extends CellProcessorAdaptor implements StringCellProcesso
 		super();
 		checkPreconditions(regex);
 		this.regexPattern = Pattern.compile(regex);
+		this.prefilter = RegexPrefilter.compile(regex);
 		this.regex = regex;
 	}
 	
@@ -79,6 +93,7 @@ public class StrRegEx extends CellProcessorAdaptor implements StringCellProcesso
 		super(next);
 		checkPreconditions(regex);
 		this.regexPattern = Pattern.compile(regex);
+		this.prefilter = RegexPrefilter.compile(regex);
 		this.regex = regex;
 	}
 	
@@ -111,7 +126,10 @@ public class StrRegEx extends CellProcessorAdaptor implements StringCellProcesso
 	public Object execute(final Object value, final CsvContext context) {
 		validateInputNotNull(value, context);
 		
-		final boolean matches = regexPattern.matcher((String) value).matches();
+		final String stringValue = (String) value;
+		final int prefiltered = prefilter == null ? RegexPrefilter.UNKNOWN : prefilter.check(stringValue);
+		final boolean matches = prefiltered == RegexPrefilter.MATCH
+			|| (prefiltered == RegexPrefilter.UNKNOWN && matchers.get().reset(stringValue).matches());
 		if( !matches ) {
 			final String msg = REGEX_MSGS.get(regex);
 			if( msg == null ) {
@@ -20,7 +20,9 @@ import java.util.Set;
 
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.util.CsvContext;
@@ -33,6 +35,7 @@ import org.supercsv.util.CsvContext;
  * @author Dominique De Vito
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.STATELESS)
 public class Strlen extends CellProcessorAdaptor implements StringCellProcessor {
 	
 	private final Set<Integer> requiredLengths = new HashSet<Integer>();
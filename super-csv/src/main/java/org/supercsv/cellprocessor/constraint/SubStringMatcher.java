@@ -0,0 +1,205 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Finds which of a list of substrings a String contains, using an Aho-Corasick automaton so that each String is
+ * scanned once, whatever the number of substrings. The automaton is compiled into a transition table over the
+ * characters that occur in the substrings (every other character leads back to the start state).
+ * <p>
+ * Instances are immutable and thread-safe.
+ * 
+ * @since 2.4.1
+ */
+final class SubStringMatcher {
+	
+	private static final int NO_MATCH = -1;
+	
+	/** the character class of each ASCII character (0 for characters not in any substring) */
+	private final int[] asciiClasses = new int[128];
+	
+	/** the non-ASCII characters in the substrings (sorted) */
+	private final char[] otherChars;
+	
+	/** the character class of each of otherChars */
+	private final int[] otherClasses;
+	
+	/** the number of character classes */
+	private final int classCount;
+	
+	/** the next state, indexed by state * classCount + character class */
+	private final int[] transitions;
+	
+	/** the lowest index of a substring that ends in each state (or NO_MATCH) */
+	private final int[] matches;
+	
+	/**
+	 * Compiles the substrings into a matcher.
+	 * 
+	 * @param subStrings
+	 *            the substrings (none of which may be null)
+	 */
+	SubStringMatcher(final List<String> subStrings) {
+		// assign a class to each distinct character
+		final TreeSet<Character> alphabet = new TreeSet<Character>();
+		for( final String subString : subStrings ) {
+			for( int i = 0; i < subString.length(); i++ ) {
+				alphabet.add(subString.charAt(i));
+			}
+		}
+		final List<Character> others = new ArrayList<Character>();
+		int nextClass = 1;
+		for( final Character c : alphabet ) {
+			if( c < 128 ) {
+				asciiClasses[c] = nextClass++;
+			} else {
+				others.add(c);
+			}
+		}
+		otherChars = new char[others.size()];
+		otherClasses = new int[others.size()];
+		for( int i = 0; i < otherChars.length; i++ ) {
+			otherChars[i] = others.get(i);
+			otherClasses[i] = nextClass++;
+		}
+		classCount = nextClass;
+		
+		// build the trie
+		final List<Map<Integer, Integer>> children = new ArrayList<Map<Integer, Integer>>();
+		final List<Integer> trieMatches = new ArrayList<Integer>();
+		children.add(new HashMap<Integer, Integer>());
+		trieMatches.add(NO_MATCH);
+		for( int index = 0; index < subStrings.size(); index++ ) {
+			final String subString = subStrings.get(index);
+			int state = 0;
+			for( int i = 0; i < subString.length(); i++ ) {
+				final int charClass = classOf(subString.charAt(i));
+				Integer child = children.get(state).get(charClass);
+				if( child == null ) {
+					child = children.size();
+					children.add(new HashMap<Integer, Integer>());
+					trieMatches.add(NO_MATCH);
+					children.get(state).put(charClass, child);
+				}
+				state = child;
+			}
+			if( trieMatches.get(state) == NO_MATCH ) {
+				trieMatches.set(state, index);
+			}
+		}
+		
+		// add the failure transitions breadth first, so each state's failure state is complete before it's used
+		final int stateCount = children.size();
+		transitions = new int[stateCount * classCount];
+		matches = new int[stateCount];
+		final int[] failure = new int[stateCount];
+		final int[] queue = new int[stateCount];
+		int head = 0;
+		int tail = 0;
+		
+		matches[0] = trieMatches.get(0);
+		for( final Map.Entry<Integer, Integer> child : children.get(0).entrySet() ) {
+			transitions[child.getKey()] = child.getValue();
+			queue[tail++] = child.getValue();
+		}
+		while( head < tail ) {
+			final int state = queue[head++];
+			final int fail = failure[state];
+			matches[state] = lowest(trieMatches.get(state), matches[fail]);
+			for( int charClass = 0; charClass < classCount; charClass++ ) {
+				final Integer child = children.get(state).get(charClass);
+				if( child == null ) {
+					transitions[state * classCount + charClass] = transitions[fail * classCount + charClass];
+				} else {
+					transitions[state * classCount + charClass] = child;
+					failure[child] = transitions[fail * classCount + charClass];
+					queue[tail++] = child;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns the lower of two substring indexes, ignoring NO_MATCH.
+	 */
+	private static int lowest(final int index1, final int index2) {
+		if( index1 == NO_MATCH ) {
+			return index2;
+		} else if( index2 == NO_MATCH ) {
+			return index1;
+		}
+		return Math.min(index1, index2);
+	}
+	
+	/**
+	 * Returns the character class of a character.
+	 */
+	private int classOf(final char c) {
+		if( c < 128 ) {
+			return asciiClasses[c];
+		}
+		final int index = Arrays.binarySearch(otherChars, c);
+		return index < 0 ? 0 : otherClasses[index];
+	}
+	
+	/**
+	 * Checks whether the input contains any of the substrings, stopping at the first match.
+	 * 
+	 * @param input
+	 *            the input
+	 * @return true if the input contains at least one of the substrings
+	 */
+	boolean containsAny(final String input) {
+		if( matches[0] != NO_MATCH ) {
+			return true; // the empty String
+		}
+		int state = 0;
+		final int length = input.length();
+		for( int i = 0; i < length; i++ ) {
+			state = transitions[state * classCount + classOf(input.charAt(i))];
+			if( matches[state] != NO_MATCH ) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Finds the first substring (in the order they were supplied) contained in the input.
+	 * 
+	 * @param input
+	 *            the input
+	 * @return the index of the first substring contained in the input, or -1 if it contains none of them
+	 */
+	int indexOfFirstContained(final String input) {
+		int lowest = matches[0];
+		int state = 0;
+		final int length = input.length();
+		for( int i = 0; i < length && lowest != 0; i++ ) {
+			state = transitions[state * classCount + classOf(input.charAt(i))];
+			lowest = lowest(lowest, matches[state]);
+		}
+		return lowest;
+	}
+	
+}
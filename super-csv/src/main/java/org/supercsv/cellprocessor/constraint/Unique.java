@@ -20,9 +20,13 @@ import java.util.Set;
 
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.util.CsvContext;
+import org.supercsv.util.LongHashSet;
+import org.supercsv.util.LongSet;
 
 /**
  * Ensure that upon processing a CSV file (reading or writing), that values of the column all are unique. Comparison is
@@ -31,21 +35,67 @@ import org.supercsv.util.CsvContext;
  * Compared to {@link UniqueHashCode} this processor potentially uses more memory, as it stores references to each
  * encountered object rather than just their hashcodes. On reading huge files this can be a real memory-hazard, however,
  * it ensures a true uniqueness check.
+ * <p>
+ * Integral values (<tt>Long</tt>, <tt>Integer</tt>, <tt>Short</tt> or <tt>Byte</tt>) are stored as primitives in a
+ * {@link LongSet}, which takes a fraction of the memory. A set with a memory limit, or an
+ * {@link org.supercsv.util.OffHeapLongHashSet} to keep the values off the heap, can be supplied to the constructor.
  * 
  * @since 1.50
  * @author Kasper B. Graversen
  * @author Dominique De Vito
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.THREAD_CONFINED)
 public class Unique extends CellProcessorAdaptor {
 	
 	private final Set<Object> encounteredElements = new HashSet<Object>();
 	
+	/** the encountered integral values (all of the same type) */
+	private final LongSet encounteredIntegrals;
+	
+	/** the type of the integral values in encounteredIntegrals (values of any other type are stored as objects) */
+	private Class<?> integralType;
+	
 	/**
 	 * Constructs a new <tt>Unique</tt> processor, which ensures that all rows in a column are unique.
 	 */
 	public Unique() {
 		super();
+		this.encounteredIntegrals = new LongHashSet();
+	}
+	
+	/**
+	 * Constructs a new <tt>Unique</tt> processor, which ensures that all rows in a column are unique, storing any
+	 * integral values in the supplied set.
+	 * 
+	 * @param integralValues
+	 *            the (empty) set to store integral values in
+	 * @throws NullPointerException
+	 *             if integralValues is null
+	 * @since 2.4.1
+	 */
+	public Unique(final LongSet integralValues) {
+		super();
+		checkPreconditions(integralValues);
+		this.encounteredIntegrals = integralValues;
+	}
+	
+	/**
+	 * Constructs a new <tt>Unique</tt> processor, which ensures that all rows in a column are unique, storing any
+	 * integral values in the supplied set, then calls the next processor in the chain.
+	 * 
+	 * @param integralValues
+	 *            the (empty) set to store integral values in
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws NullPointerException
+	 *             if integralValues or next is null
+	 * @since 2.4.1
+	 */
+	public Unique(final LongSet integralValues, final CellProcessor next) {
+		super(next);
+		checkPreconditions(integralValues);
+		this.encounteredIntegrals = integralValues;
 	}
 	
 	/**
@@ -59,23 +109,61 @@ public class Unique extends CellProcessorAdaptor {
 	 */
 	public Unique(final CellProcessor next) {
 		super(next);
+		this.encounteredIntegrals = new LongHashSet();
+	}
+	
+	/**
+	 * Checks the preconditions for creating a new Unique processor with a set of integral values.
+	 * 
+	 * @param integralValues
+	 *            the set of integral values
+	 * @throws NullPointerException
+	 *             if integralValues is null
+	 */
+	private static void checkPreconditions(final LongSet integralValues) {
+		if( integralValues == null ) {
+			throw new NullPointerException("integralValues should not be null");
+		}
 	}
 	
 	/**
 	 * {@inheritDoc}
 	 * 
 	 * @throws SuperCsvCellProcessorException
-	 *             if value is null
+	 *             if value is null, or the set of values has reached its memory limit
 	 * @throws SuperCsvConstraintViolationException
 	 *             if a non-unique value is encountered
 	 */
 	public Object execute(final Object value, final CsvContext context) {
 		validateInputNotNull(value, context);
 		
-		if( !encounteredElements.add(value) ) {
+		final boolean added;
+		try {
+			if( isIntegral(value) && (integralType == null || integralType == value.getClass()) ) {
+				integralType = value.getClass();
+				added = encounteredIntegrals.add(((Number) value).longValue());
+			} else {
+				added = encounteredElements.add(value);
+			}
+		}
+		catch(IllegalStateException e) {
+			// the set of integral values has reached its memory limit
+			throw new SuperCsvCellProcessorException(String.format("unable to check that '%s' is unique: %s", value,
+				e.getMessage()), context, this, e);
+		}
+		
+		if( !added ) {
 			throw new SuperCsvConstraintViolationException(String.format("duplicate value '%s' encountered", value), context, this);
 		}
 		
 		return next.execute(value, context);
 	}
+	
+	/**
+	 * Returns whether the value is one of the integral types that can be stored in a LongSet without losing equality
+	 * (values of different types are never equal, so only one type is stored in the set).
+	 */
+	static boolean isIntegral(final Object value) {
+		return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+	}
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+import org.supercsv.cellprocessor.CellProcessorAdaptor;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.util.BloomFilter;
+import org.supercsv.util.CsvContext;
+
+/**
+ * Ensure that upon processing a CSV file (reading or writing), that values of the column are all unique, without
+ * keeping the values in memory. Comparison is based upon the <tt>String</tt> representation of each value (its
+ * <tt>toString()</tt>).
+ * <p>
+ * Each value is first checked against an in-memory {@link BloomFilter}: most unique values are accepted straight away.
+ * Values that the filter reports as possible duplicates are confirmed exactly against a disk-backed store of all
+ * encountered values, which is kept in a few files sorted by hash (with a sparse index in memory), so each check only
+ * reads a small block of each file. Unlike {@link UniqueHashCode}, there are no false positives, and unlike
+ * {@link Unique}, memory use depends mainly on the expected number of values and the false positive probability
+ * (around 1.2 bytes per value at 1%, plus around 0.03 bytes per value for the sparse index and a buffer of the most
+ * recent 4096 values).
+ * <p>
+ * The temporary files are deleted by {@link #close()}, which should be called once processing has finished.
+ * 
+ * @since 2.4.1
+ */
+@ThreadSafety(Concurrency.THREAD_CONFINED)
+public class UniqueBloomFilter extends CellProcessorAdaptor implements Closeable {
+	
+	/** the number of values buffered in memory before they're written to disk */
+	private static final int BUFFER_SIZE = 4096;
+	
+	private static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+	
+	private final BloomFilter filter;
+	
+	private final SpillStore store;
+	
+	private long diskLookups;
+	
+	/**
+	 * Constructs a new <tt>UniqueBloomFilter</tt> processor, which ensures that all rows in a column are unique, using
+	 * a filter with a 1% false positive probability and the default temporary directory.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @throws IllegalArgumentException
+	 *             if expectedSize isn't positive
+	 */
+	public UniqueBloomFilter(final long expectedSize) {
+		this(expectedSize, DEFAULT_FALSE_POSITIVE_PROBABILITY, null);
+	}
+	
+	/**
+	 * Constructs a new <tt>UniqueBloomFilter</tt> processor, which ensures that all rows in a column are unique.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @param falsePositiveProbability
+	 *            the probability that a unique value has to be checked against the disk store
+	 * @param directory
+	 *            the directory for the temporary files (null for the default temporary directory)
+	 * @throws IllegalArgumentException
+	 *             if expectedSize isn't positive, or falsePositiveProbability isn't between 0 and 1
+	 */
+	public UniqueBloomFilter(final long expectedSize, final double falsePositiveProbability, final File directory) {
+		super();
+		this.filter = new BloomFilter(expectedSize, falsePositiveProbability);
+		this.store = new SpillStore(directory, BUFFER_SIZE);
+	}
+	
+	/**
+	 * Constructs a new <tt>UniqueBloomFilter</tt> processor, which ensures that all rows in a column are unique, then
+	 * calls the next processor in the chain.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @param falsePositiveProbability
+	 *            the probability that a unique value has to be checked against the disk store
+	 * @param directory
+	 *            the directory for the temporary files (null for the default temporary directory)
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws IllegalArgumentException
+	 *             if expectedSize isn't positive, or falsePositiveProbability isn't between 0 and 1
+	 * @throws NullPointerException
+	 *             if next is null
+	 */
+	public UniqueBloomFilter(final long expectedSize, final double falsePositiveProbability, final File directory,
+		final CellProcessor next) {
+		super(next);
+		this.filter = new BloomFilter(expectedSize, falsePositiveProbability);
+		this.store = new SpillStore(directory, BUFFER_SIZE);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws SuperCsvCellProcessorException
+	 *             if value is null, or the disk store can't be read or written
+	 * @throws SuperCsvConstraintViolationException
+	 *             if a non-unique value is encountered
+	 */
+	public Object execute(final Object value, final CsvContext context) {
+		validateInputNotNull(value, context);
+		
+		final String stringValue = value.toString();
+		final long hash = BloomFilter.hash(stringValue);
+		final byte[] bytes = SpillFiles.encode(stringValue);
+		
+		try {
+			if( filter.mightContain(hash) ) {
+				diskLookups++;
+				if( store.contains(hash, bytes) ) {
+					throw new SuperCsvConstraintViolationException(String.format(
+						"duplicate value '%s' encountered", value), context, this);
+				}
+			}
+			filter.put(hash);
+			store.add(hash, bytes);
+		}
+		catch(IOException e) {
+			throw new SuperCsvCellProcessorException("unable to access the disk store of unique values", context,
+				this, e);
+		}
+		
+		return next.execute(value, context);
+	}
+	
+	/**
+	 * Returns the number of times a value had to be checked against the disk store (because the Bloom filter reported
+	 * a possible duplicate).
+	 * 
+	 * @return the number of disk lookups
+	 */
+	public long getDiskLookups() {
+		return diskLookups;
+	}
+	
+	/**
+	 * Returns the number of bytes allocated for the Bloom filter.
+	 * 
+	 * @return the allocated memory in bytes
+	 */
+	public long getMemoryUsage() {
+		return filter.getMemoryUsage();
+	}
+	
+	/**
+	 * Closes and deletes the temporary files. The processor can't be used afterwards.
+	 * 
+	 * @throws IOException
+	 *             if a file can't be closed
+	 */
+	public void close() throws IOException {
+		store.close();
+	}
+	
+}
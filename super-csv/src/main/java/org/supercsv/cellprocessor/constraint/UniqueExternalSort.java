@@ -0,0 +1,428 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.supercsv.cellprocessor.CellProcessorAdaptor;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.util.CsvContext;
+
+/**
+ * Finds every duplicate value in a column of a CSV file that is too large to check in memory. Comparison is based upon
+ * the <tt>String</tt> representation of each value (its <tt>toString()</tt>).
+ * <p>
+ * Unlike the other uniqueness constraints, this processor doesn't reject duplicates as they are encountered: it
+ * records each value with its line number while the file is processed (sorting batches of values in memory and
+ * writing them to temporary files), then {@link #findDuplicates(DuplicateHandler)} merges the sorted files and reports
+ * every duplicated value along with all of the lines it appeared on. Memory use is bounded by the batch size, and at
+ * most 64 files are open at once: if there are more, they are first merged in several passes into fewer (larger)
+ * files.
+ * <p>
+ * The temporary files are deleted by {@link #close()}, which should be called once the duplicates have been found.
+ * 
+ * @since 2.4.1
+ */
+@ThreadSafety(Concurrency.THREAD_CONFINED)
+public class UniqueExternalSort extends CellProcessorAdaptor implements Closeable {
+	
+	/**
+	 * Receives the duplicates found by {@link UniqueExternalSort#findDuplicates(DuplicateHandler)}.
+	 */
+	public interface DuplicateHandler {
+		
+		/**
+		 * Called for each value that appeared more than once.
+		 * 
+		 * @param value
+		 *            the String representation of the duplicated value
+		 * @param lineNumbers
+		 *            the line numbers the value appeared on, in ascending order
+		 */
+		void duplicate(String value, List<Integer> lineNumbers);
+	}
+	
+	private static final int DEFAULT_BATCH_SIZE = 100000;
+	
+	/** the maximum number of temporary files merged at once */
+	private static final int DEFAULT_MERGE_FAN_IN = 64;
+	
+	private final File directory;
+	
+	private final int batchSize;
+	
+	private final List<Entry> batch = new ArrayList<Entry>();
+	
+	private final List<File> runs = new ArrayList<File>();
+	
+	/** the maximum number of temporary files merged at once (package-private so it can be reduced for testing) */
+	int mergeFanIn = DEFAULT_MERGE_FAN_IN;
+	
+	/**
+	 * Constructs a new <tt>UniqueExternalSort</tt> processor, which records values in batches of 100,000 using the
+	 * default temporary directory.
+	 */
+	public UniqueExternalSort() {
+		this(DEFAULT_BATCH_SIZE, null);
+	}
+	
+	/**
+	 * Constructs a new <tt>UniqueExternalSort</tt> processor.
+	 * 
+	 * @param batchSize
+	 *            the number of values to sort in memory before writing them to a temporary file
+	 * @param directory
+	 *            the directory for the temporary files (null for the default temporary directory)
+	 * @throws IllegalArgumentException
+	 *             if batchSize isn't positive
+	 */
+	public UniqueExternalSort(final int batchSize, final File directory) {
+		super();
+		checkPreconditions(batchSize);
+		this.batchSize = batchSize;
+		this.directory = directory;
+	}
+	
+	/**
+	 * Constructs a new <tt>UniqueExternalSort</tt> processor, which calls the next processor in the chain.
+	 * 
+	 * @param batchSize
+	 *            the number of values to sort in memory before writing them to a temporary file
+	 * @param directory
+	 *            the directory for the temporary files (null for the default temporary directory)
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws IllegalArgumentException
+	 *             if batchSize isn't positive
+	 * @throws NullPointerException
+	 *             if next is null
+	 */
+	public UniqueExternalSort(final int batchSize, final File directory, final CellProcessor next) {
+		super(next);
+		checkPreconditions(batchSize);
+		this.batchSize = batchSize;
+		this.directory = directory;
+	}
+	
+	/**
+	 * Checks the preconditions for creating a new UniqueExternalSort processor.
+	 * 
+	 * @param batchSize
+	 *            the batch size
+	 * @throws IllegalArgumentException
+	 *             if batchSize isn't positive
+	 */
+	private static void checkPreconditions(final int batchSize) {
+		if( batchSize <= 0 ) {
+			throw new IllegalArgumentException("batchSize should be positive");
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws SuperCsvCellProcessorException
+	 *             if value is null, or a temporary file can't be written
+	 */
+	public Object execute(final Object value, final CsvContext context) {
+		validateInputNotNull(value, context);
+		
+		batch.add(new Entry(value.toString(), context.getLineNumber()));
+		if( batch.size() >= batchSize ) {
+			try {
+				writeRun();
+			}
+			catch(IOException e) {
+				throw new SuperCsvCellProcessorException("unable to write the values to a temporary file", context,
+					this, e);
+			}
+		}
+		
+		return next.execute(value, context);
+	}
+	
+	/**
+	 * Sorts the current batch and writes it to a new temporary file.
+	 */
+	private void writeRun() throws IOException {
+		Collections.sort(batch);
+		final File run = SpillFiles.createTempFile(directory, "supercsv-sort");
+		runs.add(run);
+		final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run)));
+		try {
+			for( final Entry entry : batch ) {
+				entry.write(out);
+			}
+		}
+		finally {
+			out.close();
+		}
+		batch.clear();
+	}
+	
+	/**
+	 * Finds all duplicate values encountered so far by merging the sorted temporary files, and passes each to the
+	 * handler (in ascending order of value).
+	 * 
+	 * @param handler
+	 *            the handler to notify of each duplicate
+	 * @return the number of duplicated values
+	 * @throws IOException
+	 *             if a temporary file can't be read or written
+	 * @throws NullPointerException
+	 *             if handler is null
+	 */
+	public int findDuplicates(final DuplicateHandler handler) throws IOException {
+		if( handler == null ) {
+			throw new NullPointerException("handler should not be null");
+		}
+		if( !batch.isEmpty() ) {
+			writeRun();
+		}
+		
+		while( runs.size() > mergeFanIn ) {
+			mergePass();
+		}
+		
+		final RunMerger merger = new RunMerger(runs);
+		try {
+			int duplicates = 0;
+			String currentValue = null;
+			List<Integer> lineNumbers = new ArrayList<Integer>();
+			Entry entry;
+			while( (entry = merger.next()) != null ) {
+				if( !entry.value.equals(currentValue) ) {
+					if( lineNumbers.size() > 1 ) {
+						handler.duplicate(currentValue, lineNumbers);
+						duplicates++;
+					}
+					currentValue = entry.value;
+					lineNumbers = new ArrayList<Integer>();
+				}
+				lineNumbers.add(entry.lineNumber);
+			}
+			if( lineNumbers.size() > 1 ) {
+				handler.duplicate(currentValue, lineNumbers);
+				duplicates++;
+			}
+			return duplicates;
+		}
+		finally {
+			merger.close();
+		}
+	}
+	
+	/**
+	 * Merges the temporary files in groups of (at most) mergeFanIn files, replacing each group with a single sorted
+	 * file. The merged files are deleted as soon as they've been merged.
+	 */
+	private void mergePass() throws IOException {
+		final List<File> inputs = new ArrayList<File>(runs);
+		final List<File> outputs = new ArrayList<File>();
+		for( int i = 0; i < inputs.size(); i += mergeFanIn ) {
+			final List<File> group = inputs.subList(i, Math.min(i + mergeFanIn, inputs.size()));
+			if( group.size() == 1 ) {
+				outputs.add(group.get(0));
+				continue;
+			}
+			
+			final File output = SpillFiles.createTempFile(directory, "supercsv-sort");
+			runs.add(output); // so that it's deleted by close() if merging fails
+			final RunMerger merger = new RunMerger(group);
+			try {
+				final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(
+					output)));
+				try {
+					Entry entry;
+					while( (entry = merger.next()) != null ) {
+						entry.write(out);
+					}
+				}
+				finally {
+					out.close();
+				}
+			}
+			finally {
+				merger.close();
+			}
+			
+			for( final File run : group ) {
+				run.delete();
+			}
+			runs.removeAll(group);
+			outputs.add(output);
+		}
+		runs.clear();
+		runs.addAll(outputs);
+	}
+	
+	/**
+	 * Deletes the temporary files. Any values recorded so far are discarded.
+	 */
+	public void close() {
+		for( final File run : runs ) {
+			run.delete();
+		}
+		runs.clear();
+		batch.clear();
+	}
+	
+	/**
+	 * A value and the line it appeared on, ordered by value then line number.
+	 */
+	private static final class Entry implements Comparable<Entry> {
+		
+		private final String value;
+		
+		private final int lineNumber;
+		
+		Entry(final String value, final int lineNumber) {
+			this.value = value;
+			this.lineNumber = lineNumber;
+		}
+		
+		public int compareTo(final Entry other) {
+			final int result = value.compareTo(other.value);
+			if( result != 0 ) {
+				return result;
+			}
+			return lineNumber < other.lineNumber ? -1 : (lineNumber == other.lineNumber ? 0 : 1);
+		}
+		
+		void write(final DataOutputStream out) throws IOException {
+			SpillFiles.writeBytes(out, SpillFiles.encode(value));
+			out.writeInt(lineNumber);
+		}
+	}
+	
+	/**
+	 * Reads the entries of a sorted temporary file, ordered by its current entry.
+	 */
+	private static final class RunReader implements Comparable<RunReader> {
+		
+		private final DataInputStream in;
+		
+		private Entry current;
+		
+		RunReader(final File run) throws IOException {
+			this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(run)));
+		}
+		
+		boolean next() throws IOException {
+			final byte[] bytes;
+			try {
+				bytes = SpillFiles.readBytes(in);
+			}
+			catch(EOFException e) {
+				current = null;
+				return false;
+			}
+			current = new Entry(SpillFiles.decode(bytes), in.readInt());
+			return true;
+		}
+		
+		void close() throws IOException {
+			in.close();
+		}
+		
+		public int compareTo(final RunReader other) {
+			return current.compareTo(other.current);
+		}
+	}
+	
+	/**
+	 * Merges sorted temporary files, returning their entries in order. Each file is closed as soon as it's exhausted.
+	 */
+	private static final class RunMerger {
+		
+		private final PriorityQueue<RunReader> queue = new PriorityQueue<RunReader>();
+		
+		RunMerger(final List<File> runs) throws IOException {
+			boolean opened = false;
+			try {
+				for( final File run : runs ) {
+					final RunReader reader = new RunReader(run);
+					advance(reader);
+				}
+				opened = true;
+			}
+			finally {
+				if( !opened ) {
+					close();
+				}
+			}
+		}
+		
+		/**
+		 * Returns the next entry, or null if all files are exhausted.
+		 */
+		Entry next() throws IOException {
+			final RunReader reader = queue.poll();
+			if( reader == null ) {
+				return null;
+			}
+			final Entry entry = reader.current;
+			advance(reader);
+			return entry;
+		}
+		
+		/**
+		 * Reads the next entry of a file, putting it back in the queue (or closing it if it's exhausted).
+		 */
+		private void advance(final RunReader reader) throws IOException {
+			boolean queued = false;
+			try {
+				if( reader.next() ) {
+					queue.add(reader);
+					queued = true;
+				}
+			}
+			finally {
+				if( !queued ) {
+					reader.close();
+				}
+			}
+		}
+		
+		void close() throws IOException {
+			try {
+				for( final RunReader reader : queue ) {
+					reader.close();
+				}
+			}
+			finally {
+				queue.clear();
+			}
+		}
+	}
+	
+}
@@ -15,14 +15,15 @@
  */
 package org.supercsv.cellprocessor.constraint;
 
-import java.util.HashSet;
-import java.util.Set;
-
 import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.cellprocessor.ift.Concurrency;
+import org.supercsv.cellprocessor.ift.ThreadSafety;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.util.CsvContext;
+import org.supercsv.util.IntHashSet;
+import org.supercsv.util.LongSet;
 
 /**
  * Ensure that upon processing a CSV file (reading or writing), that values of the column are all unique. Comparison is
@@ -30,6 +31,9 @@ import org.supercsv.util.CsvContext;
  * <p>
  * Compared to {@link Unique} this processor is much more memory efficient as it only stores the set of encountered
  * hashcodes rather than storing references to all encountered objects. The tradeoff being possible false positives.
+ * The hashcodes are stored as primitives in an {@link IntHashSet} (4 bytes per slot), or in the {@link LongSet}
+ * supplied to the constructor (e.g. an {@link org.supercsv.util.OffHeapLongHashSet} to keep them off the heap, or a set
+ * with a memory limit).
  * <p>
  * Prior to v1.50 this class was named <tt>Unique</tt> but has been renamed to clarify its inner workings.
  * 
@@ -37,15 +41,58 @@ import org.supercsv.util.CsvContext;
  * @author Dominique De Vito
  * @author James Bassett
  */
+@ThreadSafety(Concurrency.THREAD_CONFINED)
 public class UniqueHashCode extends CellProcessorAdaptor {
 	
-	private final Set<Integer> uniqueSet = new HashSet<Integer>();
+	/** the encountered hashcodes (null if a LongSet was supplied) */
+	private final IntHashSet uniqueSet;
+	
+	/** the encountered hashcodes, if a LongSet was supplied */
+	private final LongSet uniqueLongSet;
 	
 	/**
 	 * Constructs a new <tt>UniqueHashCode</tt> processor, which ensures that all rows in a column are unique.
 	 */
 	public UniqueHashCode() {
 		super();
+		this.uniqueSet = new IntHashSet();
+		this.uniqueLongSet = null;
+	}
+	
+	/**
+	 * Constructs a new <tt>UniqueHashCode</tt> processor, which ensures that all rows in a column are unique, storing
+	 * the hashcodes in the supplied set.
+	 * 
+	 * @param hashCodes
+	 *            the (empty) set to store the hashcodes in
+	 * @throws NullPointerException
+	 *             if hashCodes is null
+	 * @since 2.4.1
+	 */
+	public UniqueHashCode(final LongSet hashCodes) {
+		super();
+		checkPreconditions(hashCodes);
+		this.uniqueSet = null;
+		this.uniqueLongSet = hashCodes;
+	}
+	
+	/**
+	 * Constructs a new <tt>UniqueHashCode</tt> processor, which ensures that all rows in a column are unique, storing
+	 * the hashcodes in the supplied set, then calls the next processor in the chain.
+	 * 
+	 * @param hashCodes
+	 *            the (empty) set to store the hashcodes in
+	 * @param next
+	 *            the next processor in the chain
+	 * @throws NullPointerException
+	 *             if hashCodes or next is null
+	 * @since 2.4.1
+	 */
+	public UniqueHashCode(final LongSet hashCodes, final CellProcessor next) {
+		super(next);
+		checkPreconditions(hashCodes);
+		this.uniqueSet = null;
+		this.uniqueLongSet = hashCodes;
 	}
 	
 	/**
@@ -59,13 +106,29 @@ public class UniqueHashCode extends CellProcessorAdaptor {
 	 */
 	public UniqueHashCode(final CellProcessor next) {
 		super(next);
+		this.uniqueSet = new IntHashSet();
+		this.uniqueLongSet = null;
+	}
+	
+	/**
+	 * Checks the preconditions for creating a new UniqueHashCode processor with a set of hashcodes.
+	 * 
+	 * @param hashCodes
+	 *            the set of hashcodes
+	 * @throws NullPointerException
+	 *             if hashCodes is null
+	 */
+	private static void checkPreconditions(final LongSet hashCodes) {
+		if( hashCodes == null ) {
+			throw new NullPointerException("hashCodes should not be null");
+		}
 	}
 	
 	/**
 	 * {@inheritDoc}
 	 * 
 	 * @throws SuperCsvCellProcessorException
-	 *             if value is null
+	 *             if value is null, or the set of values has reached its memory limit
 	 * @throws SuperCsvConstraintViolationException
 	 *             if a non-unique value is encountered
 	 */
@@ -73,7 +136,16 @@ public class UniqueHashCode extends CellProcessorAdaptor {
 		validateInputNotNull(value, context);
 		
 		int hash = value.hashCode();
-		if( !uniqueSet.add(hash) ) {
+		final boolean added;
+		try {
+			added = uniqueSet != null ? uniqueSet.add(hash) : uniqueLongSet.add(hash);
+		}
+		catch(IllegalStateException e) {
+			// the set of hashcodes has reached its memory limit
+			throw new SuperCsvCellProcessorException(String.format("unable to check that '%s' is unique: %s", value,
+				e.getMessage()), context, this, e);
+		}
+		if( !added ) {
 			throw new SuperCsvConstraintViolationException(
 				String.format("duplicate value '%s' encountered with hashcode %d", value, hash), context, this);
 		}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.ift;
+
+import org.supercsv.cellprocessor.CellProcessorAdaptor;
+
+/**
+ * Describes whether a CellProcessor can be used by multiple threads at the same time (for example, by several readers
+ * sharing one array of processors, or by a {@link org.supercsv.io.CsvParallelReader}). Processors declare their level
+ * with the {@link ThreadSafety} annotation; processors without the annotation are assumed to be
+ * {@link #THREAD_CONFINED}. The levels are declared from the safest to the least safe.
+ * 
+ * @since 2.4.1
+ */
+public enum Concurrency {
+	
+	/**
+	 * The processor has no mutable state (per-thread caches don't count), so its result depends only on its input and
+	 * it can be shared freely.
+	 */
+	STATELESS,
+	
+	/**
+	 * The processor has mutable state that is safely shared between threads (such as a concurrent set of the values
+	 * seen so far), so it can be shared. When rows are processed concurrently, the order in which it sees them is
+	 * unpredictable (e.g. which of two duplicates is reported).
+	 */
+	CONCURRENT,
+	
+	/**
+	 * The processor has mutable state that isn't thread-safe, so each thread needs its own instance.
+	 */
+	THREAD_CONFINED;
+	
+	/**
+	 * Returns whether a processor at this level can be used by multiple threads at the same time.
+	 * 
+	 * @return true if the level is STATELESS or CONCURRENT
+	 */
+	public boolean isShareable() {
+		return this != THREAD_CONFINED;
+	}
+	
+	/**
+	 * Returns the level declared by a processor class with the {@link ThreadSafety} annotation.
+	 * 
+	 * @param processorClass
+	 *            the processor class
+	 * @return the declared level, or THREAD_CONFINED if the class isn't annotated (the annotation isn't inherited)
+	 */
+	public static Concurrency declaredBy(final Class<?> processorClass) {
+		final ThreadSafety threadSafety = processorClass.getAnnotation(ThreadSafety.class);
+		return threadSafety == null ? THREAD_CONFINED : threadSafety.value();
+	}
+	
+	/**
+	 * Returns the least safe level of the supplied processors, including every processor in their chains. A null
+	 * processor (no processing) is STATELESS.
+	 * 
+	 * @param processors
+	 *            the processors
+	 * @return the least safe level
+	 * @throws NullPointerException
+	 *             if processors is null
+	 */
+	public static Concurrency of(final CellProcessor... processors) {
+		if( processors == null ) {
+			throw new NullPointerException("processors should not be null");
+		}
+		Concurrency result = STATELESS;
+		for( CellProcessor processor : processors ) {
+			while( processor != null ) {
+				final Concurrency concurrency;
+				if( processor instanceof CellProcessorAdaptor ) {
+					concurrency = ((CellProcessorAdaptor) processor).getConcurrency();
+				} else {
+					concurrency = declaredBy(processor.getClass());
+				}
+				if( concurrency.compareTo(result) > 0 ) {
+					result = concurrency;
+				}
+				processor = processor instanceof CellProcessorAdaptor ? ((CellProcessorAdaptor) processor).getNext()
+					: null;
+			}
+		}
+		return result;
+	}
+	
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.encoder;
+
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.CsvContext;
+
+/**
+ * A CsvEncoder that can append the encoded column straight to the row being written, instead of returning a new
+ * String. CSV writers use this method (when the encoder implements it) so that each column is copied only once.
+ * 
+ * @since 2.4.1
+ */
+public interface AppendingCsvEncoder extends CsvEncoder {
+	
+	/**
+	 * Encodes a column to be written to a CSV file, appending the result to the supplied StringBuilder. This must give
+	 * the same result (and update the context in the same way) as {@link #encode(String, CsvContext, CsvPreference)}.
+	 * 
+	 * @param input
+	 *            the column to be encoded
+	 * @param context
+	 *            the context
+	 * @param preference
+	 *            the CSV preferences
+	 * @param output
+	 *            the StringBuilder to append the encoded CSV to
+	 */
+	void encode(CharSequence input, CsvContext context, CsvPreference preference, StringBuilder output);
+	
+}
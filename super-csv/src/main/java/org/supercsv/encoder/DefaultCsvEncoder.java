@@ -16,6 +16,8 @@
 package org.supercsv.encoder;
 
 import org.supercsv.prefs.CsvPreference;
+import org.supercsv.quote.NormalQuoteMode;
+import org.supercsv.quote.QuoteMode;
 import org.supercsv.util.CsvContext;
 
 /**
@@ -24,7 +26,7 @@ import org.supercsv.util.CsvContext;
  * @author James Bassett
  * @since 2.1.0
  */
-public class DefaultCsvEncoder implements CsvEncoder {
+public class DefaultCsvEncoder implements AppendingCsvEncoder {
 	
 	/**
 	 * Constructs a new <tt>DefaultCsvEncoder</tt>.
@@ -36,19 +38,111 @@ public class DefaultCsvEncoder implements CsvEncoder {
 	 * {@inheritDoc}
 	 */
 	public String encode(final String input, final CsvContext context, final CsvPreference preference) {
+		final int firstSpecialChar = indexOfSpecialChar(input, preference);
+		if( firstSpecialChar < 0 && !quotesRequired(input, context, preference) ) {
+			return input; // nothing to escape or quote
+		}
+		
+		final StringBuilder currentColumn = new StringBuilder(input.length() + 8);
+		appendQuoted(input, firstSpecialChar, context, preference, currentColumn);
+		return currentColumn.toString();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @since 2.4.1
+	 */
+	public void encode(final CharSequence input, final CsvContext context, final CsvPreference preference,
+		final StringBuilder output) {
+		final int firstSpecialChar = indexOfSpecialChar(input, preference);
+		if( firstSpecialChar < 0 && !quotesRequired(input, context, preference) ) {
+			output.append(input); // nothing to escape or quote
+		} else {
+			appendQuoted(input, firstSpecialChar, context, preference, output);
+		}
+	}
+	
+	/**
+	 * Finds the first character that has to be escaped or quoted (a delimiter, quote or newline).
+	 * 
+	 * @param input
+	 *            the column to be encoded
+	 * @param preference
+	 *            the CSV preferences
+	 * @return the index of the first special character, or -1 if there are none
+	 */
+	private static int indexOfSpecialChar(final CharSequence input, final CsvPreference preference) {
+		final int delimiter = preference.getDelimiterChar();
+		final int quote = preference.getQuoteChar();
+		final int length = input.length();
+		for( int i = 0; i < length; i++ ) {
+			final char c = input.charAt(i);
+			if( c == delimiter || c == quote || c == '\r' || c == '\n' ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Determines whether a column without special characters has to be quoted, because of surrounding spaces or the
+	 * quote mode. The default quote mode never requires quotes, so it's not consulted (which saves creating a String).
+	 * 
+	 * @param input
+	 *            the column to be encoded
+	 * @param context
+	 *            the context
+	 * @param preference
+	 *            the CSV preferences
+	 * @return true if the column has to be quoted
+	 */
+	private static boolean quotesRequired(final CharSequence input, final CsvContext context,
+		final CsvPreference preference) {
+		if( preference.isSurroundingSpacesNeedQuotes() && input.length() > 0
+			&& (input.charAt(0) == ' ' || input.charAt(input.length() - 1) == ' ') ) {
+			return true;
+		}
+		final QuoteMode quoteMode = preference.getQuoteMode();
+		return quoteMode.getClass() != NormalQuoteMode.class
+			&& quoteMode.quotesRequired(input.toString(), context, preference);
+	}
+	
+	/**
+	 * Appends the column surrounded by quotes, escaping any special characters. The characters before the first
+	 * special character are appended in one go.
+	 * 
+	 * @param input
+	 *            the column to be encoded
+	 * @param firstSpecialChar
+	 *            the index of the first special character, or -1 if there are none
+	 * @param context
+	 *            the context
+	 * @param preference
+	 *            the CSV preferences
+	 * @param output
+	 *            the StringBuilder to append the encoded CSV to
+	 */
+	private static void appendQuoted(final CharSequence input, final int firstSpecialChar, final CsvContext context,
+		final CsvPreference preference, final StringBuilder output) {
 		
-		final StringBuilder currentColumn = new StringBuilder();
 		final int delimiter = preference.getDelimiterChar();
 		final char quote = (char) preference.getQuoteChar();
 		final char quoteEscapeChar = (char) preference.getQuoteEscapeChar();
 		final String eolSymbols = preference.getEndOfLineSymbols();
-		final int lastCharIndex = input.length() - 1;
+		final int length = input.length();
 		
-		boolean quotesRequiredForSpecialChar = false;
+		output.append(quote);
+		if( firstSpecialChar < 0 ) {
+			output.append(input);
+			output.append(quote);
+			return;
+		}
+		output.append(input, 0, firstSpecialChar);
 		
 		boolean skipNewline = false;
 		
-		for( int i = 0; i <= lastCharIndex; i++ ) {
+		for( int i = firstSpecialChar; i < length; i++ ) {
 			
 			final char c = input.charAt(i);
 			
@@ -60,35 +154,23 @@ public class DefaultCsvEncoder implements CsvEncoder {
 			}
 			
 			if( c == delimiter ) {
-				quotesRequiredForSpecialChar = true;
-				currentColumn.append(c);
+				output.append(c);
 			} else if( c == quote ) {
-				quotesRequiredForSpecialChar = true;
-				currentColumn.append(quoteEscapeChar);
-				currentColumn.append(quote);
+				output.append(quoteEscapeChar);
+				output.append(quote);
 			} else if( c == '\r' ) {
-				quotesRequiredForSpecialChar = true;
-				currentColumn.append(eolSymbols);
+				output.append(eolSymbols);
 				context.setLineNumber(context.getLineNumber() + 1);
 				skipNewline = true;
 			} else if( c == '\n' ) {
-				quotesRequiredForSpecialChar = true;
-				currentColumn.append(eolSymbols);
+				output.append(eolSymbols);
 				context.setLineNumber(context.getLineNumber() + 1);
 			} else {
-				currentColumn.append(c);
+				output.append(c);
 			}
 		}
 		
-		final boolean quotesRequiredForMode = preference.getQuoteMode().quotesRequired(input, context, preference);
-		final boolean quotesRequiredForSurroundingSpaces = preference.isSurroundingSpacesNeedQuotes()
-			&& input.length() > 0 && (input.charAt(0) == ' ' || input.charAt(input.length() - 1) == ' ');
-		
-		if( quotesRequiredForSpecialChar || quotesRequiredForMode || quotesRequiredForSurroundingSpaces ) {
-			currentColumn.insert(0, quote).append(quote);
-		}
-		
-		return currentColumn.toString();
+		output.append(quote);
 	}
 	
 }
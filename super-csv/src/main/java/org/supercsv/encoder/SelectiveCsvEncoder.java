@@ -74,4 +74,18 @@ public class SelectiveCsvEncoder extends DefaultCsvEncoder {
 		
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @since 2.4.1
+	 */
+	public void encode(final CharSequence input, final CsvContext context, final CsvPreference preference,
+		final StringBuilder output) {
+		if( columnNumbers.contains(context.getColumnNumber()) ) {
+			super.encode(input, context, preference, output);
+		} else {
+			output.append(input);
+		}
+	}
+	
 }
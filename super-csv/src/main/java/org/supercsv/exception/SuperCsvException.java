@@ -20,6 +20,11 @@ import org.supercsv.util.CsvContext;
 /**
  * Generic SuperCSV Exception class. It contains the CSV context (line number, column number and raw line) from when the
  * exception occurred.
+ * <p>
+ * Filling in the stack trace is usually the most expensive part of creating an exception. Readers that expect a lot
+ * of invalid input and only need the message and context (such as the lenient mode of
+ * {@link org.supercsv.io.SimpleCsvListReader}) can turn stack traces off for the current thread with
+ * {@link #setStackTraceEnabled(boolean)}.
  * 
  * @author Kasper B. Graversen
  * @author James Bassett
@@ -28,6 +33,14 @@ public class SuperCsvException extends RuntimeException {
 	
 	private static final long serialVersionUID = 1L;
 	
+	/** whether exceptions created by each thread fill in their stack trace */
+	private static final ThreadLocal<Boolean> STACK_TRACE_ENABLED = new ThreadLocal<Boolean>() {
+		@Override
+		protected Boolean initialValue() {
+			return Boolean.TRUE;
+		}
+	};
+	
 	private CsvContext csvContext;
 	
 	/**
@@ -72,6 +85,50 @@ public class SuperCsvException extends RuntimeException {
 		}
 	}
 	
+	/**
+	 * Enables or disables filling in the stack trace of SuperCsvExceptions (and subclasses) created by the current
+	 * thread. Exceptions without a stack trace are much cheaper to create, but their stack trace is empty. Callers
+	 * should restore the previous value when they're finished, e.g.
+	 * 
+	 * <pre>
+	 * final boolean previous = SuperCsvException.setStackTraceEnabled(false);
+	 * try {
+	 * 	...
+	 * }
+	 * finally {
+	 * 	SuperCsvException.setStackTraceEnabled(previous);
+	 * }
+	 * </pre>
+	 * 
+	 * @param enabled
+	 *            whether stack traces should be filled in
+	 * @return the previous value
+	 * @since 2.4.1
+	 */
+	public static boolean setStackTraceEnabled(final boolean enabled) {
+		final boolean previous = STACK_TRACE_ENABLED.get().booleanValue();
+		STACK_TRACE_ENABLED.set(Boolean.valueOf(enabled));
+		return previous;
+	}
+	
+	/**
+	 * Returns whether SuperCsvExceptions created by the current thread fill in their stack trace.
+	 * 
+	 * @return true if stack traces are enabled (the default)
+	 * @since 2.4.1
+	 */
+	public static boolean isStackTraceEnabled() {
+		return STACK_TRACE_ENABLED.get().booleanValue();
+	}
+	
+	/**
+	 * Fills in the stack trace, unless stack traces have been disabled for the current thread.
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return isStackTraceEnabled() ? super.fillInStackTrace() : this;
+	}
+	
 	/**
 	 * Gets the current CSV context.
 	 * 
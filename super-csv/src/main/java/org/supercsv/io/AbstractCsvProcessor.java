@@ -52,10 +52,7 @@ public class AbstractCsvProcessor {
         context.setRowSource(new ArrayList<Object>(source));
 
         if( source.size() != processors.length ) {
-            throw new SuperCsvException(String.format(
-                "The number of columns to be processed (%d) must match the number of CellProcessors (%d): check that the number"
-                    + " of CellProcessors you have defined matches the expected number of columns being read/written",
-                source.size(), processors.length), context);
+            throw columnCountMismatch(source.size(), processors.length, context);
         }
 
         destination.clear();
@@ -71,4 +68,108 @@ public class AbstractCsvProcessor {
             }
         }
     }
+
+    /**
+     * Processes a batch of rows column by column: each column's processor chain is executed for every row in the batch
+     * before moving on to the next column, which keeps a single chain busy at a time. The result is the same as calling
+     * {@link #executeCellProcessors(List, List, CellProcessor[], int, int)} for each row, except that if more than one
+     * cell is invalid, the exception is thrown for the invalid cell in the lowest column (rather than the lowest row).
+     * Each processor chain still processes the rows in order.
+     *
+     * @param destinations
+     *            the Lists to add the processed elements of each row to (which are cleared before they're populated).
+     *            There must be a destination for each source row.
+     * @param sources
+     *            the Lists of source elements of each row
+     * @param processors
+     *            the array of CellProcessors used to process each column. The number of elements in this array must
+     *            match the size of each source List. A <tt>null</tt> CellProcessor in this array indicates that no
+     *            processing is required and the element should be added as-is.
+     * @param lineNos
+     *            the line number of each row
+     * @param rowNos
+     *            the row number of each row
+     * @throws NullPointerException
+     *             if destinations, sources, processors, lineNos or rowNos is null
+     * @throws IllegalArgumentException
+     *             if the number of destinations, line numbers or row numbers doesn't match the number of sources
+     * @throws SuperCsvConstraintViolationException
+     *             if a CellProcessor constraint failed
+     * @throws SuperCsvException
+     *             if the size of any source row != processors.length, or CellProcessor execution failed
+     * @since 2.4.1
+     */
+    protected void executeCellProcessorsByColumn(final List<List<Object>> destinations,
+                                                 final List<? extends List<?>> sources, final CellProcessor[] processors,
+                                                 final int[] lineNos, final int[] rowNos) {
+
+        if( destinations == null ) {
+            throw new NullPointerException("destinations should not be null");
+        } else if( sources == null ) {
+            throw new NullPointerException("sources should not be null");
+        } else if( processors == null ) {
+            throw new NullPointerException("processors should not be null");
+        } else if( lineNos == null ) {
+            throw new NullPointerException("lineNos should not be null");
+        } else if( rowNos == null ) {
+            throw new NullPointerException("rowNos should not be null");
+        }
+
+        final int rows = sources.size();
+        if( destinations.size() != rows || lineNos.length < rows || rowNos.length < rows ) {
+            throw new IllegalArgumentException(String.format(
+                "there must be a destination, line number and row number for each of the %d rows", rows));
+        }
+
+        // the contexts used when cell processors report exceptions (one per row)
+        final CsvContext[] contexts = new CsvContext[rows];
+        for( int row = 0; row < rows; row++ ) {
+            final List<?> source = sources.get(row);
+            contexts[row] = new CsvContext(lineNos[row], rowNos[row], 1);
+            contexts[row].setRowSource(new ArrayList<Object>(source));
+            if( source.size() != processors.length ) {
+                throw columnCountMismatch(source.size(), processors.length, contexts[row]);
+            }
+
+            final List<Object> destination = destinations.get(row);
+            destination.clear();
+            for( int i = 0; i < processors.length; i++ ) {
+                destination.add(null);
+            }
+        }
+
+        for( int i = 0; i < processors.length; i++ ) {
+            final CellProcessor processor = processors[i];
+            for( int row = 0; row < rows; row++ ) {
+                final Object value = sources.get(row).get(i);
+                if( processor == null ) {
+                    destinations.get(row).set(i, value); // no processing required
+                } else {
+                    final CsvContext context = contexts[row];
+                    context.setColumnNumber(i + 1); // update context (columns start at 1)
+                    destinations.get(row).set(i, processor.execute(value, context));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the exception thrown when a row doesn't have a CellProcessor for each column.
+     *
+     * @param columns
+     *            the number of columns in the row
+     * @param processors
+     *            the number of CellProcessors
+     * @param context
+     *            the context of the row
+     * @return the exception
+     * @since 2.4.1
+     */
+    protected static SuperCsvException columnCountMismatch(final int columns, final int processors,
+                                                           final CsvContext context) {
+        return new SuperCsvException(String.format(
+            "The number of columns to be processed (%d) must match the number of CellProcessors (%d): check that the number"
+                + " of CellProcessors you have defined matches the expected number of columns being read/written",
+            columns, processors), context);
+    }
 }
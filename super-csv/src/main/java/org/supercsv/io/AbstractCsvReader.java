@@ -189,6 +189,36 @@ public abstract class AbstractCsvReader extends AbstractCsvProcessor implements
 		return false;
 	}
 	
+	/**
+	 * Reads up to maxRows rows of CSV, recording the columns, line number and row number of each one. After this
+	 * method returns, the reader's current row is the last row that was read.
+	 * 
+	 * @param rows
+	 *            the List to add the columns of each row to (which is cleared before it's populated)
+	 * @param lineNos
+	 *            the array to store the line number of each row in
+	 * @param rowNos
+	 *            the array to store the row number of each row in
+	 * @param maxRows
+	 *            the maximum number of rows to read (the arrays must have at least this many elements)
+	 * @return the number of rows read (0 if the end of file has been reached)
+	 * @throws IOException
+	 *             if an I/O error occurred
+	 * @throws SuperCsvException
+	 *             if there was a general exception while reading
+	 * @since 2.4.1
+	 */
+	protected int readRows(final List<List<String>> rows, final int[] lineNos, final int[] rowNos, final int maxRows)
+		throws IOException {
+		rows.clear();
+		while( rows.size() < maxRows && readRow() ) {
+			lineNos[rows.size()] = getLineNumber();
+			rowNos[rows.size()] = getRowNumber();
+			rows.add(getColumns());
+		}
+		return rows.size();
+	}
+	
 	/**
 	 * Executes the supplied cell processors on the last row of CSV that was read and populates the supplied List of
 	 * processed columns.
@@ -15,13 +15,15 @@
  */
 package org.supercsv.io;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.List;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.encoder.AppendingCsvEncoder;
 import org.supercsv.encoder.CsvEncoder;
+import org.supercsv.encoder.DefaultCsvEncoder;
+import org.supercsv.encoder.SelectiveCsvEncoder;
 import org.supercsv.prefs.CsvPreference;
 import org.supercsv.util.CsvContext;
 
@@ -33,6 +35,9 @@ import org.supercsv.util.CsvContext;
  */
 public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements ICsvWriter {
 	
+	// the amount of buffered output that's written to the writer in one block
+	private static final int BLOCK_SIZE = 8192;
+	
 	private final Writer writer;
 	
 	private final CsvPreference preference;
@@ -41,6 +46,27 @@ public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements
 
 	private CsvContext csvContext = new CsvContext(0, 0, 0);
 	
+	// the encoder, if it can append columns straight to the output (otherwise null)
+	private final AppendingCsvEncoder appendingEncoder;
+	
+	// whether output is written to the writer in blocks, rather than a line at a time
+	private final boolean buffered;
+	
+	// the output that hasn't been written to the writer yet: complete lines, followed by the row being written
+	private final StringBuilder output = new StringBuilder();
+	
+	// the start of the row being written (i.e. the length of the complete lines)
+	private int rowStart;
+	
+	// the number of columns written to the current row
+	private int rowColumns;
+	
+	// the characters of the output, passed to the writer
+	private char[] outputChars = new char[0];
+	
+	// the text of a number column, before it's encoded
+	private final StringBuilder number = new StringBuilder();
+	
 	/**
 	 * Constructs a new <tt>AbstractCsvWriter</tt> with the supplied writer and preferences.
 	 * 
@@ -64,7 +90,8 @@ public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements
 	 * @param preference
 	 *            the CSV preferences
 	 * @param bufferizeWriter
-	 *            indicates if the writer should be wrapped internally with a BufferedWriter
+	 *            indicates if the output should be buffered internally (and written to the writer in large blocks),
+	 *            rather than written to the writer a line at a time
 	 * @throws NullPointerException
 	 *             if writer or preference are null
 	 */
@@ -75,9 +102,22 @@ public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements
 			throw new NullPointerException("preference should not be null");
 		}
 		
-		this.writer = bufferizeWriter ? new BufferedWriter(writer) : writer;
+		this.writer = writer;
+		this.buffered = bufferizeWriter;
 		this.preference = preference;
 		this.encoder = preference.getEncoder();
+		this.appendingEncoder = appendsDirectly(encoder) ? (AppendingCsvEncoder) encoder : null;
+	}
+	
+	/**
+	 * Returns whether an encoder's {@link AppendingCsvEncoder#encode(CharSequence, CsvContext, CsvPreference, StringBuilder)}
+	 * method can be used. Subclasses of the built-in encoders may only override
+	 * {@link CsvEncoder#encode(String, CsvContext, CsvPreference)}, so they always use that method.
+	 */
+	private static boolean appendsDirectly(final CsvEncoder encoder) {
+		return encoder instanceof AppendingCsvEncoder
+			&& (!(encoder instanceof DefaultCsvEncoder) || encoder.getClass() == DefaultCsvEncoder.class || encoder
+				.getClass() == SelectiveCsvEncoder.class);
 	}
 
 	/**
@@ -121,16 +161,22 @@ public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements
 	}
 
 	/**
-	 * Closes the underlying writer, flushing it first.
+	 * Closes the underlying writer, flushing it first. The writer is closed even if writing the buffered output fails.
 	 */
 	public void close() throws IOException {
-		writer.close();
+		try {
+			writeOutput();
+		}
+		finally {
+			writer.close();
+		}
 	}
 	
 	/**
 	 * Flushes the underlying writer.
 	 */
 	public void flush() throws IOException {
+		writeOutput();
 		writer.flush();
 	}
 	
@@ -146,6 +192,7 @@ public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements
 		csvContext.nextLine();
 		csvContext.nextRow();
 		csvContext.setColumnNumber(1);
+		resetRow();
 	}
 	
 	/**
@@ -175,7 +222,12 @@ public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements
 	 *             if columns is null
 	 */
 	protected void writeRow(final List<?> columns) throws IOException {
-		writeRow(objectListToStringArray(columns));
+		checkColumns(columns);
+		resetRow();
+		for( final Object column : columns ) {
+			writeColumn(column);
+		}
+		endRow();
 	}
 	
 	/**
@@ -191,7 +243,12 @@ public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements
 	 *             if columns is null
 	 */
 	protected void writeRow(final Object... columns) throws IOException {
-		writeRow(objectArrayToStringArray(columns));
+		checkColumns(columns);
+		resetRow();
+		for( final Object column : columns ) {
+			writeColumn(column);
+		}
+		endRow();
 	}
 	
 	/**
@@ -207,36 +264,175 @@ public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements
 	 *             if columns is null
 	 */
 	protected void writeRow(final String... columns) throws IOException {
-		
+		checkColumns(columns);
+		resetRow();
+		for( final String column : columns ) {
+			writeColumn(column);
+		}
+		endRow();
+	}
+	
+	/**
+	 * Checks that the columns to write are not null.
+	 * 
+	 * @param columns
+	 *            the columns (a List or array)
+	 * @throws NullPointerException
+	 *             if columns is null
+	 */
+	private void checkColumns(final Object columns) {
 		if( columns == null ) {
-			throw new NullPointerException(
-					String.format("columns to write should not be null on line %d", csvContext.getLineNumber()));
-		} else if( columns.length == 0 ) {
+			throw new NullPointerException(String.format("columns to write should not be null on line %d",
+				csvContext.getLineNumber()));
+		}
+	}
+	
+	/**
+	 * Writes a column of the current row, encoding it if necessary. A row is written column by column by calling
+	 * {@link #incrementRowAndLineNo()}, then this method (or another <tt>writeColumn</tt> method) for each column, then
+	 * {@link #endRow()}. Unlike {@link #writeRow(String...)}, the columns don't have to be Strings, and columns without
+	 * special characters are written without creating any objects. {@link CsvListWriter} makes these methods public
+	 * (see {@link ICsvColumnWriter}).
+	 * 
+	 * @param column
+	 *            the column to write (null is written as an empty column)
+	 * @since 2.4.1
+	 */
+	protected void writeColumn(final CharSequence column) {
+		startColumn();
+		if( column == null ) {
+			return;
+		}
+		encode(column);
+	}
+	
+	/**
+	 * Writes a column of any type to the current row (see {@link #writeColumn(CharSequence)}). Text is written without
+	 * creating a String, boxed integers and doubles are written without calling <tt>toString()</tt>, and other values
+	 * are written using their <tt>toString()</tt> method.
+	 * 
+	 * @param column
+	 *            the column to write (null is written as an empty column)
+	 * @since 2.4.1
+	 */
+	protected void writeColumn(final Object column) {
+		if( column instanceof CharSequence ) {
+			writeColumn((CharSequence) column);
+		} else if( column instanceof Integer || column instanceof Long || column instanceof Short
+			|| column instanceof Byte ) {
+			writeColumn(((Number) column).longValue());
+		} else if( column instanceof Double ) {
+			writeColumn(((Double) column).doubleValue());
+		} else {
+			writeColumn(column == null ? null : (CharSequence) column.toString());
+		}
+	}
+	
+	/**
+	 * Writes a long (or int) column of the current row, without boxing it (see {@link #writeColumn(CharSequence)}).
+	 * The column is written the same way as <tt>Long.toString()</tt>.
+	 * 
+	 * @param column
+	 *            the column to write
+	 * @since 2.4.1
+	 */
+	protected void writeColumn(final long column) {
+		startColumn();
+		number.setLength(0);
+		number.append(column);
+		encode(number);
+	}
+	
+	/**
+	 * Writes a double column of the current row, without boxing it (see {@link #writeColumn(CharSequence)}). The column
+	 * is written the same way as <tt>Double.toString()</tt>.
+	 * 
+	 * @param column
+	 *            the column to write
+	 * @since 2.4.1
+	 */
+	protected void writeColumn(final double column) {
+		startColumn();
+		number.setLength(0);
+		number.append(column);
+		encode(number);
+	}
+	
+	/**
+	 * Ends the row started with {@link #incrementRowAndLineNo()}, writing it (and the end of line symbols) to the
+	 * output.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if no columns were written
+	 * @throws IOException
+	 *             If an I/O error occurs
+	 * @since 2.4.1
+	 */
+	protected void endRow() throws IOException {
+		if( rowColumns == 0 ) {
 			throw new IllegalArgumentException(String.format("columns to write should not be empty on line %d",
 				csvContext.getLineNumber()));
 		}
-		
-		StringBuilder builder = new StringBuilder();
-
-		for( int i = 0; i < columns.length; i++ ) {
-
-			csvContext.nextColumn();
-
-			if( i > 0 ) {
-				builder.append((char) preference.getDelimiterChar()); // delimiter
-			}
-			
-			final String csvElement = columns[i];
-
-			if( csvElement != null ) {
-				final String escapedCsv = encoder.encode(csvElement, csvContext, preference);
-				builder.append(escapedCsv);
-			}
-
+		output.append(preference.getEndOfLineSymbols()); // EOL
+		endLine();
+	}
+	
+	/**
+	 * Starts a new row, discarding any columns written since the last complete line (e.g. if writing a column failed).
+	 */
+	private void resetRow() {
+		output.setLength(rowStart);
+		rowColumns = 0;
+	}
+	
+	/**
+	 * Ends the line at the end of the output, writing the output to the writer if it isn't buffered or a block is
+	 * full.
+	 */
+	private void endLine() throws IOException {
+		rowStart = output.length();
+		rowColumns = 0;
+		if( !buffered || rowStart >= BLOCK_SIZE ) {
+			writeOutput();
+		}
+	}
+	
+	/**
+	 * Writes the complete lines of output to the writer.
+	 */
+	private void writeOutput() throws IOException {
+		if( rowStart == 0 ) {
+			return;
+		}
+		if( outputChars.length < rowStart ) {
+			outputChars = new char[Math.max(rowStart, outputChars.length * 2)];
+		}
+		output.getChars(0, rowStart, outputChars, 0);
+		writer.write(outputChars, 0, rowStart);
+		output.delete(0, rowStart);
+		rowStart = 0;
+	}
+	
+	/**
+	 * Appends the encoded column to the output. The built-in encoders append a column that doesn't need escaping or
+	 * quoting as it is, so each column is scanned (by the encoder) and copied only once.
+	 */
+	private void encode(final CharSequence column) {
+		if( appendingEncoder != null ) {
+			appendingEncoder.encode(column, csvContext, preference, output);
+		} else {
+			output.append(encoder.encode(column.toString(), csvContext, preference));
+		}
+	}
+	
+	/**
+	 * Starts a new column of the current row, writing the delimiter if it's not the first.
+	 */
+	private void startColumn() {
+		csvContext.nextColumn();
+		if( rowColumns++ > 0 ) {
+			output.append((char) preference.getDelimiterChar()); // delimiter
 		}
-		
-		builder.append(preference.getEndOfLineSymbols()); // EOL
-		writer.write(builder.toString());
 	}
 	
 	/**
@@ -251,7 +447,9 @@ public abstract class AbstractCsvWriter extends AbstractCsvProcessor implements
 					String.format("comment to write should not be null on line %d", csvContext.getLineNumber()));
 		}
 		
-		writer.write(comment + preference.getEndOfLineSymbols());
+		resetRow();
+		output.append(comment).append(preference.getEndOfLineSymbols());
+		endLine();
 		
 	}
 	
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+
+/**
+ * The constructor used to create immutable beans of one class from one name mapping, and the column passed as each of
+ * its parameters. The constructor is found (and made accessible) once, so creating a bean is a single constructor call
+ * with the processed columns.
+ * <p>
+ * The constructor's parameter names are taken from a {@link CsvConstructor} or <tt>java.beans.ConstructorProperties</tt>
+ * annotation, or from the components of a record (when running on a Java version that supports them). Parameters
+ * without a column are passed <tt>null</tt> (or zero/false for primitives), as are <tt>null</tt> column values for
+ * primitive parameters.
+ * <p>
+ * Instances are immutable and thread-safe.
+ * 
+ * @since 2.4.1
+ */
+final class BeanConstructionPlan {
+	
+	private static final String CONSTRUCTOR_PROPERTIES = "java.beans.ConstructorProperties";
+	
+	/** the default value of each primitive type */
+	private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = new HashMap<Class<?>, Object>();
+	static {
+		PRIMITIVE_DEFAULTS.put(boolean.class, Boolean.FALSE);
+		PRIMITIVE_DEFAULTS.put(char.class, Character.valueOf('\0'));
+		PRIMITIVE_DEFAULTS.put(byte.class, Byte.valueOf((byte) 0));
+		PRIMITIVE_DEFAULTS.put(short.class, Short.valueOf((short) 0));
+		PRIMITIVE_DEFAULTS.put(int.class, Integer.valueOf(0));
+		PRIMITIVE_DEFAULTS.put(long.class, Long.valueOf(0L));
+		PRIMITIVE_DEFAULTS.put(float.class, Float.valueOf(0f));
+		PRIMITIVE_DEFAULTS.put(double.class, Double.valueOf(0d));
+	}
+	
+	private final Class<?> beanClass;
+	
+	private final String[] nameMapping;
+	
+	private final Constructor<?> constructor;
+	
+	/** the column passed as each parameter (-1 if there's no column for the parameter) */
+	private final int[] columns;
+	
+	/** the value passed for a missing or null value of each parameter (non-null only for primitives) */
+	private final Object[] defaults;
+	
+	/**
+	 * Constructs a new <tt>BeanConstructionPlan</tt>, finding the constructor whose parameters include all of the
+	 * mapped fields (the one with the fewest parameters, if there are several).
+	 * 
+	 * @param beanClass
+	 *            the class of the beans to create
+	 * @param nameMapping
+	 *            the name mapping
+	 * @throws SuperCsvReflectionException
+	 *             if the class doesn't have a suitable constructor
+	 */
+	BeanConstructionPlan(final Class<?> beanClass, final String[] nameMapping) {
+		this.beanClass = beanClass;
+		this.nameMapping = nameMapping.clone();
+		
+		final List<String> mappedFields = new ArrayList<String>();
+		for( final String field : nameMapping ) {
+			if( field != null ) {
+				mappedFields.add(field);
+			}
+		}
+		
+		Constructor<?> bestConstructor = null;
+		String[] bestParameterNames = null;
+		for( final Constructor<?> candidate : beanClass.getDeclaredConstructors() ) {
+			final String[] parameterNames = getParameterNames(candidate);
+			if( parameterNames != null && Arrays.asList(parameterNames).containsAll(mappedFields)
+				&& (bestParameterNames == null || parameterNames.length < bestParameterNames.length) ) {
+				bestConstructor = candidate;
+				bestParameterNames = parameterNames;
+			}
+		}
+		if( bestConstructor == null ) {
+			throw new SuperCsvReflectionException(String.format(
+				"unable to find a constructor of %s with parameters for the fields %s - check that the class is a "
+					+ "record, or has a constructor annotated with @CsvConstructor or @ConstructorProperties",
+				beanClass.getName(), mappedFields));
+		}
+		
+		try {
+			bestConstructor.setAccessible(true);
+		}
+		catch(final SecurityException e) {
+			throw new SuperCsvReflectionException(String.format("error accessing the constructor of %s",
+				beanClass.getName()), e);
+		}
+		this.constructor = bestConstructor;
+		
+		final Class<?>[] parameterTypes = bestConstructor.getParameterTypes();
+		this.columns = new int[parameterTypes.length];
+		this.defaults = new Object[parameterTypes.length];
+		for( int i = 0; i < parameterTypes.length; i++ ) {
+			columns[i] = Arrays.asList(nameMapping).indexOf(bestParameterNames[i]);
+			defaults[i] = defaultValue(parameterTypes[i]);
+		}
+	}
+	
+	/**
+	 * Returns whether this plan creates beans of the supplied class from the supplied name mapping.
+	 * 
+	 * @param beanClass
+	 *            the bean class
+	 * @param nameMapping
+	 *            the name mapping
+	 * @return true if the plan can be used
+	 */
+	boolean isFor(final Class<?> beanClass, final String[] nameMapping) {
+		return this.beanClass == beanClass && Arrays.equals(this.nameMapping, nameMapping);
+	}
+	
+	/**
+	 * Creates a bean by passing the processed columns to the constructor.
+	 * 
+	 * @param processedColumns
+	 *            the processed columns (one per name mapping)
+	 * @return the new bean
+	 * @throws SuperCsvReflectionException
+	 *             if there was a reflection exception while creating the bean
+	 */
+	Object construct(final List<Object> processedColumns) {
+		final Object[] arguments = new Object[columns.length];
+		for( int i = 0; i < columns.length; i++ ) {
+			final Object value = columns[i] < 0 ? null : processedColumns.get(columns[i]);
+			arguments[i] = value == null ? defaults[i] : value;
+		}
+		
+		try {
+			return constructor.newInstance(arguments);
+		}
+		catch(final IllegalArgumentException e) {
+			throw new SuperCsvReflectionException(String.format(
+				"error invoking the constructor of %s - check that the cell processors return types compatible with "
+					+ "the constructor parameters", beanClass.getName()), e);
+		}
+		catch(final InstantiationException e) {
+			throw new SuperCsvReflectionException(String.format("error invoking the constructor of %s",
+				beanClass.getName()), e);
+		}
+		catch(final IllegalAccessException e) {
+			throw new SuperCsvReflectionException(String.format("error invoking the constructor of %s",
+				beanClass.getName()), e);
+		}
+		catch(final InvocationTargetException e) {
+			throw new SuperCsvReflectionException(String.format("error invoking the constructor of %s",
+				beanClass.getName()), e);
+		}
+	}
+	
+	/**
+	 * Gets the value to pass for a missing or null value of a parameter.
+	 * 
+	 * @param parameterType
+	 *            the parameter type
+	 * @return zero/false for a primitive type, otherwise null
+	 */
+	static Object defaultValue(final Class<?> parameterType) {
+		return PRIMITIVE_DEFAULTS.get(parameterType);
+	}
+	
+	/**
+	 * Gets the field names of a constructor's parameters.
+	 * 
+	 * @param constructor
+	 *            the constructor
+	 * @return the names, or null if they're unknown
+	 */
+	private static String[] getParameterNames(final Constructor<?> constructor) {
+		final CsvConstructor csvConstructor = constructor.getAnnotation(CsvConstructor.class);
+		if( csvConstructor != null ) {
+			return checkLength(constructor, csvConstructor.value());
+		}
+		
+		// ConstructorProperties isn't part of Java 5, so it's read reflectively
+		for( final Annotation annotation : constructor.getAnnotations() ) {
+			if( CONSTRUCTOR_PROPERTIES.equals(annotation.annotationType().getName()) ) {
+				return checkLength(constructor, (String[]) invoke(annotation.annotationType(), annotation, "value"));
+			}
+		}
+		
+		return getRecordComponentNames(constructor);
+	}
+	
+	/**
+	 * Checks that an annotation names every parameter of the constructor.
+	 */
+	private static String[] checkLength(final Constructor<?> constructor, final String[] names) {
+		if( names.length != constructor.getParameterTypes().length ) {
+			throw new SuperCsvReflectionException(String.format(
+				"the constructor %s has %d parameters, but its annotation names %d", constructor,
+				constructor.getParameterTypes().length, names.length));
+		}
+		return names;
+	}
+	
+	/**
+	 * Gets the component names of a record, if the constructor is its canonical constructor. Records are accessed
+	 * reflectively, as they're only supported by Java 16 and later.
+	 * 
+	 * @param constructor
+	 *            the constructor
+	 * @return the component names, or null if the class isn't a record or this isn't its canonical constructor
+	 */
+	private static String[] getRecordComponentNames(final Constructor<?> constructor) {
+		final Class<?> clazz = constructor.getDeclaringClass();
+		if( clazz.getSuperclass() == null || !"java.lang.Record".equals(clazz.getSuperclass().getName()) ) {
+			return null;
+		}
+		
+		final Object[] components = (Object[]) invoke(Class.class, clazz, "getRecordComponents");
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		if( components.length != parameterTypes.length ) {
+			return null;
+		}
+		final String[] names = new String[components.length];
+		for( int i = 0; i < components.length; i++ ) {
+			if( invoke(components[i].getClass(), components[i], "getType") != parameterTypes[i] ) {
+				return null;
+			}
+			names[i] = (String) invoke(components[i].getClass(), components[i], "getName");
+		}
+		return names;
+	}
+	
+	/**
+	 * Invokes a public no-argument method (of a public type) reflectively.
+	 */
+	private static Object invoke(final Class<?> type, final Object target, final String methodName) {
+		try {
+			final Method method = type.getMethod(methodName);
+			return method.invoke(target);
+		}
+		catch(final Exception e) {
+			throw new SuperCsvReflectionException(String.format("error invoking method %s()", methodName), e);
+		}
+	}
+	
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+import org.supercsv.util.MethodCache;
+
+/**
+ * The getters used to extract the values of beans of one class for one name mapping. The getters are looked up once,
+ * when the plan is created, and the values of each bean are written into a reused array - so extracting a bean's values
+ * doesn't involve any lookups or allocation.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @since 2.4.1
+ */
+final class BeanExtractionPlan {
+	
+	private final Class<?> beanClass;
+	
+	private final String[] nameMapping;
+	
+	/** the getter for each column (null if the column isn't mapped) */
+	private final Method[] getters;
+	
+	/**
+	 * Constructs a new <tt>BeanExtractionPlan</tt>, looking up the getters on the supplied bean's class.
+	 * 
+	 * @param bean
+	 *            a bean of the class to extract values from
+	 * @param nameMapping
+	 *            the name mapping (a null element results in a null (blank) column)
+	 * @param cache
+	 *            the cache used to look up getters
+	 * @throws SuperCsvReflectionException
+	 *             if a getter doesn't exist or is not visible
+	 */
+	BeanExtractionPlan(final Object bean, final String[] nameMapping, final MethodCache cache) {
+		this.beanClass = bean.getClass();
+		this.nameMapping = nameMapping.clone();
+		this.getters = new Method[nameMapping.length];
+		for( int i = 0; i < nameMapping.length; i++ ) {
+			if( nameMapping[i] != null ) {
+				final Method getMethod = cache.getGetMethod(bean, nameMapping[i]);
+				try {
+					getMethod.setAccessible(true); // skips the access check on each invocation
+				}
+				catch(final SecurityException e) {
+					// the getter is still public, so it can be invoked with the access check
+				}
+				getters[i] = getMethod;
+			}
+		}
+	}
+	
+	/**
+	 * Returns whether this plan extracts values from beans of the supplied class for the supplied name mapping.
+	 * 
+	 * @param beanClass
+	 *            the bean class
+	 * @param nameMapping
+	 *            the name mapping
+	 * @return true if the plan can be used
+	 */
+	boolean isFor(final Class<?> beanClass, final String[] nameMapping) {
+		return this.beanClass == beanClass && Arrays.equals(this.nameMapping, nameMapping);
+	}
+	
+	/**
+	 * Returns the number of columns the plan extracts.
+	 * 
+	 * @return the number of columns
+	 */
+	int size() {
+		return getters.length;
+	}
+	
+	/**
+	 * Extracts the values of the bean into the supplied array.
+	 * 
+	 * @param bean
+	 *            the bean (of the plan's class)
+	 * @param values
+	 *            the array to write the values to (at least as long as the name mapping)
+	 * @throws SuperCsvReflectionException
+	 *             if there was a reflection exception while extracting a value
+	 */
+	void extract(final Object bean, final Object[] values) {
+		for( int i = 0; i < getters.length; i++ ) {
+			final Method getMethod = getters[i];
+			if( getMethod == null ) {
+				values[i] = null; // assume they always want a blank column
+			} else {
+				try {
+					values[i] = getMethod.invoke(bean);
+				}
+				catch(final Exception e) {
+					throw new SuperCsvReflectionException(String.format("error extracting bean value for field %s",
+						nameMapping[i]), e);
+				}
+			}
+		}
+	}
+	
+}
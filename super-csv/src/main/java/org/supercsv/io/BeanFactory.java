@@ -0,0 +1,43 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+
+/**
+ * Creates the beans populated by {@link CsvBeanReader} and {@link BeanRowMapper}. The default implementation,
+ * {@link ReflectionBeanFactory}, invokes the bean's no-argument constructor; a custom factory can hand out beans from a
+ * pool (or reset and reuse a previously returned bean), or construct beans that don't have an accessible no-argument
+ * constructor. Factories used by a {@link BeanRowMapper} in a {@link CsvParallelReader} must be thread-safe.
+ * 
+ * @since 2.4.1
+ */
+public interface BeanFactory {
+	
+	/**
+	 * Creates a bean to be populated with a row of CSV.
+	 * 
+	 * @param clazz
+	 *            the type of bean requested (may be an interface)
+	 * @param <T>
+	 *            the bean type
+	 * @return a bean of the requested type (must not be null)
+	 * @throws SuperCsvReflectionException
+	 *             if the bean couldn't be created
+	 */
+	<T> T createBean(Class<T> clazz);
+	
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+import org.supercsv.util.MethodCache;
+import org.supercsv.util.ReflectionUtils;
+
+/**
+ * The setters used to populate beans of one class from one name mapping. Each column's setter is looked up (and made
+ * accessible) once, for the type of the first value in that column, and reused for every row while the column's values
+ * have the same type - so populating a bean doesn't involve any lookups. If a column's type changes (e.g. an
+ * <tt>Optional</tt> processor that returns different types), its setter is looked up again for the new type. Null
+ * values are either skipped, or passed to a setter for the column (so that a reused bean is fully overwritten).
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @since 2.4.1
+ */
+final class BeanPopulationPlan {
+	
+	private final Class<?> beanClass;
+	
+	private final String[] nameMapping;
+	
+	/** the setter for each column (null until the column's first non-null value) */
+	private final Method[] setters;
+	
+	/** the value type each setter was looked up for */
+	private final Class<?>[] argumentTypes;
+	
+	/** the argument passed to each setter for a null value (non-null only for primitive setters) */
+	private final Object[] nullArguments;
+	
+	private final MethodCache cache;
+	
+	/**
+	 * Constructs a new <tt>BeanPopulationPlan</tt>.
+	 * 
+	 * @param beanClass
+	 *            the class of the beans to populate
+	 * @param nameMapping
+	 *            the name mapping
+	 * @param cache
+	 *            the cache used to look up setters
+	 */
+	BeanPopulationPlan(final Class<?> beanClass, final String[] nameMapping, final MethodCache cache) {
+		this.beanClass = beanClass;
+		this.nameMapping = nameMapping.clone();
+		this.setters = new Method[nameMapping.length];
+		this.argumentTypes = new Class<?>[nameMapping.length];
+		this.nullArguments = new Object[nameMapping.length];
+		this.cache = cache;
+	}
+	
+	/**
+	 * Returns whether this plan populates beans of the supplied class from the supplied name mapping.
+	 * 
+	 * @param beanClass
+	 *            the bean class
+	 * @param nameMapping
+	 *            the name mapping
+	 * @return true if the plan can be used
+	 */
+	boolean isFor(final Class<?> beanClass, final String[] nameMapping) {
+		return this.beanClass == beanClass && Arrays.equals(this.nameMapping, nameMapping);
+	}
+	
+	/**
+	 * Populates the bean by mapping the processed columns to the fields of the bean.
+	 * 
+	 * @param bean
+	 *            the bean to populate (of the plan's class)
+	 * @param processedColumns
+	 *            the processed columns (one per name mapping)
+	 * @return the populated bean
+	 * @throws SuperCsvReflectionException
+	 *             if there was a reflection exception while populating the bean
+	 */
+	<T> T populate(final T bean, final List<Object> processedColumns) {
+		return populate(bean, processedColumns, false);
+	}
+	
+	/**
+	 * Populates the bean by mapping the processed columns to the fields of the bean, optionally setting the fields of
+	 * null columns to null (or zero/false for primitives) so that a reused bean doesn't keep values from the previous
+	 * row.
+	 * 
+	 * @param bean
+	 *            the bean to populate (of the plan's class)
+	 * @param processedColumns
+	 *            the processed columns (one per name mapping)
+	 * @param setNulls
+	 *            whether to set the fields of null columns
+	 * @return the populated bean
+	 * @throws SuperCsvReflectionException
+	 *             if there was a reflection exception while populating the bean
+	 */
+	<T> T populate(final T bean, final List<Object> processedColumns, final boolean setNulls) {
+		for( int i = 0; i < nameMapping.length; i++ ) {
+			
+			// don't call a set-method in the bean if there is no name mapping for the column
+			if( nameMapping[i] == null ) {
+				continue;
+			}
+			
+			Object fieldValue = processedColumns.get(i);
+			Method setMethod = setters[i];
+			if( fieldValue == null ) {
+				if( !setNulls ) {
+					continue; // no result to store
+				} else if( setMethod == null ) {
+					setMethod = bind(bean, i, null);
+				}
+				fieldValue = nullArguments[i];
+			} else if( fieldValue.getClass() != argumentTypes[i] ) {
+				setMethod = bind(bean, i, fieldValue.getClass());
+			}
+			
+			try {
+				setMethod.invoke(bean, fieldValue);
+			}
+			catch(final Exception e) {
+				throw new SuperCsvReflectionException(String.format("error invoking method %s()",
+					setMethod.getName()), e);
+			}
+		}
+		return bean;
+	}
+	
+	/**
+	 * Looks up the setter for a column and value type (or any setter for the column if the type is null), and makes it
+	 * accessible.
+	 */
+	private Method bind(final Object bean, final int column, final Class<?> argumentType) {
+		final Method setMethod = argumentType == null ? ReflectionUtils.findSetter(bean, nameMapping[column]) : cache
+			.getSetMethod(bean, nameMapping[column], argumentType);
+		try {
+			setMethod.setAccessible(true);
+		}
+		catch(final SecurityException e) {
+			throw new SuperCsvReflectionException(String.format("error invoking method %s()", setMethod.getName()),
+				e);
+		}
+		setters[column] = setMethod;
+		argumentTypes[column] = argumentType;
+		nullArguments[column] = BeanConstructionPlan.defaultValue(setMethod.getParameterTypes()[0]);
+		return setMethod;
+	}
+	
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.exception.SuperCsvReflectionException;
+import org.supercsv.util.CsvContext;
+import org.supercsv.util.MethodCache;
+
+/**
+ * A row mapper that processes each column of a row with CellProcessors, then maps the processed columns to the fields of
+ * a new bean (the same result as {@link ICsvBeanReader#read(Class, String[], CellProcessor...)}). The CellProcessors
+ * must be thread-safe if the mapper is used by a {@link CsvParallelReader}.
+ * 
+ * @param <T>
+ *            the bean type
+ * @since 2.4.1
+ */
+public class BeanRowMapper<T> extends AbstractCsvProcessor implements CsvRowMapper<T> {
+	
+	private final Class<T> clazz;
+	
+	private final String[] nameMapping;
+	
+	private final CellProcessor[] processors;
+	
+	private final BeanFactory beanFactory;
+	
+	// the setters for mapping from columns to fields (the plan isn't thread-safe, so there's one per thread)
+	private final ThreadLocal<BeanPopulationPlan> plans = new ThreadLocal<BeanPopulationPlan>();
+	
+	/**
+	 * Constructs a new <tt>BeanRowMapper</tt>.
+	 * 
+	 * @param clazz
+	 *            the type of bean to create (a proxy will be created if an interface is supplied)
+	 * @param nameMapping
+	 *            an array of Strings linking the CSV columns to their corresponding field in the bean (the array length
+	 *            should match the number of columns). A <tt>null</tt> entry in the array indicates that the column
+	 *            should be ignored (the field in the bean will be null - or its default value).
+	 * @param processors
+	 *            an array of CellProcessors used to further process data before it is populated on the bean (the number
+	 *            of processors should match the number of columns). A <tt>null</tt> entry indicates no further
+	 *            processing is required (the unprocessed String value will be set on the bean's field).
+	 * @throws NullPointerException
+	 *             if clazz, nameMapping or processors are null
+	 */
+	public BeanRowMapper(final Class<T> clazz, final String[] nameMapping, final CellProcessor... processors) {
+		this(new ReflectionBeanFactory(), clazz, nameMapping, processors);
+	}
+	
+	/**
+	 * Constructs a new <tt>BeanRowMapper</tt> that creates its beans with the supplied factory.
+	 * 
+	 * @param beanFactory
+	 *            the (thread-safe) factory used to create the beans
+	 * @param clazz
+	 *            the type of bean to create
+	 * @param nameMapping
+	 *            an array of Strings linking the CSV columns to their corresponding field in the bean (the array length
+	 *            should match the number of columns). A <tt>null</tt> entry in the array indicates that the column
+	 *            should be ignored (the field in the bean will be null - or its default value).
+	 * @param processors
+	 *            an array of CellProcessors used to further process data before it is populated on the bean (the number
+	 *            of processors should match the number of columns). A <tt>null</tt> entry indicates no further
+	 *            processing is required (the unprocessed String value will be set on the bean's field).
+	 * @throws NullPointerException
+	 *             if beanFactory, clazz, nameMapping or processors are null
+	 */
+	public BeanRowMapper(final BeanFactory beanFactory, final Class<T> clazz, final String[] nameMapping,
+		final CellProcessor... processors) {
+		if( beanFactory == null ) {
+			throw new NullPointerException("beanFactory should not be null");
+		} else if( clazz == null ) {
+			throw new NullPointerException("clazz should not be null");
+		} else if( nameMapping == null ) {
+			throw new NullPointerException("nameMapping should not be null");
+		} else if( processors == null ) {
+			throw new NullPointerException("processors should not be null");
+		}
+		this.clazz = clazz;
+		this.nameMapping = nameMapping.clone();
+		this.processors = processors.clone();
+		this.beanFactory = beanFactory;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if nameMapping.length != number of CSV columns read
+	 * @throws SuperCsvConstraintViolationException
+	 *             if a CellProcessor constraint failed
+	 * @throws SuperCsvException
+	 *             if the wrong number of processors are supplied, or CellProcessor execution failed
+	 * @throws SuperCsvReflectionException
+	 *             if there was an reflection exception while mapping the values to the bean
+	 */
+	public T map(final List<String> columns, final CsvContext context) {
+		if( nameMapping.length != columns.size() ) {
+			throw new IllegalArgumentException(String.format("the nameMapping array and the number of columns read "
+				+ "should be the same size (nameMapping length = %d, columns = %d)", nameMapping.length,
+				columns.size()));
+		}
+		
+		final List<Object> processedColumns = new ArrayList<Object>(columns.size());
+		executeCellProcessors(processedColumns, columns, processors, context.getLineNumber(), context.getRowNumber());
+		
+		final T bean = CsvBeanReader.createBean(beanFactory, clazz);
+		BeanPopulationPlan plan = plans.get();
+		if( plan == null || !plan.isFor(bean.getClass(), nameMapping) ) {
+			// interfaces are proxied, so the plan is for the class of the bean (not the requested class)
+			plan = new BeanPopulationPlan(bean.getClass(), nameMapping, new MethodCache());
+			plans.set(plan);
+		}
+		return plan.populate(bean, processedColumns);
+	}
+	
+}
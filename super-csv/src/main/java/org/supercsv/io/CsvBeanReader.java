@@ -17,9 +17,6 @@ package org.supercsv.io;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,14 +25,15 @@ import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.exception.SuperCsvException;
 import org.supercsv.exception.SuperCsvReflectionException;
 import org.supercsv.prefs.CsvPreference;
-import org.supercsv.util.BeanInterfaceProxy;
 import org.supercsv.util.MethodCache;
 
 /**
  * CsvBeanReader reads a CSV file by instantiating a bean for every row and mapping each column to a field on the bean
  * (using the supplied name mapping). The bean to populate can be either a class or interface. If a class is used, it
  * must be a valid Javabean, i.e. it must have a default no-argument constructor and getter/setter methods. An interface
- * may also be used if it defines getters/setters - a proxy object will be created that implements the interface.
+ * may also be used if it defines getters/setters - a proxy object will be created that implements the interface. The
+ * beans are created by a {@link BeanFactory}, which can be replaced to supply beans from a pool or to use another
+ * constructor.
  * 
  * @author Kasper B. Graversen
  * @author James Bassett
@@ -49,6 +47,23 @@ public class CsvBeanReader extends AbstractCsvReader implements ICsvBeanReader {
 	// cache of methods for mapping from columns to fields
 	private final MethodCache cache = new MethodCache();
 	
+	// the setters for the most recent bean class and name mapping
+	private BeanPopulationPlan populationPlan;
+	
+	// the constructor for the most recent immutable bean class and name mapping
+	private BeanConstructionPlan constructionPlan;
+	
+	// whether beans are reused and fully overwritten (see setFlyweight())
+	private boolean flyweight;
+	
+	// the bean reused in flyweight mode, and the class it was created for
+	private Object flyweightBean;
+	
+	private Class<?> flyweightClass;
+	
+	// creates the beans for read(Class, ...)
+	private BeanFactory beanFactory = new ReflectionBeanFactory();
+	
 	/**
 	 * Constructs a new <tt>CsvBeanReader</tt> with the supplied Reader and CSV preferences. Note that the
 	 * <tt>reader</tt> will be wrapped in a <tt>BufferedReader</tt> before accessed.
@@ -80,68 +95,120 @@ public class CsvBeanReader extends AbstractCsvReader implements ICsvBeanReader {
 	}
 	
 	/**
-	 * Instantiates the bean (or creates a proxy if it's an interface).
+	 * Gets the factory used to create the beans read with {@link #read(Class, String...)} and
+	 * {@link #read(Class, String[], CellProcessor...)}.
+	 * 
+	 * @return the bean factory
+	 * @since 2.4.1
+	 */
+	public BeanFactory getBeanFactory() {
+		return beanFactory;
+	}
+	
+	/**
+	 * Sets the factory used to create the beans read with {@link #read(Class, String...)} and
+	 * {@link #read(Class, String[], CellProcessor...)} (by default, a {@link ReflectionBeanFactory}). A custom factory
+	 * can be used to take beans from a pool, or to construct beans that don't have a no-argument constructor.
+	 * 
+	 * @param beanFactory
+	 *            the bean factory
+	 * @throws NullPointerException
+	 *             if beanFactory is null
+	 * @since 2.4.1
+	 */
+	public void setBeanFactory(final BeanFactory beanFactory) {
+		if( beanFactory == null ) {
+			throw new NullPointerException("beanFactory should not be null");
+		}
+		this.beanFactory = beanFactory;
+	}
+	
+	/**
+	 * Returns whether flyweight mode is enabled.
+	 * 
+	 * @return true if flyweight mode is enabled
+	 * @since 2.4.1
+	 */
+	public boolean isFlyweight() {
+		return flyweight;
+	}
+	
+	/**
+	 * Enables or disables flyweight mode (it's disabled by default). In flyweight mode, a single bean is reused for
+	 * every row read with {@link #read(Class, String...)} and {@link #read(Class, String[], CellProcessor...)} (a new
+	 * bean is only created when the requested class changes), and every mapped field is set on every row - including
+	 * fields whose column is null, which are set to null (or zero/false for primitives) instead of being skipped - so
+	 * no values are left over from the previous row. The fields are also overwritten in this way when a bean is
+	 * supplied to {@link #read(Object, String...)} or {@link #read(Object, String[], CellProcessor...)}.
+	 * <p>
+	 * Flyweight mode lets large files be streamed without creating a bean per row, but the returned bean is only valid
+	 * until the next row is read, so it mustn't be stored (copy the values that are needed instead).
+	 * 
+	 * @param flyweight
+	 *            whether to enable flyweight mode
+	 * @since 2.4.1
+	 */
+	public void setFlyweight(final boolean flyweight) {
+		this.flyweight = flyweight;
+		this.flyweightBean = null;
+		this.flyweightClass = null;
+	}
+	
+	/**
+	 * Gets the bean to read a row into: the reused bean in flyweight mode, otherwise a new bean.
 	 * 
 	 * @param clazz
-	 *            the bean class to instantiate (a proxy will be created if an interface is supplied), using the default
-	 *            (no argument) constructor
-	 * @return the instantiated bean
+	 *            the type of bean requested
+	 * @return the bean
 	 * @throws SuperCsvReflectionException
-	 *             if there was a reflection exception when instantiating the bean
+	 *             if the bean couldn't be created
 	 */
-	private static <T> T instantiateBean(final Class<T> clazz) {
-		final T bean;
-		if( clazz.isInterface() ) {
-			bean = BeanInterfaceProxy.createProxy(clazz);
-		} else {
-			try {
-				Constructor<T> c = clazz.getDeclaredConstructor(new Class[0]);
-				c.setAccessible(true);
-				bean = c.newInstance(new Object[0]);
-			}
-			catch(InstantiationException e) {
-				throw new SuperCsvReflectionException(String.format(
-					"error instantiating bean, check that %s has a default no-args constructor", clazz.getName()), e);
-			}
-			catch(NoSuchMethodException e) {
-				throw new SuperCsvReflectionException(String.format(
-					"error instantiating bean, check that %s has a default no-args constructor", clazz.getName()), e);
-			}
-			catch(IllegalAccessException e) {
-				throw new SuperCsvReflectionException("error instantiating bean", e);
-			}
-			catch(InvocationTargetException e) {
-				throw new SuperCsvReflectionException("error instantiating bean", e);
-			}
+	private <T> T getBean(final Class<T> clazz) {
+		if( !flyweight ) {
+			return instantiateBean(clazz);
+		} else if( flyweightClass != clazz ) {
+			flyweightBean = instantiateBean(clazz);
+			flyweightClass = clazz;
 		}
-		
-		return bean;
+		return clazz.cast(flyweightBean);
 	}
 	
 	/**
-	 * Invokes the setter on the bean with the supplied value.
+	 * Creates the bean using the bean factory.
 	 * 
-	 * @param bean
-	 *            the bean
-	 * @param setMethod
-	 *            the setter method for the field
-	 * @param fieldValue
-	 *            the field value to set
-	 * @throws SuperCsvException
-	 *             if there was an exception invoking the setter
+	 * @param clazz
+	 *            the type of bean to create
+	 * @return the bean
+	 * @throws SuperCsvReflectionException
+	 *             if the bean couldn't be created
 	 */
-	private static void invokeSetter(final Object bean, final Method setMethod, final Object fieldValue) {
-		try {
-			setMethod.setAccessible(true);
-			setMethod.invoke(bean, fieldValue);
-		}
-		catch(final Exception e) {
-			throw new SuperCsvReflectionException(String.format("error invoking method %s()", setMethod.getName()), e);
+	private <T> T instantiateBean(final Class<T> clazz) {
+		return createBean(beanFactory, clazz);
+	}
+	
+	/**
+	 * Creates a bean using the supplied factory, checking that the factory didn't return null.
+	 * 
+	 * @param beanFactory
+	 *            the bean factory
+	 * @param clazz
+	 *            the type of bean to create
+	 * @return the bean
+	 * @throws SuperCsvReflectionException
+	 *             if the bean couldn't be created
+	 */
+	static <T> T createBean(final BeanFactory beanFactory, final Class<T> clazz) {
+		final T bean = beanFactory.createBean(clazz);
+		if( bean == null ) {
+			throw new SuperCsvReflectionException(String.format("the bean factory returned null for %s",
+				clazz.getName()));
 		}
+		return bean;
 	}
 	
 	/**
-	 * Populates the bean by mapping the processed columns to the fields of the bean.
+	 * Populates the bean by mapping the processed columns to the fields of the bean, reusing the setters from the
+	 * previous row if the bean class and name mapping are the same.
 	 * 
 	 * @param resultBean
 	 *            the bean to populate
@@ -152,24 +219,10 @@ public class CsvBeanReader extends AbstractCsvReader implements ICsvBeanReader {
 	 *             if there was a reflection exception while populating the bean
 	 */
 	private <T> T populateBean(final T resultBean, final String[] nameMapping) {
-		
-		// map each column to its associated field on the bean
-		for( int i = 0; i < nameMapping.length; i++ ) {
-			
-			final Object fieldValue = processedColumns.get(i);
-			
-			// don't call a set-method in the bean if there is no name mapping for the column or no result to store
-			if( nameMapping[i] == null || fieldValue == null ) {
-				continue;
-			}
-			
-			// invoke the setter on the bean
-			Method setMethod = cache.getSetMethod(resultBean, nameMapping[i], fieldValue.getClass());
-			invokeSetter(resultBean, setMethod, fieldValue);
-			
+		if( populationPlan == null || !populationPlan.isFor(resultBean.getClass(), nameMapping) ) {
+			populationPlan = new BeanPopulationPlan(resultBean.getClass(), nameMapping, cache);
 		}
-		
-		return resultBean;
+		return populationPlan.populate(resultBean, processedColumns, flyweight);
 	}
 	
 	/**
@@ -183,7 +236,7 @@ public class CsvBeanReader extends AbstractCsvReader implements ICsvBeanReader {
 			throw new NullPointerException("nameMapping should not be null");
 		}
 		
-		return readIntoBean(instantiateBean(clazz), nameMapping, null);
+		return readIntoBean(getBean(clazz), nameMapping, null);
 	}
 	
 	/**
@@ -200,7 +253,7 @@ public class CsvBeanReader extends AbstractCsvReader implements ICsvBeanReader {
 			throw new NullPointerException("processors should not be null");
 		}
 		
-		return readIntoBean(instantiateBean(clazz), nameMapping, processors);
+		return readIntoBean(getBean(clazz), nameMapping, processors);
 	}
 	
 	/**
@@ -259,25 +312,163 @@ public class CsvBeanReader extends AbstractCsvReader implements ICsvBeanReader {
 	private <T> T readIntoBean(final T bean, final String[] nameMapping, final CellProcessor[] processors)
 		throws IOException {
 		
-		if( readRow() ) {
-			if( nameMapping.length != length() ) {
-				throw new IllegalArgumentException(String.format(
-					"the nameMapping array and the number of columns read "
-						+ "should be the same size (nameMapping length = %d, columns = %d)", nameMapping.length,
-					length()));
-			}
-			
-			if( processors == null ) {
-				processedColumns.clear();
-				processedColumns.addAll(getColumns());
-			} else {
-				super.executeProcessors(processedColumns, processors);
-			}
-			
+		if( readProcessedColumns(nameMapping, processors) ) {
 			return populateBean(bean, nameMapping);
 		}
 		
 		return null; // EOF
 	}
 	
+	/**
+	 * Reads a row of a CSV file into the processed columns. If processors are supplied then they are used, otherwise
+	 * the raw String values will be used.
+	 * 
+	 * @param nameMapping
+	 *            the name mapping array
+	 * @param processors
+	 *            the (optional) cell processors
+	 * @return true if a row was read, or false if EOF was reached
+	 * @throws IllegalArgumentException
+	 *             if nameMapping.length != number of CSV columns read
+	 * @throws IOException
+	 *             if an I/O error occurred
+	 * @throws SuperCsvConstraintViolationException
+	 *             if a CellProcessor constraint failed
+	 * @throws SuperCsvException
+	 *             if there was a general exception while reading/processing
+	 */
+	private boolean readProcessedColumns(final String[] nameMapping, final CellProcessor[] processors)
+		throws IOException {
+		
+		if( !readRow() ) {
+			return false; // EOF
+		}
+		
+		if( nameMapping.length != length() ) {
+			throw new IllegalArgumentException(String.format("the nameMapping array and the number of columns read "
+				+ "should be the same size (nameMapping length = %d, columns = %d)", nameMapping.length, length()));
+		}
+		
+		if( processors == null ) {
+			processedColumns.clear();
+			processedColumns.addAll(getColumns());
+		} else {
+			super.executeProcessors(processedColumns, processors);
+		}
+		return true;
+	}
+	
+	/**
+	 * Reads a row of a CSV file into a new immutable bean, by passing the columns to a constructor of the bean's class
+	 * (instead of invoking a no-argument constructor and setters). The constructor must be annotated with
+	 * {@link CsvConstructor} (or <tt>java.beans.ConstructorProperties</tt>) to name the field each parameter
+	 * corresponds to, or be the canonical constructor of a record. The constructor used is the one with the fewest
+	 * parameters that includes all of the mapped fields; parameters without a column are passed <tt>null</tt> (or
+	 * zero/false for primitives).
+	 * 
+	 * @param clazz
+	 *            the type of bean to create
+	 * @param nameMapping
+	 *            an array of Strings linking the CSV columns to their corresponding constructor parameter (the array
+	 *            length should match the number of columns). A <tt>null</tt> entry in the array indicates that the
+	 *            column should be ignored.
+	 * @param <T>
+	 *            the bean type
+	 * @return a bean containing the unprocessed String values of the row, or null if EOF
+	 * @throws IllegalArgumentException
+	 *             if nameMapping.length != number of columns read
+	 * @throws IOException
+	 *             if an I/O error occurred
+	 * @throws NullPointerException
+	 *             if clazz or nameMapping are null
+	 * @throws SuperCsvException
+	 *             if there was a general exception while reading/processing
+	 * @throws SuperCsvReflectionException
+	 *             if the class doesn't have a suitable constructor, or there was an reflection exception while
+	 *             creating the bean
+	 * @since 2.4.1
+	 */
+	public <T> T readImmutable(final Class<T> clazz, final String... nameMapping) throws IOException {
+		
+		if( clazz == null ) {
+			throw new NullPointerException("clazz should not be null");
+		} else if( nameMapping == null ) {
+			throw new NullPointerException("nameMapping should not be null");
+		}
+		
+		return readIntoImmutableBean(clazz, nameMapping, null);
+	}
+	
+	/**
+	 * Reads a row of a CSV file into a new immutable bean, by passing the processed columns to a constructor of the
+	 * bean's class, as described in {@link #readImmutable(Class, String...)}.
+	 * 
+	 * @param clazz
+	 *            the type of bean to create
+	 * @param nameMapping
+	 *            an array of Strings linking the CSV columns to their corresponding constructor parameter (the array
+	 *            length should match the number of columns). A <tt>null</tt> entry in the array indicates that the
+	 *            column should be ignored.
+	 * @param processors
+	 *            an array of CellProcessors used to further process data before it is passed to the constructor (the
+	 *            number of processors should match the number of columns). A <tt>null</tt> entry indicates no further
+	 *            processing is required (the unprocessed String value will be passed to the constructor).
+	 * @param <T>
+	 *            the bean type
+	 * @return a bean containing the processed values of the row, or null if EOF
+	 * @throws IllegalArgumentException
+	 *             if nameMapping.length != number of columns read or if the number of processors != number of columns
+	 *             read
+	 * @throws IOException
+	 *             if an I/O error occurred
+	 * @throws NullPointerException
+	 *             if clazz, nameMapping or processors are null
+	 * @throws SuperCsvConstraintViolationException
+	 *             if a CellProcessor constraint failed
+	 * @throws SuperCsvException
+	 *             if there was a general exception while reading/processing
+	 * @throws SuperCsvReflectionException
+	 *             if the class doesn't have a suitable constructor, or there was an reflection exception while
+	 *             creating the bean
+	 * @since 2.4.1
+	 */
+	public <T> T readImmutable(final Class<T> clazz, final String[] nameMapping, final CellProcessor... processors)
+		throws IOException {
+		
+		if( clazz == null ) {
+			throw new NullPointerException("clazz should not be null");
+		} else if( nameMapping == null ) {
+			throw new NullPointerException("nameMapping should not be null");
+		} else if( processors == null ) {
+			throw new NullPointerException("processors should not be null");
+		}
+		
+		return readIntoImmutableBean(clazz, nameMapping, processors);
+	}
+	
+	/**
+	 * Reads a row of a CSV file and passes the (processed) columns to the constructor of a new bean, reusing the
+	 * constructor from the previous row if the bean class and name mapping are the same.
+	 * 
+	 * @param clazz
+	 *            the type of bean to create
+	 * @param nameMapping
+	 *            the name mapping array
+	 * @param processors
+	 *            the (optional) cell processors
+	 * @return the new bean, or null if EOF was reached
+	 */
+	private <T> T readIntoImmutableBean(final Class<T> clazz, final String[] nameMapping,
+		final CellProcessor[] processors) throws IOException {
+		
+		if( !readProcessedColumns(nameMapping, processors) ) {
+			return null; // EOF
+		}
+		
+		if( constructionPlan == null || !constructionPlan.isFor(clazz, nameMapping) ) {
+			constructionPlan = new BeanConstructionPlan(clazz, nameMapping);
+		}
+		return clazz.cast(constructionPlan.construct(processedColumns));
+	}
+	
 }
@@ -22,8 +22,8 @@ import org.supercsv.util.MethodCache;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -35,8 +35,11 @@ import java.util.List;
  */
 public class CsvBeanWriter extends AbstractCsvWriter implements ICsvBeanWriter {
 	
-	// temporary storage of bean values
-	private final List<Object> beanValues = new ArrayList<Object>();
+	// temporary storage of bean values (reused while the bean class and name mapping are the same)
+	private Object[] beanValues;
+	
+	// a List view of beanValues (for executing the cell processors)
+	private List<Object> beanValueList;
 	
 	// temporary storage of processed columns to be written
 	private final List<Object> processedColumns = new ArrayList<Object>();
@@ -44,9 +47,12 @@ public class CsvBeanWriter extends AbstractCsvWriter implements ICsvBeanWriter {
 	// cache of methods for mapping from fields to columns
 	private final MethodCache cache = new MethodCache();
 	
+	// the getters for the most recent bean class and name mapping
+	private BeanExtractionPlan extractionPlan;
+	
 	/**
 	 * Constructs a new <tt>CsvBeanWriter</tt> with the supplied Writer and CSV preferences. Note that the
-	 * <tt>writer</tt> will be wrapped in a <tt>BufferedWriter</tt> before accessed.
+	 * <tt>writer</tt>'s output will be buffered (and written to it in large blocks).
 	 * 
 	 * @param writer
 	 *            the writer
@@ -80,28 +86,12 @@ public class CsvBeanWriter extends AbstractCsvWriter implements ICsvBeanWriter {
 				"the nameMapping array can't be null as it's used to map from fields to columns");
 		}
 		
-		beanValues.clear();
-		
-		for( int i = 0; i < nameMapping.length; i++ ) {
-			
-			final String fieldName = nameMapping[i];
-			
-			if( fieldName == null ) {
-				beanValues.add(null); // assume they always want a blank column
-				
-			} else {
-				Method getMethod = cache.getGetMethod(source, fieldName);
-				try {
-					beanValues.add(getMethod.invoke(source));
-				}
-				catch(final Exception e) {
-					throw new SuperCsvReflectionException(String.format("error extracting bean value for field %s",
-						fieldName), e);
-				}
-			}
-			
+		if( extractionPlan == null || !extractionPlan.isFor(source.getClass(), nameMapping) ) {
+			extractionPlan = new BeanExtractionPlan(source, nameMapping, cache);
+			beanValues = new Object[extractionPlan.size()];
+			beanValueList = Arrays.asList(beanValues);
 		}
-		
+		extractionPlan.extract(source, beanValues);
 	}
 	
 	/**
@@ -132,7 +122,7 @@ public class CsvBeanWriter extends AbstractCsvWriter implements ICsvBeanWriter {
 		extractBeanValues(source, nameMapping);
 		
 		// execute the processors for each column
-		executeProcessors(processedColumns, beanValues, processors);
+		executeProcessors(processedColumns, beanValueList, processors);
 		
 		// write the list
 		super.writeRow(processedColumns);
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor used to create immutable beans with {@link CsvBeanReader#readImmutable(Class, String...)},
+ * naming the field that each constructor parameter corresponds to (as constructor parameter names aren't available
+ * through reflection). For example:
+ * 
+ * <pre>
+ * &#064;CsvConstructor({ &quot;firstName&quot;, &quot;lastName&quot; })
+ * public Person(String firstName, String lastName) {
+ * </pre>
+ * 
+ * The <tt>java.beans.ConstructorProperties</tt> annotation is supported in the same way, and records don't need any
+ * annotation.
+ * 
+ * @since 2.4.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface CsvConstructor {
+	
+	/**
+	 * The field names of the constructor parameters, in order.
+	 */
+	String[] value();
+	
+}
@@ -29,7 +29,7 @@ import java.util.List;
  * @author Kasper B. Graversen
  * @author James Bassett
  */
-public class CsvListReader extends AbstractCsvReader implements ICsvListReader {
+public class CsvListReader extends AbstractCsvReader implements ICsvBatchListReader {
 
 	/**
 	 * Constructs a new <tt>CsvListReader</tt> with the supplied Reader and CSV preferences. Note that the
@@ -110,6 +110,31 @@ public class CsvListReader extends AbstractCsvReader implements ICsvListReader {
 		return allLines;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<List<Object>> readBatch(final int maxRows, final CellProcessor... processors) throws IOException {
+		if (maxRows <= 0) {
+			throw new IllegalArgumentException(String.format("maxRows should be > 0 but was %d", maxRows));
+		} else if (processors == null) {
+			throw new NullPointerException("processors should not be null");
+		}
+
+		final List<List<String>> rows = new ArrayList<List<String>>();
+		final int[] lineNos = new int[maxRows];
+		final int[] rowNos = new int[maxRows];
+		if (readRows(rows, lineNos, rowNos, maxRows) == 0) {
+			return null; // EOF
+		}
+
+		final List<List<Object>> processedRows = new ArrayList<List<Object>>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			processedRows.add(new ArrayList<Object>(processors.length));
+		}
+		executeCellProcessorsByColumn(processedRows, rows, processors, lineNos, rowNos);
+		return processedRows;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -24,12 +24,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * CsvListWriter is a simple writer capable of writing arrays and Lists to a CSV file.
+ * CsvListWriter is a simple writer capable of writing arrays and Lists to a CSV file. It can also write a row column by
+ * column (see {@link ICsvColumnWriter}).
  * 
  * @author Kasper B. Graversen
  * @author James Bassett
  */
-public class CsvListWriter extends AbstractCsvWriter implements ICsvListWriter {
+public class CsvListWriter extends AbstractCsvWriter implements ICsvListWriter, ICsvColumnWriter {
 	
 	// temporary storage of processed columns to be written
 	private final List<Object> processedColumns = new ArrayList<Object>();
@@ -85,4 +86,46 @@ public class CsvListWriter extends AbstractCsvWriter implements ICsvListWriter {
 		super.incrementRowAndLineNo();
 		super.writeRow(columns);
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public void startRow() {
+		super.incrementRowAndLineNo();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public void writeColumn(final CharSequence column) {
+		super.writeColumn(column);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public void writeColumn(final Object column) {
+		super.writeColumn(column);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public void writeColumn(final long column) {
+		super.writeColumn(column);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public void writeColumn(final double column) {
+		super.writeColumn(column);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public void endRow() throws IOException {
+		super.endRow();
+	}
 }
@@ -37,7 +37,7 @@ public class CsvMapWriter extends AbstractCsvWriter implements ICsvMapWriter {
 	
 	/**
 	 * Constructs a new <tt>CsvMapWriter</tt> with the supplied Writer and CSV preferences. Note that the
-	 * <tt>writer</tt> will be wrapped in a <tt>BufferedWriter</tt> before accessed.
+	 * <tt>writer</tt>'s output will be buffered (and written to it in large blocks).
 	 * 
 	 * @param writer
 	 *            the writer
@@ -60,8 +60,8 @@ public class CsvMapWriter extends AbstractCsvWriter implements ICsvMapWriter {
 	 * @param preference
 	 *            the CSV preferences
 	 * @param bufferizeWriter
-	 *            if {@code true}, the <tt>writer</tt> will be wrapped in
-	 *            a <tt>BufferedWriter</tt> before accessed.
+	 *            if {@code true}, the output to the <tt>writer</tt> will be
+	 *            buffered (and written to it in large blocks).
 	 * @throws NullPointerException
 	 *             if writer or preference are null
 	 * @since 1.0
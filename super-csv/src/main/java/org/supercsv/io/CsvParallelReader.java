@@ -0,0 +1,438 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.CsvContext;
+
+/**
+ * A reader that tokenizes CSV on a single thread, and maps the rows (processing the columns with CellProcessors and
+ * populating beans) on a pool of worker threads. Tokenizing has to be sequential, but mapping is usually the most
+ * expensive part of reading CSV, so this lets large files be read using multiple cores.
+ * <p>
+ * Results are returned by {@link #read()} in the same order as the rows in the file, and each row is mapped with a
+ * CsvContext holding its own line number, row number and source, so errors are reported exactly as they would be by
+ * the other readers. An error while mapping a row is thrown by the <tt>read()</tt> call for that row, and reading can
+ * continue with the next row; an error while tokenizing is thrown once the preceding rows have been returned, and ends
+ * the input. The number of rows that are tokenized but not yet returned is bounded, so a slow consumer doesn't cause
+ * the whole file to be buffered.
+ * <p>
+ * As rows are mapped concurrently, the {@link CsvRowMapper} and any CellProcessors it uses must be thread-safe
+ * ({@link org.supercsv.cellprocessor.ift.Concurrency#of(org.supercsv.cellprocessor.ift.CellProcessor...)} reports
+ * whether processors can be shared). Concurrent processors (such as <tt>ConcurrentUnique</tt>) will see the rows in an
+ * unpredictable order. This class itself is not thread-safe: {@link #read()} should be called by one thread.
+ * 
+ * @param <T>
+ *            the type of the mapped rows
+ * @since 2.4.1
+ */
+public class CsvParallelReader<T> implements Closeable {
+	
+	/** the number of rows that can be waiting to be returned, per worker thread (when the reader owns the threads) */
+	public static final int DEFAULT_PENDING_ROWS_PER_THREAD = 64;
+	
+	private final ITokenizer tokenizer;
+	
+	private final CsvRowMapper<T> mapper;
+	
+	private final ExecutorService executor;
+	
+	private final boolean ownsExecutor;
+	
+	/** the rows that have been tokenized (and submitted for mapping), in order */
+	private final BlockingQueue<PendingRow<T>> pending;
+	
+	/** the number of rows tokenized so far (only used by the tokenizer thread once it has started) */
+	private int rowsRead;
+	
+	private int lineNumber;
+	
+	private int rowNumber;
+	
+	private Thread tokenizerThread;
+	
+	/** whether the tokenizer thread is running (guarded by tokenizerLock) */
+	private boolean tokenizerRunning;
+	
+	/** hands over the closing of the tokenizer between close() and the tokenizer thread */
+	private final Object tokenizerLock = new Object();
+	
+	private boolean finished;
+	
+	private volatile boolean closed;
+	
+	/**
+	 * Constructs a new <tt>CsvParallelReader</tt>, which maps rows using its own pool of worker threads (which is shut
+	 * down when the reader is closed).
+	 * 
+	 * @param reader
+	 *            the reader
+	 * @param preferences
+	 *            the CSV preferences
+	 * @param mapper
+	 *            the (thread-safe) row mapper
+	 * @param threads
+	 *            the number of worker threads
+	 * @throws IllegalArgumentException
+	 *             if threads is not positive
+	 * @throws NullPointerException
+	 *             if reader, preferences or mapper are null
+	 */
+	public CsvParallelReader(final Reader reader, final CsvPreference preferences, final CsvRowMapper<T> mapper,
+		final int threads) {
+		if( reader == null ) {
+			throw new NullPointerException("reader should not be null");
+		} else if( preferences == null ) {
+			throw new NullPointerException("preferences should not be null");
+		} else if( mapper == null ) {
+			throw new NullPointerException("mapper should not be null");
+		} else if( threads <= 0 ) {
+			throw new IllegalArgumentException(String.format("threads should be > 0 but was %d", threads));
+		}
+		this.tokenizer = new Tokenizer(reader, preferences);
+		this.mapper = mapper;
+		this.executor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("super-csv-mapper"));
+		this.ownsExecutor = true;
+		this.pending = new ArrayBlockingQueue<PendingRow<T>>(threads * DEFAULT_PENDING_ROWS_PER_THREAD);
+	}
+	
+	/**
+	 * Constructs a new <tt>CsvParallelReader</tt>, which maps rows using the supplied ExecutorService (which is not shut
+	 * down when the reader is closed).
+	 * 
+	 * @param tokenizer
+	 *            the tokenizer (which should have already been set up with the Reader and CsvPreference)
+	 * @param mapper
+	 *            the (thread-safe) row mapper
+	 * @param executor
+	 *            the executor used to map rows
+	 * @param maxPendingRows
+	 *            the maximum number of rows that can be tokenized but not yet returned by {@link #read()}
+	 * @throws IllegalArgumentException
+	 *             if maxPendingRows is not positive
+	 * @throws NullPointerException
+	 *             if tokenizer, mapper or executor are null
+	 */
+	public CsvParallelReader(final ITokenizer tokenizer, final CsvRowMapper<T> mapper, final ExecutorService executor,
+		final int maxPendingRows) {
+		if( tokenizer == null ) {
+			throw new NullPointerException("tokenizer should not be null");
+		} else if( mapper == null ) {
+			throw new NullPointerException("mapper should not be null");
+		} else if( executor == null ) {
+			throw new NullPointerException("executor should not be null");
+		} else if( maxPendingRows <= 0 ) {
+			throw new IllegalArgumentException(String.format("maxPendingRows should be > 0 but was %d",
+				maxPendingRows));
+		}
+		this.tokenizer = tokenizer;
+		this.mapper = mapper;
+		this.executor = executor;
+		this.ownsExecutor = false;
+		this.pending = new ArrayBlockingQueue<PendingRow<T>>(maxPendingRows);
+	}
+	
+	/**
+	 * Reads the header of the CSV file (without mapping it). This must be called before the first call to
+	 * {@link #read()}.
+	 * 
+	 * @param firstLineCheck
+	 *            flag indicating whether the header should be the first line of the file
+	 * @return the header as an array of Strings, or null if EOF
+	 * @throws IOException
+	 *             if an I/O error occurred
+	 * @throws SuperCsvException
+	 *             if there was a general exception while reading/processing, or rows have already been read
+	 */
+	public String[] getHeader(final boolean firstLineCheck) throws IOException {
+		if( tokenizerThread != null ) {
+			throw new SuperCsvException("CSV header must be read before the first call to read()");
+		} else if( firstLineCheck && tokenizer.getLineNumber() != 0 ) {
+			throw new SuperCsvException(String.format(
+				"CSV header must be fetched as the first read operation, but %d lines have already been read",
+				tokenizer.getLineNumber()));
+		}
+		
+		final List<String> columns = new ArrayList<String>();
+		if( tokenizer.readColumns(columns) ) {
+			rowsRead++;
+			lineNumber = tokenizer.getLineNumber();
+			rowNumber = rowsRead;
+			return columns.toArray(new String[columns.size()]);
+		}
+		return null;
+	}
+	
+	/**
+	 * Reads the next row and returns it once it has been mapped. Rows are read ahead and mapped in the background, so
+	 * this only blocks if the next row hasn't been mapped yet.
+	 * 
+	 * @return the mapped row, or null if EOF
+	 * @throws IOException
+	 *             if an I/O error occurred while tokenizing, or the thread was interrupted while waiting for the row
+	 * @throws SuperCsvException
+	 *             if the row couldn't be tokenized or mapped
+	 */
+	public T read() throws IOException {
+		if( finished || closed ) {
+			return null;
+		}
+		if( tokenizerThread == null ) {
+			tokenizerThread = new DaemonThreadFactory("super-csv-tokenizer").newThread(new TokenizerTask());
+			synchronized( tokenizerLock ) {
+				tokenizerRunning = true;
+			}
+			tokenizerThread.start();
+		}
+		
+		final PendingRow<T> row;
+		try {
+			row = pending.take();
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for the next row");
+		}
+		
+		if( row.result == null ) {
+			finished = true;
+			return null;
+		}
+		if( row.rowNumber >= 0 ) {
+			lineNumber = row.lineNumber;
+			rowNumber = row.rowNumber;
+		}
+		
+		try {
+			return row.result.get();
+		}
+		catch(InterruptedException e) {
+			row.result.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for the next row");
+		}
+		catch(ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if( row.rowNumber < 0 ) {
+				finished = true; // the tokenizer failed, so there are no more rows
+			}
+			if( cause instanceof IOException ) {
+				throw (IOException) cause;
+			} else if( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			} else if( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new SuperCsvException(String.valueOf(cause), null, cause);
+		}
+	}
+	
+	/**
+	 * Gets the line number of the row most recently returned by {@link #read()} (or of the header). Rows can span
+	 * multiple lines, so this is the line on which the row ended.
+	 * 
+	 * @return the line number
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+	
+	/**
+	 * Gets the row number of the row most recently returned by {@link #read()} (or of the header).
+	 * 
+	 * @return the row number
+	 */
+	public int getRowNumber() {
+		return rowNumber;
+	}
+	
+	/**
+	 * Stops reading ahead, discards any rows that haven't been returned, and closes the Tokenizer and its associated
+	 * Reader. The worker threads are shut down if they belong to this reader.
+	 * <p>
+	 * If the tokenizer thread is still running, it closes the Tokenizer itself once it stops, rather than this method
+	 * closing it. Interrupting a thread doesn't unblock a Reader (such as one reading from standard input or a socket),
+	 * and closing it while another thread is blocked reading from it would wait for that read to finish, so this
+	 * method never blocks: the Reader is closed as soon as the pending read returns.
+	 */
+	public void close() throws IOException {
+		closed = true;
+		if( tokenizerThread != null ) {
+			tokenizerThread.interrupt();
+		}
+		PendingRow<T> row;
+		while( (row = pending.poll()) != null ) {
+			if( row.result != null ) {
+				row.result.cancel(true);
+			}
+		}
+		if( ownsExecutor ) {
+			executor.shutdownNow();
+		}
+		synchronized( tokenizerLock ) {
+			if( tokenizerRunning ) {
+				return; // the tokenizer thread will close the tokenizer when it stops
+			}
+		}
+		tokenizer.close();
+	}
+	
+	/**
+	 * Tokenizes rows and submits them for mapping until EOF, an error, or the reader is closed.
+	 */
+	private class TokenizerTask implements Runnable {
+		
+		public void run() {
+			try {
+				tokenize();
+			}
+			finally {
+				synchronized( tokenizerLock ) {
+					tokenizerRunning = false;
+					if( closed ) {
+						closeTokenizer();
+					}
+				}
+			}
+		}
+		
+		private void tokenize() {
+			try {
+				while( !closed ) {
+					final List<String> columns = new ArrayList<String>();
+					if( !tokenizer.readColumns(columns) ) {
+						break;
+					}
+					rowsRead++;
+					
+					final CsvContext context = new CsvContext(tokenizer.getLineNumber(), rowsRead, 1);
+					context.setRowSource(new ArrayList<String>(columns));
+					final Future<T> result = submit(new Callable<T>() {
+						public T call() {
+							return mapper.map(columns, context);
+						}
+					}, context);
+					pending.put(new PendingRow<T>(result, context.getLineNumber(), rowsRead));
+				}
+				pending.put(new PendingRow<T>(null, -1, -1));
+			}
+			catch(InterruptedException e) {
+				// closed
+			}
+			catch(final Throwable t) {
+				if( !closed ) {
+					final FutureTask<T> failure = new FutureTask<T>(new Callable<T>() {
+						public T call() throws Exception {
+							if( t instanceof Error ) {
+								throw (Error) t;
+							}
+							throw (Exception) t;
+						}
+					});
+					failure.run();
+					try {
+						pending.put(new PendingRow<T>(failure, tokenizer.getLineNumber(), -1));
+					}
+					catch(InterruptedException e) {
+						// closed
+					}
+				}
+			}
+		}
+		
+		private void closeTokenizer() {
+			try {
+				tokenizer.close();
+			}
+			catch(IOException e) {
+				// the reader has already been closed, so there's nobody to report this to
+			}
+		}
+		
+		private Future<T> submit(final Callable<T> task, final CsvContext context) {
+			try {
+				return executor.submit(task);
+			}
+			catch(final RejectedExecutionException e) {
+				// report the rejection as the row's result, so the rows before it are still returned
+				final FutureTask<T> failure = new FutureTask<T>(new Callable<T>() {
+					public T call() {
+						throw new SuperCsvException("the row could not be submitted for mapping", context, e);
+					}
+				});
+				failure.run();
+				return failure;
+			}
+		}
+	}
+	
+	/**
+	 * A row that has been submitted for mapping.
+	 */
+	private static final class PendingRow<T> {
+		
+		/** the mapping result (null marks the end of the input) */
+		final Future<T> result;
+		
+		final int lineNumber;
+		
+		/** the row number (-1 if the tokenizer failed) */
+		final int rowNumber;
+		
+		PendingRow(final Future<T> result, final int lineNumber, final int rowNumber) {
+			this.result = result;
+			this.lineNumber = lineNumber;
+			this.rowNumber = rowNumber;
+		}
+	}
+	
+	/**
+	 * Creates daemon threads, so an unclosed reader doesn't stop the JVM from exiting.
+	 */
+	private static final class DaemonThreadFactory implements ThreadFactory {
+		
+		private final String name;
+		
+		DaemonThreadFactory(final String name) {
+			this.name = name;
+		}
+		
+		public Thread newThread(final Runnable runnable) {
+			final Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+	
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.ReadError;
+
+/**
+ * An error sink that writes each rejected row to a CSV file, with the columns <tt>line</tt>, <tt>row</tt>,
+ * <tt>column</tt>, <tt>reason</tt> and <tt>data</tt> (the raw text of the row), so the rejects can be inspected,
+ * fixed and read again. Rows are written as they're rejected, so nothing is kept in memory.
+ * 
+ * @since 2.4.1
+ */
+public class CsvRejectWriter implements CsvErrorSink, Closeable, Flushable {
+	
+	/** the header of a reject file */
+	private static final String[] HEADER = new String[] { "line", "row", "column", "reason", "data" };
+	
+	private final ICsvListWriter listWriter;
+	
+	private int rejected;
+	
+	/**
+	 * Constructs a new <tt>CsvRejectWriter</tt>.
+	 * 
+	 * @param writer
+	 *            the writer
+	 * @param preference
+	 *            the CSV preferences
+	 * @throws NullPointerException
+	 *             if writer or preference are null
+	 */
+	public CsvRejectWriter(final Writer writer, final CsvPreference preference) {
+		this(new CsvListWriter(writer, preference));
+	}
+	
+	/**
+	 * Constructs a new <tt>CsvRejectWriter</tt> that writes to the supplied list writer.
+	 * 
+	 * @param listWriter
+	 *            the list writer
+	 * @throws NullPointerException
+	 *             if listWriter is null
+	 */
+	public CsvRejectWriter(final ICsvListWriter listWriter) {
+		if( listWriter == null ) {
+			throw new NullPointerException("listWriter should not be null");
+		}
+		this.listWriter = listWriter;
+	}
+	
+	/**
+	 * Writes the standard header of a reject file.
+	 * 
+	 * @throws IOException
+	 *             if an I/O error occurred
+	 */
+	public void writeHeader() throws IOException {
+		listWriter.writeHeader(HEADER);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public void reject(final ReadError error) throws IOException {
+		listWriter.write(Integer.toString(error.getLineNumber()), Integer.toString(error.getRowNumber()),
+			Integer.toString(error.getColumnNumber()), error.getMessage(), error.getUntokenizedRow());
+		rejected++;
+	}
+	
+	/**
+	 * Gets the number of rows that have been rejected.
+	 * 
+	 * @return the number of rejected rows
+	 */
+	public int getRejectedCount() {
+		return rejected;
+	}
+	
+	/**
+	 * Flushes the underlying writer.
+	 */
+	public void flush() throws IOException {
+		listWriter.flush();
+	}
+	
+	/**
+	 * Closes the underlying writer.
+	 */
+	public void close() throws IOException {
+		listWriter.close();
+	}
+	
+}
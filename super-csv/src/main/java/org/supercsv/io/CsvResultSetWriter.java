@@ -38,7 +38,7 @@ public class CsvResultSetWriter extends AbstractCsvWriter implements ICsvResultS
 	
 	/**
 	 * Constructs a new {@code CsvResultSetWriter} with the supplied {@code Writer} and CSV preferences. Note that the
-	 * {@code writer} will be wrapped in a {@code BufferedWriter} before accessed.
+	 * {@code writer}'s output will be buffered (and written to it in large blocks).
 	 * 
 	 * @param writer
 	 *            the writer
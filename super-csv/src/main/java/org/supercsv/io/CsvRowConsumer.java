@@ -0,0 +1,41 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives the rows that were read successfully by a streaming read, such as
+ * {@link SimpleCsvListReader#tryReadAll(CsvRowConsumer, CsvErrorSink)}.
+ * 
+ * @param <T>
+ *            the type of the columns
+ * @since 2.4.1
+ */
+public interface CsvRowConsumer<T> {
+	
+	/**
+	 * Consumes a row. The List is reused for the next row, so it must be copied if it's kept.
+	 * 
+	 * @param columns
+	 *            the columns of the row
+	 * @throws IOException
+	 *             if an I/O error occurred (which ends the read)
+	 */
+	void accept(List<T> columns) throws IOException;
+	
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.util.List;
+
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.util.CsvContext;
+
+/**
+ * Converts a tokenized row of CSV into a result object (e.g. a List of processed columns or a bean). Row mappers are
+ * used by {@link CsvParallelReader}, which calls them from multiple threads at the same time, so implementations (and
+ * any CellProcessors they use) must be thread-safe.
+ * 
+ * @param <T>
+ *            the type of the result
+ * @since 2.4.1
+ */
+public interface CsvRowMapper<T> {
+	
+	/**
+	 * Converts a row of CSV.
+	 * 
+	 * @param columns
+	 *            the columns of the row
+	 * @param context
+	 *            the context of the row (its line number, row number and source), which can be updated with the
+	 *            current column number and passed to CellProcessors
+	 * @return the result (must not be null)
+	 * @throws SuperCsvException
+	 *             if the row couldn't be converted
+	 */
+	T map(List<String> columns, CsvContext context);
+	
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.exception.SuperCsvException;
+
+/**
+ * Interface for List readers that can also read a batch of rows at a time. It's a separate interface (rather than part
+ * of {@link ICsvListReader}) so that existing implementations of <tt>ICsvListReader</tt> don't have to implement it.
+ * 
+ * @since 2.4.1
+ */
+public interface ICsvBatchListReader extends ICsvListReader {
+	
+	/**
+	 * Reads up to maxRows rows of a CSV file and processes them column by column: each column's processors are executed
+	 * for every row in the batch before moving on to the next column, which can be faster than
+	 * {@link #read(CellProcessor...)} for files with many columns. Each processor still sees the rows in order, but if
+	 * more than one cell in the batch is invalid, the exception is thrown for the invalid cell in the lowest column
+	 * (rather than the lowest row), and none of the batch's rows are returned.
+	 * 
+	 * @param maxRows
+	 *            the maximum number of rows to read
+	 * @param processors
+	 *            an array of CellProcessors used to further process data before it is added to the List (each element
+	 *            in the processors array corresponds with a CSV column - the number of processors should match the
+	 *            number of columns). A <tt>null</tt> entry indicates no further processing is required (the unprocessed
+	 *            String value will be added to the List).
+	 * @return a List of (up to maxRows) rows, with each a List of columns, or null if EOF
+	 * @throws IllegalArgumentException
+	 *             if maxRows is not positive
+	 * @throws IOException
+	 *             if an I/O error occurred
+	 * @throws NullPointerException
+	 *             if processors is null
+	 * @throws SuperCsvConstraintViolationException
+	 *             if a CellProcessor constraint failed
+	 * @throws SuperCsvException
+	 *             if there was a general exception while reading/processing
+	 * @since 2.4.1
+	 */
+	List<List<Object>> readBatch(int maxRows, CellProcessor... processors) throws IOException;
+	
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.io.IOException;
+
+/**
+ * Interface for writers that write a row column by column, without collecting the columns first. A row is written by
+ * calling {@link #startRow()}, then a <tt>writeColumn</tt> method for each column, then {@link #endRow()}.
+ * 
+ * <pre>
+ * writer.startRow();
+ * writer.writeColumn(person.getName());
+ * writer.writeColumn(person.getAge());
+ * writer.endRow();
+ * </pre>
+ * 
+ * @since 2.4.1
+ */
+public interface ICsvColumnWriter extends ICsvWriter {
+	
+	/**
+	 * Starts a new row, discarding any columns written since the last row was ended (e.g. if writing a column failed).
+	 * 
+	 * @since 2.4.1
+	 */
+	void startRow();
+	
+	/**
+	 * Writes a column of the current row, encoding it if necessary. Columns without special characters are written
+	 * without creating any objects.
+	 * 
+	 * @param column
+	 *            the column to write (null is written as an empty column)
+	 * @since 2.4.1
+	 */
+	void writeColumn(CharSequence column);
+	
+	/**
+	 * Writes a column of any type to the current row. Text is written without creating a String, boxed integers and
+	 * doubles are written without calling <tt>toString()</tt>, and other values are written using their
+	 * <tt>toString()</tt> method.
+	 * 
+	 * @param column
+	 *            the column to write (null is written as an empty column)
+	 * @since 2.4.1
+	 */
+	void writeColumn(Object column);
+	
+	/**
+	 * Writes a long (or int) column of the current row, without boxing it. The column is written the same way as
+	 * <tt>Long.toString()</tt>.
+	 * 
+	 * @param column
+	 *            the column to write
+	 * @since 2.4.1
+	 */
+	void writeColumn(long column);
+	
+	/**
+	 * Writes a double column of the current row, without boxing it. The column is written the same way as
+	 * <tt>Double.toString()</tt>.
+	 * 
+	 * @param column
+	 *            the column to write
+	 * @since 2.4.1
+	 */
+	void writeColumn(double column);
+	
+	/**
+	 * Ends the current row, writing it (and the end of line symbols) to the output.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if no columns were written
+	 * @throws IOException
+	 *             If an I/O error occurs
+	 * @since 2.4.1
+	 */
+	void endRow() throws IOException;
+	
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.util.CsvContext;
+
+/**
+ * A row mapper that processes each column of a row with CellProcessors, returning a List of the processed columns (the
+ * same result as {@link ICsvListReader#read(CellProcessor...)}). The CellProcessors must be thread-safe if the mapper is
+ * used by a {@link CsvParallelReader}.
+ * 
+ * @since 2.4.1
+ */
+public class ListRowMapper extends AbstractCsvProcessor implements CsvRowMapper<List<Object>> {
+	
+	private final CellProcessor[] processors;
+	
+	/**
+	 * Constructs a new <tt>ListRowMapper</tt>.
+	 * 
+	 * @param processors
+	 *            an array of CellProcessors used to process each column (the number of processors should match the
+	 *            number of columns). A <tt>null</tt> entry indicates no further processing is required (the unprocessed
+	 *            String value will be added to the List).
+	 * @throws NullPointerException
+	 *             if processors is null
+	 */
+	public ListRowMapper(final CellProcessor... processors) {
+		if( processors == null ) {
+			throw new NullPointerException("processors should not be null");
+		}
+		this.processors = processors.clone();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws SuperCsvConstraintViolationException
+	 *             if a CellProcessor constraint failed
+	 * @throws SuperCsvException
+	 *             if the wrong number of processors are supplied, or CellProcessor execution failed
+	 */
+	public List<Object> map(final List<String> columns, final CsvContext context) {
+		final List<Object> processedColumns = new ArrayList<Object>(columns.size());
+		executeCellProcessors(processedColumns, columns, processors, context.getLineNumber(), context.getRowNumber());
+		return processedColumns;
+	}
+	
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+import org.supercsv.util.BeanInterfaceProxy;
+
+/**
+ * A bean factory that instantiates classes using their default (no argument) constructor, and creates a proxy for
+ * interfaces. The constructor of each class (and the proxy factory of each interface) is looked up only once, so
+ * creating a bean for every row costs no more than the constructor call itself. This class is thread-safe.
+ * 
+ * @since 2.4.1
+ */
+public class ReflectionBeanFactory implements BeanFactory {
+	
+	// the accessible no-argument constructor of each class
+	private final ConcurrentMap<Class<?>, Constructor<?>> constructors =
+		new ConcurrentHashMap<Class<?>, Constructor<?>>();
+	
+	// the proxy factory of each interface
+	private final ConcurrentMap<Class<?>, BeanInterfaceProxy.ProxyFactory<?>> proxyFactories =
+		new ConcurrentHashMap<Class<?>, BeanInterfaceProxy.ProxyFactory<?>>();
+	
+	/**
+	 * Instantiates the bean (or creates a proxy if it's an interface).
+	 * 
+	 * @param clazz
+	 *            the bean class to instantiate (a proxy will be created if an interface is supplied), using the default
+	 *            (no argument) constructor
+	 * @return the instantiated bean
+	 * @throws NullPointerException
+	 *             if clazz is null
+	 * @throws SuperCsvReflectionException
+	 *             if there was a reflection exception when instantiating the bean
+	 */
+	public <T> T createBean(final Class<T> clazz) {
+		if( clazz == null ) {
+			throw new NullPointerException("clazz should not be null");
+		} else if( clazz.isInterface() ) {
+			return getProxyFactory(clazz).createProxy();
+		}
+		
+		try {
+			return getConstructor(clazz).newInstance(new Object[0]);
+		}
+		catch(InstantiationException e) {
+			throw new SuperCsvReflectionException(String.format(
+				"error instantiating bean, check that %s has a default no-args constructor", clazz.getName()), e);
+		}
+		catch(IllegalAccessException e) {
+			throw new SuperCsvReflectionException("error instantiating bean", e);
+		}
+		catch(InvocationTargetException e) {
+			throw new SuperCsvReflectionException("error instantiating bean", e);
+		}
+	}
+	
+	/**
+	 * Gets the (accessible) no-argument constructor of a class, looking it up the first time the class is used.
+	 * 
+	 * @param clazz
+	 *            the bean class
+	 * @return the constructor
+	 * @throws SuperCsvReflectionException
+	 *             if the class doesn't have a no-argument constructor
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Constructor<T> getConstructor(final Class<T> clazz) {
+		Constructor<T> constructor = (Constructor<T>) constructors.get(clazz);
+		if( constructor == null ) {
+			try {
+				constructor = clazz.getDeclaredConstructor(new Class[0]);
+			}
+			catch(NoSuchMethodException e) {
+				throw new SuperCsvReflectionException(String.format(
+					"error instantiating bean, check that %s has a default no-args constructor", clazz.getName()), e);
+			}
+			constructor.setAccessible(true);
+			constructors.put(clazz, constructor);
+		}
+		return constructor;
+	}
+	
+	/**
+	 * Gets the proxy factory of an interface, looking it up the first time the interface is used.
+	 * 
+	 * @param proxyInterface
+	 *            the bean interface
+	 * @return the proxy factory
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> BeanInterfaceProxy.ProxyFactory<T> getProxyFactory(final Class<T> proxyInterface) {
+		BeanInterfaceProxy.ProxyFactory<T> factory = (BeanInterfaceProxy.ProxyFactory<T>) proxyFactories
+			.get(proxyInterface);
+		if( factory == null ) {
+			factory = BeanInterfaceProxy.getFactory(proxyInterface);
+			proxyFactories.put(proxyInterface, factory);
+		}
+		return factory;
+	}
+	
+}
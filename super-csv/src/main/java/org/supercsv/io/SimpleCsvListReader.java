@@ -3,6 +3,8 @@ package org.supercsv.io;
 import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.exception.SuperCsvException;
 import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.CsvContext;
+import org.supercsv.util.ReadError;
 import org.supercsv.util.TryReadAllResult;
 
 import java.io.IOException;
@@ -12,6 +14,9 @@ import java.util.List;
 
 public class SimpleCsvListReader implements SimpleCsvReader {
     private CsvListReader listReader;
+    private boolean lenient;
+    private ReadError lastError;
+    private boolean readFailed;
 
     public SimpleCsvListReader(Reader reader, CsvPreference prefs) {
         listReader = new CsvListReader(reader, prefs);
@@ -21,11 +26,71 @@ public class SimpleCsvListReader implements SimpleCsvReader {
         listReader = new CsvListReader(tokenizer, prefs);
     }
 
+    /**
+     * Enables or disables lenient mode. In lenient mode, the exceptions for invalid rows are created without a stack
+     * trace, which makes reading input with a lot of invalid rows much faster. The errors are still recorded (see
+     * {@link #getLastError()} and {@link TryReadAllResult#getErrors()}), but their exceptions have an empty stack
+     * trace.
+     * <p>
+     * The number parsing processors (<tt>ParseInt</tt>, <tt>ParseLong</tt>, <tt>ParseDouble</tt> and
+     * <tt>ParseBigDecimal</tt>) reject obviously invalid input (such as text or an empty String) without creating a
+     * <tt>NumberFormatException</tt>, so those errors have no cause. Other exceptions created while processing a row
+     * (such as the <tt>ParseException</tt> of a date that can't be parsed, or a <tt>NumberFormatException</tt> for a
+     * number that's out of range) still have a stack trace, so they aren't any cheaper.
+     *
+     * @param lenient
+     *            whether to use lenient mode
+     * @since 2.4.1
+     */
+    public void setLenient(boolean lenient) {
+        this.lenient = lenient;
+    }
+
+    /**
+     * @return whether lenient mode is enabled
+     * @since 2.4.1
+     */
+    public boolean isLenient() {
+        return lenient;
+    }
+
+    /**
+     * Gets the error for the most recent call to {@link #next()} or <tt>tryRead()</tt> that failed.
+     *
+     * @return the error, or null if nothing has failed
+     * @since 2.4.1
+     */
+    public ReadError getLastError() {
+        return lastError;
+    }
+
+    /**
+     * @return whether the most recent call to {@link #next()} returned false because the row couldn't be read (rather
+     *         than because the end of file was reached)
+     * @since 2.4.1
+     */
+    public boolean isReadFailed() {
+        return readFailed;
+    }
+
+    /**
+     * Reads the next row. If the row can't be tokenized (e.g. a quoted column spans more than the maximum number of
+     * lines), the error is recorded (see {@link #getLastError()}) and false is returned, just like at the end of file;
+     * use {@link #isReadFailed()} to tell the two apart. Reading can continue after a failure, starting with the line
+     * after the ones consumed by the failed row.
+     */
     public boolean next() throws IOException {
+        readFailed = false;
+        boolean stackTraceEnabled = disableStackTraceIfLenient();
         try {
             return listReader.readRow();
         } catch (SuperCsvException ex) {
+            // the failed row wasn't counted by the reader, so it's the one after the current row
+            lastError = toError(ex, listReader.getRowNumber() + 1);
+            readFailed = true;
             return false;
+        } finally {
+            restoreStackTrace(stackTraceEnabled);
         }
     }
 
@@ -34,12 +99,16 @@ public class SimpleCsvListReader implements SimpleCsvReader {
             return false;
         }
         values.clear();
+        boolean stackTraceEnabled = disableStackTraceIfLenient();
         try {
             values.addAll(new ArrayList<String>(listReader.getColumns()));
             return true;
         } catch (SuperCsvException ex) {
-            // ignore all exceptions; just tell user that the read was not successful
+            // don't throw; just record the error and tell user that the read was not successful
+            lastError = toError(ex, listReader.getRowNumber());
             return false;
+        } finally {
+            restoreStackTrace(stackTraceEnabled);
         }
     }
 
@@ -51,48 +120,176 @@ public class SimpleCsvListReader implements SimpleCsvReader {
             return false;
         }
         values.clear();
+        boolean stackTraceEnabled = disableStackTraceIfLenient();
         try {
             values.addAll(listReader.executeProcessors(processors));
             return true;
         } catch (SuperCsvException ex) {
-            // ignore all exceptions; just tell user that the read was not successful
+            // don't throw; just record the error and tell user that the read was not successful
+            lastError = toError(ex, listReader.getRowNumber());
             return false;
+        } finally {
+            restoreStackTrace(stackTraceEnabled);
         }
     }
 
+    /**
+     * Reads all remaining rows, collecting the rows and the errors of the rows that can't be read. Reading stops at a
+     * row that can't be tokenized (e.g. a quoted column that spans more than the maximum number of lines), like it
+     * always has: that row isn't added to the result, but its error is available from {@link #getLastError()} (and
+     * {@link #isReadFailed()} returns true). Use {@link #tryReadAll(CsvRowConsumer, CsvErrorSink)} to reject the row
+     * and carry on reading instead.
+     */
     public TryReadAllResult<String> tryReadAll() throws IOException {
         TryReadAllResult<String> tryReadAllResult = new TryReadAllResult<String>();
+        readAll(tryReadAllResult, tryReadAllResult, false);
+        return tryReadAllResult;
+    }
 
-        List<String> columns = new ArrayList<String>();
+    /**
+     * Reads and processes all remaining rows, collecting the rows and the errors of the rows that can't be read or
+     * processed. Reading stops at a row that can't be tokenized, like {@link #tryReadAll()}; use
+     * {@link #tryReadAll(CsvRowConsumer, CsvErrorSink, CellProcessor...)} to reject the row and carry on reading
+     * instead.
+     */
+    public TryReadAllResult<Object> tryReadAll(CellProcessor... processors) throws IOException {
+        TryReadAllResult<Object> tryReadAllResult = new TryReadAllResult<Object>();
+        readAll(tryReadAllResult, tryReadAllResult, false, processors);
+        return tryReadAllResult;
+    }
 
-        while (next()) {
-            boolean successfullyParsed = tryRead(columns);
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A row that can't be tokenized (e.g. a quoted column that spans more than the maximum number of lines) is
+     * rejected, and reading carries on with the line after the ones it consumed.
+     */
+    public int tryReadAll(CsvRowConsumer<String> consumer, CsvErrorSink errorSink) throws IOException {
+        checkPreconditions(consumer, errorSink);
+        return readAll(consumer, errorSink, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A row that can't be tokenized (e.g. a quoted column that spans more than the maximum number of lines) is
+     * rejected, and reading carries on with the line after the ones it consumed.
+     */
+    public int tryReadAll(CsvRowConsumer<Object> consumer, CsvErrorSink errorSink, CellProcessor... processors)
+            throws IOException {
+        checkPreconditions(consumer, errorSink);
+        if (processors == null) {
+            throw new NullPointerException("processors should not be null");
+        }
+        return readAll(consumer, errorSink, true, processors);
+    }
 
-            if (successfullyParsed) {
-                tryReadAllResult.addValues(new ArrayList<String>(columns));
+    /**
+     * Reads all remaining rows without processing them.
+     *
+     * @param rejectReadFailures
+     *            whether to reject a row that can't be tokenized and carry on reading (rather than stop)
+     * @return the number of rejected rows
+     */
+    private int readAll(CsvRowConsumer<String> consumer, CsvErrorSink errorSink, boolean rejectReadFailures)
+            throws IOException {
+        List<String> columns = new ArrayList<String>();
+        int rejected = 0;
+
+        while (true) {
+            int lineNumber = listReader.getLineNumber();
+            if (next()) {
+                if (tryRead(columns)) {
+                    consumer.accept(columns);
+                } else {
+                    errorSink.reject(lastError);
+                    rejected++;
+                }
+            } else if (readFailed && rejectReadFailures) {
+                errorSink.reject(lastError);
+                rejected++;
+                if (listReader.getLineNumber() == lineNumber) {
+                    // nothing was consumed, so reading again would just fail the same way
+                    break;
+                }
             } else {
-                tryReadAllResult.addFailed(listReader.getUntokenizedRow());
+                break;
             }
         }
 
-        return tryReadAllResult;
+        return rejected;
     }
 
-    public TryReadAllResult<Object> tryReadAll(CellProcessor... processors) throws IOException {
-        TryReadAllResult<Object> tryReadAllResult = new TryReadAllResult<Object>();
-
+    /**
+     * Reads and processes all remaining rows.
+     *
+     * @param rejectReadFailures
+     *            whether to reject a row that can't be tokenized and carry on reading (rather than stop)
+     * @return the number of rejected rows
+     */
+    private int readAll(CsvRowConsumer<Object> consumer, CsvErrorSink errorSink, boolean rejectReadFailures,
+            CellProcessor... processors) throws IOException {
         List<Object> columns = new ArrayList<Object>();
+        int rejected = 0;
 
-        while (next()) {
-            boolean successfullyParsed = tryRead(columns, processors);
-
-            if (successfullyParsed) {
-                tryReadAllResult.addValues(new ArrayList<Object>(columns));
+        while (true) {
+            int lineNumber = listReader.getLineNumber();
+            if (next()) {
+                if (tryRead(columns, processors)) {
+                    consumer.accept(columns);
+                } else {
+                    errorSink.reject(lastError);
+                    rejected++;
+                }
+            } else if (readFailed && rejectReadFailures) {
+                errorSink.reject(lastError);
+                rejected++;
+                if (listReader.getLineNumber() == lineNumber) {
+                    // nothing was consumed, so reading again would just fail the same way
+                    break;
+                }
             } else {
-                tryReadAllResult.addFailed(listReader.getUntokenizedRow());
+                break;
             }
         }
 
-        return tryReadAllResult;
+        return rejected;
+    }
+
+    private static void checkPreconditions(CsvRowConsumer<?> consumer, CsvErrorSink errorSink) {
+        if (consumer == null) {
+            throw new NullPointerException("consumer should not be null");
+        } else if (errorSink == null) {
+            throw new NullPointerException("errorSink should not be null");
+        }
+    }
+
+    /**
+     * Turns off stack traces for the current thread if lenient mode is enabled.
+     *
+     * @return whether stack traces were enabled (to be passed to {@link #restoreStackTrace(boolean)})
+     */
+    private boolean disableStackTraceIfLenient() {
+        return lenient ? SuperCsvException.setStackTraceEnabled(false) : SuperCsvException.isStackTraceEnabled();
+    }
+
+    private void restoreStackTrace(boolean stackTraceEnabled) {
+        if (lenient) {
+            SuperCsvException.setStackTraceEnabled(stackTraceEnabled);
+        }
+    }
+
+    /**
+     * Creates the error for an exception, using the exception's context if it has one (or the reader's line number and
+     * the given row number if it doesn't).
+     */
+    private ReadError toError(SuperCsvException ex, int rowNumber) {
+        CsvContext context = ex.getCsvContext();
+        if (context != null) {
+            return new ReadError(context.getLineNumber(), context.getRowNumber(), context.getColumnNumber(),
+                    listReader.getUntokenizedRow(), ex);
+        }
+        return new ReadError(listReader.getLineNumber(), rowNumber, 0,
+                listReader.getUntokenizedRow(), ex);
     }
 }
@@ -17,4 +17,23 @@ public interface SimpleCsvReader {
     TryReadAllResult<String> tryReadAll() throws IOException;
 
     TryReadAllResult<Object> tryReadAll(final CellProcessor... processors) throws IOException;
+
+    /**
+     * Reads all remaining rows, passing each row to the consumer and each row that can't be read to the error sink.
+     * Nothing is accumulated, so memory use doesn't depend on the size of the file.
+     *
+     * @return the number of rejected rows
+     * @since 2.4.1
+     */
+    int tryReadAll(CsvRowConsumer<String> consumer, CsvErrorSink errorSink) throws IOException;
+
+    /**
+     * Reads and processes all remaining rows, passing each row to the consumer and each row that can't be read or
+     * processed to the error sink. Nothing is accumulated, so memory use doesn't depend on the size of the file.
+     *
+     * @return the number of rejected rows
+     * @since 2.4.1
+     */
+    int tryReadAll(CsvRowConsumer<Object> consumer, CsvErrorSink errorSink, final CellProcessor... processors)
+            throws IOException;
 }
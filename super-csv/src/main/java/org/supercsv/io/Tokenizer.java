@@ -22,6 +22,7 @@ import java.util.List;
 import org.supercsv.comment.CommentMatcher;
 import org.supercsv.exception.SuperCsvException;
 import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.StringPool;
 
 /**
  * Reads the CSV file, line by line. If you want the line-reading functionality of this class, but want to define your
@@ -59,6 +60,9 @@ public class Tokenizer extends AbstractTokenizer {
 
 	private final char quoteEscapeChar;
 	
+	/** the pool of column values (null if Strings aren't pooled) */
+	private final StringPool stringPool;
+	
 	/**
 	 * Enumeration of tokenizer states. QUOTE_MODE is activated between quotes.
 	 */
@@ -86,6 +90,8 @@ public class Tokenizer extends AbstractTokenizer {
 		this.maxLinesPerRow = preferences.getMaxLinesPerRow();
 		this.emptyColumnParsing = preferences.getEmptyColumnParsing();
 		this.quoteEscapeChar = preferences.getQuoteEscapeChar();
+		this.stringPool = preferences.getStringPoolSize() > 0 ? new StringPool(preferences.getStringPoolSize(),
+			preferences.getStringPoolColumns()) : null;
 	}
 	
 	/**
@@ -322,7 +328,8 @@ public class Tokenizer extends AbstractTokenizer {
 	private void addColumn(final List<String> columns, String line, int charIndex) {
 		
 		if(currentColumn.length() > 0){
-			columns.add(currentColumn.toString());
+			columns.add(stringPool == null ? currentColumn.toString() : stringPool.get(columns.size() + 1,
+				currentColumn));
 		}
 		else{
 			int previousCharIndex = charIndex - 1;
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+import org.supercsv.cellprocessor.ift.CellProcessor;
+
+/**
+ * A fixed-size batch of rows, stored column by column in {@link ColumnVector}s. A batch is filled by
+ * {@link ICsvColumnarReader#readBatch(ColumnBatch, CellProcessor...)} and is reused for every batch read, so the
+ * arrays returned by its vectors are only valid until the next batch is read.
+ * 
+ * @since 2.4.1
+ */
+public class ColumnBatch {
+	
+	private final ColumnVector[] columns;
+	
+	private final int capacity;
+	
+	private int rowCount;
+	
+	/**
+	 * Constructs a new <tt>ColumnBatch</tt> with the supplied column types.
+	 * 
+	 * @param capacity
+	 *            the maximum number of rows in a batch
+	 * @param types
+	 *            the type of each column
+	 * @throws IllegalArgumentException
+	 *             if capacity is not positive
+	 * @throws NullPointerException
+	 *             if types (or any of its elements) is null
+	 */
+	public ColumnBatch(final int capacity, final ColumnType... types) {
+		if( capacity <= 0 ) {
+			throw new IllegalArgumentException(String.format("capacity should be > 0 but was %d", capacity));
+		} else if( types == null ) {
+			throw new NullPointerException("types should not be null");
+		}
+		this.capacity = capacity;
+		this.columns = new ColumnVector[types.length];
+		for( int i = 0; i < types.length; i++ ) {
+			if( types[i] == null ) {
+				throw new NullPointerException(String.format("the type of column %d should not be null", i + 1));
+			}
+			columns[i] = types[i].newVector(capacity);
+		}
+	}
+	
+	/**
+	 * Creates a new <tt>ColumnBatch</tt> whose column types are determined by the processors that will be used to read
+	 * it (see {@link ColumnType#of(CellProcessor)}).
+	 * 
+	 * @param capacity
+	 *            the maximum number of rows in a batch
+	 * @param processors
+	 *            the processor chain of each column (a null element indicates a column of unprocessed Strings)
+	 * @return the batch
+	 * @throws IllegalArgumentException
+	 *             if capacity is not positive
+	 * @throws NullPointerException
+	 *             if processors is null
+	 */
+	public static ColumnBatch forProcessors(final int capacity, final CellProcessor... processors) {
+		if( processors == null ) {
+			throw new NullPointerException("processors should not be null");
+		}
+		final ColumnType[] types = new ColumnType[processors.length];
+		for( int i = 0; i < processors.length; i++ ) {
+			types[i] = ColumnType.of(processors[i]);
+		}
+		return new ColumnBatch(capacity, types);
+	}
+	
+	/**
+	 * Returns the maximum number of rows in a batch.
+	 * 
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * Returns the number of rows in the current batch.
+	 * 
+	 * @return the number of rows
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+	
+	/**
+	 * Returns the number of columns.
+	 * 
+	 * @return the number of columns
+	 */
+	public int getColumnCount() {
+		return columns.length;
+	}
+	
+	/**
+	 * Returns a column.
+	 * 
+	 * @param index
+	 *            the (0-based) column index
+	 * @return the column
+	 * @throws IndexOutOfBoundsException
+	 *             if index isn't a valid column index
+	 */
+	public ColumnVector getColumn(final int index) {
+		return columns[index];
+	}
+	
+	/**
+	 * Returns an INT column.
+	 * 
+	 * @param index
+	 *            the (0-based) column index
+	 * @return the column
+	 * @throws ClassCastException
+	 *             if the column isn't an INT column
+	 */
+	public IntColumnVector getIntColumn(final int index) {
+		return (IntColumnVector) columns[index];
+	}
+	
+	/**
+	 * Returns a LONG column.
+	 * 
+	 * @param index
+	 *            the (0-based) column index
+	 * @return the column
+	 * @throws ClassCastException
+	 *             if the column isn't a LONG column
+	 */
+	public LongColumnVector getLongColumn(final int index) {
+		return (LongColumnVector) columns[index];
+	}
+	
+	/**
+	 * Returns a DOUBLE column.
+	 * 
+	 * @param index
+	 *            the (0-based) column index
+	 * @return the column
+	 * @throws ClassCastException
+	 *             if the column isn't a DOUBLE column
+	 */
+	public DoubleColumnVector getDoubleColumn(final int index) {
+		return (DoubleColumnVector) columns[index];
+	}
+	
+	/**
+	 * Returns a STRING column.
+	 * 
+	 * @param index
+	 *            the (0-based) column index
+	 * @return the column
+	 * @throws ClassCastException
+	 *             if the column isn't a STRING column
+	 */
+	public StringColumnVector getStringColumn(final int index) {
+		return (StringColumnVector) columns[index];
+	}
+	
+	/**
+	 * Returns a DICTIONARY column.
+	 * 
+	 * @param index
+	 *            the (0-based) column index
+	 * @return the column
+	 * @throws ClassCastException
+	 *             if the column isn't a DICTIONARY column
+	 */
+	public DictionaryColumnVector getDictionaryColumn(final int index) {
+		return (DictionaryColumnVector) columns[index];
+	}
+	
+	/**
+	 * Returns an OBJECT column.
+	 * 
+	 * @param index
+	 *            the (0-based) column index
+	 * @return the column
+	 * @throws ClassCastException
+	 *             if the column isn't an OBJECT column
+	 */
+	public ObjectColumnVector getObjectColumn(final int index) {
+		return (ObjectColumnVector) columns[index];
+	}
+	
+	/**
+	 * Clears the batch before the next batch is read.
+	 */
+	void reset() {
+		rowCount = 0;
+		for( final ColumnVector column : columns ) {
+			column.reset();
+		}
+	}
+	
+	/**
+	 * Sets the number of rows in the current batch, once their values have been stored in the vectors.
+	 * 
+	 * @param rowCount
+	 *            the number of rows
+	 */
+	void setRowCount(final int rowCount) {
+		this.rowCount = rowCount;
+	}
+	
+}
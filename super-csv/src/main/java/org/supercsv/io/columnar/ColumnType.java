@@ -0,0 +1,107 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+import org.supercsv.cellprocessor.CellProcessorAdaptor;
+import org.supercsv.cellprocessor.ParseDouble;
+import org.supercsv.cellprocessor.ParseInt;
+import org.supercsv.cellprocessor.ParseLong;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+
+/**
+ * The storage types of the columns in a {@link ColumnBatch}.
+ * 
+ * @since 2.4.1
+ */
+public enum ColumnType {
+	
+	/** <tt>int</tt> values (Integers), stored in an {@link IntColumnVector} */
+	INT,
+	
+	/** <tt>long</tt> values (Longs), stored in a {@link LongColumnVector} */
+	LONG,
+	
+	/** <tt>double</tt> values (Doubles), stored in a {@link DoubleColumnVector} */
+	DOUBLE,
+	
+	/** Strings, stored as the offsets of their characters in a single char array in a {@link StringColumnVector} */
+	STRING,
+	
+	/** low-cardinality Strings, stored as codes into a dictionary of distinct values in a {@link DictionaryColumnVector} */
+	DICTIONARY,
+	
+	/** any other values, stored in an {@link ObjectColumnVector} */
+	OBJECT;
+	
+	/**
+	 * Determines the type of a column from its processor chain. The type is decided by the last processor in the chain
+	 * (the one that returns the column's value): if it's a <tt>ParseInt</tt>, <tt>ParseLong</tt> or
+	 * <tt>ParseDouble</tt> the column is an INT, LONG or DOUBLE column (so <tt>new Optional(new ParseInt())</tt> is an
+	 * INT column), but if any other processor follows the parser (e.g.
+	 * <tt>new ParseDouble(new FmtNumber("0.00"))</tt>, which returns a String) it's an OBJECT column. A column without
+	 * processors is a STRING column, and any other chain is an OBJECT column.
+	 * 
+	 * @param processor
+	 *            the processor chain (may be null)
+	 * @return the column type
+	 */
+	public static ColumnType of(final CellProcessor processor) {
+		if( processor == null ) {
+			return STRING;
+		}
+		CellProcessor last = processor;
+		while( last instanceof CellProcessorAdaptor ) {
+			final CellProcessor next = ((CellProcessorAdaptor) last).getNext();
+			if( !(next instanceof CellProcessorAdaptor) ) {
+				break; // the end of the chain
+			}
+			last = next;
+		}
+		if( last instanceof ParseInt ) {
+			return INT;
+		} else if( last instanceof ParseLong ) {
+			return LONG;
+		} else if( last instanceof ParseDouble ) {
+			return DOUBLE;
+		}
+		return OBJECT;
+	}
+	
+	/**
+	 * Creates an empty vector for this type.
+	 * 
+	 * @param capacity
+	 *            the maximum number of rows
+	 * @return the vector
+	 */
+	ColumnVector newVector(final int capacity) {
+		switch( this ) {
+			case INT:
+				return new IntColumnVector(capacity);
+			case LONG:
+				return new LongColumnVector(capacity);
+			case DOUBLE:
+				return new DoubleColumnVector(capacity);
+			case STRING:
+				return new StringColumnVector(capacity);
+			case DICTIONARY:
+				return new DictionaryColumnVector(capacity);
+			default:
+				return new ObjectColumnVector(capacity);
+		}
+	}
+	
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+import java.util.Arrays;
+
+/**
+ * The values of a single column of a {@link ColumnBatch}. Each row's value is either stored in the type-specific
+ * storage of the subclass, or marked as <tt>null</tt> in the null bitmap.
+ * 
+ * @since 2.4.1
+ */
+public abstract class ColumnVector {
+	
+	private final int capacity;
+	
+	/** a bit per row, set if the row is null */
+	private final long[] nulls;
+	
+	private boolean hasNulls;
+	
+	/**
+	 * Constructs a new <tt>ColumnVector</tt>.
+	 * 
+	 * @param capacity
+	 *            the maximum number of rows
+	 */
+	ColumnVector(final int capacity) {
+		this.capacity = capacity;
+		this.nulls = new long[(capacity + 63) >>> 6];
+	}
+	
+	/**
+	 * Returns the type of the column.
+	 * 
+	 * @return the column type
+	 */
+	public abstract ColumnType getType();
+	
+	/**
+	 * Returns the maximum number of rows the vector can hold.
+	 * 
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * Returns whether the value of a row is null.
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 * @return true if the value is null
+	 */
+	public boolean isNull(final int row) {
+		return (nulls[row >>> 6] & (1L << row)) != 0;
+	}
+	
+	/**
+	 * Returns whether any row in the batch is null (if not, the null bitmap doesn't need to be checked).
+	 * 
+	 * @return true if any value is null
+	 */
+	public boolean hasNulls() {
+		return hasNulls;
+	}
+	
+	/**
+	 * Returns the null bitmap: bit <tt>(row % 64)</tt> of element <tt>(row / 64)</tt> is set if the row is null. The
+	 * array is reused by subsequent batches.
+	 * 
+	 * @return the null bitmap
+	 */
+	public long[] getNulls() {
+		return nulls;
+	}
+	
+	/**
+	 * Returns the value of a row as an Object (boxing primitive values).
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 * @return the value, or null if the row is null
+	 */
+	public abstract Object getObject(int row);
+	
+	/**
+	 * Stores the (processed) value of a row.
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 * @param value
+	 *            the value
+	 * @throws ClassCastException
+	 *             if the value isn't of the column's type
+	 */
+	void set(final int row, final Object value) {
+		if( value == null ) {
+			nulls[row >>> 6] |= 1L << row;
+			hasNulls = true;
+			setNull(row);
+		} else {
+			nulls[row >>> 6] &= ~(1L << row);
+			setValue(row, value);
+		}
+	}
+	
+	/**
+	 * Stores a non-null value.
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 * @param value
+	 *            the value
+	 * @throws ClassCastException
+	 *             if the value isn't of the column's type
+	 */
+	abstract void setValue(int row, Object value);
+	
+	/**
+	 * Updates the type-specific storage for a null value.
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 */
+	abstract void setNull(int row);
+	
+	/**
+	 * Clears the vector before the next batch is read.
+	 */
+	void reset() {
+		if( hasNulls ) {
+			Arrays.fill(nulls, 0L);
+			hasNulls = false;
+		}
+	}
+	
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.io.AbstractCsvReader;
+import org.supercsv.io.ITokenizer;
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.CsvContext;
+
+/**
+ * CsvColumnarReader reads CSV into fixed-size {@link ColumnBatch}es, storing each column in a primitive array (for INT,
+ * LONG and DOUBLE columns, with a bitmap of null values), a single char array (for STRING columns) or a dictionary (for
+ * DICTIONARY columns), rather than creating a <tt>List</tt> for each row. This is useful when the data is going to be
+ * analysed column by column anyway.
+ * <p>
+ * Each batch is tokenized first and then processed column by column (each column's processors are executed for every
+ * row in the batch before moving on to the next column). If more than one cell in a batch is invalid, the exception is
+ * therefore thrown for the invalid cell in the lowest column, rather than the lowest row. Each processed value is
+ * stored straight into its column's vector, so no List of processed values is created for a row (although processors
+ * return Objects, so a parsed number is still boxed by its processor before it's stored in a primitive array).
+ * <p>
+ * For example, to read a file of ids, names and prices:
+ * 
+ * <pre>
+ * CellProcessor[] processors = { new ParseInt(), null, new Optional(new ParseDouble()) };
+ * ColumnBatch batch = ColumnBatch.forProcessors(4096, processors);
+ * while( reader.readBatch(batch, processors) &gt; 0 ) {
+ * 	int[] ids = batch.getIntColumn(0).getValues();
+ * 	...
+ * }
+ * </pre>
+ * 
+ * @since 2.4.1
+ */
+public class CsvColumnarReader extends AbstractCsvReader implements ICsvColumnarReader {
+	
+	/** the unprocessed columns of each row in the current batch */
+	private final List<List<String>> rows = new ArrayList<List<String>>();
+	
+	private int[] lineNos = new int[0];
+	
+	private int[] rowNos = new int[0];
+	
+	/**
+	 * Constructs a new <tt>CsvColumnarReader</tt> with the supplied Reader and CSV preferences. Note that the
+	 * <tt>reader</tt> will be wrapped in a <tt>BufferedReader</tt> before accessed.
+	 * 
+	 * @param reader
+	 *            the reader
+	 * @param preferences
+	 *            the CSV preferences
+	 * @throws NullPointerException
+	 *             if reader or preferences are null
+	 */
+	public CsvColumnarReader(final Reader reader, final CsvPreference preferences) {
+		super(reader, preferences);
+	}
+	
+	/**
+	 * Constructs a new <tt>CsvColumnarReader</tt> with the supplied (custom) Tokenizer and CSV preferences. The
+	 * tokenizer should be set up with the Reader (CSV input) and CsvPreference beforehand.
+	 * 
+	 * @param tokenizer
+	 *            the tokenizer
+	 * @param preferences
+	 *            the CSV preferences
+	 * @throws NullPointerException
+	 *             if tokenizer or preferences are null
+	 */
+	public CsvColumnarReader(final ITokenizer tokenizer, final CsvPreference preferences) {
+		super(tokenizer, preferences);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public int readBatch(final ColumnBatch batch, final CellProcessor... processors) throws IOException {
+		if( batch == null ) {
+			throw new NullPointerException("batch should not be null");
+		} else if( processors == null ) {
+			throw new NullPointerException("processors should not be null");
+		} else if( processors.length != batch.getColumnCount() ) {
+			throw new IllegalArgumentException(String.format(
+				"the number of processors (%d) must match the number of columns in the batch (%d)", processors.length,
+				batch.getColumnCount()));
+		}
+		
+		batch.reset();
+		final int capacity = batch.getCapacity();
+		if( lineNos.length < capacity ) {
+			lineNos = new int[capacity];
+			rowNos = new int[capacity];
+		}
+		final int rowCount = readRows(rows, lineNos, rowNos, capacity);
+		if( rowCount == 0 ) {
+			return 0; // EOF
+		}
+		
+		// the context used when cell processors report exceptions (updated for each cell)
+		final CsvContext context = new CsvContext(0, 0, 1);
+		for( int row = 0; row < rowCount; row++ ) {
+			if( rows.get(row).size() != processors.length ) {
+				context.setLineNumber(lineNos[row]);
+				context.setRowNumber(rowNos[row]);
+				context.setRowSource(new ArrayList<Object>(rows.get(row)));
+				throw columnCountMismatch(rows.get(row).size(), processors.length, context);
+			}
+		}
+		
+		// process the batch column by column, storing each value straight into its column's vector
+		for( int i = 0; i < processors.length; i++ ) {
+			final CellProcessor processor = processors[i];
+			final ColumnVector column = batch.getColumn(i);
+			for( int row = 0; row < rowCount; row++ ) {
+				final List<String> source = rows.get(row);
+				context.setLineNumber(lineNos[row]);
+				context.setRowNumber(rowNos[row]);
+				context.setColumnNumber(i + 1);
+				context.setRowSource(source);
+				final Object value = processor == null ? source.get(i) : processor.execute(source.get(i), context);
+				try {
+					column.set(row, value);
+				}
+				catch(ClassCastException e) {
+					context.setRowSource(new ArrayList<Object>(source));
+					throw new SuperCsvException(String.format(
+						"the value '%s' (of type %s) can't be stored in a column of type %s", value, value.getClass()
+							.getName(), column.getType()), context);
+				}
+			}
+		}
+		batch.setRowCount(rowCount);
+		return batch.getRowCount();
+	}
+	
+}
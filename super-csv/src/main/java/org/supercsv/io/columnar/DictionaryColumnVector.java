@@ -0,0 +1,133 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A column of low-cardinality Strings, stored as an <tt>int</tt> code per row that indexes a dictionary of the distinct
+ * values. The dictionary is kept for the life of the vector, so a value has the same code in every batch. Null rows
+ * have the code -1.
+ * 
+ * @since 2.4.1
+ */
+public class DictionaryColumnVector extends ColumnVector {
+	
+	/** the code of a null row */
+	public static final int NULL_CODE = -1;
+	
+	private final int[] codes;
+	
+	private final List<String> dictionary = new ArrayList<String>();
+	
+	private final Map<String, Integer> codesByValue = new HashMap<String, Integer>();
+	
+	/**
+	 * Constructs a new <tt>DictionaryColumnVector</tt>.
+	 * 
+	 * @param capacity
+	 *            the maximum number of rows
+	 */
+	DictionaryColumnVector(final int capacity) {
+		super(capacity);
+		this.codes = new int[capacity];
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ColumnType getType() {
+		return ColumnType.DICTIONARY;
+	}
+	
+	/**
+	 * Returns the value of a row.
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 * @return the value, or null if the row is null
+	 */
+	public String get(final int row) {
+		final int code = codes[row];
+		return code == NULL_CODE ? null : dictionary.get(code);
+	}
+	
+	/**
+	 * Returns the code of a row.
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 * @return the code (an index into the dictionary), or {@link #NULL_CODE} if the row is null
+	 */
+	public int getCode(final int row) {
+		return codes[row];
+	}
+	
+	/**
+	 * Returns the codes of the batch. The array is reused by subsequent batches.
+	 * 
+	 * @return the codes
+	 */
+	public int[] getCodes() {
+		return codes;
+	}
+	
+	/**
+	 * Returns the distinct values read so far, indexed by their codes.
+	 * 
+	 * @return an unmodifiable view of the dictionary
+	 */
+	public List<String> getDictionary() {
+		return Collections.unmodifiableList(dictionary);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getObject(final int row) {
+		return get(row);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void setValue(final int row, final Object value) {
+		final String string = ((CharSequence) value).toString();
+		Integer code = codesByValue.get(string);
+		if( code == null ) {
+			code = Integer.valueOf(dictionary.size());
+			dictionary.add(string);
+			codesByValue.put(string, code);
+		}
+		codes[row] = code.intValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void setNull(final int row) {
+		codes[row] = NULL_CODE;
+	}
+	
+}
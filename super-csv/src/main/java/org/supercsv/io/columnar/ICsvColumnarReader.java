@@ -0,0 +1,58 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+import java.io.IOException;
+
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.io.ICsvReader;
+
+/**
+ * Interface for readers that read CSV into columnar batches.
+ * 
+ * @since 2.4.1
+ */
+public interface ICsvColumnarReader extends ICsvReader {
+	
+	/**
+	 * Reads up to <tt>batch.getCapacity()</tt> rows into the batch (replacing its previous contents), processing each
+	 * column with its processor chain and storing the result in the column's vector.
+	 * 
+	 * @param batch
+	 *            the batch to fill
+	 * @param processors
+	 *            an array of CellProcessors used to further process data before it is stored in the batch (each
+	 *            element in the processors array corresponds with a CSV column - the number of processors should match
+	 *            the number of columns). A <tt>null</tt> entry indicates no further processing is required (the
+	 *            unprocessed String value will be stored).
+	 * @return the number of rows read (0 if the end of file has been reached)
+	 * @throws IllegalArgumentException
+	 *             if the number of processors doesn't match the number of columns in the batch
+	 * @throws IOException
+	 *             if an I/O error occurred
+	 * @throws NullPointerException
+	 *             if batch or processors is null
+	 * @throws SuperCsvConstraintViolationException
+	 *             if a CellProcessor constraint failed
+	 * @throws SuperCsvException
+	 *             if there was a general exception while reading/processing, or a processed value can't be stored
+	 *             in its column's vector
+	 */
+	int readBatch(ColumnBatch batch, CellProcessor... processors) throws IOException;
+	
+}
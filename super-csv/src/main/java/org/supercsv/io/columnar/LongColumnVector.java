@@ -0,0 +1,90 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+/**
+ * A column of <tt>long</tt> values (read using a processor chain that returns Longs).
+ * 
+ * @since 2.4.1
+ */
+public class LongColumnVector extends ColumnVector {
+	
+	private final long[] values;
+	
+	/**
+	 * Constructs a new <tt>LongColumnVector</tt>.
+	 * 
+	 * @param capacity
+	 *            the maximum number of rows
+	 */
+	LongColumnVector(final int capacity) {
+		super(capacity);
+		this.values = new long[capacity];
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ColumnType getType() {
+		return ColumnType.LONG;
+	}
+	
+	/**
+	 * Returns the value of a row.
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 * @return the value (0L if the row is null)
+	 */
+	public long get(final int row) {
+		return values[row];
+	}
+	
+	/**
+	 * Returns the values of the batch (null rows hold 0L). The array is reused by subsequent batches.
+	 * 
+	 * @return the values
+	 */
+	public long[] getValues() {
+		return values;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getObject(final int row) {
+		return isNull(row) ? null : Long.valueOf(values[row]);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void setValue(final int row, final Object value) {
+		values[row] = ((Long) value).longValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void setNull(final int row) {
+		values[row] = 0L;
+	}
+	
+}
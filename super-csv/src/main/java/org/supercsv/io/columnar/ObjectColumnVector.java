@@ -0,0 +1,91 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+import java.util.Arrays;
+
+/**
+ * A column of arbitrary values (e.g. the Dates or BigDecimals returned by <tt>ParseDate</tt> or
+ * <tt>ParseBigDecimal</tt>).
+ * 
+ * @since 2.4.1
+ */
+public class ObjectColumnVector extends ColumnVector {
+	
+	private final Object[] values;
+	
+	/**
+	 * Constructs a new <tt>ObjectColumnVector</tt>.
+	 * 
+	 * @param capacity
+	 *            the maximum number of rows
+	 */
+	ObjectColumnVector(final int capacity) {
+		super(capacity);
+		this.values = new Object[capacity];
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ColumnType getType() {
+		return ColumnType.OBJECT;
+	}
+	
+	/**
+	 * Returns the values of the batch. The array is reused by subsequent batches.
+	 * 
+	 * @return the values
+	 */
+	public Object[] getValues() {
+		return values;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getObject(final int row) {
+		return values[row];
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void setValue(final int row, final Object value) {
+		values[row] = value;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void setNull(final int row) {
+		values[row] = null;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void reset() {
+		super.reset();
+		Arrays.fill(values, null); // don't hold on to the previous batch's values
+	}
+	
+}
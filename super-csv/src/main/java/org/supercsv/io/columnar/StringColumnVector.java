@@ -0,0 +1,134 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+/**
+ * A column of Strings, stored without a String object per row: the characters of all rows are appended to a single
+ * char array, and row <tt>n</tt> occupies <tt>data[offsets[n]]</tt> up to (but not including)
+ * <tt>data[offsets[n + 1]]</tt>. Null rows have a length of 0 (and are marked in the null bitmap).
+ * 
+ * @since 2.4.1
+ */
+public class StringColumnVector extends ColumnVector {
+	
+	private static final int INITIAL_CHARS_PER_ROW = 16;
+	
+	private final int[] offsets;
+	
+	private char[] data;
+	
+	/**
+	 * Constructs a new <tt>StringColumnVector</tt>.
+	 * 
+	 * @param capacity
+	 *            the maximum number of rows
+	 */
+	StringColumnVector(final int capacity) {
+		super(capacity);
+		this.offsets = new int[capacity + 1];
+		this.data = new char[Math.max(capacity, 1) * INITIAL_CHARS_PER_ROW];
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ColumnType getType() {
+		return ColumnType.STRING;
+	}
+	
+	/**
+	 * Returns the value of a row as a (new) String.
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 * @return the value, or null if the row is null
+	 */
+	public String get(final int row) {
+		return isNull(row) ? null : new String(data, offsets[row], offsets[row + 1] - offsets[row]);
+	}
+	
+	/**
+	 * Returns the length of a row's value.
+	 * 
+	 * @param row
+	 *            the (0-based) row index within the batch
+	 * @return the length (0 if the row is null)
+	 */
+	public int getLength(final int row) {
+		return offsets[row + 1] - offsets[row];
+	}
+	
+	/**
+	 * Returns the characters of all rows in the batch. The array is reused (and may be replaced by a larger one) by
+	 * subsequent batches.
+	 * 
+	 * @return the characters
+	 */
+	public char[] getData() {
+		return data;
+	}
+	
+	/**
+	 * Returns the offsets of each row's characters in the data array (the array has <tt>capacity + 1</tt> elements).
+	 * The array is reused by subsequent batches.
+	 * 
+	 * @return the offsets
+	 */
+	public int[] getOffsets() {
+		return offsets;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getObject(final int row) {
+		return get(row);
+	}
+	
+	/**
+	 * {@inheritDoc} Rows must be set in order.
+	 */
+	@Override
+	void setValue(final int row, final Object value) {
+		final CharSequence chars = (CharSequence) value;
+		final int start = offsets[row];
+		final int length = chars.length();
+		if( start + length > data.length ) {
+			final char[] grown = new char[Math.max(data.length * 2, start + length)];
+			System.arraycopy(data, 0, grown, 0, start);
+			data = grown;
+		}
+		if( chars instanceof String ) {
+			((String) chars).getChars(0, length, data, start);
+		} else {
+			for( int i = 0; i < length; i++ ) {
+				data[start + i] = chars.charAt(i);
+			}
+		}
+		offsets[row + 1] = start + length;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	void setNull(final int row) {
+		offsets[row + 1] = offsets[row];
+	}
+	
+}
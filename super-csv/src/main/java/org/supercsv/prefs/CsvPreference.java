@@ -95,6 +95,7 @@ import org.supercsv.quote.QuoteMode;
  * CommentMatches}, or supply your own.</li>
  * <li>ignoring empty lines (enabled by default)</li>
  * <li>setting the maximum number of lines a row of CSV can span (useful for debugging files with mismatched quotes)</li>
+ * <li>pooling the Strings read from low-cardinality columns, so that repeated values share a single instance</li>
  * </ul>
  * 
  * @author Kasper B. Graversen
@@ -145,6 +146,10 @@ public final class CsvPreference {
 
 	private final char quoteEscapeChar;
 	
+	private final int stringPoolSize;
+	
+	private final int[] stringPoolColumns;
+	
 	/**
 	 * Constructs a new <tt>CsvPreference</tt> from a Builder.
 	 */
@@ -160,6 +165,8 @@ public final class CsvPreference {
 		this.maxLinesPerRow = builder.maxLinesPerRow;
 		this.emptyColumnParsing = builder.emptyColumnParsing;
 		this.quoteEscapeChar = builder.quoteEscapeChar;
+		this.stringPoolSize = builder.stringPoolSize;
+		this.stringPoolColumns = builder.stringPoolColumns;
 	}
 	
 	/**
@@ -262,6 +269,24 @@ public final class CsvPreference {
 	public char getQuoteEscapeChar() {
 		return quoteEscapeChar;
 	}
+	
+	/**
+	 * Returns the maximum number of Strings to pool for each column when reading (0 if pooling is disabled).
+	 * 
+	 * @return the maximum number of Strings to pool for each column
+	 */
+	public int getStringPoolSize() {
+		return stringPoolSize;
+	}
+	
+	/**
+	 * Returns the (1-based) column numbers whose Strings are pooled when reading (empty if all columns are pooled).
+	 * 
+	 * @return the pooled column numbers
+	 */
+	public int[] getStringPoolColumns() {
+		return stringPoolColumns.clone();
+	}
 
 	/**
 	 * Builds immutable <tt>CsvPreference</tt> instances. The builder pattern allows for additional preferences to be
@@ -291,6 +316,10 @@ public final class CsvPreference {
 
 		private char quoteEscapeChar;
 		
+		private int stringPoolSize = 0;
+		
+		private int[] stringPoolColumns = new int[0];
+		
 		/**
 		 * Constructs a Builder with all of the values from an existing <tt>CsvPreference</tt> instance. Useful if you
 		 * want to base your preferences off one of the existing CsvPreference constants.
@@ -310,6 +339,8 @@ public final class CsvPreference {
 			this.maxLinesPerRow = preference.maxLinesPerRow;
 			this.emptyColumnParsing = preference.emptyColumnParsing;
 			this.quoteEscapeChar = preference.quoteEscapeChar;
+			this.stringPoolSize = preference.stringPoolSize;
+			this.stringPoolColumns = preference.stringPoolColumns;
 		}
 		
 		/**
@@ -479,6 +510,41 @@ public final class CsvPreference {
 			return this;
 		}
 		
+		/**
+		 * Pools the Strings read from each column (only applicable when reading CSV), so that repeated values share a
+		 * single String instance instead of one per row - this greatly reduces the memory used by low-cardinality
+		 * columns (status codes, countries, currencies...) when many rows are kept in memory. Each reader has its own
+		 * {@link org.supercsv.util.StringPool}, which holds at most maxSizePerColumn values per column. By default
+		 * Strings aren't pooled.
+		 * 
+		 * @since 2.4.1
+		 * @param maxSizePerColumn
+		 *            the maximum number of Strings to pool for each column (0 disables pooling)
+		 * @param columns
+		 *            the (1-based) column numbers to pool - if none are supplied, all columns are pooled
+		 * @return the updated Builder
+		 * @throws IllegalArgumentException
+		 *             if maxSizePerColumn is negative, or a column number is less than 1
+		 * @throws NullPointerException
+		 *             if columns is null
+		 */
+		public Builder useStringPool(final int maxSizePerColumn, final int... columns) {
+			if( maxSizePerColumn < 0 ) {
+				throw new IllegalArgumentException(String.format("maxSizePerColumn should be >= 0 but was %d",
+					maxSizePerColumn));
+			} else if( columns == null ) {
+				throw new NullPointerException("columns should not be null");
+			}
+			for( final int column : columns ) {
+				if( column < 1 ) {
+					throw new IllegalArgumentException(String.format("column should be >= 1 but was %d", column));
+				}
+			}
+			this.stringPoolSize = maxSizePerColumn;
+			this.stringPoolColumns = columns.clone();
+			return this;
+		}
+		
 		/**
 		 * Builds the CsvPreference instance.
 		 * 
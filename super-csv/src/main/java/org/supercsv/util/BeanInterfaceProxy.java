@@ -18,11 +18,18 @@ package org.supercsv.util;
 import static org.supercsv.util.ReflectionUtils.GET_PREFIX;
 import static org.supercsv.util.ReflectionUtils.SET_PREFIX;
 
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.supercsv.exception.SuperCsvReflectionException;
 
 /**
  * This is part of the internal implementation of Super CSV.
@@ -31,20 +38,37 @@ import java.util.Map;
  * implementation), to generate a bean implementation on-the-fly. This instance can then be used for fetching and
  * storing state. It assumes all get methods starts with "get" and all set methods start with "set" and takes only 1
  * argument.
+ * <p>
+ * The first time an interface is used, each of its properties is assigned a slot, and the proxy class and the slot of
+ * each getter/setter are cached (for all threads), so a proxy stores its state in an array and a getter or setter call
+ * is a single lookup of the invoked method.
  * 
  * @author Kasper B. Graversen
  * @author James Bassett
  */
 public final class BeanInterfaceProxy implements InvocationHandler {
 	
-	private final Map<String, Object> beanState = new HashMap<String, Object>();
+	/**
+	 * The layout of each interface, shared by all proxies. The layout strongly references the interface (through its
+	 * methods), so it's held by a SoftReference to allow the (weak) key to be collected.
+	 */
+	private static final Map<Class<?>, Reference<ProxyLayout>> LAYOUTS =
+		new WeakHashMap<Class<?>, Reference<ProxyLayout>>();
+	
+	private final ProxyLayout layout;
+	
+	// the value of each property, indexed by slot
+	private final Object[] beanState;
 	
 	// no instantiation
-	private BeanInterfaceProxy() {
+	private BeanInterfaceProxy(final ProxyLayout layout) {
+		this.layout = layout;
+		this.beanState = new Object[layout.size];
 	}
 	
 	/**
-	 * Creates a proxy object which implements a given bean interface.
+	 * Creates a proxy object which implements a given bean interface. This looks up the interface in a cache shared by
+	 * all threads, so to create a lot of proxies (e.g. one for each row), use {@link #getFactory(Class)} once instead.
 	 * 
 	 * @param proxyInterface
 	 *            the interface the the proxy will implement
@@ -55,11 +79,46 @@ public final class BeanInterfaceProxy implements InvocationHandler {
 	 *             if proxyInterface is null
 	 */
 	public static <T> T createProxy(final Class<T> proxyInterface) {
+		return getFactory(proxyInterface).createProxy();
+	}
+	
+	/**
+	 * Gets a factory which creates proxies for a given bean interface. The factory holds on to the interface's layout,
+	 * so creating a proxy with it doesn't have to look up (or synchronize on) the shared cache.
+	 * 
+	 * @param proxyInterface
+	 *            the interface the proxies will implement
+	 * @param <T>
+	 *            the proxy implementation type
+	 * @return the factory
+	 * @throws NullPointerException
+	 *             if proxyInterface is null
+	 * @since 2.4.1
+	 */
+	public static <T> ProxyFactory<T> getFactory(final Class<T> proxyInterface) {
 		if( proxyInterface == null ) {
 			throw new NullPointerException("proxyInterface should not be null");
 		}
-		return proxyInterface.cast(Proxy.newProxyInstance(proxyInterface.getClassLoader(),
-			new Class[] { proxyInterface }, new BeanInterfaceProxy()));
+		return new ProxyFactory<T>(proxyInterface, getLayout(proxyInterface));
+	}
+	
+	/**
+	 * Gets the layout of an interface, creating it the first time the interface is used (or if it was cleared).
+	 * 
+	 * @param proxyInterface
+	 *            the interface
+	 * @return the layout
+	 */
+	private static ProxyLayout getLayout(final Class<?> proxyInterface) {
+		synchronized( LAYOUTS ) {
+			final Reference<ProxyLayout> reference = LAYOUTS.get(proxyInterface);
+			ProxyLayout layout = reference == null ? null : reference.get();
+			if( layout == null ) {
+				layout = new ProxyLayout(proxyInterface);
+				LAYOUTS.put(proxyInterface, new SoftReference<ProxyLayout>(layout));
+			}
+			return layout;
+		}
 	}
 	
 	/**
@@ -76,35 +135,133 @@ public final class BeanInterfaceProxy implements InvocationHandler {
 	 */
 	public Object invoke(final Object proxy, final Method method, final Object[] args) {
 		
-		final String methodName = method.getName();
+		final Integer accessor = layout.accessors.get(method);
+		if( accessor == null ) {
+			throw invalidMethod(method);
+		}
 		
-		if( methodName.startsWith(GET_PREFIX) ) {
-			
-			if( method.getParameterTypes().length > 0 ) {
-				throw new IllegalArgumentException(String.format(
-					"method %s.%s() should have no parameters to be a valid getter", method.getDeclaringClass()
-						.getName(), methodName));
-			}
-			
+		final int slot = accessor.intValue();
+		if( slot >= 0 ) {
 			// simulate getter by retrieving value from bean state
-			return beanState.get(methodName.substring(GET_PREFIX.length()));
-			
+			return beanState[slot];
+		}
+		
+		// simulate setter by storing value in bean state
+		beanState[-slot - 1] = args[0];
+		return proxy;
+	}
+	
+	/**
+	 * Creates the exception for a method that isn't a valid getter or setter.
+	 * 
+	 * @param method
+	 *            the method
+	 * @return the exception
+	 */
+	private static IllegalArgumentException invalidMethod(final Method method) {
+		final String methodName = method.getName();
+		if( methodName.startsWith(GET_PREFIX) ) {
+			return new IllegalArgumentException(String.format(
+				"method %s.%s() should have no parameters to be a valid getter", method.getDeclaringClass().getName(),
+				methodName));
 		} else if( methodName.startsWith(SET_PREFIX) ) {
-			
-			if( args == null || args.length != 1 ) {
-				throw new IllegalArgumentException(String.format(
-					"method  %s.%s() should have exactly one parameter to be a valid setter", method
-						.getDeclaringClass().getName(), methodName));
+			return new IllegalArgumentException(String.format(
+				"method  %s.%s() should have exactly one parameter to be a valid setter", method.getDeclaringClass()
+					.getName(), methodName));
+		}
+		return new IllegalArgumentException(String.format("method %s.%s() is not a valid getter/setter", method
+			.getDeclaringClass().getName(), methodName));
+	}
+	
+	/**
+	 * Creates proxies for a bean interface (see {@link BeanInterfaceProxy#getFactory(Class)}). This class is
+	 * thread-safe.
+	 * 
+	 * @param <T>
+	 *            the proxy implementation type
+	 * @since 2.4.1
+	 */
+	public static final class ProxyFactory<T> {
+		
+		private final Class<T> proxyInterface;
+		
+		private final ProxyLayout layout;
+		
+		private ProxyFactory(final Class<T> proxyInterface, final ProxyLayout layout) {
+			this.proxyInterface = proxyInterface;
+			this.layout = layout;
+		}
+		
+		/**
+		 * Creates a proxy object which implements the bean interface.
+		 * 
+		 * @return the proxy implementation
+		 */
+		public T createProxy() {
+			try {
+				return proxyInterface.cast(layout.proxyConstructor.newInstance(new BeanInterfaceProxy(layout)));
+			}
+			catch(InstantiationException e) {
+				throw new SuperCsvReflectionException("error creating proxy", e);
+			}
+			catch(IllegalAccessException e) {
+				throw new SuperCsvReflectionException("error creating proxy", e);
+			}
+			catch(InvocationTargetException e) {
+				throw new SuperCsvReflectionException("error creating proxy", e);
 			}
-			
-			// simulate setter by storing value in bean state
-			beanState.put(methodName.substring(SET_PREFIX.length()), args[0]);
-			return proxy;
-			
-		} else {
-			throw new IllegalArgumentException(String.format("method %s.%s() is not a valid getter/setter", method
-				.getDeclaringClass().getName(), methodName));
 		}
+	}
+	
+	/**
+	 * The proxy class of an interface and the slot of each of its getters and setters.
+	 */
+	private static final class ProxyLayout {
 		
+		final Constructor<?> proxyConstructor;
+		
+		/**
+		 * The getters and setters: a getter maps to its property's slot, and a setter maps to -(slot + 1). Other
+		 * methods aren't mapped.
+		 */
+		final Map<Method, Integer> accessors = new HashMap<Method, Integer>();
+		
+		/** the number of properties */
+		final int size;
+		
+		/*
+		 * Proxy.getProxyClass() is deprecated (in Java 9) in favour of Proxy.newProxyInstance(), but that looks up the
+		 * proxy class in the JDK's cache every time it's called. Looking up the constructor once means creating a proxy
+		 * for each row is a single constructor call.
+		 */
+		@SuppressWarnings("deprecation")
+		ProxyLayout(final Class<?> proxyInterface) {
+			try {
+				proxyConstructor = Proxy.getProxyClass(proxyInterface.getClassLoader(), proxyInterface)
+					.getConstructor(InvocationHandler.class);
+			}
+			catch(NoSuchMethodException e) {
+				throw new SuperCsvReflectionException("error creating proxy", e);
+			}
+			
+			final Map<String, Integer> slots = new HashMap<String, Integer>();
+			for( final Method method : proxyInterface.getMethods() ) {
+				final String methodName = method.getName();
+				final int parameterCount = method.getParameterTypes().length;
+				final boolean getter = methodName.startsWith(GET_PREFIX) && parameterCount == 0;
+				if( !getter && !(methodName.startsWith(SET_PREFIX) && parameterCount == 1) ) {
+					continue;
+				}
+				
+				final String property = methodName.substring((getter ? GET_PREFIX : SET_PREFIX).length());
+				Integer slot = slots.get(property);
+				if( slot == null ) {
+					slot = Integer.valueOf(slots.size());
+					slots.put(property, slot);
+				}
+				accessors.put(method, getter ? slot : Integer.valueOf(-slot.intValue() - 1));
+			}
+			size = slots.size();
+		}
 	}
 }
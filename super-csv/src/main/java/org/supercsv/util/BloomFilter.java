@@ -0,0 +1,135 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+/**
+ * A Bloom filter: a fixed-size, probabilistic set of 64-bit hashes. {@link #mightContain(long)} never returns
+ * <tt>false</tt> for a hash that was added, but may return <tt>true</tt> for one that wasn't (with the false positive
+ * probability the filter was sized for, once the expected number of values have been added).
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @since 2.4.1
+ */
+public class BloomFilter {
+	
+	private final long[] bits;
+	
+	private final long bitCount;
+	
+	private final int hashCount;
+	
+	/**
+	 * Constructs a new <tt>BloomFilter</tt> sized for the expected number of values and false positive probability.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @param falsePositiveProbability
+	 *            the acceptable probability of false positives (between 0 and 1, exclusive)
+	 * @throws IllegalArgumentException
+	 *             if expectedSize isn't positive, falsePositiveProbability isn't between 0 and 1, or the filter would
+	 *             be too large
+	 */
+	public BloomFilter(final long expectedSize, final double falsePositiveProbability) {
+		if( expectedSize <= 0 ) {
+			throw new IllegalArgumentException("expectedSize should be positive");
+		} else if( !(falsePositiveProbability > 0.0 && falsePositiveProbability < 1.0) ) {
+			throw new IllegalArgumentException("falsePositiveProbability should be between 0 and 1");
+		}
+		
+		final double ln2 = Math.log(2);
+		final long optimalBits = (long) Math.ceil(-expectedSize * Math.log(falsePositiveProbability) / (ln2 * ln2));
+		final long words = Math.max(1L, (optimalBits + 63) / 64);
+		if( words > Integer.MAX_VALUE - 8 ) {
+			throw new IllegalArgumentException(String.format(
+				"a filter for %d values with a false positive probability of %s is too large", expectedSize,
+				falsePositiveProbability));
+		}
+		this.bits = new long[(int) words];
+		this.bitCount = words * 64;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedSize * ln2));
+	}
+	
+	/**
+	 * Calculates a 64-bit hash of the characters in a CharSequence (FNV-1a, followed by the MurmurHash3 finalizer).
+	 * 
+	 * @param value
+	 *            the value to hash
+	 * @return the hash
+	 */
+	public static long hash(final CharSequence value) {
+		long h = 0xcbf29ce484222325L;
+		final int length = value.length();
+		for( int i = 0; i < length; i++ ) {
+			h ^= value.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		return LongHashSet.mix(h);
+	}
+	
+	/**
+	 * Adds a hash to the filter.
+	 * 
+	 * @param hash
+	 *            the 64-bit hash of the value
+	 */
+	public void put(final long hash) {
+		final long h1 = hash;
+		final long h2 = (hash >>> 32) | 1L;
+		for( int i = 0; i < hashCount; i++ ) {
+			final long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+			bits[(int) (index >>> 6)] |= 1L << index;
+		}
+	}
+	
+	/**
+	 * Checks whether a hash might have been added to the filter.
+	 * 
+	 * @param hash
+	 *            the 64-bit hash of the value
+	 * @return false if the hash was definitely not added, true if it might have been
+	 */
+	public boolean mightContain(final long hash) {
+		final long h1 = hash;
+		final long h2 = (hash >>> 32) | 1L;
+		for( int i = 0; i < hashCount; i++ ) {
+			final long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+			if( (bits[(int) (index >>> 6)] & (1L << index)) == 0L ) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns the number of hash functions used for each value.
+	 * 
+	 * @return the number of hash functions
+	 */
+	public int getHashCount() {
+		return hashCount;
+	}
+	
+	/**
+	 * Returns the number of bytes allocated for the filter.
+	 * 
+	 * @return the allocated memory in bytes
+	 */
+	public long getMemoryUsage() {
+		return (long) bits.length * 8;
+	}
+	
+}
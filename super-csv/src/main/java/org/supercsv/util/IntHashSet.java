@@ -0,0 +1,216 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing (linear probing) hash set of primitive <tt>int</tt> values, backed by a single <tt>int[]</tt>. It
+ * uses 4 bytes per slot (the table is kept at most half full), compared with around 50 bytes per value for a
+ * <tt>HashSet&lt;Integer&gt;</tt>.
+ * <p>
+ * The memory used by the set can be limited: if adding a value would require the table to grow beyond the limit, an
+ * <tt>IllegalStateException</tt> is thrown instead. This class is not thread-safe.
+ * 
+ * @since 2.4.1
+ */
+public class IntHashSet {
+	
+	private final long maxMemory;
+	
+	/** the hash table - 0 marks an empty slot (the value 0 is tracked separately) */
+	private int[] table;
+	
+	private int mask;
+	
+	private int size;
+	
+	private boolean containsZero;
+	
+	/**
+	 * Constructs a new <tt>IntHashSet</tt> with no memory limit.
+	 */
+	public IntHashSet() {
+		this(LongHashSet.DEFAULT_EXPECTED_SIZE);
+	}
+	
+	/**
+	 * Constructs a new <tt>IntHashSet</tt> with no memory limit, sized for the expected number of values.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @throws IllegalArgumentException
+	 *             if expectedSize is negative
+	 */
+	public IntHashSet(final int expectedSize) {
+		this(expectedSize, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Constructs a new <tt>IntHashSet</tt>, sized for the expected number of values, whose table may not grow beyond
+	 * maxMemory bytes.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @param maxMemory
+	 *            the maximum number of bytes to allocate for the table
+	 * @throws IllegalArgumentException
+	 *             if expectedSize is negative, or the table for expectedSize values would be larger than maxMemory
+	 */
+	public IntHashSet(final int expectedSize, final long maxMemory) {
+		final int capacity = LongHashSet.capacityFor(expectedSize);
+		if( (long) capacity * 4 > maxMemory ) {
+			throw new IllegalArgumentException(String.format(
+				"a table for %d values requires %d bytes, which exceeds the memory limit of %d bytes", expectedSize,
+				(long) capacity * 4, maxMemory));
+		}
+		this.maxMemory = maxMemory;
+		this.table = new int[capacity];
+		this.mask = capacity - 1;
+	}
+	
+	/**
+	 * Spreads the bits of the value (the MurmurHash3 32-bit finalizer).
+	 * 
+	 * @param value
+	 *            the value
+	 * @return the mixed hash
+	 */
+	private static int mix(final int value) {
+		int h = value;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h;
+	}
+	
+	/**
+	 * Adds the value to the set.
+	 * 
+	 * @param value
+	 *            the value to add
+	 * @return true if the value was added, false if it was already in the set
+	 * @throws IllegalStateException
+	 *             if the set would have to grow beyond its memory limit
+	 */
+	public boolean add(final int value) {
+		if( value == 0 ) {
+			if( containsZero ) {
+				return false;
+			}
+			containsZero = true;
+			size++;
+			return true;
+		}
+		
+		int index = mix(value) & mask;
+		int slot;
+		while( (slot = table[index]) != 0 ) {
+			if( slot == value ) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+		
+		if( (size + 1) * 2L > table.length ) {
+			grow();
+			return add(value);
+		}
+		table[index] = value;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * Checks whether the value is in the set.
+	 * 
+	 * @param value
+	 *            the value
+	 * @return true if the value is in the set
+	 */
+	public boolean contains(final int value) {
+		if( value == 0 ) {
+			return containsZero;
+		}
+		
+		int index = mix(value) & mask;
+		int slot;
+		while( (slot = table[index]) != 0 ) {
+			if( slot == value ) {
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+	
+	/**
+	 * Doubles the size of the table, rehashing all values.
+	 * 
+	 * @throws IllegalStateException
+	 *             if the table can't grow any further
+	 */
+	private void grow() {
+		final int capacity = table.length * 2;
+		if( table.length >= LongHashSet.MAX_CAPACITY || (long) capacity * 4 > maxMemory ) {
+			throw new IllegalStateException(String.format(
+				"cannot add more than %d values without exceeding the memory limit of %d bytes", size, maxMemory));
+		}
+		
+		final int[] oldTable = table;
+		table = new int[capacity];
+		mask = capacity - 1;
+		for( final int value : oldTable ) {
+			if( value != 0 ) {
+				int index = mix(value) & mask;
+				while( table[index] != 0 ) {
+					index = (index + 1) & mask;
+				}
+				table[index] = value;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the number of values in the set.
+	 * 
+	 * @return the number of values
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Removes all values from the set.
+	 */
+	public void clear() {
+		Arrays.fill(table, 0);
+		size = 0;
+		containsZero = false;
+	}
+	
+	/**
+	 * Returns the number of bytes currently allocated for the table.
+	 * 
+	 * @return the allocated memory in bytes
+	 */
+	public long getMemoryUsage() {
+		return (long) table.length * 4;
+	}
+	
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing (linear probing) hash set of primitive <tt>long</tt> values, backed by a single <tt>long[]</tt>.
+ * It uses 8 bytes per slot (the table is kept at most half full), compared with around 50 bytes per value for a
+ * <tt>HashSet&lt;Long&gt;</tt>.
+ * <p>
+ * The memory used by the set can be limited: if adding a value would require the table to grow beyond the limit, an
+ * <tt>IllegalStateException</tt> is thrown instead. This class is not thread-safe.
+ * 
+ * @since 2.4.1
+ */
+public class LongHashSet implements LongSet {
+	
+	/** the default expected number of values */
+	static final int DEFAULT_EXPECTED_SIZE = 64;
+	
+	/** the largest table (a power of 2 that can be indexed by an int) */
+	static final int MAX_CAPACITY = 1 << 30;
+	
+	private final long maxMemory;
+	
+	/** the hash table - 0 marks an empty slot (the value 0 is tracked separately) */
+	private long[] table;
+	
+	private int mask;
+	
+	private int size;
+	
+	private boolean containsZero;
+	
+	/**
+	 * Constructs a new <tt>LongHashSet</tt> with no memory limit.
+	 */
+	public LongHashSet() {
+		this(DEFAULT_EXPECTED_SIZE);
+	}
+	
+	/**
+	 * Constructs a new <tt>LongHashSet</tt> with no memory limit, sized for the expected number of values.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @throws IllegalArgumentException
+	 *             if expectedSize is negative
+	 */
+	public LongHashSet(final int expectedSize) {
+		this(expectedSize, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Constructs a new <tt>LongHashSet</tt>, sized for the expected number of values, whose table may not grow beyond
+	 * maxMemory bytes.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @param maxMemory
+	 *            the maximum number of bytes to allocate for the table
+	 * @throws IllegalArgumentException
+	 *             if expectedSize is negative, or the table for expectedSize values would be larger than maxMemory
+	 */
+	public LongHashSet(final int expectedSize, final long maxMemory) {
+		final int capacity = capacityFor(expectedSize);
+		if( (long) capacity * 8 > maxMemory ) {
+			throw new IllegalArgumentException(String.format(
+				"a table for %d values requires %d bytes, which exceeds the memory limit of %d bytes", expectedSize,
+				(long) capacity * 8, maxMemory));
+		}
+		this.maxMemory = maxMemory;
+		this.table = new long[capacity];
+		this.mask = capacity - 1;
+	}
+	
+	/**
+	 * Returns the table capacity (a power of 2) that keeps the expected number of values at most half full.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @return the capacity
+	 * @throws IllegalArgumentException
+	 *             if expectedSize is negative
+	 */
+	static int capacityFor(final int expectedSize) {
+		if( expectedSize < 0 ) {
+			throw new IllegalArgumentException("expectedSize should not be negative");
+		}
+		int capacity = 16;
+		while( capacity < MAX_CAPACITY && capacity / 2 < expectedSize ) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+	
+	/**
+	 * Spreads the bits of the value (the MurmurHash3 finalizer), so that sequential values don't form long probe
+	 * sequences.
+	 * 
+	 * @param value
+	 *            the value
+	 * @return the mixed hash
+	 */
+	static long mix(final long value) {
+		long h = value;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean add(final long value) {
+		if( value == 0L ) {
+			if( containsZero ) {
+				return false;
+			}
+			containsZero = true;
+			size++;
+			return true;
+		}
+		
+		int index = (int) mix(value) & mask;
+		long slot;
+		while( (slot = table[index]) != 0L ) {
+			if( slot == value ) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+		
+		if( (size + 1) * 2L > table.length ) {
+			grow();
+			return add(value);
+		}
+		table[index] = value;
+		size++;
+		return true;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean contains(final long value) {
+		if( value == 0L ) {
+			return containsZero;
+		}
+		
+		int index = (int) mix(value) & mask;
+		long slot;
+		while( (slot = table[index]) != 0L ) {
+			if( slot == value ) {
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+	
+	/**
+	 * Doubles the size of the table, rehashing all values.
+	 * 
+	 * @throws IllegalStateException
+	 *             if the table can't grow any further
+	 */
+	private void grow() {
+		final int capacity = table.length * 2;
+		if( table.length >= MAX_CAPACITY || (long) capacity * 8 > maxMemory ) {
+			throw new IllegalStateException(String.format(
+				"cannot add more than %d values without exceeding the memory limit of %d bytes", size, maxMemory));
+		}
+		
+		final long[] oldTable = table;
+		table = new long[capacity];
+		mask = capacity - 1;
+		for( final long value : oldTable ) {
+			if( value != 0L ) {
+				int index = (int) mix(value) & mask;
+				while( table[index] != 0L ) {
+					index = (index + 1) & mask;
+				}
+				table[index] = value;
+			}
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public void clear() {
+		Arrays.fill(table, 0L);
+		size = 0;
+		containsZero = false;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getMemoryUsage() {
+		return (long) table.length * 8;
+	}
+	
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+/**
+ * A set of primitive <tt>long</tt> values, used by the uniqueness constraints to avoid storing a boxed object (and a
+ * hash map entry) for every value encountered.
+ * 
+ * @see LongHashSet
+ * @see OffHeapLongHashSet
+ * @since 2.4.1
+ */
+public interface LongSet {
+	
+	/**
+	 * Adds the value to the set.
+	 * 
+	 * @param value
+	 *            the value to add
+	 * @return true if the value was added, false if it was already in the set
+	 * @throws IllegalStateException
+	 *             if the set would have to grow beyond its memory limit
+	 */
+	boolean add(long value);
+	
+	/**
+	 * Checks whether the value is in the set.
+	 * 
+	 * @param value
+	 *            the value
+	 * @return true if the value is in the set
+	 */
+	boolean contains(long value);
+	
+	/**
+	 * Returns the number of values in the set.
+	 * 
+	 * @return the number of values
+	 */
+	int size();
+	
+	/**
+	 * Removes all values from the set.
+	 */
+	void clear();
+	
+	/**
+	 * Returns the number of bytes currently allocated for the values in the set (the size of the hash table, not just
+	 * of the values in it).
+	 * 
+	 * @return the allocated memory in bytes
+	 */
+	long getMemoryUsage();
+	
+}
@@ -15,27 +15,38 @@
  */
 package org.supercsv.util;
 
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.supercsv.exception.SuperCsvReflectionException;
 
 /**
  * This class cache's method lookups. Hence first time it introspects the instance's class, while subsequent method
  * lookups are super fast.
+ * <p>
+ * The methods found are shared by all MethodCache instances (so a new reader or writer doesn't have to introspect a
+ * bean class that has already been used), and this class is thread-safe. The shared cache holds bean classes weakly
+ * and their methods softly, so it doesn't prevent classes (or their class loaders) from being unloaded.
  */
 public class MethodCache {
 	
 	/**
-	 * A cache of setter methods. The three keys are the class the setter is being invoked on, the parameter type of the
-	 * setter, and the variable name. The value is the setter method.
+	 * The methods found for each bean class, shared by all instances. A bean class's methods strongly reference the
+	 * class itself, so they're held by a SoftReference to allow the (weak) key to be collected.
 	 */
-	private final ThreeDHashMap<Class<?>, Class<?>, String, Method> setMethodsCache = new ThreeDHashMap<Class<?>, Class<?>, String, Method>();
+	private static final Map<Class<?>, Reference<ClassMethods>> SHARED_CACHE =
+		new WeakHashMap<Class<?>, Reference<ClassMethods>>();
 	
 	/**
-	 * A cache of getter methods. The two keys are the name of the class the getter is being invoked on, and the
-	 * variable name. The value is the getter method.
+	 * The methods of the most recently used class, so that consecutive lookups on the same class don't have to
+	 * synchronize on the shared cache.
 	 */
-	private final TwoDHashMap<String, String, Method> getCache = new TwoDHashMap<String, String, Method>();
+	private volatile ClassMethods lastUsed;
 	
 	/**
 	 * Returns the getter method for field on an object.
@@ -57,10 +68,11 @@ public class MethodCache {
 			throw new NullPointerException("fieldName should not be null");
 		}
 		
-		Method method = getCache.get(object.getClass().getName(), fieldName);
+		final ConcurrentMap<String, Method> getters = getClassMethods(object.getClass()).getters;
+		Method method = getters.get(fieldName);
 		if( method == null ) {
 			method = ReflectionUtils.findGetter(object, fieldName);
-			getCache.set(object.getClass().getName(), fieldName, method);
+			getters.putIfAbsent(fieldName, method);
 		}
 		return method;
 	}
@@ -91,12 +103,80 @@ public class MethodCache {
 			throw new NullPointerException("argumentType should not be null");
 		}
 		
-		Method method = setMethodsCache.get(object.getClass(), argumentType, fieldName);
+		final ConcurrentMap<String, Method> setters = getClassMethods(object.getClass()).getSetters(argumentType);
+		Method method = setters.get(fieldName);
 		if( method == null ) {
 			method = ReflectionUtils.findSetter(object, fieldName, argumentType);
-			setMethodsCache.set(object.getClass(), argumentType, fieldName, method);
+			setters.putIfAbsent(fieldName, method);
 		}
 		return method;
 	}
 	
+	/**
+	 * Gets the cached methods of a class, looking them up in (or adding them to) the shared cache if the class isn't
+	 * the one used most recently.
+	 * 
+	 * @param clazz
+	 *            the bean class
+	 * @return the cached methods of the class
+	 */
+	private ClassMethods getClassMethods(final Class<?> clazz) {
+		ClassMethods methods = lastUsed;
+		if( methods == null || methods.clazz != clazz ) {
+			methods = getSharedClassMethods(clazz);
+			lastUsed = methods;
+		}
+		return methods;
+	}
+	
+	/**
+	 * Gets the cached methods of a class from the shared cache, adding them if they're not there (or were cleared).
+	 * 
+	 * @param clazz
+	 *            the bean class
+	 * @return the cached methods of the class
+	 */
+	private static ClassMethods getSharedClassMethods(final Class<?> clazz) {
+		synchronized( SHARED_CACHE ) {
+			final Reference<ClassMethods> reference = SHARED_CACHE.get(clazz);
+			ClassMethods methods = reference == null ? null : reference.get();
+			if( methods == null ) {
+				methods = new ClassMethods(clazz);
+				SHARED_CACHE.put(clazz, new SoftReference<ClassMethods>(methods));
+			}
+			return methods;
+		}
+	}
+	
+	/**
+	 * The getters and setters found for a class.
+	 */
+	private static final class ClassMethods {
+		
+		final Class<?> clazz;
+		
+		/** the getters, keyed by field name */
+		final ConcurrentMap<String, Method> getters = new ConcurrentHashMap<String, Method>();
+		
+		/** the setters, keyed by argument type then field name */
+		private final ConcurrentMap<Class<?>, ConcurrentMap<String, Method>> setters =
+			new ConcurrentHashMap<Class<?>, ConcurrentMap<String, Method>>();
+		
+		ClassMethods(final Class<?> clazz) {
+			this.clazz = clazz;
+		}
+		
+		ConcurrentMap<String, Method> getSetters(final Class<?> argumentType) {
+			ConcurrentMap<String, Method> settersForType = setters.get(argumentType);
+			if( settersForType == null ) {
+				settersForType = new ConcurrentHashMap<String, Method>();
+				final ConcurrentMap<String, Method> existing = setters.putIfAbsent(argumentType, settersForType);
+				if( existing != null ) {
+					settersForType = existing;
+				}
+			}
+			return settersForType;
+		}
+	}
+	
 }
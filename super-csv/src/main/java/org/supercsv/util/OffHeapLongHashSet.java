@@ -0,0 +1,277 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * An open addressing (linear probing) hash set of primitive <tt>long</tt> values, stored outside of the Java heap in
+ * direct buffers. It uses the same layout as {@link LongHashSet} (8 bytes per slot, at most half full), but the table
+ * is split into segments of at most 1 GB so it can hold more than 2^28 values, and it doesn't count towards the heap
+ * size (the JVM's <tt>-XX:MaxDirectMemorySize</tt> limit applies instead).
+ * <p>
+ * The direct buffers are released when the set is garbage collected. The memory used by the set can be limited: if
+ * adding a value would require the table to grow beyond the limit, an <tt>IllegalStateException</tt> is thrown instead.
+ * This class is not thread-safe.
+ * 
+ * @since 2.4.1
+ */
+public class OffHeapLongHashSet implements LongSet {
+	
+	/** the default number of slots in a segment (2^27 slots = 1 GB) */
+	static final int DEFAULT_SEGMENT_BITS = 27;
+	
+	/** the largest table, in slots */
+	private static final long MAX_CAPACITY = 1L << 34;
+	
+	private final long maxMemory;
+	
+	/** the number of slots in a segment, as a power of 2 */
+	private final int segmentBits;
+	
+	private final long segmentMask;
+	
+	/** the hash table segments - 0 marks an empty slot (the value 0 is tracked separately) */
+	private LongBuffer[] segments;
+	
+	private long capacity;
+	
+	private long mask;
+	
+	private int size;
+	
+	private boolean containsZero;
+	
+	/**
+	 * Constructs a new <tt>OffHeapLongHashSet</tt> with no memory limit, sized for the expected number of values.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @throws IllegalArgumentException
+	 *             if expectedSize is negative
+	 */
+	public OffHeapLongHashSet(final int expectedSize) {
+		this(expectedSize, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Constructs a new <tt>OffHeapLongHashSet</tt>, sized for the expected number of values, whose table may not grow
+	 * beyond maxMemory bytes.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @param maxMemory
+	 *            the maximum number of bytes to allocate for the table
+	 * @throws IllegalArgumentException
+	 *             if expectedSize is negative, or the table for expectedSize values would be larger than maxMemory
+	 */
+	public OffHeapLongHashSet(final int expectedSize, final long maxMemory) {
+		this(expectedSize, maxMemory, DEFAULT_SEGMENT_BITS);
+	}
+	
+	/**
+	 * Constructs a new <tt>OffHeapLongHashSet</tt> with segments of 2^segmentBits slots (smaller segments are used to
+	 * test the behaviour at segment boundaries).
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @param maxMemory
+	 *            the maximum number of bytes to allocate for the table
+	 * @param segmentBits
+	 *            the number of slots in a segment, as a power of 2
+	 * @throws IllegalArgumentException
+	 *             if expectedSize is negative, or the table for expectedSize values would be larger than maxMemory
+	 */
+	OffHeapLongHashSet(final int expectedSize, final long maxMemory, final int segmentBits) {
+		if( expectedSize < 0 ) {
+			throw new IllegalArgumentException("expectedSize should not be negative");
+		}
+		long initialCapacity = 16;
+		while( initialCapacity / 2 < expectedSize ) {
+			initialCapacity <<= 1;
+		}
+		if( initialCapacity * 8 > maxMemory ) {
+			throw new IllegalArgumentException(String.format(
+				"a table for %d values requires %d bytes, which exceeds the memory limit of %d bytes", expectedSize,
+				initialCapacity * 8, maxMemory));
+		}
+		this.maxMemory = maxMemory;
+		this.segmentBits = segmentBits;
+		this.segmentMask = (1L << segmentBits) - 1;
+		allocate(initialCapacity);
+	}
+	
+	/**
+	 * Allocates a new (empty) table.
+	 * 
+	 * @param newCapacity
+	 *            the number of slots (a power of 2)
+	 */
+	private void allocate(final long newCapacity) {
+		final long segmentSize = Math.min(newCapacity, 1L << segmentBits);
+		final LongBuffer[] newSegments = new LongBuffer[(int) (newCapacity / segmentSize)];
+		for( int i = 0; i < newSegments.length; i++ ) {
+			newSegments[i] = ByteBuffer.allocateDirect((int) segmentSize * 8).order(ByteOrder.nativeOrder())
+				.asLongBuffer();
+		}
+		segments = newSegments;
+		capacity = newCapacity;
+		mask = newCapacity - 1;
+	}
+	
+	private long get(final long index) {
+		return segments[(int) (index >>> segmentBits)].get((int) (index & segmentMask));
+	}
+	
+	private void put(final long index, final long value) {
+		segments[(int) (index >>> segmentBits)].put((int) (index & segmentMask), value);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean add(final long value) {
+		if( value == 0L ) {
+			if( containsZero ) {
+				return false;
+			}
+			containsZero = true;
+			size++;
+			return true;
+		}
+		
+		long index = LongHashSet.mix(value) & mask;
+		long slot;
+		while( (slot = get(index)) != 0L ) {
+			if( slot == value ) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+		
+		if( size == Integer.MAX_VALUE ) {
+			throw new IllegalStateException("cannot add more than Integer.MAX_VALUE values");
+		} else if( (size + 1) * 2L > capacity ) {
+			grow();
+			return add(value);
+		}
+		put(index, value);
+		size++;
+		return true;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean contains(final long value) {
+		if( value == 0L ) {
+			return containsZero;
+		}
+		
+		long index = LongHashSet.mix(value) & mask;
+		long slot;
+		while( (slot = get(index)) != 0L ) {
+			if( slot == value ) {
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+	
+	/**
+	 * Doubles the size of the table, rehashing all values.
+	 * 
+	 * @throws IllegalStateException
+	 *             if the table can't grow any further
+	 */
+	private void grow() {
+		final long newCapacity = capacity * 2;
+		if( newCapacity > MAX_CAPACITY || newCapacity * 8 > maxMemory ) {
+			throw new IllegalStateException(String.format(
+				"cannot add more than %d values without exceeding the memory limit of %d bytes", size, maxMemory));
+		}
+		
+		final LongBuffer[] oldSegments = segments;
+		allocate(newCapacity);
+		for( final LongBuffer segment : oldSegments ) {
+			final int segmentSize = segment.capacity();
+			for( int i = 0; i < segmentSize; i++ ) {
+				final long value = segment.get(i);
+				if( value != 0L ) {
+					long index = LongHashSet.mix(value) & mask;
+					while( get(index) != 0L ) {
+						index = (index + 1) & mask;
+					}
+					put(index, value);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public void clear() {
+		for( final LongBuffer segment : segments ) {
+			final int segmentSize = segment.capacity();
+			for( int i = 0; i < segmentSize; i++ ) {
+				segment.put(i, 0L);
+			}
+		}
+		size = 0;
+		containsZero = false;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getMemoryUsage() {
+		return capacity * 8;
+	}
+	
+	/**
+	 * Returns the number of direct buffers (segments) the table is split into.
+	 * 
+	 * @return the number of segments
+	 */
+	int getSegmentCount() {
+		return segments.length;
+	}
+	
+	/**
+	 * Returns the total capacity of the direct buffers, in bytes (which should always equal the memory usage).
+	 * 
+	 * @return the number of bytes allocated
+	 */
+	long getAllocatedBytes() {
+		long bytes = 0;
+		for( final LongBuffer segment : segments ) {
+			bytes += segment.capacity() * 8L;
+		}
+		return bytes;
+	}
+	
+}
@@ -0,0 +1,68 @@
+package org.supercsv.util;
+
+import org.supercsv.exception.SuperCsvException;
+
+/**
+ * A lightweight record of a row that couldn't be read: where it is in the file, its raw text, and why it failed.
+ *
+ * @since 2.4.1
+ */
+public class ReadError {
+    private final int lineNumber;
+    private final int rowNumber;
+    private final int columnNumber;
+    private final String untokenizedRow;
+    private final SuperCsvException exception;
+
+    /**
+     * Constructs a new <tt>ReadError</tt>.
+     *
+     * @param lineNumber
+     *            the line number of the row (the line on which it ended)
+     * @param rowNumber
+     *            the row number
+     * @param columnNumber
+     *            the (1-based) column that failed, or 0 if the failure wasn't in a particular column
+     * @param untokenizedRow
+     *            the raw text of the row
+     * @param exception
+     *            the exception that caused the failure (which may not have a stack trace)
+     */
+    public ReadError(int lineNumber, int rowNumber, int columnNumber, String untokenizedRow,
+                     SuperCsvException exception) {
+        this.lineNumber = lineNumber;
+        this.rowNumber = rowNumber;
+        this.columnNumber = columnNumber;
+        this.untokenizedRow = untokenizedRow;
+        this.exception = exception;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public int getColumnNumber() {
+        return columnNumber;
+    }
+
+    public String getUntokenizedRow() {
+        return untokenizedRow;
+    }
+
+    public String getMessage() {
+        return exception.getMessage();
+    }
+
+    public SuperCsvException getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("line %d, row %d, column %d: %s", lineNumber, rowNumber, columnNumber, getMessage());
+    }
+}
@@ -192,6 +192,55 @@ public final class ReflectionUtils {
 		return setter;
 	}
 	
+	/**
+	 * Returns a setter method associated with the object's field that can be invoked with any value of the field's
+	 * type, for when the type of the value isn't known (e.g. to set the field to <tt>null</tt>). If there are several
+	 * setters for the field, one whose parameter isn't a primitive is preferred.
+	 * 
+	 * @param object
+	 *            the object
+	 * @param fieldName
+	 *            the name of the field
+	 * @return the setter method
+	 * @throws NullPointerException
+	 *             if object or fieldName is null
+	 * @throws SuperCsvReflectionException
+	 *             if the setter doesn't exist or is not visible
+	 * @since 2.4.1
+	 */
+	public static Method findSetter(final Object object, final String fieldName) {
+		if( object == null ) {
+			throw new NullPointerException("object should not be null");
+		} else if( fieldName == null ) {
+			throw new NullPointerException("fieldName should not be null");
+		}
+		
+		final String setterName = getMethodNameForField(SET_PREFIX, fieldName);
+		final Class<?> clazz = object.getClass();
+		
+		Method primitiveSetter = null;
+		for( Class<?> actualType = clazz; actualType != null; actualType = actualType.getSuperclass() ) {
+			for( final Method method : actualType.getDeclaredMethods() ) {
+				if( !setterName.equalsIgnoreCase(method.getName()) || method.getParameterTypes().length != 1 ) {
+					continue; // setter must have correct name and only 1 parameter
+				}
+				
+				if( !method.getParameterTypes()[0].isPrimitive() ) {
+					return method;
+				} else if( primitiveSetter == null ) {
+					primitiveSetter = method; // potential match, but keep looking for one that accepts null
+				}
+			}
+		}
+		
+		if( primitiveSetter == null ) {
+			throw new SuperCsvReflectionException(String.format(
+				"unable to find method %s() in class %s - check that the corresponding nameMapping element matches the "
+					+ "field name in the bean", setterName, clazz.getName()));
+		}
+		return primitiveSetter;
+	}
+	
 	/**
 	 * Helper method for findSetter() that returns the setter method of the supplied name, whose parameter type is
 	 * compatible with the supplied argument type (will allow an object of that type to be used when invoking the
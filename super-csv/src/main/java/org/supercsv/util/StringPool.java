@@ -0,0 +1,236 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import java.util.Arrays;
+
+/**
+ * A pool of canonical String instances for each column of a CSV file, so that columns with a small number of distinct
+ * values (status codes, countries, currencies...) share one String per value instead of holding a copy for every row.
+ * The pool is consulted with the characters of a cell <em>before</em> a String is created, so a value that's already
+ * in the pool doesn't allocate anything.
+ * <p>
+ * Each column holds at most <tt>maxSizePerColumn</tt> values; once a column is full, new values are returned as new
+ * Strings without being added (so a column that turns out to have many distinct values costs little). Pooling can be
+ * enabled or disabled for individual columns. This class is not thread-safe.
+ * 
+ * @since 2.4.1
+ */
+public class StringPool {
+	
+	private static final int INITIAL_CAPACITY = 16;
+	
+	private final int maxSizePerColumn;
+	
+	/** whether columns that haven't been explicitly enabled/disabled are pooled */
+	private final boolean enabledByDefault;
+	
+	/** the explicitly enabled (TRUE) or disabled (FALSE) columns, indexed by column number */
+	private Boolean[] enabled = new Boolean[0];
+	
+	/** the pools, indexed by column number (null until the column is first pooled) */
+	private ColumnPool[] pools = new ColumnPool[0];
+	
+	/**
+	 * Constructs a new <tt>StringPool</tt>.
+	 * 
+	 * @param maxSizePerColumn
+	 *            the maximum number of values to pool for each column
+	 * @param columns
+	 *            the (1-based) column numbers to pool - if none are supplied, all columns are pooled
+	 * @throws IllegalArgumentException
+	 *             if maxSizePerColumn is not positive, or a column number is less than 1
+	 * @throws NullPointerException
+	 *             if columns is null
+	 */
+	public StringPool(final int maxSizePerColumn, final int... columns) {
+		if( maxSizePerColumn <= 0 ) {
+			throw new IllegalArgumentException(String.format("maxSizePerColumn should be > 0 but was %d",
+				maxSizePerColumn));
+		} else if( columns == null ) {
+			throw new NullPointerException("columns should not be null");
+		}
+		this.maxSizePerColumn = maxSizePerColumn;
+		this.enabledByDefault = columns.length == 0;
+		for( final int column : columns ) {
+			setEnabled(column, true);
+		}
+	}
+	
+	/**
+	 * Enables or disables pooling for a column. Disabling a column discards its pooled values.
+	 * 
+	 * @param column
+	 *            the (1-based) column number
+	 * @param enabled
+	 *            whether the column should be pooled
+	 * @throws IllegalArgumentException
+	 *             if column is less than 1
+	 */
+	public void setEnabled(final int column, final boolean enabled) {
+		if( column < 1 ) {
+			throw new IllegalArgumentException(String.format("column should be >= 1 but was %d", column));
+		}
+		if( column >= this.enabled.length ) {
+			final Boolean[] grown = new Boolean[column + 1];
+			System.arraycopy(this.enabled, 0, grown, 0, this.enabled.length);
+			this.enabled = grown;
+		}
+		this.enabled[column] = Boolean.valueOf(enabled);
+		if( !enabled && column < pools.length ) {
+			pools[column] = null;
+		}
+	}
+	
+	/**
+	 * Returns whether a column is pooled.
+	 * 
+	 * @param column
+	 *            the (1-based) column number
+	 * @return true if the column is pooled
+	 */
+	public boolean isEnabled(final int column) {
+		final Boolean columnEnabled = column < enabled.length ? enabled[column] : null;
+		return columnEnabled == null ? enabledByDefault : columnEnabled.booleanValue();
+	}
+	
+	/**
+	 * Returns the canonical String with the supplied characters for a column, adding it to the pool if necessary (and
+	 * there's room). If the column isn't pooled, a new String is returned.
+	 * 
+	 * @param column
+	 *            the (1-based) column number
+	 * @param chars
+	 *            the characters of the value
+	 * @return the String
+	 */
+	public String get(final int column, final CharSequence chars) {
+		if( column < 1 || !isEnabled(column) ) {
+			return chars.toString();
+		}
+		if( column >= pools.length ) {
+			final ColumnPool[] grown = new ColumnPool[column + 1];
+			System.arraycopy(pools, 0, grown, 0, pools.length);
+			pools = grown;
+		}
+		ColumnPool pool = pools[column];
+		if( pool == null ) {
+			pool = new ColumnPool();
+			pools[column] = pool;
+		}
+		return pool.get(chars, maxSizePerColumn);
+	}
+	
+	/**
+	 * Returns the number of values pooled for a column.
+	 * 
+	 * @param column
+	 *            the (1-based) column number
+	 * @return the number of pooled values
+	 */
+	public int size(final int column) {
+		return column >= 1 && column < pools.length && pools[column] != null ? pools[column].size : 0;
+	}
+	
+	/**
+	 * Discards all pooled values (the enabled columns are unchanged).
+	 */
+	public void clear() {
+		Arrays.fill(pools, null);
+	}
+	
+	/**
+	 * An open addressing (linear probing) hash table of Strings, looked up by their characters.
+	 */
+	private static final class ColumnPool {
+		
+		private String[] table = new String[INITIAL_CAPACITY];
+		
+		private int[] hashes = new int[INITIAL_CAPACITY];
+		
+		private int size;
+		
+		String get(final CharSequence chars, final int maxSize) {
+			final int length = chars.length();
+			int hash = 0;
+			for( int i = 0; i < length; i++ ) {
+				hash = 31 * hash + chars.charAt(i);
+			}
+			
+			int mask = table.length - 1;
+			int index = spread(hash) & mask;
+			String pooled;
+			while( (pooled = table[index]) != null ) {
+				if( hashes[index] == hash && contentEquals(pooled, chars) ) {
+					return pooled;
+				}
+				index = (index + 1) & mask;
+			}
+			
+			final String value = chars.toString();
+			if( size < maxSize ) {
+				if( (size + 1) * 2 > table.length ) {
+					grow();
+					mask = table.length - 1;
+					index = spread(hash) & mask;
+					while( table[index] != null ) {
+						index = (index + 1) & mask;
+					}
+				}
+				table[index] = value;
+				hashes[index] = hash;
+				size++;
+			}
+			return value;
+		}
+		
+		private void grow() {
+			final String[] oldTable = table;
+			final int[] oldHashes = hashes;
+			table = new String[oldTable.length * 2];
+			hashes = new int[oldTable.length * 2];
+			final int mask = table.length - 1;
+			for( int i = 0; i < oldTable.length; i++ ) {
+				if( oldTable[i] != null ) {
+					int index = spread(oldHashes[i]) & mask;
+					while( table[index] != null ) {
+						index = (index + 1) & mask;
+					}
+					table[index] = oldTable[i];
+					hashes[index] = oldHashes[i];
+				}
+			}
+		}
+		
+		private static int spread(final int hash) {
+			return hash ^ (hash >>> 16);
+		}
+		
+		private static boolean contentEquals(final String pooled, final CharSequence chars) {
+			final int length = chars.length();
+			if( pooled.length() != length ) {
+				return false;
+			}
+			for( int i = 0; i < length; i++ ) {
+				if( pooled.charAt(i) != chars.charAt(i) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+	
+}
@@ -1,11 +1,19 @@
 package org.supercsv.util;
 
+import org.supercsv.io.CsvErrorSink;
+import org.supercsv.io.CsvRowConsumer;
+
 import java.util.ArrayList;
 import java.util.List;
 
-public class TryReadAllResult<T> {
+/**
+ * The result of a tolerant read, holding every row that was read and every row that failed. For large files, use the
+ * streaming <tt>tryReadAll()</tt> methods with a consumer and error sink instead, as this keeps every row in memory.
+ */
+public class TryReadAllResult<T> implements CsvRowConsumer<T>, CsvErrorSink {
     private List<List<T>> values = new ArrayList<List<T>>();
     private List<String> failed = new ArrayList<String>();
+    private List<ReadError> errors = new ArrayList<ReadError>();
 
     public List<List<T>> getValues() {
         return values;
@@ -15,6 +23,15 @@ public class TryReadAllResult<T> {
         return failed;
     }
 
+    /**
+     * Gets the errors for the failed rows, in the same order as {@link #getFailed()}.
+     *
+     * @since 2.4.1
+     */
+    public List<ReadError> getErrors() {
+        return errors;
+    }
+
     public boolean isSuccess() {
         return failed.isEmpty();
     }
@@ -26,4 +43,32 @@ public class TryReadAllResult<T> {
     public void addFailed(String untokenizedRow) {
         failed.add(untokenizedRow);
     }
+
+    /**
+     * Adds a failed row along with its error.
+     *
+     * @since 2.4.1
+     */
+    public void addError(ReadError error) {
+        failed.add(error.getUntokenizedRow());
+        errors.add(error);
+    }
+
+    /**
+     * Adds a copy of the row.
+     *
+     * @since 2.4.1
+     */
+    public void accept(List<T> columns) {
+        addValues(new ArrayList<T>(columns));
+    }
+
+    /**
+     * Adds the failed row.
+     *
+     * @since 2.4.1
+     */
+    public void reject(ReadError error) {
+        addError(error);
+    }
 }
@@ -51,6 +51,7 @@ public class CellProcessorAdaptorTest {
 		ConvertNullTo processor = new ConvertNullTo("null");
 		IdentityTransform processorChain = new IdentityTransform(processor);
 		assertEquals(processor, processorChain.next);
+		assertEquals(processor, processorChain.getNext());
 	}
 	
 	/**
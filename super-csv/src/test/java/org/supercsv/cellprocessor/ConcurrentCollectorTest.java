@@ -0,0 +1,108 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.supercsv.mock.IdentityTransform;
+
+/**
+ * Tests the ConcurrentCollector processor.
+ */
+public class ConcurrentCollectorTest {
+	
+	private static final int THREADS = 4;
+	
+	private static final int VALUES_PER_THREAD = 10000;
+	
+	/**
+	 * Tests collecting values from multiple threads into the default queue.
+	 */
+	@Test
+	public void testConcurrentCollection() throws InterruptedException {
+		final ConcurrentCollector collector = new ConcurrentCollector(new IdentityTransform());
+		collectConcurrently(collector);
+		
+		assertEquals(THREADS * VALUES_PER_THREAD, collector.getCollection().size());
+		assertEquals(THREADS * VALUES_PER_THREAD, new HashSet<Object>(collector.getCollection()).size());
+	}
+	
+	/**
+	 * Tests collecting values from multiple threads into a supplied (non thread-safe) List.
+	 */
+	@Test
+	public void testConcurrentCollectionWithSuppliedList() throws InterruptedException {
+		final List<Object> list = new ArrayList<Object>();
+		final ConcurrentCollector collector = new ConcurrentCollector(list);
+		collectConcurrently(collector);
+		
+		assertEquals(THREADS * VALUES_PER_THREAD, list.size());
+		assertEquals(THREADS * VALUES_PER_THREAD, new HashSet<Object>(list).size());
+	}
+	
+	/**
+	 * Tests that the supplied collection is updated (through the synchronized wrapper).
+	 */
+	@Test
+	public void testSuppliedSet() {
+		final Set<Object> set = new HashSet<Object>();
+		final ConcurrentCollector collector = new ConcurrentCollector(set, new IdentityTransform());
+		assertEquals("a", collector.execute("a", ANONYMOUS_CSVCONTEXT));
+		collector.execute("a", ANONYMOUS_CSVCONTEXT);
+		collector.execute(null, ANONYMOUS_CSVCONTEXT);
+		assertEquals(2, set.size());
+		assertTrue(set.contains(null));
+	}
+	
+	/**
+	 * Tests construction with a null collection (should throw an Exception).
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testConstructWithNullCollection() {
+		new ConcurrentCollector((Set<Object>) null);
+	}
+	
+	/**
+	 * Executes the collector from several threads, each collecting distinct values.
+	 */
+	private static void collectConcurrently(final ConcurrentCollector collector) throws InterruptedException {
+		final Thread[] threads = new Thread[THREADS];
+		for( int t = 0; t < THREADS; t++ ) {
+			final int offset = t * VALUES_PER_THREAD;
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for( int i = 0; i < VALUES_PER_THREAD; i++ ) {
+						collector.execute(offset + i, ANONYMOUS_CSVCONTEXT);
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for( final Thread thread : threads ) {
+			thread.join();
+		}
+	}
+	
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+
+import org.junit.Test;
+
+/**
+ * Tests the FixedScaleNumberFormatter. As the formatter must give the same result as DecimalFormat, every expected
+ * value is produced by DecimalFormat (so the test is locale independent).
+ */
+public class FixedScaleNumberFormatterTest {
+	
+	private static final String[] PATTERNS = new String[] { "#", "0", "00", "#,##0", "#,###", "0.00", "#.00",
+		"#,##0.00", "000.0", "#,##,##0.000" };
+	
+	private static final Number[] NUMBERS = new Number[] { 0, 1, -1, 7, 12, 999, 1000, -1000, 123456789,
+		Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, (short) -42, (byte) 8, new BigInteger("-98765432109876543210"),
+		new BigDecimal("0"), new BigDecimal("0.005"), new BigDecimal("0.015"), new BigDecimal("-0.001"),
+		new BigDecimal("1234.5678"), new BigDecimal("-1234.5"), new BigDecimal("1E+3"), new BigDecimal("99.995"),
+		0.0, 1.0, -2.0, 1234567.0, 5f, -30f };
+	
+	/**
+	 * Tests that only simple patterns are compiled.
+	 */
+	@Test
+	public void testCompile() {
+		for( final String pattern : PATTERNS ) {
+			assertNotNull(pattern, FixedScaleNumberFormatter.compile(pattern));
+		}
+		assertNull(FixedScaleNumberFormatter.compile(""));
+		assertNull(FixedScaleNumberFormatter.compile("0.##"));
+		assertNull(FixedScaleNumberFormatter.compile("0."));
+		assertNull(FixedScaleNumberFormatter.compile(".00"));
+		assertNull(FixedScaleNumberFormatter.compile("0#"));
+		assertNull(FixedScaleNumberFormatter.compile("#,##0,"));
+		assertNull(FixedScaleNumberFormatter.compile("$#,##0.00"));
+		assertNull(FixedScaleNumberFormatter.compile("0.00%"));
+		assertNull(FixedScaleNumberFormatter.compile("0.00E0"));
+		assertNull(FixedScaleNumberFormatter.compile("0.00;(0.00)"));
+	}
+	
+	/**
+	 * Tests that the output is identical to DecimalFormat's.
+	 */
+	@Test
+	public void testSameAsDecimalFormat() {
+		for( final String pattern : PATTERNS ) {
+			final FixedScaleNumberFormatter formatter = FixedScaleNumberFormatter.compile(pattern);
+			final DecimalFormat decimalFormat = new DecimalFormat(pattern);
+			for( final Number number : NUMBERS ) {
+				assertEquals(pattern + " " + number, decimalFormat.format(number), formatter.format(number));
+			}
+		}
+	}
+	
+	/**
+	 * Tests that values which can't be formatted directly are left to DecimalFormat.
+	 */
+	@Test
+	public void testNotFormatted() {
+		final FixedScaleNumberFormatter formatter = FixedScaleNumberFormatter.compile("0.00");
+		assertNull(formatter.format(1.5));
+		assertNull(formatter.format(-0.0));
+		assertNull(formatter.format(1e20));
+		assertNull(formatter.format(Double.NaN));
+		assertNull(formatter.format(Double.POSITIVE_INFINITY));
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.supercsv.SuperCsvTestUtils.date;
+
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+
+import org.junit.Test;
+
+/**
+ * Tests the FixedWidthDateParser.
+ */
+public class FixedWidthDateParserTest {
+	
+	/**
+	 * Tests that only fixed width numeric patterns are compiled.
+	 */
+	@Test
+	public void testCompile() {
+		assertNotNull(FixedWidthDateParser.compile("yyyy-MM-dd"));
+		assertNotNull(FixedWidthDateParser.compile("yyyy-MM-dd HH:mm:ss"));
+		assertNotNull(FixedWidthDateParser.compile("dd/MM/yyyy"));
+		assertNotNull(FixedWidthDateParser.compile("yyyyMMddHHmmssSSS"));
+		assertNull(FixedWidthDateParser.compile("yy-MM-dd"));
+		assertNull(FixedWidthDateParser.compile("dd-MMM-yyyy"));
+		assertNull(FixedWidthDateParser.compile("yyyy-MM-dd'T'HH:mm:ss"));
+		assertNull(FixedWidthDateParser.compile("EEE, MMM d, ''yy"));
+		assertNull(FixedWidthDateParser.compile("--"));
+	}
+	
+	/**
+	 * Tests parsing input that matches the pattern exactly.
+	 */
+	@Test
+	public void testParse() {
+		final Calendar calendar = nonLenientCalendar();
+		assertEquals(date(2011, 12, 25), FixedWidthDateParser.compile("yyyy-MM-dd").parse("2011-12-25", calendar));
+		assertEquals(date(2011, 12, 25, 8, 36, 33),
+			FixedWidthDateParser.compile("yyyy-MM-dd HH:mm:ss").parse("2011-12-25 08:36:33", calendar));
+		assertEquals(date(2011, 12, 25), FixedWidthDateParser.compile("yyyyMMdd").parse("20111225", calendar));
+	}
+	
+	/**
+	 * Tests that input which doesn't match the pattern exactly, or is invalid for a non-lenient calendar, is rejected
+	 * (so the caller falls back to SimpleDateFormat).
+	 */
+	@Test
+	public void testParseRejected() {
+		final FixedWidthDateParser parser = FixedWidthDateParser.compile("yyyy-MM-dd");
+		final Calendar calendar = nonLenientCalendar();
+		assertNull(parser.parse("2011-1-25", calendar));
+		assertNull(parser.parse("2011-12-25 ", calendar));
+		assertNull(parser.parse("2011/12/25", calendar));
+		assertNull(parser.parse("2011-1a-25", calendar));
+		assertNull(parser.parse("2012-02-30", calendar));
+	}
+	
+	/**
+	 * Tests that a lenient calendar rolls invalid field values, as SimpleDateFormat does.
+	 */
+	@Test
+	public void testParseLenient() {
+		final Calendar calendar = new SimpleDateFormat("yyyy-MM-dd").getCalendar();
+		calendar.setLenient(true);
+		assertEquals(date(2012, 3, 1), FixedWidthDateParser.compile("yyyy-MM-dd").parse("2012-02-30", calendar));
+	}
+	
+	private static Calendar nonLenientCalendar() {
+		final SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
+		formatter.setLenient(false);
+		return formatter.getCalendar();
+	}
+}
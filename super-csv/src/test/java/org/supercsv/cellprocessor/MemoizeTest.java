@@ -0,0 +1,153 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
+
+import java.math.BigDecimal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.util.CsvContext;
+
+/**
+ * Tests the Memoize processor.
+ */
+public class MemoizeTest {
+	
+	private CountingProcessor counter;
+	private Memoize processor;
+	
+	/**
+	 * Sets up the processor for the test.
+	 */
+	@Before
+	public void setUp() {
+		counter = new CountingProcessor();
+		processor = new Memoize(2, counter);
+	}
+	
+	/**
+	 * Tests that repeated values are answered from the cache.
+	 */
+	@Test
+	public void testRepeatedValues() {
+		final Object first = processor.execute("1.50", ANONYMOUS_CSVCONTEXT);
+		assertEquals(new BigDecimal("1.50"), first);
+		assertSame(first, processor.execute("1.50", ANONYMOUS_CSVCONTEXT));
+		assertSame(first, processor.execute("1.50", ANONYMOUS_CSVCONTEXT));
+		assertEquals(new BigDecimal("2"), processor.execute("2", ANONYMOUS_CSVCONTEXT));
+		
+		assertEquals(2, counter.executions);
+		assertEquals(2L, processor.getHits());
+		assertEquals(2L, processor.getMisses());
+		assertEquals(0.5, processor.getHitRate(), 0.0);
+		assertEquals(2, processor.getSize());
+	}
+	
+	/**
+	 * Tests that the least recently used value is evicted when the cache is full.
+	 */
+	@Test
+	public void testEviction() {
+		processor.execute("1", ANONYMOUS_CSVCONTEXT);
+		processor.execute("2", ANONYMOUS_CSVCONTEXT);
+		processor.execute("1", ANONYMOUS_CSVCONTEXT); // "2" is now the least recently used
+		processor.execute("3", ANONYMOUS_CSVCONTEXT);
+		assertEquals(3, counter.executions);
+		
+		processor.execute("1", ANONYMOUS_CSVCONTEXT);
+		assertEquals(3, counter.executions);
+		processor.execute("2", ANONYMOUS_CSVCONTEXT);
+		assertEquals(4, counter.executions);
+		assertEquals(2, processor.getSize());
+	}
+	
+	/**
+	 * Tests that null results are cached, but exceptions aren't.
+	 */
+	@Test
+	public void testNullsAndExceptions() {
+		final Memoize optional = new Memoize(new Optional(counter));
+		assertNull(optional.execute(null, ANONYMOUS_CSVCONTEXT));
+		assertNull(optional.execute(null, ANONYMOUS_CSVCONTEXT));
+		assertEquals(1L, optional.getHits());
+		
+		for( int i = 0; i < 2; i++ ) {
+			try {
+				processor.execute("invalid", ANONYMOUS_CSVCONTEXT);
+				fail("should have thrown SuperCsvCellProcessorException");
+			}
+			catch(SuperCsvCellProcessorException e) {}
+		}
+		assertEquals(2, counter.executions);
+		assertEquals(0, processor.getSize());
+	}
+	
+	/**
+	 * Tests clearing the cache.
+	 */
+	@Test
+	public void testClear() {
+		assertEquals(0.0, processor.getHitRate(), 0.0);
+		processor.execute("1", ANONYMOUS_CSVCONTEXT);
+		processor.execute("1", ANONYMOUS_CSVCONTEXT);
+		processor.clear();
+		assertEquals(0, processor.getSize());
+		assertEquals(0L, processor.getHits());
+		assertEquals(0L, processor.getMisses());
+		processor.execute("1", ANONYMOUS_CSVCONTEXT);
+		assertEquals(2, counter.executions);
+	}
+	
+	/**
+	 * Tests construction with an invalid maxSize (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithInvalidMaxSize() {
+		new Memoize(0, counter);
+	}
+	
+	/**
+	 * Tests construction with a null next processor (should throw an Exception).
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testWithNullNext() {
+		new Memoize(null);
+	}
+	
+	/**
+	 * A ParseBigDecimal that counts how many times it's executed.
+	 */
+	private static class CountingProcessor implements CellProcessor {
+		
+		private final CellProcessor parser = new ParseBigDecimal();
+		
+		int executions;
+		
+		public Object execute(final Object value, final CsvContext context) {
+			executions++;
+			return parser.execute(value, context);
+		}
+	}
+	
+}
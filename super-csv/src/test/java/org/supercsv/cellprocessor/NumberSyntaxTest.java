@@ -0,0 +1,103 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+/**
+ * Tests the NumberSyntax class: every input accepted by a parser must pass its check, and obviously invalid input must
+ * fail it.
+ */
+public class NumberSyntaxTest {
+	
+	private static final String[] INPUTS = { "", " ", "0", "-1", "+1", "-", "+", "123456789012", "١٢", "1.5",
+		"-.5", "1e10", "1E-10", "1.5f", " 2.5d ", "0x1p3", "NaN", "-Infinity", "abc", "N/A", "null", "12,5", "1 000",
+		"--1", "1-", "e", "." };
+	
+	/**
+	 * Tests mightBeInteger() against Integer.valueOf() and Long.parseLong().
+	 */
+	@Test
+	public void testMightBeInteger() {
+		for( final String input : INPUTS ) {
+			if( parsesAsInteger(input) || parsesAsLong(input) ) {
+				assertTrue(input, NumberSyntax.mightBeInteger(input));
+			}
+		}
+		for( final String input : new String[] { "", "-", "+", "abc", "N/A", "12,5", "1.5", " 1" } ) {
+			assertFalse(input, NumberSyntax.mightBeInteger(input));
+		}
+	}
+	
+	/**
+	 * Tests mightBeBigDecimal() against new BigDecimal().
+	 */
+	@Test
+	public void testMightBeBigDecimal() {
+		for( final String input : INPUTS ) {
+			try {
+				new BigDecimal(input);
+				assertTrue(input, NumberSyntax.mightBeBigDecimal(input));
+			}
+			catch(NumberFormatException e) {}
+		}
+		for( final String input : new String[] { "", "-", ".", "abc", "N/A", "12,5", "1 000" } ) {
+			assertFalse(input, NumberSyntax.mightBeBigDecimal(input));
+		}
+	}
+	
+	/**
+	 * Tests mightBeDouble() against new Double().
+	 */
+	@Test
+	public void testMightBeDouble() {
+		for( final String input : INPUTS ) {
+			try {
+				new Double(input);
+				assertTrue(input, NumberSyntax.mightBeDouble(input));
+			}
+			catch(NumberFormatException e) {}
+		}
+		for( final String input : new String[] { "", " ", "-", "N/A", "null", "12,5", "1 000" } ) {
+			assertFalse(input, NumberSyntax.mightBeDouble(input));
+		}
+	}
+	
+	private static boolean parsesAsInteger(final String input) {
+		try {
+			Integer.valueOf(input);
+			return true;
+		}
+		catch(NumberFormatException e) {
+			return false;
+		}
+	}
+	
+	private static boolean parsesAsLong(final String input) {
+		try {
+			Long.parseLong(input);
+			return true;
+		}
+		catch(NumberFormatException e) {
+			return false;
+		}
+	}
+}
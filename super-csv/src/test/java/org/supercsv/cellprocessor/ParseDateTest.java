@@ -20,9 +20,13 @@ import static org.junit.Assert.fail;
 import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
 import static org.supercsv.SuperCsvTestUtils.date;
 
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.Before;
@@ -148,6 +152,59 @@ public class ParseDateTest {
 		assertEquals(expectedDate, processorChain2.execute(dodgyDate, ANONYMOUS_CSVCONTEXT));
 	}
 	
+	/**
+	 * Tests the fixed width formats, which are parsed without SimpleDateFormat when the input matches exactly (and fall
+	 * back to SimpleDateFormat otherwise).
+	 */
+	@Test
+	public void testFixedWidthDateFormats() {
+		final CellProcessor isoDate = new ParseDate("yyyy-MM-dd");
+		assertEquals(DATE, isoDate.execute("2011-12-25", ANONYMOUS_CSVCONTEXT));
+		assertEquals(DATE, isoDate.execute("2011-12-25T10:00", ANONYMOUS_CSVCONTEXT)); // trailing text is ignored
+		assertEquals(DATE, isoDate.execute("2011-12-025", ANONYMOUS_CSVCONTEXT));
+		
+		final CellProcessor isoDateTime = new ParseDate("yyyy-MM-dd HH:mm:ss");
+		assertEquals(date(2011, 12, 25, 8, 36, 33), isoDateTime.execute("2011-12-25 08:36:33", ANONYMOUS_CSVCONTEXT));
+		
+		try {
+			isoDateTime.execute("2011-12-25 24:00:00", ANONYMOUS_CSVCONTEXT);
+			fail("should have thrown a SuperCsvCellProcessorException");
+		}
+		catch(SuperCsvCellProcessorException e) {}
+	}
+	
+	/**
+	 * Tests that a single processor can be used by multiple threads at once.
+	 */
+	@Test
+	public void testConcurrentExecution() throws Exception {
+		final CellProcessor shared = new ParseDate(DATE_FORMAT2);
+		final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+		final Thread[] threads = new Thread[4];
+		for( int i = 0; i < threads.length; i++ ) {
+			final Date expected = date(2011, 12, i + 1);
+			final String input = new SimpleDateFormat(DATE_FORMAT2).format(expected);
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						for( int j = 0; j < 1000; j++ ) {
+							assertEquals(expected, shared.execute(input, ANONYMOUS_CSVCONTEXT));
+						}
+					}
+					catch(Throwable t) {
+						failures.add(t);
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for( final Thread thread : threads ) {
+			thread.join();
+		}
+		assertEquals(Collections.emptyList(), failures);
+	}
+	
 	/**
 	 * Tests execution with a non String input (should throw an exception).
 	 */
@@ -188,4 +245,20 @@ public class ParseDateTest {
 		new ParseDate(DATE_FORMAT, false, (Locale) null);
 	}
 	
+	/**
+	 * Tests that a subclass parsing with the deprecated formatter accessor gets a formatter configured with the
+	 * processor's date format and Locale.
+	 */
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testDeprecatedFormatterAccessor() {
+		final CellProcessor legacy = new ParseDateTimeAbstract(DATE_FORMAT2, false, Locale.GERMAN) {
+			@Override
+			protected Object parseValue(final Object value) throws ParseException {
+				return getFormatter().parse((String) value);
+			}
+		};
+		assertEquals(DATE, legacy.execute(GERMAN_DATE, ANONYMOUS_CSVCONTEXT));
+	}
+	
 }
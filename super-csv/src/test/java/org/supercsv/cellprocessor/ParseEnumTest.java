@@ -20,6 +20,9 @@ import static org.junit.Assert.fail;
 import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -119,6 +122,75 @@ public class ParseEnumTest {
 		}
 	}
 	
+	/**
+	 * Tests that aliases are converted to their enum constants, ignoring case when required.
+	 */
+	@Test
+	public void testAliases() {
+		final Map<String, TestEnum> aliases = new HashMap<String, TestEnum>();
+		aliases.put("N", TestEnum.NORMAL);
+		aliases.put("lc", TestEnum.lowercase);
+		
+		final CellProcessor aliasProcessor = new ParseEnum(TestEnum.class, false, aliases);
+		final CellProcessor aliasProcessorChain = new ParseEnum(TestEnum.class, false, aliases,
+			new IdentityTransform());
+		for( CellProcessor p : Arrays.asList(aliasProcessor, aliasProcessorChain) ) {
+			assertEquals(TestEnum.NORMAL, p.execute("N", ANONYMOUS_CSVCONTEXT));
+			assertEquals(TestEnum.lowercase, p.execute("lc", ANONYMOUS_CSVCONTEXT));
+			assertEquals(TestEnum.MixedCase, p.execute("MixedCase", ANONYMOUS_CSVCONTEXT));
+			try {
+				p.execute("LC", ANONYMOUS_CSVCONTEXT);
+				fail("should have thrown SuperCsvCellProcessorException");
+			}
+			catch(SuperCsvCellProcessorException e) {}
+		}
+		
+		final CellProcessor ignoreCaseAliasProcessor = new ParseEnum(TestEnum.class, true, aliases);
+		assertEquals(TestEnum.NORMAL, ignoreCaseAliasProcessor.execute("n", ANONYMOUS_CSVCONTEXT));
+		assertEquals(TestEnum.lowercase, ignoreCaseAliasProcessor.execute("LC", ANONYMOUS_CSVCONTEXT));
+		assertEquals(TestEnum.MixedCase, ignoreCaseAliasProcessor.execute("MIXEDCASE", ANONYMOUS_CSVCONTEXT));
+	}
+	
+	/**
+	 * Tests construction with null aliases (should throw an Exception).
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testConstructorWithNullAliases() {
+		new ParseEnum(TestEnum.class, false, (Map<String, TestEnum>) null);
+	}
+	
+	/**
+	 * Tests construction with aliases containing a null enum constant (should throw an Exception).
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testConstructorWithNullAliasValue() {
+		new ParseEnum(TestEnum.class, false, Collections.singletonMap("N", (TestEnum) null));
+	}
+	
+	/**
+	 * Tests that an alias can't have the same name as a different enum constant, ignoring case when required (but it
+	 * can repeat the name of the same constant).
+	 */
+	@Test
+	public void testConstructorWithConflictingAlias() {
+		assertEquals(TestEnum.NORMAL, new ParseEnum(TestEnum.class, false, Collections.singletonMap("NORMAL",
+			TestEnum.NORMAL)).execute("NORMAL", ANONYMOUS_CSVCONTEXT));
+		assertEquals(TestEnum.lowercase, new ParseEnum(TestEnum.class, false, Collections.singletonMap("normal",
+			TestEnum.lowercase)).execute("normal", ANONYMOUS_CSVCONTEXT));
+		
+		try {
+			new ParseEnum(TestEnum.class, false, Collections.singletonMap("NORMAL", TestEnum.lowercase));
+			fail("should have thrown IllegalArgumentException");
+		}
+		catch(IllegalArgumentException e) {}
+		
+		try {
+			new ParseEnum(TestEnum.class, true, Collections.singletonMap("normal", TestEnum.lowercase));
+			fail("should have thrown IllegalArgumentException");
+		}
+		catch(IllegalArgumentException e) {}
+	}
+	
 	/**
 	 * Tests execution with a null input (should throw an Exception).
 	 */
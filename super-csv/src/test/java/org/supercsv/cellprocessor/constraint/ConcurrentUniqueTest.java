@@ -0,0 +1,112 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.mock.IdentityTransform;
+
+/**
+ * Tests the ConcurrentUnique constraint.
+ */
+public class ConcurrentUniqueTest {
+	
+	private static final int THREADS = 4;
+	
+	private static final int VALUES = 20000;
+	
+	/**
+	 * Tests that duplicates are detected with a single thread, including integral values of different types (which
+	 * are never equal).
+	 */
+	@Test
+	public void testSingleThread() {
+		final CellProcessor processor = new ConcurrentUnique(new IdentityTransform());
+		assertEquals(1, processor.execute(1, ANONYMOUS_CSVCONTEXT));
+		assertEquals(1L, processor.execute(1L, ANONYMOUS_CSVCONTEXT));
+		assertEquals("1", processor.execute("1", ANONYMOUS_CSVCONTEXT));
+		assertDuplicate(processor, 1);
+		assertDuplicate(processor, 1L);
+		assertDuplicate(processor, "1");
+	}
+	
+	/**
+	 * Tests that when every value is processed by every thread, each value is accepted exactly once.
+	 */
+	@Test
+	public void testMultipleThreads() throws InterruptedException {
+		assertEquals(VALUES, countAccepted(new ConcurrentUnique(), false));
+		assertEquals(VALUES, countAccepted(new ConcurrentUnique(), true));
+	}
+	
+	/**
+	 * Tests execution with a null input (should throw an Exception).
+	 */
+	@Test(expected = SuperCsvCellProcessorException.class)
+	public void testWithNull() {
+		new ConcurrentUnique().execute(null, ANONYMOUS_CSVCONTEXT);
+	}
+	
+	/**
+	 * Processes the same values on several threads, returning the number of values that were accepted.
+	 */
+	private static int countAccepted(final CellProcessor processor, final boolean strings)
+		throws InterruptedException {
+		final AtomicInteger accepted = new AtomicInteger();
+		final Thread[] threads = new Thread[THREADS];
+		for( int t = 0; t < THREADS; t++ ) {
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for( int i = 0; i < VALUES; i++ ) {
+						try {
+							processor.execute(strings ? (Object) String.valueOf(i) : (Object) i, ANONYMOUS_CSVCONTEXT);
+							accepted.incrementAndGet();
+						}
+						catch(SuperCsvConstraintViolationException e) {
+							// duplicate from another thread
+						}
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for( final Thread thread : threads ) {
+			thread.join();
+		}
+		return accepted.get();
+	}
+	
+	/**
+	 * Asserts that the value is rejected as a duplicate.
+	 */
+	private static void assertDuplicate(final CellProcessor processor, final Object value) {
+		try {
+			processor.execute(value, ANONYMOUS_CSVCONTEXT);
+			fail("should have thrown SuperCsvConstraintViolationException");
+		}
+		catch(SuperCsvConstraintViolationException e) {}
+	}
+	
+}
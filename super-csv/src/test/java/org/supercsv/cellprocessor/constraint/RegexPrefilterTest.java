@@ -0,0 +1,138 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.supercsv.cellprocessor.constraint.RegexPrefilter.MATCH;
+import static org.supercsv.cellprocessor.constraint.RegexPrefilter.NO_MATCH;
+import static org.supercsv.cellprocessor.constraint.RegexPrefilter.UNKNOWN;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Tests the RegexPrefilter.
+ */
+public class RegexPrefilterTest {
+	
+	private static final String[] REGEXES = { "\\$[0-9]+\\.[0-9]{2}", "abc", "^abc$", "\\Qa.c\\E", "a(bc|d)e",
+		"(ab)+c", "(?:ab){2,3}", "a.c", "[^a]b", "a|bc", "ab?c*", "x\\d{3}-\\d{4}y", "\\w+@\\w+\\.com", "a\\bb",
+		"(a)\\1", "\\x61\\u0062\\0143", "\\t\\n", "[a-c&&[^b]]{2}", "a{0}b", "a+?b++", "\\p{Lu}c", "\\s*ab\\s*",
+		"ab\\Z", "\\Aa\\z", "^$", "()", ".*", "[\\]a]b", "\\Qab\\E+" };
+	
+	/**
+	 * Tests the information derived from some common regular expressions.
+	 */
+	@Test
+	public void testPrefiltering() {
+		final RegexPrefilter dollars = RegexPrefilter.compile("\\$[0-9]+\\.[0-9]{2}");
+		assertEquals(NO_MATCH, dollars.check("$1.2")); // too short
+		assertEquals(NO_MATCH, dollars.check("123.45")); // no prefix
+		assertEquals(UNKNOWN, dollars.check("$123.45"));
+		
+		final RegexPrefilter phone = RegexPrefilter.compile("\\d{3}-\\d{4}");
+		assertEquals(NO_MATCH, phone.check("555-12345")); // too long
+		assertEquals(NO_MATCH, phone.check("55501234")); // no '-'
+		assertEquals(UNKNOWN, phone.check("555-1234"));
+		
+		final RegexPrefilter suffix = RegexPrefilter.compile("\\w+@example\\.com");
+		assertEquals(NO_MATCH, suffix.check("bob@example.org"));
+		assertEquals(UNKNOWN, suffix.check("bob@example.com"));
+	}
+	
+	/**
+	 * Tests that literal regular expressions are matched without the regular expression.
+	 */
+	@Test
+	public void testLiterals() {
+		for( final String regex : new String[] { "N/A", "^N/A$", "\\QN/A\\E", "(N)/(?:A)", "\\x4E/\\u0041" } ) {
+			final RegexPrefilter prefilter = RegexPrefilter.compile(regex);
+			assertEquals(regex, MATCH, prefilter.check("N/A"));
+			assertEquals(regex, NO_MATCH, prefilter.check("N/B"));
+			assertEquals(regex, NO_MATCH, prefilter.check("N/AA"));
+		}
+	}
+	
+	/**
+	 * Tests that unsupported regular expressions (or those that give no useful information) aren't compiled.
+	 */
+	@Test
+	public void testUnsupported() {
+		assertNull(RegexPrefilter.compile("(?i)abc"));
+		assertNull(RegexPrefilter.compile("a(?=b)"));
+		assertNull(RegexPrefilter.compile("\\R"));
+		assertNull(RegexPrefilter.compile("\ud83d\ude00+"));
+		assertNull(RegexPrefilter.compile(".*"));
+		assertNull(RegexPrefilter.compile("a*|b*"));
+		assertNotNull(RegexPrefilter.compile("[ab]+"));
+	}
+	
+	/**
+	 * Tests that the prefilter never disagrees with the regular expression, using random input.
+	 */
+	@Test
+	public void testAgreesWithRegex() {
+		final Random random = new Random(11);
+		for( final String regex : REGEXES ) {
+			final Pattern pattern = Pattern.compile(regex);
+			final RegexPrefilter prefilter = RegexPrefilter.compile(regex);
+			if( prefilter == null ) {
+				continue;
+			}
+			for( int i = 0; i < 20000; i++ ) {
+				final String value = randomString(random, random.nextInt(9));
+				final int result = prefilter.check(value);
+				if( result != UNKNOWN ) {
+					assertEquals(regex + " with '" + value + "'", pattern.matcher(value).matches(), result == MATCH);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Tests that the prefilter never rejects Strings that match.
+	 */
+	@Test
+	public void testNeverRejectsMatches() {
+		final String[][] matching = { { "\\$[0-9]+\\.[0-9]{2}", "$0.99" }, { "a(bc|d)e", "abce", "ade" },
+			{ "(ab)+c", "abc", "ababc" }, { "(?:ab){2,3}", "abab", "ababab" }, { "a|bc", "a", "bc" },
+			{ "\\w+@\\w+\\.com", "a@b.com" }, { "(a)\\1", "aa" }, { "\\t\\n", "\t\n" }, { "[\\]a]b", "]b" },
+			{ "\\Qab\\E+", "abbb" }, { "a.c", "a\ud83d\ude00c" }, { "\\s*ab\\s*", " ab " }, { "ab\\Z", "ab" } };
+		for( final String[] test : matching ) {
+			final RegexPrefilter prefilter = RegexPrefilter.compile(test[0]);
+			for( int i = 1; i < test.length; i++ ) {
+				assertTrue(test[0] + " with '" + test[i] + "'", Pattern.matches(test[0], test[i]));
+				assertTrue(test[0] + " with '" + test[i] + "'", prefilter == null
+					|| prefilter.check(test[i]) != NO_MATCH);
+			}
+		}
+	}
+	
+	private static String randomString(final Random random, final int length) {
+		final String alphabet = "abcde.$1 ]@\t\n";
+		final StringBuilder builder = new StringBuilder(length);
+		for( int i = 0; i < length; i++ ) {
+			builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return builder.toString();
+	}
+	
+}
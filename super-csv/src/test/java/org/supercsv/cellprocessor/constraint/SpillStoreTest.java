@@ -0,0 +1,73 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the SpillStore class.
+ */
+public class SpillStoreTest {
+	
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+	
+	/**
+	 * Tests that values are found whether they're buffered or in any run (including values with the same hash, which
+	 * span several blocks of the index), and that the runs are merged so there are only a few of them.
+	 */
+	@Test
+	public void testAddAndContains() throws IOException {
+		final File directory = temporaryFolder.newFolder();
+		final SpillStore store = new SpillStore(directory, 7);
+		final Random random = new Random(1);
+		final int count = 5000;
+		final long[] hashes = new long[count];
+		for( int i = 0; i < count; i++ ) {
+			// every 10th value shares the same hash, so that entries with that hash span several index blocks
+			hashes[i] = i % 10 == 0 ? 42L : random.nextLong();
+			final byte[] bytes = SpillFiles.encode("value" + i);
+			assertFalse(store.contains(hashes[i], bytes));
+			store.add(hashes[i], bytes);
+			assertTrue(store.contains(hashes[i], bytes));
+		}
+		
+		for( int i = 0; i < count; i++ ) {
+			assertTrue(store.contains(hashes[i], SpillFiles.encode("value" + i)));
+			assertFalse(store.contains(hashes[i], SpillFiles.encode("other" + i)));
+		}
+		assertFalse(store.contains(43L, SpillFiles.encode("value0")));
+		
+		// 714 runs of 7 values are merged like a binary counter
+		assertEquals(Integer.bitCount(count / 7), store.getRunCount());
+		assertEquals(2 * store.getRunCount(), directory.list().length);
+		
+		store.close();
+		assertEquals(0, store.getRunCount());
+		assertEquals(0, directory.list().length);
+		assertFalse(store.contains(hashes[1], SpillFiles.encode("value1")));
+	}
+}
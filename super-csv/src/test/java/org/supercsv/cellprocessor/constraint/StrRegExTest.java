@@ -96,6 +96,25 @@ public class StrRegExTest {
 		}
 	}
 	
+	/**
+	 * Tests execution with regular expressions that are matched (or rejected) without running the regex engine.
+	 */
+	@Test
+	public void testPrefilteredRegex() {
+		final CellProcessor literal = new StrRegEx("^N/A$");
+		assertEquals("N/A", literal.execute("N/A", ANONYMOUS_CSVCONTEXT));
+		
+		for( final String input : new String[] { "$1.2", "123.45", "$123.456" } ) {
+			try {
+				processor.execute(input, ANONYMOUS_CSVCONTEXT);
+				fail("should have thrown SuperCsvConstraintViolationException");
+			}
+			catch(SuperCsvConstraintViolationException e) {
+				assertTrue(e.getMessage().contains(MSG));
+			}
+		}
+	}
+	
 	/**
 	 * Tests construction of the processor with a null regex (should throw an Exception).
 	 */
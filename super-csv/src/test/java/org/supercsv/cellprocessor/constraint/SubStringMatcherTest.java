@@ -0,0 +1,94 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the SubStringMatcher.
+ */
+public class SubStringMatcherTest {
+	
+	/**
+	 * Tests overlapping substrings, substrings of other substrings and non-ASCII characters.
+	 */
+	@Test
+	public void testMatching() {
+		final SubStringMatcher matcher = new SubStringMatcher(Arrays.asList("he", "she", "his", "hers", "\u00fcber"));
+		assertTrue(matcher.containsAny("ushers"));
+		assertEquals(0, matcher.indexOfFirstContained("ushers"));
+		assertEquals(0, matcher.indexOfFirstContained("ashe")); // "she" contains "he"
+		assertEquals(2, matcher.indexOfFirstContained("this"));
+		assertEquals(4, matcher.indexOfFirstContained("\u00dcber \u00fcber"));
+		assertFalse(matcher.containsAny("hxs\u00fcbe"));
+		assertEquals(-1, matcher.indexOfFirstContained("hxs\u00fcbe"));
+		assertEquals(-1, matcher.indexOfFirstContained(""));
+	}
+	
+	/**
+	 * Tests that the empty String is contained in every input.
+	 */
+	@Test
+	public void testEmptySubString() {
+		final SubStringMatcher matcher = new SubStringMatcher(Arrays.asList("abc", ""));
+		assertTrue(matcher.containsAny(""));
+		assertEquals(1, matcher.indexOfFirstContained("xyz"));
+		assertEquals(0, matcher.indexOfFirstContained("xabc"));
+	}
+	
+	/**
+	 * Tests that the result is the same as calling String.contains() for each substring in turn.
+	 */
+	@Test
+	public void testSameAsContains() {
+		final Random random = new Random(7);
+		for( int run = 0; run < 200; run++ ) {
+			final List<String> subStrings = new ArrayList<String>();
+			for( int i = random.nextInt(20) + 1; i > 0; i-- ) {
+				subStrings.add(randomString(random, random.nextInt(4) + 1));
+			}
+			final SubStringMatcher matcher = new SubStringMatcher(subStrings);
+			for( int i = 0; i < 20; i++ ) {
+				final String input = randomString(random, random.nextInt(30));
+				int expected = -1;
+				for( int j = 0; j < subStrings.size() && expected < 0; j++ ) {
+					if( input.contains(subStrings.get(j)) ) {
+						expected = j;
+					}
+				}
+				assertEquals(subStrings + " " + input, expected, matcher.indexOfFirstContained(input));
+				assertEquals(expected >= 0, matcher.containsAny(input));
+			}
+		}
+	}
+	
+	private static String randomString(final Random random, final int length) {
+		final char[] chars = new char[length];
+		for( int i = 0; i < length; i++ ) {
+			chars[i] = "abc\u00e9".charAt(random.nextInt(4));
+		}
+		return new String(chars);
+	}
+}
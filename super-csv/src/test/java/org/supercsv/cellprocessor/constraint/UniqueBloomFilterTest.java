@@ -0,0 +1,119 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.exception.SuperCsvConstraintViolationException;
+import org.supercsv.mock.IdentityTransform;
+
+/**
+ * Tests the UniqueBloomFilter constraint.
+ */
+public class UniqueBloomFilterTest {
+	
+	private UniqueBloomFilter processor;
+	private UniqueBloomFilter processorChain;
+	
+	/**
+	 * Sets up the processors for the test using all constructor combinations.
+	 */
+	@Before
+	public void setUp() {
+		processor = new UniqueBloomFilter(1000);
+		processorChain = new UniqueBloomFilter(1000, 0.01, null, new IdentityTransform());
+	}
+	
+	/**
+	 * Deletes the temporary files.
+	 */
+	@After
+	public void tearDown() throws IOException {
+		processor.close();
+		processorChain.close();
+	}
+	
+	/**
+	 * Tests unchained/chained execution with valid (unique) input.
+	 */
+	@Test
+	public void testValidInput() {
+		for( String input : Arrays.asList("1", "2", "3", "4", "5") ) {
+			assertEquals(input, processor.execute(input, ANONYMOUS_CSVCONTEXT));
+			assertEquals(input, processorChain.execute(input, ANONYMOUS_CSVCONTEXT));
+		}
+	}
+	
+	/**
+	 * Tests invalid (non-unique) input.
+	 */
+	@Test(expected = SuperCsvConstraintViolationException.class)
+	public void testInvalidInput() {
+		assertEquals("duplicate", processor.execute("duplicate", ANONYMOUS_CSVCONTEXT));
+		processor.execute("duplicate", ANONYMOUS_CSVCONTEXT);
+	}
+	
+	/**
+	 * Tests that false positives from an overloaded filter are resolved exactly against the disk store.
+	 */
+	@Test
+	public void testFalsePositivesAreConfirmed() throws IOException {
+		final UniqueBloomFilter overloaded = new UniqueBloomFilter(10, 0.5, null);
+		try {
+			for( int i = 0; i < 5000; i++ ) {
+				overloaded.execute("value" + i, ANONYMOUS_CSVCONTEXT);
+			}
+			assertTrue(overloaded.getDiskLookups() > 0);
+			
+			for( int i = 0; i < 5000; i += 997 ) {
+				try {
+					overloaded.execute("value" + i, ANONYMOUS_CSVCONTEXT);
+					fail("should have thrown SuperCsvConstraintViolationException");
+				}
+				catch(SuperCsvConstraintViolationException e) {}
+			}
+		}
+		finally {
+			overloaded.close();
+		}
+	}
+	
+	/**
+	 * Tests execution with a null input (should throw an Exception).
+	 */
+	@Test(expected = SuperCsvCellProcessorException.class)
+	public void testWithNull() {
+		processor.execute(null, ANONYMOUS_CSVCONTEXT);
+	}
+	
+	/**
+	 * Tests construction with an invalid false positive probability (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorWithInvalidProbability() {
+		new UniqueBloomFilter(10, 1.0, null);
+	}
+}
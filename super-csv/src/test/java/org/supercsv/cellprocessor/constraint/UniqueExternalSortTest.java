@@ -0,0 +1,149 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.constraint;
+
+import static org.junit.Assert.assertEquals;
+import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.mock.IdentityTransform;
+import org.supercsv.util.CsvContext;
+
+/**
+ * Tests the UniqueExternalSort constraint.
+ */
+public class UniqueExternalSortTest {
+	
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+	
+	private UniqueExternalSort processor;
+	private UniqueExternalSort processorChain;
+	
+	private final Map<String, List<Integer>> duplicates = new LinkedHashMap<String, List<Integer>>();
+	
+	private final UniqueExternalSort.DuplicateHandler handler = new UniqueExternalSort.DuplicateHandler() {
+		public void duplicate(final String value, final List<Integer> lineNumbers) {
+			duplicates.put(value, lineNumbers);
+		}
+	};
+	
+	/**
+	 * Sets up the processors for the test using all constructor combinations.
+	 */
+	@Before
+	public void setUp() {
+		processor = new UniqueExternalSort();
+		processorChain = new UniqueExternalSort(3, null, new IdentityTransform());
+	}
+	
+	/**
+	 * Deletes the temporary files.
+	 */
+	@After
+	public void tearDown() {
+		processor.close();
+		processorChain.close();
+	}
+	
+	/**
+	 * Tests that every duplicate is reported with all of its line numbers, whether the values were spilled to disk in
+	 * several batches (the chained processor has a batch size of 3) or not.
+	 */
+	@Test
+	public void testFindDuplicates() throws IOException {
+		final List<String> values = Arrays.asList("b", "a", "c", "b", "d", "a", "e", "b", "f", "g");
+		for( UniqueExternalSort p : Arrays.asList(processor, processorChain) ) {
+			for( int i = 0; i < values.size(); i++ ) {
+				assertEquals(values.get(i), p.execute(values.get(i), new CsvContext(i + 1, i + 1, 1)));
+			}
+			
+			duplicates.clear();
+			assertEquals(2, p.findDuplicates(handler));
+			assertEquals(Arrays.asList("a", "b"), Arrays.asList(duplicates.keySet().toArray()));
+			assertEquals(Arrays.asList(2, 6), duplicates.get("a"));
+			assertEquals(Arrays.asList(1, 4, 8), duplicates.get("b"));
+		}
+	}
+	
+	/**
+	 * Tests that when there are more temporary files than can be merged at once, they are merged in several passes
+	 * (deleting the merged files) without changing the result.
+	 */
+	@Test
+	public void testFindDuplicatesInSeveralPasses() throws IOException {
+		final File directory = temporaryFolder.newFolder();
+		final UniqueExternalSort p = new UniqueExternalSort(1, directory);
+		p.mergeFanIn = 2;
+		try {
+			final List<String> values = Arrays.asList("b", "a", "c", "b", "d", "a", "e", "b", "f", "g", "a");
+			for( int i = 0; i < values.size(); i++ ) {
+				p.execute(values.get(i), new CsvContext(i + 1, i + 1, 1));
+			}
+			assertEquals(values.size(), directory.list().length);
+			
+			assertEquals(2, p.findDuplicates(handler));
+			assertEquals(Arrays.asList("a", "b"), Arrays.asList(duplicates.keySet().toArray()));
+			assertEquals(Arrays.asList(2, 6, 11), duplicates.get("a"));
+			assertEquals(Arrays.asList(1, 4, 8), duplicates.get("b"));
+			assertEquals(2, directory.list().length);
+		}
+		finally {
+			p.close();
+		}
+		assertEquals(0, directory.list().length);
+	}
+	
+	/**
+	 * Tests that no duplicates are reported for unique values.
+	 */
+	@Test
+	public void testNoDuplicates() throws IOException {
+		for( String input : Arrays.asList("1", "2", "3", "4", "5") ) {
+			processorChain.execute(input, ANONYMOUS_CSVCONTEXT);
+		}
+		assertEquals(0, processorChain.findDuplicates(handler));
+		assertEquals(0, duplicates.size());
+	}
+	
+	/**
+	 * Tests execution with a null input (should throw an Exception).
+	 */
+	@Test(expected = SuperCsvCellProcessorException.class)
+	public void testWithNull() {
+		processor.execute(null, ANONYMOUS_CSVCONTEXT);
+	}
+	
+	/**
+	 * Tests construction with an invalid batch size (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorWithInvalidBatchSize() {
+		new UniqueExternalSort(0, null);
+	}
+}
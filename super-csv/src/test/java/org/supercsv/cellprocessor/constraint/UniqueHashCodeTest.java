@@ -16,6 +16,8 @@
 package org.supercsv.cellprocessor.constraint;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
 
 import java.util.Arrays;
@@ -27,6 +29,10 @@ import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.mock.IdentityTransform;
 import org.supercsv.mock.PersonBean;
+import org.supercsv.util.CsvContext;
+import org.supercsv.util.LongHashSet;
+import org.supercsv.util.LongSet;
+import org.supercsv.util.OffHeapLongHashSet;
 
 /**
  * Tests the UniqueHashCode constraint.
@@ -122,4 +128,52 @@ public class UniqueHashCodeTest {
 		processor.execute(null, ANONYMOUS_CSVCONTEXT);
 	}
 	
+	
+	/**
+	 * Tests that the hashcodes are stored in the supplied set (which can be off-heap).
+	 */
+	@Test
+	public void testSuppliedSet() {
+		final LongSet hashCodes = new OffHeapLongHashSet(16);
+		final CellProcessor offHeapProcessor = new UniqueHashCode(hashCodes);
+		final CellProcessor offHeapProcessorChain = new UniqueHashCode(new LongHashSet(), new IdentityTransform());
+		for( String input : Arrays.asList("a", "b", "c") ) {
+			assertEquals(input, offHeapProcessor.execute(input, ANONYMOUS_CSVCONTEXT));
+			assertEquals(input, offHeapProcessorChain.execute(input, ANONYMOUS_CSVCONTEXT));
+		}
+		assertEquals(3, hashCodes.size());
+		assertTrue(hashCodes.contains("b".hashCode()));
+		try {
+			offHeapProcessor.execute("c", ANONYMOUS_CSVCONTEXT);
+			fail("should have thrown SuperCsvConstraintViolationException");
+		}
+		catch(SuperCsvConstraintViolationException e) {}
+	}
+	
+	/**
+	 * Tests that reaching the memory limit of the supplied set is reported with the context of the cell.
+	 */
+	@Test
+	public void testMemoryLimitReached() {
+		final CellProcessor limited = new UniqueHashCode(new LongHashSet(0, 256));
+		final CsvContext context = new CsvContext(3, 2, 1);
+		try {
+			for( long i = 1; i <= 1000; i++ ) {
+				limited.execute(Long.valueOf(i), context);
+			}
+			fail("should have thrown SuperCsvCellProcessorException");
+		}
+		catch(SuperCsvCellProcessorException e) {
+			assertEquals(context, e.getCsvContext());
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+	
+	/**
+	 * Tests construction with a null set (should throw an Exception).
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testConstructorWithNullSet() {
+		new UniqueHashCode((LongSet) null);
+	}
 }
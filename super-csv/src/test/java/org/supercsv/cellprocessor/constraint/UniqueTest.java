@@ -16,6 +16,8 @@
 package org.supercsv.cellprocessor.constraint;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
 
 import java.util.Arrays;
@@ -23,8 +25,13 @@ import java.util.Arrays;
 import org.junit.Before;
 import org.junit.Test;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.exception.SuperCsvConstraintViolationException;
 import org.supercsv.mock.IdentityTransform;
+import org.supercsv.util.CsvContext;
+import org.supercsv.util.LongHashSet;
+import org.supercsv.util.LongSet;
+import org.supercsv.util.OffHeapLongHashSet;
 
 /**
  * Tests the Unique constraint.
@@ -88,4 +95,68 @@ public class UniqueTest {
 		processor.execute(Integer.valueOf(99), ANONYMOUS_CSVCONTEXT);
 		
 	}
+	
+	/**
+	 * Tests that integral values of different types are never equal (as with equals()), even though integral values of
+	 * one type are stored as primitives.
+	 */
+	@Test
+	public void testMixedIntegralTypes() {
+		for( Object input : Arrays.<Object> asList(1, 1L, (short) 1, (byte) 1, "1", 2L, 0, 0L) ) {
+			assertEquals(input, processor.execute(input, ANONYMOUS_CSVCONTEXT));
+		}
+		try {
+			processor.execute(2L, ANONYMOUS_CSVCONTEXT);
+			fail("should have thrown SuperCsvConstraintViolationException");
+		}
+		catch(SuperCsvConstraintViolationException e) {}
+	}
+	
+	/**
+	 * Tests that integral values are stored in the supplied set (which can be off-heap).
+	 */
+	@Test
+	public void testSuppliedSet() {
+		final LongSet offHeap = new OffHeapLongHashSet(16);
+		final CellProcessor offHeapProcessor = new Unique(offHeap);
+		final CellProcessor offHeapProcessorChain = new Unique(new LongHashSet(), new IdentityTransform());
+		for( Long input : Arrays.asList(1L, 2L, 3L) ) {
+			assertEquals(input, offHeapProcessor.execute(input, ANONYMOUS_CSVCONTEXT));
+			assertEquals(input, offHeapProcessorChain.execute(input, ANONYMOUS_CSVCONTEXT));
+		}
+		assertEquals(3, offHeap.size());
+		assertTrue(offHeap.contains(2L));
+		try {
+			offHeapProcessor.execute(3L, ANONYMOUS_CSVCONTEXT);
+			fail("should have thrown SuperCsvConstraintViolationException");
+		}
+		catch(SuperCsvConstraintViolationException e) {}
+	}
+	
+	/**
+	 * Tests that reaching the memory limit of the supplied set is reported with the context of the cell.
+	 */
+	@Test
+	public void testMemoryLimitReached() {
+		final CellProcessor limited = new Unique(new LongHashSet(0, 256));
+		final CsvContext context = new CsvContext(3, 2, 1);
+		try {
+			for( long i = 1; i <= 1000; i++ ) {
+				limited.execute(Long.valueOf(i), context);
+			}
+			fail("should have thrown SuperCsvCellProcessorException");
+		}
+		catch(SuperCsvCellProcessorException e) {
+			assertEquals(context, e.getCsvContext());
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+	
+	/**
+	 * Tests construction with a null set (should throw an Exception).
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testConstructorWithNullSet() {
+		new Unique((LongSet) null);
+	}
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.cellprocessor.ift;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+
+import org.junit.Test;
+import org.supercsv.cellprocessor.Collector;
+import org.supercsv.cellprocessor.ConcurrentCollector;
+import org.supercsv.cellprocessor.FmtNumber;
+import org.supercsv.cellprocessor.Memoize;
+import org.supercsv.cellprocessor.Optional;
+import org.supercsv.cellprocessor.ParseDate;
+import org.supercsv.cellprocessor.ParseInt;
+import org.supercsv.cellprocessor.constraint.ConcurrentUnique;
+import org.supercsv.cellprocessor.constraint.Equals;
+import org.supercsv.cellprocessor.constraint.NotNull;
+import org.supercsv.cellprocessor.constraint.Unique;
+import org.supercsv.mock.IdentityTransform;
+import org.supercsv.util.CsvContext;
+
+/**
+ * Tests the Concurrency enum.
+ */
+public class ConcurrencyTest {
+	
+	/**
+	 * Tests the levels declared by some processors.
+	 */
+	@Test
+	public void testDeclaredLevels() {
+		assertEquals(Concurrency.STATELESS, new ParseInt().getConcurrency());
+		assertEquals(Concurrency.STATELESS, new Optional().getConcurrency());
+		assertEquals(Concurrency.STATELESS, new ParseDate("dd/MM/yyyy").getConcurrency());
+		assertEquals(Concurrency.CONCURRENT, new Memoize(new ParseInt()).getConcurrency());
+		assertEquals(Concurrency.CONCURRENT, new ConcurrentUnique().getConcurrency());
+		assertEquals(Concurrency.CONCURRENT, new ConcurrentCollector().getConcurrency());
+		assertEquals(Concurrency.THREAD_CONFINED, new Unique().getConcurrency());
+		assertEquals(Concurrency.THREAD_CONFINED, new Collector(new ArrayList<Object>()).getConcurrency());
+		assertEquals(Concurrency.THREAD_CONFINED, new IdentityTransform().getConcurrency()); // not annotated
+	}
+	
+	/**
+	 * Tests that a subclass of an annotated processor doesn't inherit its level.
+	 */
+	@Test
+	public void testLevelIsNotInherited() {
+		final ParseInt subclass = new ParseInt() {
+			private int count; // mutable state the parent's declaration knows nothing about
+			
+			@Override
+			public Object execute(final Object value, final CsvContext context) {
+				count++;
+				return super.execute(value, context);
+			}
+		};
+		assertEquals(Concurrency.THREAD_CONFINED, subclass.getConcurrency());
+	}
+	
+	/**
+	 * Tests processors whose level depends on how they were constructed.
+	 */
+	@Test
+	public void testConstructorDependentLevels() {
+		assertEquals(Concurrency.STATELESS, new Equals("constant").getConcurrency());
+		assertEquals(Concurrency.THREAD_CONFINED, new Equals().getConcurrency());
+		assertEquals(Concurrency.STATELESS, new FmtNumber("0.00").getConcurrency());
+		assertEquals(Concurrency.THREAD_CONFINED, new FmtNumber(new DecimalFormat("0.00")).getConcurrency());
+	}
+	
+	/**
+	 * Tests that of() returns the least safe level of all processors in all chains.
+	 */
+	@Test
+	public void testOf() {
+		assertEquals(Concurrency.STATELESS, Concurrency.of());
+		assertEquals(Concurrency.STATELESS, Concurrency.of((CellProcessor) null));
+		assertEquals(Concurrency.STATELESS, Concurrency.of(new NotNull(new ParseInt()), null, new Optional()));
+		assertEquals(Concurrency.CONCURRENT, Concurrency.of(new NotNull(new ConcurrentUnique(new ParseInt()))));
+		assertEquals(Concurrency.THREAD_CONFINED, Concurrency.of(new ParseInt(), new NotNull(new Unique())));
+		assertEquals(Concurrency.THREAD_CONFINED, Concurrency.of(new Memoize(new IdentityTransform())));
+		
+		// a processor that doesn't extend CellProcessorAdaptor
+		assertEquals(Concurrency.THREAD_CONFINED, Concurrency.of(new CellProcessor() {
+			@SuppressWarnings("unchecked")
+			public <T> T execute(final Object value, final CsvContext context) {
+				return (T) value;
+			}
+		}));
+	}
+	
+	/**
+	 * Tests isShareable().
+	 */
+	@Test
+	public void testIsShareable() {
+		assertTrue(Concurrency.STATELESS.isShareable());
+		assertTrue(Concurrency.CONCURRENT.isShareable());
+		assertFalse(Concurrency.THREAD_CONFINED.isShareable());
+	}
+	
+	/**
+	 * Tests of() with a null array.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testOfWithNull() {
+		Concurrency.of((CellProcessor[]) null);
+	}
+	
+}
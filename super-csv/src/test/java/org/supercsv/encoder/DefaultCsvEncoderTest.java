@@ -16,6 +16,7 @@
 package org.supercsv.encoder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -124,6 +125,38 @@ public class DefaultCsvEncoderTest {
 		assertEquals(++lineNumber, context.getLineNumber());
 	}
 
+	/**
+	 * Tests that a column without special characters (that doesn't need quotes) is returned as-is, and one that only
+	 * needs quotes is quoted without being escaped.
+	 */
+	@Test
+	public void testEncodeWithoutSpecialChars() {
+		final CsvContext context = new CsvContext(1, 1, 1);
+		final String plain = "no special characters";
+		assertSame(plain, csvEncoder.encode(plain, context, PREFS));
+		assertSame(plain, csvEncoder.encode(plain, context, SURROUNDING_SPACES_REQUIRE_QUOTES_PREFS));
+		assertEquals("\"no special characters\"", csvEncoder.encode(plain, context, ALWAYS_QUOTE_PREFS));
+		assertEquals("\"a \"\"quote\"\" at the end\"", csvEncoder.encode("a \"quote\" at the end", context, PREFS));
+		assertEquals(1, context.getLineNumber());
+	}
+	
+	/**
+	 * Tests that the appending encode() method appends the same result as encode(), leaving the existing output
+	 * unchanged.
+	 */
+	@Test
+	public void testEncodeAppending() {
+		final CsvContext context = new CsvContext(1, 1, 1);
+		final StringBuilder output = new StringBuilder("start,");
+		csvEncoder.encode("plain", context, PREFS, output);
+		output.append(',');
+		csvEncoder.encode(new StringBuilder("\"quoted\", twice\n"), context, PREFS, output);
+		output.append(',');
+		csvEncoder.encode("", context, ALWAYS_QUOTE_PREFS, output);
+		assertEquals("start,plain,\"\"\"quoted\"\", twice\r\n\",\"\"", output.toString());
+		assertEquals(2, context.getLineNumber());
+	}
+	
 	/**
 	 * Tests the encode() method with backslash escape char
 	 */
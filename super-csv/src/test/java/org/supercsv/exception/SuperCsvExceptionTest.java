@@ -16,7 +16,9 @@
 package org.supercsv.exception;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.supercsv.SuperCsvTestUtils.ANONYMOUS_CSVCONTEXT;
 
 import org.junit.Test;
@@ -76,5 +78,27 @@ public class SuperCsvExceptionTest {
 		assertNull(e.getCsvContext());
 		assertNull(e.getCause());
 	}
+		/**
+	 * Tests that stack traces can be disabled for the current thread (including for subclasses).
+	 */
+	@Test
+	public void testStackTraceDisabled() {
+		assertTrue(SuperCsvException.isStackTraceEnabled());
+		assertTrue(new SuperCsvException(MSG).getStackTrace().length > 0);
+		
+		final boolean previous = SuperCsvException.setStackTraceEnabled(false);
+		try {
+			assertTrue(previous);
+			assertFalse(SuperCsvException.isStackTraceEnabled());
+			final SuperCsvException e = new SuperCsvCellProcessorException(MSG, ANONYMOUS_CSVCONTEXT, null);
+			assertEquals(0, e.getStackTrace().length);
+			assertEquals(MSG, e.getMessage());
+			assertEquals(ANONYMOUS_CSVCONTEXT, e.getCsvContext());
+		}
+		finally {
+			SuperCsvException.setStackTraceEnabled(previous);
+		}
+		assertTrue(new SuperCsvException(MSG).getStackTrace().length > 0);
+	}
 	
 }
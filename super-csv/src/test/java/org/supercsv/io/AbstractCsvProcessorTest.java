@@ -12,6 +12,7 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Created by hans on 26-6-17.
@@ -74,4 +75,60 @@ public class AbstractCsvProcessorTest extends AbstractCsvProcessor {
         executeCellProcessors(new ArrayList<Object>(), invalidSizeList, PROCESSORS, LINE_NO, ROW_NO);
     }
 
+    /**
+     * Tests the executeCellProcessorsByColumn() method.
+     */
+    @Test
+    public void testExecuteCellProcessorsByColumn() {
+        final List<List<String>> sources = new ArrayList<List<String>>();
+        sources.add(LIST);
+        sources.add(Arrays.asList("Altair", "30", "Masyaf"));
+        final List<List<Object>> destinations = new ArrayList<List<Object>>();
+        destinations.add(new ArrayList<Object>(Arrays.asList("stale")));
+        destinations.add(new ArrayList<Object>());
+        executeCellProcessorsByColumn(destinations, sources, PROCESSORS, new int[] { LINE_NO, LINE_NO + 1 },
+            new int[] { ROW_NO, ROW_NO + 1 });
+        assertEquals(Arrays.<Object> asList("Ezio", 25, "Venice"), destinations.get(0));
+        assertEquals(Arrays.<Object> asList("Altair", 30, "Masyaf"), destinations.get(1));
+    }
+
+    /**
+     * Tests that executeCellProcessorsByColumn() reports the context of the invalid cell (the lowest column is
+     * reported first).
+     */
+    @Test
+    public void testExecuteCellProcessorsByColumnWithInvalidCell() {
+        final List<List<String>> sources = new ArrayList<List<String>>();
+        sources.add(Arrays.asList("Ezio", "x", "Venice"));
+        sources.add(Arrays.asList("Altair", "30", "Masyaf"));
+        final List<List<Object>> destinations = new ArrayList<List<Object>>();
+        destinations.add(new ArrayList<Object>());
+        destinations.add(new ArrayList<Object>());
+        try {
+            executeCellProcessorsByColumn(destinations, sources, PROCESSORS, new int[] { LINE_NO, LINE_NO + 1 },
+                new int[] { ROW_NO, ROW_NO + 1 });
+            fail("should have thrown SuperCsvException");
+        }
+        catch(SuperCsvException e) {
+            assertEquals(LINE_NO, e.getCsvContext().getLineNumber());
+            assertEquals(ROW_NO, e.getCsvContext().getRowNumber());
+            assertEquals(2, e.getCsvContext().getColumnNumber());
+        }
+    }
+
+    /**
+     * Tests the executeCellProcessorsByColumn() method with a source List whose size doesn't match the number of
+     * CellProcessors (should throw an Exception).
+     */
+    @Test(expected = SuperCsvException.class)
+    public void testExecuteCellProcessorsByColumnWithSizeMismatch() {
+        final List<List<String>> sources = new ArrayList<List<String>>();
+        sources.add(LIST);
+        sources.add(Arrays.asList("Altair"));
+        final List<List<Object>> destinations = new ArrayList<List<Object>>();
+        destinations.add(new ArrayList<Object>());
+        destinations.add(new ArrayList<Object>());
+        executeCellProcessorsByColumn(destinations, sources, PROCESSORS, new int[2], new int[2]);
+    }
+
 }
@@ -17,6 +17,8 @@ package org.supercsv.io;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.supercsv.SuperCsvTestUtils.HEADER;
 import static org.supercsv.SuperCsvTestUtils.HEADER_CSV;
 
@@ -59,6 +61,11 @@ public class AbstractCsvWriterTest {
 			super(writer, preference);
 			this.preference = preference;
 		}
+		
+		public MockCsvWriter(Writer writer, CsvPreference preference, boolean bufferizeWriter) {
+			super(writer, preference, bufferizeWriter);
+			this.preference = preference;
+		}
 	}
 	
 	/**
@@ -291,4 +298,152 @@ public class AbstractCsvWriterTest {
 	public void testObjectListToStringArrayWithNullList() {
 		assertNull(AbstractCsvWriter.objectListToStringArray(null));
 	}
+	
+	/**
+	 * Tests writing a row column by column.
+	 */
+	@Test
+	public void testWriteColumns() throws IOException {
+		abstractWriter.incrementRowAndLineNo();
+		abstractWriter.writeColumn("plain");
+		abstractWriter.writeColumn(new StringBuilder("needs, quotes"));
+		abstractWriter.writeColumn((CharSequence) null);
+		abstractWriter.writeColumn(-123L);
+		abstractWriter.writeColumn(1.5);
+		abstractWriter.writeColumn("\"quoted\"");
+		abstractWriter.endRow();
+		
+		abstractWriter.incrementRowAndLineNo();
+		abstractWriter.writeColumn("line\nbreak");
+		abstractWriter.endRow();
+		
+		assertEquals(3, abstractWriter.getLineNumber());
+		assertEquals(2, abstractWriter.getRowNumber());
+		abstractWriter.flush();
+		assertEquals("plain,\"needs, quotes\",,-123,1.5,\"\"\"quoted\"\"\"\r\n\"line\r\nbreak\"\r\n",
+			writer.toString());
+	}
+	
+	/**
+	 * Tests that writing columns gives the same result as writeRow() when the delimiter appears in numbers and
+	 * surrounding spaces need quotes.
+	 */
+	@Test
+	public void testWriteColumnsMatchesWriteRow() throws IOException {
+		final CsvPreference prefs = new CsvPreference.Builder('"', '.', "\n").surroundingSpacesNeedQuotes(true)
+			.build();
+		final StringWriter expected = new StringWriter();
+		final AbstractCsvWriter rowWriter = new MockCsvWriter(expected, prefs);
+		rowWriter.incrementRowAndLineNo();
+		rowWriter.writeRow(" a", "1.5", "42");
+		rowWriter.flush();
+		
+		final StringWriter actual = new StringWriter();
+		final AbstractCsvWriter columnWriter = new MockCsvWriter(actual, prefs);
+		columnWriter.incrementRowAndLineNo();
+		columnWriter.writeColumn(" a");
+		columnWriter.writeColumn(1.5);
+		columnWriter.writeColumn(42);
+		columnWriter.endRow();
+		columnWriter.flush();
+		
+		assertEquals("\" a\".\"1.5\".42\n", actual.toString());
+		assertEquals(expected.toString(), actual.toString());
+	}
+	
+	/**
+	 * Tests that close() closes the underlying writer even if writing the buffered output fails.
+	 */
+	@Test
+	public void testCloseWhenWriteFails() throws IOException {
+		final boolean[] closed = new boolean[1];
+		final Writer failingWriter = new Writer() {
+			@Override
+			public void write(char[] cbuf, int off, int len) throws IOException {
+				throw new IOException("write failed");
+			}
+			
+			@Override
+			public void flush() {
+			}
+			
+			@Override
+			public void close() {
+				closed[0] = true;
+			}
+		};
+		final AbstractCsvWriter csvWriter = new MockCsvWriter(failingWriter, PREFS);
+		csvWriter.incrementRowAndLineNo();
+		csvWriter.writeRow("a", "b");
+		try {
+			csvWriter.close();
+			fail("should have thrown IOException");
+		}
+		catch(IOException e) {
+			assertEquals("write failed", e.getMessage());
+		}
+		assertTrue(closed[0]);
+	}
+	
+	/**
+	 * Tests ending a row without any columns.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testEndRowWithoutColumns() throws IOException {
+		abstractWriter.incrementRowAndLineNo();
+		abstractWriter.endRow();
+	}
+	
+	/**
+	 * Tests writing a row of Objects (numbers are written without calling toString()).
+	 */
+	@Test
+	public void testWriteRowWithObjects() throws IOException {
+		abstractWriter.incrementRowAndLineNo();
+		abstractWriter.writeRow(1, -2L, 3.5, null, new StringBuilder("a,b"), Boolean.TRUE);
+		abstractWriter.incrementRowAndLineNo();
+		abstractWriter.writeRow(Arrays.asList((short) 4, 'c'));
+		abstractWriter.flush();
+		assertEquals("1,-2,3.5,,\"a,b\",true\r\n4,c\r\n", writer.toString());
+	}
+	
+	/**
+	 * Tests that an unbuffered writer writes each line to the underlying writer as soon as it's written.
+	 */
+	@Test
+	public void testUnbufferedWritesEachLine() throws IOException {
+		final AbstractCsvWriter unbufferedWriter = new MockCsvWriter(writer, PREFS, false);
+		unbufferedWriter.incrementRowAndLineNo();
+		unbufferedWriter.writeRow("a", "b");
+		assertEquals("a,b\r\n", writer.toString());
+		unbufferedWriter.writeComment("#comment");
+		assertEquals("a,b\r\n#comment\r\n", writer.toString());
+		unbufferedWriter.close();
+	}
+	
+	/**
+	 * Tests that a buffered writer writes to the underlying writer in blocks, and when flushed.
+	 */
+	@Test
+	public void testBufferedWritesInBlocks() throws IOException {
+		abstractWriter.incrementRowAndLineNo();
+		abstractWriter.writeRow("a", "b");
+		assertEquals("", writer.toString());
+		
+		final StringBuilder expected = new StringBuilder("a,b\r\n");
+		while( writer.toString().length() == 0 ) {
+			abstractWriter.incrementRowAndLineNo();
+			abstractWriter.writeRow("row", String.valueOf(abstractWriter.getRowNumber()));
+			expected.append("row,").append(abstractWriter.getRowNumber()).append("\r\n");
+		}
+		assertEquals(expected.toString(), writer.toString());
+		
+		abstractWriter.incrementRowAndLineNo();
+		abstractWriter.writeColumn("unfinished");
+		abstractWriter.incrementRowAndLineNo();
+		abstractWriter.writeRow("last");
+		abstractWriter.flush();
+		assertEquals(expected.append("last\r\n").toString(), writer.toString());
+	}
+	
 }
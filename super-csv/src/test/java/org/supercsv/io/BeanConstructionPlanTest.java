@@ -0,0 +1,173 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.beans.ConstructorProperties;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.supercsv.exception.SuperCsvReflectionException;
+import org.supercsv.mock.PersonBean;
+
+/**
+ * Tests the BeanConstructionPlan class.
+ */
+public class BeanConstructionPlanTest {
+	
+	/**
+	 * Tests creating several beans with the same plan.
+	 */
+	@Test
+	public void testConstruct() {
+		final BeanConstructionPlan plan = new BeanConstructionPlan(ImmutablePerson.class, new String[] { "lastName",
+			null, "firstName", "numberOfKids" });
+		
+		final ImmutablePerson john = (ImmutablePerson) plan.construct(Arrays.<Object> asList("Smith", "ignored",
+			"John", 2));
+		assertEquals("John", john.firstName);
+		assertEquals("Smith", john.lastName);
+		assertEquals(2, john.numberOfKids);
+		
+		// a null value for a primitive parameter is passed as zero
+		final ImmutablePerson sarah = (ImmutablePerson) plan.construct(Arrays.<Object> asList(null, null, "Sarah",
+			null));
+		assertEquals("Sarah", sarah.firstName);
+		assertNull(sarah.lastName);
+		assertEquals(0, sarah.numberOfKids);
+	}
+	
+	/**
+	 * Tests that the constructor with the fewest parameters that includes all of the mapped fields is used.
+	 */
+	@Test
+	public void testSmallestSuitableConstructor() {
+		final BeanConstructionPlan plan = new BeanConstructionPlan(ImmutablePerson.class, new String[] { "firstName",
+			"lastName" });
+		final ImmutablePerson john = (ImmutablePerson) plan.construct(Arrays.<Object> asList("John", "Smith"));
+		assertEquals(-1, john.numberOfKids);
+	}
+	
+	/**
+	 * Tests a constructor annotated with ConstructorProperties.
+	 */
+	@Test
+	public void testConstructorProperties() {
+		final BeanConstructionPlan plan = new BeanConstructionPlan(Point.class, new String[] { "y", "x" });
+		final Point point = (Point) plan.construct(Arrays.<Object> asList(2, 1));
+		assertEquals(1, point.x);
+		assertEquals(2, point.y);
+	}
+	
+	/**
+	 * Tests isFor().
+	 */
+	@Test
+	public void testIsFor() {
+		final String[] nameMapping = new String[] { "x", "y" };
+		final BeanConstructionPlan plan = new BeanConstructionPlan(Point.class, nameMapping);
+		assertTrue(plan.isFor(Point.class, nameMapping.clone()));
+		assertFalse(plan.isFor(Point.class, new String[] { "y", "x" }));
+		assertFalse(plan.isFor(ImmutablePerson.class, nameMapping));
+	}
+	
+	/**
+	 * Tests a class without an annotated constructor.
+	 */
+	@Test(expected = SuperCsvReflectionException.class)
+	public void testClassWithoutAnnotatedConstructor() {
+		new BeanConstructionPlan(PersonBean.class, new String[] { "firstName" });
+	}
+	
+	/**
+	 * Tests a name mapping with a field that isn't a constructor parameter.
+	 */
+	@Test(expected = SuperCsvReflectionException.class)
+	public void testFieldWithoutParameter() {
+		new BeanConstructionPlan(Point.class, new String[] { "x", "z" });
+	}
+	
+	/**
+	 * Tests an annotation that doesn't name every parameter.
+	 */
+	@Test(expected = SuperCsvReflectionException.class)
+	public void testAnnotationWithWrongLength() {
+		new BeanConstructionPlan(BadlyAnnotated.class, new String[] { "x" });
+	}
+	
+	/**
+	 * Tests passing a value of the wrong type to the constructor.
+	 */
+	@Test(expected = SuperCsvReflectionException.class)
+	public void testWrongValueType() {
+		new BeanConstructionPlan(Point.class, new String[] { "x", "y" }).construct(Arrays.<Object> asList("1", 2));
+	}
+	
+	/**
+	 * An immutable person with two annotated constructors.
+	 */
+	static final class ImmutablePerson {
+		
+		final String firstName;
+		
+		final String lastName;
+		
+		final int numberOfKids;
+		
+		@CsvConstructor({ "firstName", "lastName", "numberOfKids" })
+		ImmutablePerson(final String firstName, final String lastName, final int numberOfKids) {
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.numberOfKids = numberOfKids;
+		}
+		
+		@CsvConstructor({ "firstName", "lastName" })
+		private ImmutablePerson(final String firstName, final String lastName) {
+			this(firstName, lastName, -1);
+		}
+	}
+	
+	/**
+	 * An immutable point with a constructor annotated with ConstructorProperties.
+	 */
+	public static final class Point {
+		
+		final int x;
+		
+		final int y;
+		
+		@ConstructorProperties({ "x", "y" })
+		public Point(final int x, final int y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+	
+	/**
+	 * A class whose annotation doesn't match its constructor.
+	 */
+	static final class BadlyAnnotated {
+		
+		@CsvConstructor({ "x" })
+		BadlyAnnotated(final int x, final int y) {
+		}
+	}
+	
+}
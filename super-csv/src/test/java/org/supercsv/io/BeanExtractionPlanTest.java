@@ -0,0 +1,81 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.supercsv.exception.SuperCsvReflectionException;
+import org.supercsv.mock.PersonBean;
+import org.supercsv.mock.ReflectionBean;
+import org.supercsv.util.MethodCache;
+
+/**
+ * Tests the BeanExtractionPlan class.
+ */
+public class BeanExtractionPlanTest {
+	
+	private static final String[] NAME_MAPPING = new String[] { "firstName", null, "numberOfKids" };
+	
+	/**
+	 * Tests extracting the values of several beans into the same array.
+	 */
+	@Test
+	public void testExtract() {
+		final PersonBean john = new PersonBean();
+		john.setFirstName("John");
+		john.setNumberOfKids(2);
+		final PersonBean sarah = new PersonBean();
+		sarah.setFirstName("Sarah");
+		
+		final BeanExtractionPlan plan = new BeanExtractionPlan(john, NAME_MAPPING, new MethodCache());
+		assertEquals(3, plan.size());
+		
+		final Object[] values = new Object[] { "x", "y", "z" };
+		plan.extract(john, values);
+		assertArrayEquals(new Object[] { "John", null, 2 }, values);
+		plan.extract(sarah, values);
+		assertArrayEquals(new Object[] { "Sarah", null, null }, values);
+	}
+	
+	/**
+	 * Tests isFor().
+	 */
+	@Test
+	public void testIsFor() {
+		final String[] nameMapping = NAME_MAPPING.clone();
+		final BeanExtractionPlan plan = new BeanExtractionPlan(new PersonBean(), nameMapping, new MethodCache());
+		assertTrue(plan.isFor(PersonBean.class, NAME_MAPPING));
+		assertFalse(plan.isFor(ReflectionBean.class, NAME_MAPPING));
+		assertFalse(plan.isFor(PersonBean.class, new String[] { "firstName" }));
+		
+		// the plan keeps its own copy of the name mapping
+		nameMapping[0] = "lastName";
+		assertTrue(plan.isFor(PersonBean.class, NAME_MAPPING));
+	}
+	
+	/**
+	 * Tests creating a plan with a field that has no getter.
+	 */
+	@Test(expected = SuperCsvReflectionException.class)
+	public void testMissingGetter() {
+		new BeanExtractionPlan(new PersonBean(), new String[] { "notAField" }, new MethodCache());
+	}
+	
+}
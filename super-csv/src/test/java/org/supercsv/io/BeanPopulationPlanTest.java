@@ -0,0 +1,142 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.supercsv.exception.SuperCsvReflectionException;
+import org.supercsv.mock.PersonBean;
+import org.supercsv.mock.ReflectionBean;
+import org.supercsv.util.MethodCache;
+
+/**
+ * Tests the BeanPopulationPlan class.
+ */
+public class BeanPopulationPlanTest {
+	
+	private static final String[] NAME_MAPPING = new String[] { "firstName", null, "numberOfKids" };
+	
+	/**
+	 * Tests populating several beans with the same plan.
+	 */
+	@Test
+	public void testPopulate() {
+		final BeanPopulationPlan plan = new BeanPopulationPlan(PersonBean.class, NAME_MAPPING, new MethodCache());
+		
+		final PersonBean john = plan.populate(new PersonBean(), Arrays.<Object> asList("John", "ignored", 2));
+		assertEquals("John", john.getFirstName());
+		assertEquals(Integer.valueOf(2), john.getNumberOfKids());
+		
+		final PersonBean sarah = plan.populate(new PersonBean(), Arrays.<Object> asList("Sarah", null, null));
+		assertEquals("Sarah", sarah.getFirstName());
+		assertNull(sarah.getNumberOfKids());
+	}
+	
+	/**
+	 * Tests that the setter is looked up again when the type of a column's values changes.
+	 */
+	@Test
+	public void testTypeChange() {
+		final BeanPopulationPlan plan = new BeanPopulationPlan(ReflectionBean.class, new String[] { "favouriteNumber" },
+			new MethodCache());
+		
+		ReflectionBean bean = plan.populate(new ReflectionBean(), Arrays.<Object> asList(1));
+		assertEquals(Integer.valueOf(1), bean.getFavouriteNumber());
+		
+		bean = plan.populate(new ReflectionBean(), Arrays.<Object> asList(2L));
+		assertEquals(Long.valueOf(2L), bean.getFavouriteNumber());
+		
+		bean = plan.populate(new ReflectionBean(), Arrays.<Object> asList(3));
+		assertEquals(Integer.valueOf(3), bean.getFavouriteNumber());
+	}
+	
+	/**
+	 * Tests isFor().
+	 */
+	@Test
+	public void testIsFor() {
+		final String[] nameMapping = NAME_MAPPING.clone();
+		final BeanPopulationPlan plan = new BeanPopulationPlan(PersonBean.class, nameMapping, new MethodCache());
+		assertTrue(plan.isFor(PersonBean.class, NAME_MAPPING));
+		assertFalse(plan.isFor(ReflectionBean.class, NAME_MAPPING));
+		assertFalse(plan.isFor(PersonBean.class, new String[] { "firstName", null, null }));
+		
+		// the plan keeps its own copy of the name mapping
+		nameMapping[0] = "lastName";
+		assertTrue(plan.isFor(PersonBean.class, NAME_MAPPING));
+	}
+	
+	/**
+	 * Tests populating a field with a value of the wrong type.
+	 */
+	@Test(expected = SuperCsvReflectionException.class)
+	public void testPopulateWithWrongType() {
+		new BeanPopulationPlan(PersonBean.class, NAME_MAPPING, new MethodCache()).populate(new PersonBean(),
+			Arrays.<Object> asList("John", null, "two"));
+	}
+	
+	
+	/**
+	 * Tests that null values overwrite the fields of a reused bean when requested.
+	 */
+	@Test
+	public void testPopulateSettingNulls() {
+		final BeanPopulationPlan plan = new BeanPopulationPlan(ReflectionBean.class, new String[] { "name",
+			"primitiveInt", "integerWrapper" }, new MethodCache());
+		final ReflectionBean bean = new ReflectionBean();
+		
+		plan.populate(bean, Arrays.<Object> asList("John", 2, 3), true);
+		assertEquals("John", bean.getName());
+		assertEquals(2, bean.getPrimitiveInt());
+		assertEquals(Integer.valueOf(3), bean.getIntegerWrapper());
+		
+		// without setting nulls, the previous values remain
+		plan.populate(bean, Arrays.<Object> asList(null, null, null), false);
+		assertEquals("John", bean.getName());
+		
+		plan.populate(bean, Arrays.<Object> asList(null, null, null), true);
+		assertNull(bean.getName());
+		assertEquals(0, bean.getPrimitiveInt());
+		assertNull(bean.getIntegerWrapper());
+	}
+	
+	/**
+	 * Tests setting a null value for a column that hasn't had a value yet.
+	 */
+	@Test
+	public void testPopulateSettingNullsBeforeValue() {
+		final BeanPopulationPlan plan = new BeanPopulationPlan(ReflectionBean.class, new String[] { "name",
+			"primitiveLong" }, new MethodCache());
+		final ReflectionBean bean = new ReflectionBean();
+		bean.setName("stale");
+		bean.setPrimitiveLong(5L);
+		
+		plan.populate(bean, Arrays.<Object> asList(null, null), true);
+		assertNull(bean.getName());
+		assertEquals(0L, bean.getPrimitiveLong());
+		
+		plan.populate(bean, Arrays.<Object> asList("Bob", 7L), true);
+		assertEquals("Bob", bean.getName());
+		assertEquals(7L, bean.getPrimitiveLong());
+	}
+	
+}
@@ -17,7 +17,10 @@ package org.supercsv.io;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.supercsv.SuperCsvTestUtils.ADA;
 import static org.supercsv.SuperCsvTestUtils.ADA_STRING;
 import static org.supercsv.SuperCsvTestUtils.ALICE;
@@ -52,6 +55,7 @@ import java.io.StringReader;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.supercsv.cellprocessor.Optional;
 import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.exception.SuperCsvReflectionException;
 import org.supercsv.mock.Customer;
@@ -262,7 +266,7 @@ public class CsvBeanReaderTest {
 		// only map the fields relevant to the interface
 		final String[] header = new String[] { "customerNo", null, null, null, null, "mailingAddress", null, null, null,
 			null, "loyaltyPoints" };
-			
+		
 		int i = 0;
 		Customer customer;
 		while( (customer = beanReader.read(Customer.class, header, READ_PROCESSORS)) != null ) {
@@ -435,6 +439,156 @@ public class CsvBeanReaderTest {
 		new CsvBeanReader(new StringReader("value"), PREFS).read(ExceptionBean.class, "illegalArgument");
 	}
 	
+	/**
+	 * Tests the read() method with a custom bean factory that reuses a single bean.
+	 */
+	@Test
+	public void testReadWithCustomBeanFactory() throws IOException {
+		final PersonBean pooled = new PersonBean();
+		beanReader.setBeanFactory(new BeanFactory() {
+			public <T> T createBean(final Class<T> clazz) {
+				return clazz.cast(pooled);
+			}
+		});
+		
+		beanReader.getHeader(true);
+		assertSame(pooled, beanReader.read(PersonBean.class, PARTIAL_HEADER));
+		assertEquals("John", pooled.getFirstName());
+		assertSame(pooled, beanReader.read(PersonBean.class, PARTIAL_HEADER, new CellProcessor[PARTIAL_HEADER.length]));
+		assertEquals("Bob", pooled.getFirstName());
+	}
+	
+	/**
+	 * Tests the read() method with a bean factory that returns null.
+	 */
+	@Test(expected = SuperCsvReflectionException.class)
+	public void testReadWithBeanFactoryReturningNull() throws IOException {
+		beanReader.setBeanFactory(new BeanFactory() {
+			public <T> T createBean(final Class<T> clazz) {
+				return null;
+			}
+		});
+		beanReader.getHeader(true);
+		beanReader.read(PersonBean.class, PARTIAL_HEADER);
+	}
+	
+	/**
+	 * Tests setBeanFactory() with a null factory.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testSetNullBeanFactory() {
+		beanReader.setBeanFactory(null);
+	}
+	
+	/**
+	 * Tests that the default bean factory creates beans using reflection.
+	 */
+	@Test
+	public void testDefaultBeanFactory() {
+		assertTrue(beanReader.getBeanFactory() instanceof ReflectionBeanFactory);
+	}
+	
+	/**
+	 * Tests that flyweight mode reuses one bean and overwrites every mapped field.
+	 */
+	@SuppressWarnings("resource")
+	@Test
+	public void testFlyweight() throws IOException {
+		final CsvBeanReader flyweightReader = new CsvBeanReader(new StringReader("John,Smith\nBob,\n"), PREFS);
+		flyweightReader.setFlyweight(true);
+		assertTrue(flyweightReader.isFlyweight());
+		
+		final String[] nameMapping = new String[] { "firstName", "lastName" };
+		final CellProcessor[] processors = new CellProcessor[] { null, new Optional() };
+		final PersonBean john = flyweightReader.read(PersonBean.class, nameMapping, processors);
+		assertEquals("John", john.getFirstName());
+		assertEquals("Smith", john.getLastName());
+		
+		final PersonBean bob = flyweightReader.read(PersonBean.class, nameMapping, processors);
+		assertSame(john, bob);
+		assertEquals("Bob", bob.getFirstName());
+		assertNull(bob.getLastName()); // not left over from the previous row
+		
+		assertNull(flyweightReader.read(PersonBean.class, nameMapping, processors));
+	}
+	
+	/**
+	 * Tests that flyweight mode is disabled by default, so null columns don't overwrite the fields of a supplied bean.
+	 */
+	@SuppressWarnings("resource")
+	@Test
+	public void testNotFlyweight() throws IOException {
+		final CsvBeanReader reader = new CsvBeanReader(new StringReader("John,Smith\nBob,\n"), PREFS);
+		assertFalse(reader.isFlyweight());
+		
+		final String[] nameMapping = new String[] { "firstName", "lastName" };
+		final CellProcessor[] processors = new CellProcessor[] { null, new Optional() };
+		final PersonBean bean = new PersonBean();
+		reader.read(bean, nameMapping, processors);
+		reader.read(bean, nameMapping, processors);
+		assertEquals("Bob", bean.getFirstName());
+		assertEquals("Smith", bean.getLastName());
+	}
+	
+	/**
+	 * Tests the readImmutable() methods.
+	 */
+	@Test
+	public void testReadImmutable() throws IOException {
+		beanReader.getHeader(true);
+		
+		final ImmutableCustomer john = beanReader.readImmutable(ImmutableCustomer.class, PARTIAL_HEADER);
+		assertEquals(JOHN.getFirstName(), john.firstName);
+		assertEquals(JOHN.getLastName(), john.lastName);
+		assertEquals(JOHN.getEmail(), john.email);
+		
+		final ImmutableCustomer bob = beanReader.readImmutable(ImmutableCustomer.class, PARTIAL_HEADER,
+			new CellProcessor[PARTIAL_HEADER.length]);
+		assertEquals(BOB.getFirstName(), bob.firstName);
+		assertEquals(BOB.getEmail(), bob.email);
+		
+		for( int i = 2; i < CUSTOMERS.size(); i++ ) {
+			beanReader.readImmutable(ImmutableCustomer.class, PARTIAL_HEADER);
+		}
+		assertNull(beanReader.readImmutable(ImmutableCustomer.class, PARTIAL_HEADER));
+	}
+	
+	/**
+	 * Tests the readImmutable() method with a null class.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testReadImmutableWithNullClass() throws IOException {
+		beanReader.readImmutable(null, PARTIAL_HEADER);
+	}
+	
+	/**
+	 * Tests the readImmutable() method with null processors.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testReadImmutableWithNullProcessors() throws IOException {
+		beanReader.readImmutable(ImmutableCustomer.class, PARTIAL_HEADER, (CellProcessor[]) null);
+	}
+	
+	/**
+	 * Immutable bean to test readImmutable().
+	 */
+	public static class ImmutableCustomer {
+		
+		private final String firstName;
+		
+		private final String lastName;
+		
+		private final String email;
+		
+		@CsvConstructor({ "firstName", "lastName", "email" })
+		public ImmutableCustomer(final String firstName, final String lastName, final String email) {
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.email = email;
+		}
+		
+	}
+	
 	/**
 	 * Bean to test exceptions when invoking setters using CsvBeanReader.
 	 */
@@ -17,6 +17,7 @@ package org.supercsv.io;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.supercsv.SuperCsvTestUtils.CSV_FILE;
 import static org.supercsv.SuperCsvTestUtils.CUSTOMERS;
 import static org.supercsv.SuperCsvTestUtils.HEADER;
@@ -142,6 +143,42 @@ public class CsvListReaderTest {
 		assertEquals(CUSTOMERS.size() + 1, listReader.getRowNumber());
 	}
 	
+	/**
+	 * Tests the readBatch() method (the batches should give the same result as reading row by row).
+	 */
+	@Test
+	public void testReadBatch() throws IOException {
+		
+		final String[] header = listReader.getHeader(true);
+		assertArrayEquals(HEADER, header);
+		
+		final List<List<Object>> customers = new ArrayList<List<Object>>();
+		List<List<Object>> batch;
+		while( (batch = listReader.readBatch(3, READ_PROCESSORS)) != null ) {
+			assertTrue(batch.size() <= 3);
+			customers.addAll(batch);
+		}
+		
+		assertEquals(CUSTOMERS.size(), customers.size());
+		for( int i = 0; i < customers.size(); i++ ) {
+			final List<Object> customer = customers.get(i);
+			assertEquals(CUSTOMERS.get(i).getCustomerNo(), customer.get(0));
+			assertEquals(CUSTOMERS.get(i).getBirthDate(), customer.get(3));
+			assertEquals(CUSTOMERS.get(i).getMarried(), customer.get(6));
+			assertEquals(CUSTOMERS.get(i).getLoyaltyPoints(), customer.get(10));
+		}
+		
+		assertEquals(CUSTOMERS.size() + 1, listReader.getRowNumber());
+	}
+	
+	/**
+	 * Tests the readBatch() method with an invalid maxRows.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadBatchWithInvalidMaxRows() throws IOException {
+		listReader.readBatch(0, READ_PROCESSORS);
+	}
+	
 	/**
 	 * Tests the read() method combined with the executeProcessors() method.
 	 */
@@ -174,6 +174,42 @@ public class CsvListWriterTest {
 		listWriter.write((String[]) null);
 	}
 	
+	/**
+	 * Tests writing rows column by column through the public ICsvColumnWriter interface.
+	 */
+	@Test
+	public void testWriteColumns() throws IOException {
+		final ICsvColumnWriter columnWriter = listWriter;
+		columnWriter.startRow();
+		columnWriter.writeColumn("plain");
+		columnWriter.writeColumn(new StringBuilder("needs, quotes"));
+		columnWriter.writeColumn(-123L);
+		columnWriter.writeColumn(1.5);
+		columnWriter.writeColumn((Object) Integer.valueOf(7));
+		columnWriter.writeColumn((Object) null);
+		columnWriter.endRow();
+		assertEquals(1, columnWriter.getRowNumber());
+		
+		// a row that's started again discards the columns written so far
+		columnWriter.startRow();
+		columnWriter.writeColumn("discarded");
+		columnWriter.startRow();
+		columnWriter.writeColumn("b");
+		columnWriter.endRow();
+		columnWriter.flush();
+		
+		assertEquals("plain,\"needs, quotes\",-123,1.5,7,\r\nb\r\n", writer.toString());
+	}
+	
+	/**
+	 * Tests ending a row without writing any columns.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testEndRowWithoutColumns() throws IOException {
+		listWriter.startRow();
+		listWriter.endRow();
+	}
+	
 	/**
 	 * Tests the constructor with a null writer.
 	 */
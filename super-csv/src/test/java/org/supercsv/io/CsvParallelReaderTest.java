@@ -0,0 +1,319 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.supercsv.SuperCsvTestUtils.CSV_FILE;
+import static org.supercsv.SuperCsvTestUtils.CUSTOMERS;
+import static org.supercsv.SuperCsvTestUtils.HEADER;
+import static org.supercsv.SuperCsvTestUtils.READ_PROCESSORS;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.supercsv.cellprocessor.ParseInt;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvCellProcessorException;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.mock.CustomerBean;
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.CsvContext;
+
+/**
+ * Tests the CsvParallelReader class.
+ */
+public class CsvParallelReaderTest {
+	
+	private static final CsvPreference PREFS = CsvPreference.STANDARD_PREFERENCE;
+	
+	/**
+	 * Tests reading beans with multiple worker threads.
+	 */
+	@Test
+	public void testReadBeans() throws IOException {
+		final CsvParallelReader<CustomerBean> reader = new CsvParallelReader<CustomerBean>(new StringReader(CSV_FILE),
+			PREFS, new BeanRowMapper<CustomerBean>(CustomerBean.class, HEADER, READ_PROCESSORS), 4);
+		try {
+			assertArrayEquals(HEADER, reader.getHeader(true));
+			for( final CustomerBean expected : CUSTOMERS ) {
+				assertEquals(expected, reader.read());
+			}
+			assertNull(reader.read());
+			assertNull(reader.read());
+		}
+		finally {
+			reader.close();
+		}
+	}
+	
+	/**
+	 * Tests that many rows are returned in order with the correct line and row numbers, and that each row is mapped
+	 * with its own context.
+	 */
+	@Test
+	public void testOrderAndContexts() throws IOException {
+		final StringBuilder csv = new StringBuilder();
+		for( int i = 0; i < 5000; i++ ) {
+			csv.append(i).append(',').append(i % 3 == 0 ? "\"multi\nline\"" : "single").append("\r\n");
+		}
+		
+		final CsvRowMapper<int[]> mapper = new CsvRowMapper<int[]>() {
+			public int[] map(final List<String> columns, final CsvContext context) {
+				assertEquals(columns, context.getRowSource());
+				return new int[] { Integer.parseInt(columns.get(0)), context.getLineNumber(), context.getRowNumber() };
+			}
+		};
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		final CsvParallelReader<int[]> reader = new CsvParallelReader<int[]>(new Tokenizer(new StringReader(
+			csv.toString()), PREFS), mapper, executor, 10);
+		try {
+			int lineNo = 0;
+			for( int i = 0; i < 5000; i++ ) {
+				lineNo += i % 3 == 0 ? 2 : 1;
+				final int[] result = reader.read();
+				assertArrayEquals(new int[] { i, lineNo, i + 1 }, result);
+				assertEquals(lineNo, reader.getLineNumber());
+				assertEquals(i + 1, reader.getRowNumber());
+			}
+			assertNull(reader.read());
+		}
+		finally {
+			reader.close();
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests that an exception while mapping a row is thrown for that row (with its context), and that reading can
+	 * continue afterwards.
+	 */
+	@Test
+	public void testMappingException() throws IOException {
+		final String csv = "1\r\n2\r\nthree\r\n4\r\n";
+		final CsvParallelReader<List<Object>> reader = new CsvParallelReader<List<Object>>(new StringReader(csv),
+			PREFS, new ListRowMapper(new CellProcessor[] { new ParseInt() }), 2);
+		try {
+			assertEquals(Arrays.asList((Object) 1), reader.read());
+			assertEquals(Arrays.asList((Object) 2), reader.read());
+			try {
+				reader.read();
+				fail("should have thrown SuperCsvCellProcessorException");
+			}
+			catch(SuperCsvCellProcessorException e) {
+				assertEquals(3, e.getCsvContext().getLineNumber());
+				assertEquals(3, e.getCsvContext().getRowNumber());
+				assertEquals(1, e.getCsvContext().getColumnNumber());
+			}
+			assertEquals(Arrays.asList((Object) 4), reader.read());
+			assertNull(reader.read());
+		}
+		finally {
+			reader.close();
+		}
+	}
+	
+	/**
+	 * Tests that an exception while tokenizing is thrown after the preceding rows, and ends the input.
+	 */
+	@Test
+	public void testTokenizerException() throws IOException {
+		final String csv = "1\r\n2\r\n\"unterminated\r\n";
+		final CsvParallelReader<List<Object>> reader = new CsvParallelReader<List<Object>>(new StringReader(csv),
+			PREFS, new ListRowMapper(new CellProcessor[] { null }), 2);
+		try {
+			assertEquals(Arrays.asList((Object) "1"), reader.read());
+			assertEquals(Arrays.asList((Object) "2"), reader.read());
+			try {
+				reader.read();
+				fail("should have thrown SuperCsvException");
+			}
+			catch(SuperCsvException e) {
+				assertEquals(2, reader.getRowNumber());
+			}
+			assertNull(reader.read());
+		}
+		finally {
+			reader.close();
+		}
+	}
+	
+	/**
+	 * Tests that getHeader() can't be called once reading has started.
+	 */
+	@Test(expected = SuperCsvException.class)
+	public void testGetHeaderAfterRead() throws IOException {
+		final CsvParallelReader<List<Object>> reader = new CsvParallelReader<List<Object>>(new StringReader(CSV_FILE),
+			PREFS, new ListRowMapper(READ_PROCESSORS), 1);
+		try {
+			reader.read();
+			reader.getHeader(false);
+		}
+		finally {
+			reader.close();
+		}
+	}
+	
+	/**
+	 * Tests that closing the reader before reading all rows stops reading ahead.
+	 */
+	@Test
+	public void testCloseEarly() throws IOException {
+		final StringBuilder csv = new StringBuilder();
+		for( int i = 0; i < 10000; i++ ) {
+			csv.append(i).append("\r\n");
+		}
+		final CsvParallelReader<List<Object>> reader = new CsvParallelReader<List<Object>>(new StringReader(
+			csv.toString()), PREFS, new ListRowMapper(new CellProcessor[] { new ParseInt() }), 2);
+		assertEquals(Arrays.asList((Object) 0), reader.read());
+		reader.close();
+		assertNull(reader.read());
+	}
+	
+	/**
+	 * Tests that closing the reader doesn't wait for the tokenizer thread, which is blocked reading from a Reader that
+	 * interrupting doesn't unblock (like standard input or a socket). The Reader is closed once the read returns.
+	 */
+	@Test(timeout = 10000)
+	public void testCloseWhileTokenizerBlocked() throws Exception {
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch readerClosed = new CountDownLatch(1);
+		final Reader blockingReader = new Reader() {
+			private boolean rowReturned;
+			
+			@Override
+			public int read(final char[] cbuf, final int off, final int len) throws IOException {
+				if( !rowReturned ) {
+					rowReturned = true;
+					"1\n".getChars(0, 2, cbuf, off);
+					return 2;
+				}
+				// ignores interrupts, like a read from a socket
+				boolean released = false;
+				while( !released ) {
+					try {
+						release.await();
+						released = true;
+					}
+					catch(InterruptedException e) {
+						// keep blocking
+					}
+				}
+				return -1;
+			}
+			
+			@Override
+			public void close() {
+				readerClosed.countDown();
+			}
+		};
+		
+		final CsvParallelReader<List<Object>> reader = new CsvParallelReader<List<Object>>(blockingReader, PREFS,
+			new ListRowMapper(new CellProcessor[] { new ParseInt() }), 1);
+		assertEquals(Arrays.asList((Object) 1), reader.read());
+		reader.close(); // would hang if it closed the Reader while the tokenizer thread is blocked reading
+		assertNull(reader.read());
+		assertEquals(1, readerClosed.getCount());
+		
+		release.countDown();
+		assertTrue(readerClosed.await(5, TimeUnit.SECONDS));
+	}
+	
+	/**
+	 * Tests the constructor with a null Reader.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testConstructorWithNullReader() {
+		new CsvParallelReader<List<Object>>((StringReader) null, PREFS, new ListRowMapper(), 1);
+	}
+	
+	/**
+	 * Tests the constructor with a null mapper.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testConstructorWithNullMapper() {
+		new CsvParallelReader<List<Object>>(new StringReader(""), PREFS, null, 1);
+	}
+	
+	/**
+	 * Tests the constructor with an invalid number of threads.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorWithInvalidThreads() {
+		new CsvParallelReader<List<Object>>(new StringReader(""), PREFS, new ListRowMapper(), 0);
+	}
+	
+	/**
+	 * Tests the constructor with an invalid maximum number of pending rows.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorWithInvalidMaxPendingRows() {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			new CsvParallelReader<List<Object>>(new Tokenizer(new StringReader(""), PREFS), new ListRowMapper(),
+				executor, 0);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Tests that a BeanRowMapper rejects rows with the wrong number of columns.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testBeanRowMapperWithWrongNameMappingLength() {
+		new BeanRowMapper<CustomerBean>(CustomerBean.class, new String[] { "firstName" }).map(Arrays.asList("a",
+			"b"), new CsvContext(1, 1, 1));
+	}
+	
+	
+	/**
+	 * Tests that a BeanRowMapper creates its beans with the supplied factory.
+	 */
+	@Test
+	public void testBeanRowMapperWithBeanFactory() {
+		final CustomerBean pooled = new CustomerBean();
+		final BeanRowMapper<CustomerBean> mapper = new BeanRowMapper<CustomerBean>(new BeanFactory() {
+			public <T> T createBean(final Class<T> clazz) {
+				return clazz.cast(pooled);
+			}
+		}, CustomerBean.class, new String[] { "firstName" }, new CellProcessor[1]);
+		assertSame(pooled, mapper.map(Arrays.asList("John"), new CsvContext(1, 1, 1)));
+		assertEquals("John", pooled.getFirstName());
+	}
+	
+	/**
+	 * Tests the BeanRowMapper constructor with a null bean factory.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testBeanRowMapperWithNullBeanFactory() {
+		new BeanRowMapper<CustomerBean>(null, CustomerBean.class, new String[] { "firstName" });
+	}
+	
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+import org.supercsv.exception.SuperCsvReflectionException;
+import org.supercsv.mock.CustomerBean;
+import org.supercsv.mock.NonPublicBeanUtil;
+import org.supercsv.mock.PersonBean;
+
+/**
+ * Tests the ReflectionBeanFactory class.
+ */
+public class ReflectionBeanFactoryTest {
+	
+	private final ReflectionBeanFactory factory = new ReflectionBeanFactory();
+	
+	/**
+	 * Tests creating several beans of the same class (the cached constructor is reused).
+	 */
+	@Test
+	public void testCreateBean() {
+		final PersonBean first = factory.createBean(PersonBean.class);
+		final PersonBean second = factory.createBean(PersonBean.class);
+		assertNotSame(first, second);
+		assertEquals(CustomerBean.class, factory.createBean(CustomerBean.class).getClass());
+	}
+	
+	/**
+	 * Tests creating a bean whose class and constructor aren't public.
+	 */
+	@Test
+	public void testCreateNonPublicBean() {
+		final Class<?> nonPublicClass = NonPublicBeanUtil.getNonPublicReflectionBean().getClass();
+		assertEquals(nonPublicClass, factory.createBean(nonPublicClass).getClass());
+	}
+	
+	/**
+	 * Tests that a proxy is created for an interface.
+	 */
+	@Test
+	public void testCreateInterfaceBean() {
+		assertTrue(Proxy.isProxyClass(factory.createBean(Runnable.class).getClass()));
+	}
+	
+	/**
+	 * Tests creating a bean without a no-argument constructor.
+	 */
+	@Test(expected = SuperCsvReflectionException.class)
+	public void testCreateBeanWithoutDefaultConstructor() {
+		factory.createBean(Integer.class);
+	}
+	
+	/**
+	 * Tests creating a bean whose constructor throws an exception (on every call, not just the first).
+	 */
+	@Test
+	public void testCreateBeanWithThrowingConstructor() {
+		for( int i = 0; i < 2; i++ ) {
+			try {
+				factory.createBean(CsvBeanReaderTest.IllegalAccessBean.class);
+				fail("should have thrown SuperCsvReflectionException");
+			}
+			catch(SuperCsvReflectionException e) {
+				assertTrue(e.getCause().getCause() instanceof IllegalAccessException);
+			}
+		}
+	}
+	
+	/**
+	 * Tests createBean() with a null class.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testCreateBeanWithNullClass() {
+		factory.createBean(null);
+	}
+	
+}
@@ -5,10 +5,14 @@ import org.junit.Test;
 import org.supercsv.cellprocessor.ParseInt;
 import org.supercsv.cellprocessor.constraint.NotNull;
 import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.ReadError;
 import org.supercsv.util.TryReadAllResult;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -181,4 +185,161 @@ public class SimpleCsvListReaderTest {
         Assert.assertTrue(listReader.next());
         Assert.assertFalse(listReader.next());
     }
+
+    @Test
+    public void testTryReadAllLenient() throws IOException {
+        String csv = "Connor,John,16\r\nSarah,,18\r\nJohn,Test,ABC\r\nKyle,Reese,20\r\n";
+        SimpleCsvListReader listReader = new SimpleCsvListReader(new StringReader(csv), STANDARD_PREFERENCE);
+        listReader.setLenient(true);
+        Assert.assertTrue(listReader.isLenient());
+
+        TryReadAllResult<Object> result = listReader.tryReadAll(new NotNull(), new NotNull(), new ParseInt());
+
+        Assert.assertEquals(2, result.getValues().size());
+        Assert.assertEquals(Arrays.asList("Sarah,,18", "John,Test,ABC"), result.getFailed());
+
+        List<ReadError> errors = result.getErrors();
+        Assert.assertEquals(2, errors.size());
+        Assert.assertEquals(2, errors.get(0).getLineNumber());
+        Assert.assertEquals(2, errors.get(0).getRowNumber());
+        Assert.assertEquals(2, errors.get(0).getColumnNumber());
+        Assert.assertEquals("Sarah,,18", errors.get(0).getUntokenizedRow());
+        Assert.assertEquals(3, errors.get(1).getRowNumber());
+        Assert.assertEquals(3, errors.get(1).getColumnNumber());
+        Assert.assertNotNull(errors.get(1).getMessage());
+        Assert.assertSame(errors.get(1), listReader.getLastError());
+
+        // no stack traces in lenient mode, and the thread's setting is restored afterwards
+        Assert.assertEquals(0, errors.get(1).getException().getStackTrace().length);
+        Assert.assertNull(errors.get(1).getException().getCause()); // no NumberFormatException was created
+        Assert.assertTrue(SuperCsvException.isStackTraceEnabled());
+    }
+
+    @Test
+    public void testTryReadNotLenient() throws IOException {
+        String csv = "John,Test,ABC\r\n";
+        SimpleCsvListReader listReader = new SimpleCsvListReader(new StringReader(csv), STANDARD_PREFERENCE);
+        Assert.assertFalse(listReader.isLenient());
+        Assert.assertNull(listReader.getLastError());
+
+        Assert.assertTrue(listReader.next());
+        Assert.assertFalse(listReader.tryRead(new ArrayList<Object>(), new NotNull(), new NotNull(), new ParseInt()));
+
+        ReadError error = listReader.getLastError();
+        Assert.assertEquals(1, error.getRowNumber());
+        Assert.assertEquals(3, error.getColumnNumber());
+        Assert.assertTrue(error.getException().getStackTrace().length > 0);
+        Assert.assertTrue(error.getException().getCause() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void testStreamingTryReadAll() throws IOException {
+        String csv = "Connor,John,16\r\nSarah,,18\r\nJohn,Test,ABC\r\nKyle,Reese,20\r\n";
+        SimpleCsvListReader listReader = new SimpleCsvListReader(new StringReader(csv), STANDARD_PREFERENCE);
+        listReader.setLenient(true);
+
+        final List<List<Object>> rows = new ArrayList<List<Object>>();
+        CsvRowConsumer<Object> consumer = new CsvRowConsumer<Object>() {
+            public void accept(List<Object> columns) {
+                rows.add(new ArrayList<Object>(columns));
+            }
+        };
+        StringWriter rejects = new StringWriter();
+        CsvRejectWriter rejectWriter = new CsvRejectWriter(rejects, STANDARD_PREFERENCE);
+        rejectWriter.writeHeader();
+
+        int rejected = listReader.tryReadAll(consumer, rejectWriter, new NotNull(), new NotNull(), new ParseInt());
+        rejectWriter.close();
+
+        Assert.assertEquals(2, rejected);
+        Assert.assertEquals(2, rejectWriter.getRejectedCount());
+        Assert.assertEquals(Arrays.asList(
+                Arrays.asList(new Object[] {"Connor", "John", 16}),
+                Arrays.asList(new Object[] {"Kyle", "Reese", 20})), rows);
+
+        String[] lines = rejects.toString().split("\r\n");
+        Assert.assertEquals(3, lines.length);
+        Assert.assertEquals("line,row,column,reason,data", lines[0]);
+        Assert.assertTrue(lines[1].startsWith("2,2,2,"));
+        Assert.assertTrue(lines[1].endsWith(",\"Sarah,,18\""));
+        Assert.assertTrue(lines[2].startsWith("3,3,3,"));
+        Assert.assertTrue(lines[2].endsWith(",\"John,Test,ABC\""));
+    }
+
+    @Test
+    public void testStreamingTryReadAllWithoutProcessors() throws IOException {
+        String csv = "a,b\r\nc,d\r\n";
+        SimpleCsvListReader listReader = new SimpleCsvListReader(new StringReader(csv), STANDARD_PREFERENCE);
+
+        final List<List<String>> rows = new ArrayList<List<String>>();
+        TryReadAllResult<String> errors = new TryReadAllResult<String>();
+        int rejected = listReader.tryReadAll(new CsvRowConsumer<String>() {
+            public void accept(List<String> columns) {
+                rows.add(new ArrayList<String>(columns));
+            }
+        }, errors);
+
+        Assert.assertEquals(0, rejected);
+        Assert.assertTrue(errors.isSuccess());
+        Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d")), rows);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testStreamingTryReadAllWithNullSink() throws IOException {
+        new SimpleCsvListReader(new StringReader(""), STANDARD_PREFERENCE).tryReadAll(new TryReadAllResult<String>(),
+                null);
+    }
+
+    @Test
+    public void testStreamingTryReadAllWithTokenizerFailure() throws IOException {
+        String csv = "a,b\n\"bad\nx\ny\nz\nc,d\ne,f\n";
+        CsvPreference prefs = new CsvPreference.Builder(STANDARD_PREFERENCE).maxLinesPerRow(2).build();
+        SimpleCsvListReader listReader = new SimpleCsvListReader(new StringReader(csv), prefs);
+
+        final List<List<String>> rows = new ArrayList<List<String>>();
+        TryReadAllResult<String> errors = new TryReadAllResult<String>();
+        int rejected = listReader.tryReadAll(new CsvRowConsumer<String>() {
+            public void accept(List<String> columns) {
+                rows.add(new ArrayList<String>(columns));
+            }
+        }, errors);
+
+        // the quoted column consumes lines 2 and 3, then reading resumes on line 4
+        Assert.assertEquals(1, rejected);
+        Assert.assertEquals(1, errors.getErrors().size());
+        ReadError error = errors.getErrors().get(0);
+        Assert.assertEquals(2, error.getRowNumber());
+        Assert.assertEquals(3, error.getLineNumber());
+        Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("y"), Arrays.asList("z"),
+                Arrays.asList("c", "d"), Arrays.asList("e", "f")), rows);
+    }
+
+    @Test
+    public void testTryReadAllStopsAtTokenizerFailure() throws IOException {
+        String csv = "a,b\n\"bad\nx\ny\nz\nc,d\n";
+        CsvPreference prefs = new CsvPreference.Builder(STANDARD_PREFERENCE).maxLinesPerRow(2).build();
+        SimpleCsvListReader listReader = new SimpleCsvListReader(new StringReader(csv), prefs);
+
+        // unlike the streaming version, the collecting version stops at the row (as it always has)
+        TryReadAllResult<String> result = listReader.tryReadAll();
+        Assert.assertTrue(result.isSuccess());
+        Assert.assertEquals(Arrays.asList(Arrays.asList("a", "b")), result.getValues());
+        Assert.assertTrue(listReader.isReadFailed());
+        Assert.assertEquals(2, listReader.getLastError().getRowNumber());
+    }
+
+    @Test
+    public void testNextWithTokenizerFailure() throws IOException {
+        String csv = "\"bad\nx\ny\n";
+        CsvPreference prefs = new CsvPreference.Builder(STANDARD_PREFERENCE).maxLinesPerRow(2).build();
+        SimpleCsvListReader listReader = new SimpleCsvListReader(new StringReader(csv), prefs);
+
+        Assert.assertFalse(listReader.next());
+        Assert.assertTrue(listReader.isReadFailed());
+        Assert.assertEquals(1, listReader.getLastError().getRowNumber());
+        Assert.assertTrue(listReader.next());
+        Assert.assertFalse(listReader.isReadFailed());
+        Assert.assertFalse(listReader.next());
+        Assert.assertFalse(listReader.isReadFailed());
+    }
 }
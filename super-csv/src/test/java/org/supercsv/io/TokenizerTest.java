@@ -17,7 +17,9 @@ package org.supercsv.io;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.supercsv.prefs.CsvPreference.EXCEL_PREFERENCE;
@@ -787,4 +789,27 @@ public class TokenizerTest {
 		assertEquals("", columns.get(1));
 	}	
 	
+
+	/**
+	 * Tests that repeated values are read as the same String instance when a string pool is used (only for the pooled
+	 * column).
+	 */
+	@Test
+	public void testStringPool() throws Exception {
+		final CsvPreference pooled = new CsvPreference.Builder(NORMAL_PREFERENCE).useStringPool(100, 2).build();
+		tokenizer = createTokenizer("1,USD\n2,USD\n", pooled);
+		
+		tokenizer.readColumns(columns);
+		final List<String> firstRow = new ArrayList<String>(columns);
+		tokenizer.readColumns(columns);
+		assertEquals("USD", columns.get(1));
+		assertSame(firstRow.get(1), columns.get(1));
+		
+		tokenizer = createTokenizer("1,USD\n1,USD\n", NORMAL_PREFERENCE);
+		tokenizer.readColumns(columns);
+		final String first = columns.get(0);
+		tokenizer.readColumns(columns);
+		assertNotSame(first, columns.get(0));
+	}
+	
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.io.columnar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Test;
+import org.supercsv.cellprocessor.FmtNumber;
+import org.supercsv.cellprocessor.Optional;
+import org.supercsv.cellprocessor.ParseBigDecimal;
+import org.supercsv.cellprocessor.ParseDouble;
+import org.supercsv.cellprocessor.ParseInt;
+import org.supercsv.cellprocessor.ParseLong;
+import org.supercsv.cellprocessor.constraint.NotNull;
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.prefs.CsvPreference;
+
+/**
+ * Tests the CsvColumnarReader.
+ */
+public class CsvColumnarReaderTest {
+	
+	private static final String CSV = "1,10000000000,1.5,apple,red,9.99\n" + "2,,2.5,,green,\n"
+		+ "3,30000000000,,banana,red,0.01\n";
+	
+	private static final CellProcessor[] PROCESSORS = { new ParseInt(), new Optional(new ParseLong()),
+		new Optional(new ParseDouble()), null, null, new Optional(new ParseBigDecimal()) };
+	
+	private CsvColumnarReader reader;
+	
+	/**
+	 * Closes the reader after the test.
+	 */
+	@After
+	public void tearDown() throws IOException {
+		if( reader != null ) {
+			reader.close();
+		}
+	}
+	
+	private static CsvColumnarReader createReader(final String csv) {
+		return new CsvColumnarReader(new StringReader(csv), CsvPreference.STANDARD_PREFERENCE);
+	}
+	
+	/**
+	 * Tests reading all rows into a single batch.
+	 */
+	@Test
+	public void testReadBatch() throws IOException {
+		reader = createReader(CSV);
+		final ColumnBatch batch = new ColumnBatch(10, ColumnType.of(PROCESSORS[0]), ColumnType.of(PROCESSORS[1]),
+			ColumnType.of(PROCESSORS[2]), ColumnType.STRING, ColumnType.DICTIONARY, ColumnType.of(PROCESSORS[5]));
+		assertEquals(3, reader.readBatch(batch, PROCESSORS));
+		assertEquals(3, batch.getRowCount());
+		
+		final IntColumnVector ids = batch.getIntColumn(0);
+		assertFalse(ids.hasNulls());
+		assertEquals(1, ids.get(0));
+		assertEquals(3, ids.getValues()[2]);
+		
+		final LongColumnVector longs = batch.getLongColumn(1);
+		assertTrue(longs.hasNulls());
+		assertEquals(10000000000L, longs.get(0));
+		assertTrue(longs.isNull(1));
+		assertEquals(0L, longs.get(1));
+		assertNull(longs.getObject(1));
+		assertEquals(Long.valueOf(30000000000L), longs.getObject(2));
+		
+		final DoubleColumnVector doubles = batch.getDoubleColumn(2);
+		assertEquals(2.5, doubles.get(1), 0.0);
+		assertTrue(doubles.isNull(2));
+		assertEquals(4L, doubles.getNulls()[0]);
+		
+		final StringColumnVector names = batch.getStringColumn(3);
+		assertEquals("apple", names.get(0));
+		assertNull(names.get(1));
+		assertEquals(0, names.getLength(1));
+		assertEquals("banana", names.get(2));
+		assertEquals("applebanana", new String(names.getData(), 0, names.getOffsets()[3]));
+		
+		final DictionaryColumnVector colours = batch.getDictionaryColumn(4);
+		assertEquals(Arrays.asList("red", "green"), colours.getDictionary());
+		assertArrayEquals(new int[] { 0, 1, 0 }, Arrays.copyOf(colours.getCodes(), 3));
+		assertEquals("green", colours.get(1));
+		
+		final ObjectColumnVector prices = batch.getObjectColumn(5);
+		assertEquals(new BigDecimal("9.99"), prices.getObject(0));
+		assertNull(prices.getObject(1));
+		
+		assertEquals(0, reader.readBatch(batch, PROCESSORS));
+		assertEquals(0, batch.getRowCount());
+	}
+	
+	/**
+	 * Tests reading more rows than fit in a batch (the batch is reused).
+	 */
+	@Test
+	public void testMultipleBatches() throws IOException {
+		reader = createReader(CSV);
+		final ColumnBatch batch = ColumnBatch.forProcessors(2, PROCESSORS);
+		assertEquals(ColumnType.INT, batch.getColumn(0).getType());
+		assertEquals(ColumnType.STRING, batch.getColumn(3).getType());
+		
+		assertEquals(2, reader.readBatch(batch, PROCESSORS));
+		assertTrue(batch.getLongColumn(1).isNull(1));
+		assertEquals(2, reader.getRowNumber());
+		
+		assertEquals(1, reader.readBatch(batch, PROCESSORS));
+		assertEquals(3, batch.getIntColumn(0).get(0));
+		assertFalse(batch.getLongColumn(1).hasNulls());
+		assertEquals("banana", batch.getStringColumn(3).get(0));
+		
+		assertEquals(0, reader.readBatch(batch, PROCESSORS));
+	}
+	
+	/**
+	 * Tests reading a value that doesn't match the column type (should throw an Exception).
+	 */
+	@Test
+	public void testWrongColumnType() throws IOException {
+		reader = createReader("1,a\n");
+		final CellProcessor[] processors = { new NotNull(), null };
+		try {
+			reader.readBatch(new ColumnBatch(10, ColumnType.INT, ColumnType.STRING), processors);
+			fail("should have thrown SuperCsvException");
+		}
+		catch(SuperCsvException e) {
+			assertEquals(1, e.getCsvContext().getColumnNumber());
+			assertEquals(1, e.getCsvContext().getRowNumber());
+		}
+	}
+	
+	/**
+	 * Tests reading a row with the wrong number of columns (should throw an Exception for that row).
+	 */
+	@Test
+	public void testWrongNumberOfColumns() throws IOException {
+		reader = createReader("1,a\n2\n");
+		final CellProcessor[] processors = { new ParseInt(), null };
+		try {
+			reader.readBatch(ColumnBatch.forProcessors(10, processors), processors);
+			fail("should have thrown SuperCsvException");
+		}
+		catch(SuperCsvException e) {
+			assertEquals(2, e.getCsvContext().getRowNumber());
+			assertEquals(Arrays.asList((Object) "2"), e.getCsvContext().getRowSource());
+		}
+	}
+	
+	/**
+	 * Tests reading with the wrong number of processors (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrongNumberOfProcessors() throws IOException {
+		reader = createReader(CSV);
+		reader.readBatch(ColumnBatch.forProcessors(10, PROCESSORS), new ParseInt());
+	}
+	
+	/**
+	 * Tests reading with a null batch (should throw an Exception).
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testReadBatchWithNullBatch() throws IOException {
+		reader = createReader(CSV);
+		reader.readBatch(null, PROCESSORS);
+	}
+	
+	/**
+	 * Tests determining column types from processor chains.
+	 */
+	@Test
+	public void testColumnTypeOf() {
+		assertEquals(ColumnType.STRING, ColumnType.of(null));
+		assertEquals(ColumnType.INT, ColumnType.of(new NotNull(new ParseInt())));
+		assertEquals(ColumnType.LONG, ColumnType.of(new Optional(new ParseLong())));
+		assertEquals(ColumnType.DOUBLE, ColumnType.of(new ParseDouble()));
+		assertEquals(ColumnType.OBJECT, ColumnType.of(new NotNull()));
+		
+		// the last processor decides the type, not the last parser
+		assertEquals(ColumnType.OBJECT, ColumnType.of(new ParseDouble(new FmtNumber("0.00"))));
+		assertEquals(ColumnType.OBJECT, ColumnType.of(new ParseInt(new NotNull())));
+	}
+	
+	/**
+	 * Tests reading a column whose chain parses a number and then formats it as a String.
+	 */
+	@Test
+	public void testParseThenFormat() throws IOException {
+		reader = createReader("1.5\n2\n");
+		final CellProcessor[] processors = { new ParseDouble(new FmtNumber("0.00")) };
+		final ColumnBatch batch = ColumnBatch.forProcessors(10, processors);
+		assertEquals(2, reader.readBatch(batch, processors));
+		assertEquals("1.50", batch.getObjectColumn(0).getObject(0));
+		assertEquals("2.00", batch.getObjectColumn(0).getObject(1));
+	}
+	
+	/**
+	 * Tests creating a batch with an invalid capacity (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testBatchWithInvalidCapacity() {
+		new ColumnBatch(0, ColumnType.INT);
+	}
+	
+}
@@ -15,6 +15,7 @@
  */
 package org.supercsv.prefs;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
@@ -85,6 +86,7 @@ public class CsvPreferenceTest {
 				.useEncoder(new DefaultCsvEncoder())
 				.useQuoteMode(new AlwaysQuoteMode())
 				.setQuoteEscapeChar('\\')
+				.useStringPool(100, 2, 3)
 				.build();
 		assertEquals('"', custom.getQuoteChar());
 		assertEquals(',', custom.getDelimiterChar());
@@ -93,6 +95,8 @@ public class CsvPreferenceTest {
 		assertTrue(custom.getEncoder() instanceof DefaultCsvEncoder);
 		assertTrue(custom.getQuoteMode() instanceof AlwaysQuoteMode);
 		assertEquals('\\', custom.getQuoteEscapeChar());
+		assertEquals(100, custom.getStringPoolSize());
+		assertArrayEquals(new int[] { 2, 3 }, custom.getStringPoolColumns());
 	}
 	
 	/**
@@ -177,4 +181,13 @@ public class CsvPreferenceTest {
 	public void testUseQuoteModeWithNull() {
 		new CsvPreference.Builder(EXCEL_PREFERENCE).useQuoteMode(null).build();
 	}
+	
+	/**
+	 * Tests useStringPool() with a negative size (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testUseStringPoolWithNegativeSize() {
+		new CsvPreference.Builder(STANDARD_PREFERENCE).useStringPool(-1).build();
+	}
+	
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * The tests shared by the primitive hash sets. Each subclass creates the set being tested, and supplies the values
+ * that fit in it.
+ */
+public abstract class AbstractLongSetTest {
+	
+	/**
+	 * Creates the set to test.
+	 * 
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @param maxMemory
+	 *            the maximum number of bytes to allocate for the table
+	 * @return the set
+	 */
+	protected abstract LongSet createSet(int expectedSize, long maxMemory);
+	
+	/**
+	 * Returns a random value that fits in the set.
+	 * 
+	 * @param random
+	 *            the random number generator
+	 * @return the value
+	 */
+	protected abstract long nextValue(Random random);
+	
+	/**
+	 * Returns the smallest and largest values that fit in the set.
+	 * 
+	 * @return the extreme values
+	 */
+	protected abstract long[] getExtremeValues();
+	
+	/**
+	 * Returns the number of bytes used by each slot of the hash table.
+	 * 
+	 * @return the slot size
+	 */
+	protected abstract int getSlotSize();
+	
+	/**
+	 * Tests adding values (including 0 and the extremes), growing the table and clearing it.
+	 */
+	@Test
+	public void testAddAndContains() {
+		final LongSet set = createSet(16, Long.MAX_VALUE);
+		final Set<Long> expected = new HashSet<Long>();
+		final Random random = new Random(42);
+		for( int i = 0; i < 10000; i++ ) {
+			final long value = i % 10 == 0 ? (long) (i / 10) : nextValue(random);
+			assertEquals(expected.add(value), set.add(value));
+		}
+		final long[] extremes = getExtremeValues();
+		for( final long value : new long[] { 0, extremes[0], extremes[1], -1 } ) {
+			assertEquals(expected.add(value), set.add(value));
+			assertFalse(set.add(value));
+		}
+		assertEquals(expected.size(), set.size());
+		for( final long value : expected ) {
+			assertTrue(set.contains(value));
+		}
+		assertFalse(set.contains(-2));
+		
+		final long memory = set.getMemoryUsage();
+		set.clear();
+		assertEquals(0, set.size());
+		assertFalse(set.contains(0));
+		assertFalse(set.contains(extremes[1]));
+		assertEquals(memory, set.getMemoryUsage());
+	}
+	
+	/**
+	 * Tests that the set won't grow beyond its memory limit.
+	 */
+	@Test
+	public void testMemoryLimit() {
+		final LongSet set = createSet(8, 16 * getSlotSize());
+		assertEquals(16 * getSlotSize(), set.getMemoryUsage());
+		try {
+			for( int i = 1; i <= 16; i++ ) {
+				set.add(i);
+			}
+			fail("should have thrown IllegalStateException");
+		}
+		catch(IllegalStateException e) {
+			assertEquals(8, set.size());
+		}
+	}
+	
+	/**
+	 * Tests construction with an expected size that exceeds the memory limit (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorExceedingMemoryLimit() {
+		createSet(1000, 1000);
+	}
+	
+	/**
+	 * Tests construction with a negative expected size (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorWithNegativeSize() {
+		createSet(-1, Long.MAX_VALUE);
+	}
+}
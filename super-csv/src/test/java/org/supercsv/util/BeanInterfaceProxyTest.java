@@ -129,6 +129,56 @@ public class BeanInterfaceProxyTest {
 		
 	}
 	
+	/**
+	 * Tests that proxies of the same interface don't share their state.
+	 */
+	@Test
+	public void testSeparateState() {
+		final TestInterface other = BeanInterfaceProxy.createProxy(TestInterface.class);
+		testInterface.setValue("value");
+		other.setValue("other");
+		assertEquals("value", testInterface.getValue());
+		assertEquals("other", other.getValue());
+		assertNull(other.getValue2());
+	}
+	
+	/**
+	 * Tests a proxy of an interface that inherits some of its getters/setters.
+	 */
+	@Test
+	public void testInheritedProperties() {
+		final ExtendedTestInterface extended = BeanInterfaceProxy.createProxy(ExtendedTestInterface.class);
+		extended.setValue("value");
+		extended.setValue3(3);
+		assertEquals("value", extended.getValue());
+		assertEquals(Integer.valueOf(3), extended.getValue3());
+		assertNull(extended.getValue2());
+	}
+	
+	/**
+	 * Tests that a factory creates separate proxies of its interface.
+	 */
+	@Test
+	public void testFactory() {
+		final BeanInterfaceProxy.ProxyFactory<TestInterface> factory = BeanInterfaceProxy
+			.getFactory(TestInterface.class);
+		final TestInterface first = factory.createProxy();
+		final TestInterface second = factory.createProxy();
+		first.setValue("first");
+		second.setValue("second");
+		assertEquals("first", first.getValue());
+		assertEquals("second", second.getValue());
+		assertNull(second.getValue2());
+	}
+	
+	/**
+	 * Tests getFactory() with null.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testGetFactoryWithNull() {
+		BeanInterfaceProxy.getFactory(null);
+	}
+	
 	/**
 	 * An interface to use for testing.
 	 */
@@ -152,4 +202,16 @@ public class BeanInterfaceProxyTest {
 		
 	}
 	
+	
+	/**
+	 * An interface that extends the interface for testing.
+	 */
+	private interface ExtendedTestInterface extends TestInterface {
+		
+		public void setValue3(Integer value);
+		
+		public Integer getValue3();
+		
+	}
+	
 }
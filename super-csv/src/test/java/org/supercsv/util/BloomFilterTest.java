@@ -0,0 +1,74 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests the BloomFilter class.
+ */
+public class BloomFilterTest {
+	
+	/**
+	 * Tests that added values are always found, and that the false positive rate is roughly as configured.
+	 */
+	@Test
+	public void testMightContain() {
+		final BloomFilter filter = new BloomFilter(10000, 0.01);
+		for( int i = 0; i < 10000; i++ ) {
+			filter.put(BloomFilter.hash("added" + i));
+		}
+		for( int i = 0; i < 10000; i++ ) {
+			assertTrue(filter.mightContain(BloomFilter.hash("added" + i)));
+		}
+		
+		int falsePositives = 0;
+		for( int i = 0; i < 10000; i++ ) {
+			if( filter.mightContain(BloomFilter.hash("other" + i)) ) {
+				falsePositives++;
+			}
+		}
+		assertTrue("false positives: " + falsePositives, falsePositives < 300);
+		assertTrue(filter.getMemoryUsage() < 10000 * 2);
+	}
+	
+	/**
+	 * Tests that an empty filter contains nothing.
+	 */
+	@Test
+	public void testEmpty() {
+		assertFalse(new BloomFilter(1, 0.01).mightContain(BloomFilter.hash("anything")));
+	}
+	
+	/**
+	 * Tests construction with an invalid expected size (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorWithInvalidSize() {
+		new BloomFilter(0, 0.01);
+	}
+	
+	/**
+	 * Tests construction with an invalid false positive probability (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorWithInvalidProbability() {
+		new BloomFilter(10, 0.0);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import java.util.Random;
+
+/**
+ * Tests the IntHashSet class (through a LongSet view, so it shares the tests of the long sets).
+ */
+public class IntHashSetTest extends AbstractLongSetTest {
+	
+	@Override
+	protected LongSet createSet(final int expectedSize, final long maxMemory) {
+		final IntHashSet set = new IntHashSet(expectedSize, maxMemory);
+		return new LongSet() {
+			public boolean add(final long value) {
+				return set.add(toInt(value));
+			}
+			
+			public boolean contains(final long value) {
+				return set.contains(toInt(value));
+			}
+			
+			public int size() {
+				return set.size();
+			}
+			
+			public void clear() {
+				set.clear();
+			}
+			
+			public long getMemoryUsage() {
+				return set.getMemoryUsage();
+			}
+		};
+	}
+	
+	private static int toInt(final long value) {
+		if( value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ) {
+			throw new IllegalArgumentException(String.format("%d doesn't fit in an int", value));
+		}
+		return (int) value;
+	}
+	
+	@Override
+	protected long nextValue(final Random random) {
+		return random.nextInt();
+	}
+	
+	@Override
+	protected long[] getExtremeValues() {
+		return new long[] { Integer.MIN_VALUE, Integer.MAX_VALUE };
+	}
+	
+	@Override
+	protected int getSlotSize() {
+		return 4;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import java.util.Random;
+
+/**
+ * Tests the LongHashSet class.
+ */
+public class LongHashSetTest extends AbstractLongSetTest {
+	
+	@Override
+	protected LongSet createSet(final int expectedSize, final long maxMemory) {
+		return new LongHashSet(expectedSize, maxMemory);
+	}
+	
+	@Override
+	protected long nextValue(final Random random) {
+		return random.nextLong();
+	}
+	
+	@Override
+	protected long[] getExtremeValues() {
+		return new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+	}
+	
+	@Override
+	protected int getSlotSize() {
+		return 8;
+	}
+}
@@ -16,9 +16,13 @@
 package org.supercsv.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 
 import org.junit.After;
 import org.junit.Before;
@@ -160,4 +164,34 @@ public class MethodCacheTest {
 		cache.getSetMethod(new ReflectionBean(), "name", null);
 	}
 	
+	
+	/**
+	 * Tests that methods found by one MethodCache are reused by another.
+	 */
+	@Test
+	public void testMethodsAreShared() {
+		final ReflectionBean bean = new ReflectionBean();
+		final MethodCache other = new MethodCache();
+		
+		// Class.getMethods() returns new Method objects every time, so the same instance means it came from the cache
+		assertSame(cache.getGetMethod(bean, "name"), other.getGetMethod(bean, "name"));
+		assertSame(cache.getSetMethod(bean, "name", String.class), other.getSetMethod(bean, "name", String.class));
+	}
+	
+	/**
+	 * Tests that classes with the same name from different class loaders are cached separately.
+	 */
+	@Test
+	public void testClassesFromDifferentClassLoaders() throws Exception {
+		final URL classes = ReflectionBean.class.getProtectionDomain().getCodeSource().getLocation();
+		final ClassLoader isolated = new URLClassLoader(new URL[] { classes }, null);
+		final Object isolatedBean = isolated.loadClass(ReflectionBean.class.getName()).newInstance();
+		assertNotSame(ReflectionBean.class, isolatedBean.getClass());
+		
+		final Method getter = cache.getGetMethod(new ReflectionBean(), "name");
+		final Method isolatedGetter = cache.getGetMethod(isolatedBean, "name");
+		assertEquals(ReflectionBean.class, getter.getDeclaringClass());
+		assertEquals(isolatedBean.getClass(), isolatedGetter.getDeclaringClass());
+	}
+	
 }
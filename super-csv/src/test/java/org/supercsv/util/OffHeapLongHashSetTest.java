@@ -0,0 +1,163 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Tests the OffHeapLongHashSet class. Besides the shared tests, the table is split into tiny segments (16 slots) to
+ * test the behaviour at segment boundaries.
+ */
+public class OffHeapLongHashSetTest extends AbstractLongSetTest {
+	
+	private static final int SEGMENT_BITS = 4;
+	
+	private static final int SEGMENT_SLOTS = 1 << SEGMENT_BITS;
+	
+	@Override
+	protected LongSet createSet(final int expectedSize, final long maxMemory) {
+		return new OffHeapLongHashSet(expectedSize, maxMemory);
+	}
+	
+	@Override
+	protected long nextValue(final Random random) {
+		return random.nextLong();
+	}
+	
+	@Override
+	protected long[] getExtremeValues() {
+		return new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+	}
+	
+	@Override
+	protected int getSlotSize() {
+		return 8;
+	}
+	
+	/**
+	 * Tests that values colliding at the last slot of a segment (and of the whole table) are probed into the next
+	 * segment (and back to the first).
+	 */
+	@Test
+	public void testProbingAcrossSegmentBoundaries() {
+		final OffHeapLongHashSet set = new OffHeapLongHashSet(32, Long.MAX_VALUE, SEGMENT_BITS);
+		assertEquals(4, set.getSegmentCount()); // 64 slots
+		
+		final long[] endOfSegment = collidingValues(SEGMENT_SLOTS - 1, 63, 4);
+		final long[] endOfTable = collidingValues(63, 63, 4);
+		for( final long value : endOfSegment ) {
+			assertTrue(set.add(value));
+		}
+		for( final long value : endOfTable ) {
+			assertTrue(set.add(value));
+		}
+		assertEquals(8, set.size());
+		assertEquals(4, set.getSegmentCount()); // didn't grow
+		
+		for( final long value : endOfSegment ) {
+			assertTrue(set.contains(value));
+			assertFalse(set.add(value));
+		}
+		for( final long value : endOfTable ) {
+			assertTrue(set.contains(value));
+			assertFalse(set.add(value));
+		}
+		assertFalse(set.contains(collidingValues(SEGMENT_SLOTS - 1, 63, 5)[4]));
+		assertFalse(set.contains(collidingValues(63, 63, 5)[4]));
+	}
+	
+	/**
+	 * Tests growing the table from one segment to many, checking that the direct buffers allocated match the
+	 * reported memory usage.
+	 */
+	@Test
+	public void testGrowingAcrossSegments() {
+		final OffHeapLongHashSet set = new OffHeapLongHashSet(0, Long.MAX_VALUE, SEGMENT_BITS);
+		assertEquals(1, set.getSegmentCount());
+		assertEquals(SEGMENT_SLOTS * 8, set.getMemoryUsage());
+		
+		final Set<Long> expected = new HashSet<Long>();
+		final Random random = new Random(7);
+		for( int i = 0; i < 1000; i++ ) {
+			final long value = random.nextLong();
+			assertEquals(expected.add(value), set.add(value));
+			assertEquals(set.getMemoryUsage(), set.getAllocatedBytes());
+		}
+		assertEquals(expected.size(), set.size());
+		assertEquals(2048 * 8, set.getMemoryUsage());
+		assertEquals(2048 / SEGMENT_SLOTS, set.getSegmentCount());
+		for( final long value : expected ) {
+			assertTrue(set.contains(value));
+		}
+		
+		set.clear();
+		assertEquals(0, set.size());
+		assertEquals(2048 * 8, set.getAllocatedBytes());
+		for( final long value : expected ) {
+			assertFalse(set.contains(value));
+		}
+	}
+	
+	/**
+	 * Tests that the memory limit applies to all segments together.
+	 */
+	@Test
+	public void testMemoryLimitAcrossSegments() {
+		final OffHeapLongHashSet set = new OffHeapLongHashSet(0, 4 * SEGMENT_SLOTS * 8, SEGMENT_BITS);
+		try {
+			for( int i = 1; i <= 4 * SEGMENT_SLOTS; i++ ) {
+				set.add(i);
+			}
+			fail("should have thrown IllegalStateException");
+		}
+		catch(IllegalStateException e) {
+			assertEquals(2 * SEGMENT_SLOTS, set.size());
+			assertEquals(4, set.getSegmentCount());
+			assertEquals(4 * SEGMENT_SLOTS * 8, set.getAllocatedBytes());
+		}
+	}
+	
+	/**
+	 * Finds values whose hash is the supplied slot of a table.
+	 * 
+	 * @param slot
+	 *            the slot
+	 * @param mask
+	 *            the table's mask (its capacity - 1)
+	 * @param count
+	 *            the number of values to find
+	 * @return the values
+	 */
+	private static long[] collidingValues(final int slot, final long mask, final int count) {
+		final long[] values = new long[count];
+		int found = 0;
+		for( long value = 1; found < count; value++ ) {
+			if( (LongHashSet.mix(value) & mask) == slot ) {
+				values[found++] = value;
+			}
+		}
+		return values;
+	}
+}
@@ -16,6 +16,8 @@
 package org.supercsv.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.supercsv.util.ReflectionUtils.findGetter;
 import static org.supercsv.util.ReflectionUtils.findSetter;
@@ -134,6 +136,38 @@ public class ReflectionUtilsTest {
 		assertTrue(bean.isPrimitiveBoolean());
 	}
 	
+	/**
+	 * Tests the findSetter() method without an argument type.
+	 */
+	@Test
+	public void testFindSetterWithoutType() throws Exception {
+		bean.setName("Bob");
+		findSetter(bean, "name").invoke(bean, (Object) null);
+		assertNull(bean.getName());
+		
+		findSetter(bean, "primitiveInt").invoke(bean, 123);
+		assertEquals(123, bean.getPrimitiveInt());
+		
+		// the setter that accepts null is preferred
+		assertFalse(findSetter(bean, "overloaded").getParameterTypes()[0].isPrimitive());
+	}
+	
+	/**
+	 * Tests the findSetter() method without an argument type, with an invalid field name (should throw an exception).
+	 */
+	@Test(expected = SuperCsvReflectionException.class)
+	public void testFindSetterWithoutTypeWithInvalidFieldName() {
+		findSetter(bean, "invalid");
+	}
+	
+	/**
+	 * Tests the findSetter() method without an argument type, with a null field name.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testFindSetterWithoutTypeWithNullFieldName() {
+		findSetter(bean, null);
+	}
+	
 	/**
 	 * Tests the findGetter() method with a field name that is all capitals.
 	 */
@@ -173,7 +207,7 @@ public class ReflectionUtilsTest {
 		findSetter(bean, "iPad", String.class).invoke(bean, value);
 		assertEquals(value, bean.getiPad());
 	}
-
+	
 	/**
 	 * Tests the findGetter() method with a getter which checks "Turkey Test" support.
 	 */
@@ -183,7 +217,7 @@ public class ReflectionUtilsTest {
 		bean.setIsTurkish(value);
 		assertEquals(value, findGetter(bean, "isTurkish").invoke(bean));
 	}
-
+	
 	/**
 	 * Tests the findSetter() method with a setter which checks "Turkey Test" support.
 	 */
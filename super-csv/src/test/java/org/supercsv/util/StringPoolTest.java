@@ -0,0 +1,134 @@
+/*
+ * Copyright 2007 Kasper B. Graversen
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.supercsv.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests the StringPool class.
+ */
+public class StringPoolTest {
+	
+	/**
+	 * Tests that repeated values in the same column return the same instance.
+	 */
+	@Test
+	public void testCanonicalInstances() {
+		final StringPool pool = new StringPool(100);
+		final String usd = pool.get(1, new StringBuilder("USD"));
+		assertEquals("USD", usd);
+		assertSame(usd, pool.get(1, new StringBuilder("USD")));
+		assertEquals("EUR", pool.get(1, new StringBuilder("EUR")));
+		assertSame(usd, pool.get(1, "USD"));
+		
+		// columns are pooled separately
+		assertNotSame(usd, pool.get(2, new StringBuilder("USD")));
+		assertEquals(2, pool.size(1));
+		assertEquals(1, pool.size(2));
+		assertEquals(0, pool.size(3));
+	}
+	
+	/**
+	 * Tests growing the pool and colliding hash codes.
+	 */
+	@Test
+	public void testManyValues() {
+		final StringPool pool = new StringPool(10000);
+		final String[] values = new String[1000];
+		for( int i = 0; i < values.length; i++ ) {
+			values[i] = pool.get(1, new StringBuilder("value").append(i));
+		}
+		for( int i = 0; i < values.length; i++ ) {
+			assertSame(values[i], pool.get(1, new StringBuilder("value").append(i)));
+		}
+		
+		// "Aa" and "BB" have the same hash code
+		final String aa = pool.get(2, "Aa");
+		final String bb = pool.get(2, "BB");
+		assertEquals("BB", bb);
+		assertSame(aa, pool.get(2, new StringBuilder("Aa")));
+		assertSame(bb, pool.get(2, new StringBuilder("BB")));
+	}
+	
+	/**
+	 * Tests that values aren't added once a column is full.
+	 */
+	@Test
+	public void testMaxSize() {
+		final StringPool pool = new StringPool(2);
+		final String a = pool.get(1, new StringBuilder("a"));
+		pool.get(1, new StringBuilder("b"));
+		final String c = pool.get(1, new StringBuilder("c"));
+		assertEquals("c", c);
+		assertNotSame(c, pool.get(1, new StringBuilder("c")));
+		assertSame(a, pool.get(1, new StringBuilder("a")));
+		assertEquals(2, pool.size(1));
+	}
+	
+	/**
+	 * Tests enabling and disabling columns.
+	 */
+	@Test
+	public void testEnabledColumns() {
+		final StringPool pool = new StringPool(10, 2);
+		assertFalse(pool.isEnabled(1));
+		assertTrue(pool.isEnabled(2));
+		assertNotSame(pool.get(1, new StringBuilder("x")), pool.get(1, new StringBuilder("x")));
+		assertSame(pool.get(2, new StringBuilder("x")), pool.get(2, new StringBuilder("x")));
+		
+		pool.setEnabled(2, false);
+		assertEquals(0, pool.size(2));
+		assertNotSame(pool.get(2, new StringBuilder("x")), pool.get(2, new StringBuilder("x")));
+		
+		pool.setEnabled(1, true);
+		assertSame(pool.get(1, new StringBuilder("x")), pool.get(1, new StringBuilder("x")));
+		
+		pool.clear();
+		assertEquals(0, pool.size(1));
+		assertTrue(pool.isEnabled(1));
+	}
+	
+	/**
+	 * Tests construction with an invalid maxSizePerColumn (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithInvalidMaxSize() {
+		new StringPool(0);
+	}
+	
+	/**
+	 * Tests construction with an invalid column (should throw an Exception).
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithInvalidColumn() {
+		new StringPool(10, 0);
+	}
+	
+	/**
+	 * Tests construction with null columns (should throw an Exception).
+	 */
+	@Test(expected = NullPointerException.class)
+	public void testWithNullColumns() {
+		new StringPool(10, (int[]) null);
+	}
+	
+}